@@ -34,11 +34,30 @@ public interface ExchangeAdapter {
      */
     Mono<Order> cancelOrder(String apiKey, String apiSecret, Order order);
 
+    /**
+     * Place several orders, packed into as few exchange requests as the
+     * exchange allows. Results are in the order of {@code orders}; an order
+     * the exchange rejects fails on its own without failing the others.
+     */
+    Mono<List<com.cryptobot.domain.model.BatchOrderResult>> placeOrders(String apiKey, String apiSecret,
+            List<Order> orders);
+
+    /**
+     * Cancel several orders, packed like {@link #placeOrders}
+     */
+    Mono<List<com.cryptobot.domain.model.BatchOrderResult>> cancelOrders(String apiKey, String apiSecret,
+            List<Order> orders);
+
     /**
      * Get current status of an order
      */
     Mono<Order> getOrder(String apiKey, String apiSecret, String exchangeOrderId, Symbol symbol);
 
+    /**
+     * Get all open orders of a symbol in bulk
+     */
+    Flux<Order> getOpenOrders(String apiKey, String apiSecret, Symbol symbol);
+
     /**
      * Get recent order history
      */
@@ -50,6 +69,13 @@ public interface ExchangeAdapter {
     Flux<com.cryptobot.domain.model.Trade> getExecutionHistory(String apiKey, String apiSecret, Symbol symbol,
             int limit);
 
+    /**
+     * Get all executions of a symbol at or after {@code startTimeMillis},
+     * paging through the exchange's history until now
+     */
+    Flux<com.cryptobot.domain.model.Trade> getExecutionsSince(String apiKey, String apiSecret, Symbol symbol,
+            long startTimeMillis);
+
     /**
      * Get details for all symbols (category filter applied by adapter)
      */
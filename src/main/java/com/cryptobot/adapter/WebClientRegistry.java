@@ -0,0 +1,37 @@
+package com.cryptobot.adapter;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Long-lived {@link WebClient}s, one per exchange base URL.
+ * <p>
+ * Building a client copies the codec configuration and filter chain of the
+ * builder, so clients are built once and shared; a {@link WebClient} is
+ * immutable and safe to use from any thread. The shared builder bean is
+ * cloned before the base URL is set so that it is never mutated.
+ */
+@Component
+public class WebClientRegistry {
+
+    private final WebClient.Builder webClientBuilder;
+    private final Map<String, WebClient> clients = new ConcurrentHashMap<>();
+
+    public WebClientRegistry(WebClient.Builder webClientBuilder) {
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    /**
+     * @return The client for {@code baseUrl}, built on first use
+     */
+    public WebClient forBaseUrl(String baseUrl) {
+        return clients.computeIfAbsent(baseUrl, url -> webClientBuilder.clone().baseUrl(url).build());
+    }
+
+    public int size() {
+        return clients.size();
+    }
+}
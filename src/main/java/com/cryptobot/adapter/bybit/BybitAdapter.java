@@ -2,37 +2,39 @@ package com.cryptobot.adapter.bybit;
 
 import com.cryptobot.adapter.ExchangeAdapter;
 import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.adapter.WebClientRegistry;
 import com.cryptobot.adapter.bybit.dto.*;
 import com.cryptobot.domain.model.Balance;
+import com.cryptobot.domain.model.BatchOrderResult;
 import com.cryptobot.domain.model.Candle;
 import com.cryptobot.domain.model.Order;
 import com.cryptobot.domain.model.Trade;
 import com.cryptobot.domain.model.SymbolDetails;
 import com.cryptobot.domain.vo.OrderType;
 import com.cryptobot.domain.vo.OrderStatus;
-import com.cryptobot.domain.vo.OrderSide;
 import com.cryptobot.domain.vo.Symbol;
 import com.cryptobot.domain.exception.ExchangeException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -43,8 +45,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BybitAdapter implements ExchangeAdapter {
 
-        private final WebClient.Builder webClientBuilder;
+        // Maximum page size of /v5/order/realtime
+        private static final int OPEN_ORDERS_PAGE_SIZE = 50;
+        private static final int RATE_LIMIT_RETRIES = 2;
+        // Maximum page size and time window of /v5/execution/list
+        private static final int EXECUTIONS_PAGE_SIZE = 100;
+        private static final long EXECUTIONS_WINDOW_MS = Duration.ofDays(7).toMillis();
+        // Maximum orders per /v5/order/create-batch and /v5/order/cancel-batch request for spot
+        private static final int BATCH_SIZE = 10;
+
+        private final WebClientRegistry webClients;
         private final ObjectMapper objectMapper;
+        private final BybitResponseReader responseReader;
+        private final BybitRateLimiter rateLimiter;
+        private final BybitSignatureGenerator signatureGenerator;
 
         @Value("${bybit.api.base-url:https://api-testnet.bybit.com}")
         private String baseUrl;
@@ -57,16 +71,9 @@ public class BybitAdapter implements ExchangeAdapter {
         @Override
         public Mono<List<Balance>> getBalances(String apiKey, String apiSecret) {
                 return makeSignedRequest(apiKey, apiSecret, "GET", "/v5/account/wallet-balance",
-                                Map.of("accountType", "UNIFIED"))
-                                .map(response -> {
+                                Map.of("accountType", "UNIFIED"), BybitBalanceResult.class)
+                                .map(bybitResponse -> {
                                         try {
-                                                BybitResponse<BybitBalanceResult> bybitResponse = objectMapper
-                                                                .readValue(response,
-                                                                                objectMapper.getTypeFactory()
-                                                                                                .constructParametricType(
-                                                                                                                BybitResponse.class,
-                                                                                                                BybitBalanceResult.class));
-
                                                 if (bybitResponse.getRetCode() != 0) {
                                                         throw new ExchangeException("Bybit API error: "
                                                                         + bybitResponse.getRetMsg());
@@ -77,17 +84,7 @@ public class BybitAdapter implements ExchangeAdapter {
                                                 }
 
                                                 return bybitResponse.getResult().getList().get(0).getCoin().stream()
-                                                                .map(coin -> Balance.builder()
-                                                                                .exchangeType(ExchangeType.BYBIT)
-                                                                                .asset(coin.getCoin())
-                                                                                .freeBalance(new BigDecimal(
-                                                                                                coin.getFree()))
-                                                                                .lockedBalance(new BigDecimal(
-                                                                                                coin.getLocked()))
-                                                                                .totalBalance(new BigDecimal(coin
-                                                                                                .getWalletBalance()))
-                                                                                .updatedAt(LocalDateTime.now())
-                                                                                .build())
+                                                                .map(BybitMapper::toBalance)
                                                                 .collect(Collectors.toList());
 
                                         } catch (Exception e) {
@@ -109,19 +106,14 @@ public class BybitAdapter implements ExchangeAdapter {
                         params.put("price", order.getPrice().toPlainString());
                 }
 
-                return makeSignedRequest(apiKey, apiSecret, "POST", "/v5/order/create", params)
-                                .map(response -> {
+                return makeSignedRequest(apiKey, apiSecret, "POST", "/v5/order/create", params, BybitOrderResult.class)
+                                .map(bybitResponse -> {
                                         try {
-                                                BybitResponse<BybitOrderResult> bybitResponse = objectMapper.readValue(
-                                                                response,
-                                                                objectMapper.getTypeFactory().constructParametricType(
-                                                                                BybitResponse.class,
-                                                                                BybitOrderResult.class));
                                                 if (bybitResponse.getRetCode() != 0) {
                                                         throw new ExchangeException("Bybit API error: "
                                                                         + bybitResponse.getRetMsg());
                                                 }
-                                                return mapBybitOrderToDomain(bybitResponse.getResult(), order);
+                                                return BybitMapper.toOrder(bybitResponse.getResult(), order);
                                         } catch (Exception e) {
                                                 throw new ExchangeException("Failed to place order", e);
                                         }
@@ -133,13 +125,8 @@ public class BybitAdapter implements ExchangeAdapter {
                 return makeSignedRequest(apiKey, apiSecret, "POST", "/v5/order/cancel", Map.of(
                                 "category", "spot",
                                 "symbol", order.getSymbol(),
-                                "orderId", order.getExchangeOrderId())).map(response -> {
+                                "orderId", order.getExchangeOrderId()), BybitOrderResult.class).map(bybitResponse -> {
                                         try {
-                                                BybitResponse<BybitOrderResult> bybitResponse = objectMapper.readValue(
-                                                                response,
-                                                                objectMapper.getTypeFactory().constructParametricType(
-                                                                                BybitResponse.class,
-                                                                                BybitOrderResult.class));
                                                 if (bybitResponse.getRetCode() != 0) {
                                                         throw new ExchangeException("Bybit API error: "
                                                                         + bybitResponse.getRetMsg());
@@ -155,19 +142,92 @@ public class BybitAdapter implements ExchangeAdapter {
                                 });
         }
 
+        /**
+         * Places orders with {@code /v5/order/create-batch}, {@value #BATCH_SIZE}
+         * per request. Chunks are sent one after another; a chunk whose request
+         * fails or is rejected as a whole fails all of its orders, and the
+         * other chunks still report their own results.
+         */
+        @Override
+        public Mono<List<BatchOrderResult>> placeOrders(String apiKey, String apiSecret, List<Order> orders) {
+                return sendBatches(apiKey, apiSecret, "/v5/order/create-batch", orders, false, order -> {
+                        Map<String, Object> item = new HashMap<>();
+                        item.put("symbol", order.getSymbol());
+                        item.put("side", order.getSide().toString());
+                        item.put("orderType", order.getOrderType().toString());
+                        item.put("qty", order.getQuantity().toPlainString());
+                        if (order.getOrderType() == OrderType.LIMIT) {
+                                item.put("price", order.getPrice().toPlainString());
+                        }
+                        return item;
+                });
+        }
+
+        /**
+         * Cancels orders with {@code /v5/order/cancel-batch}, {@value #BATCH_SIZE}
+         * per request.
+         */
+        @Override
+        public Mono<List<BatchOrderResult>> cancelOrders(String apiKey, String apiSecret, List<Order> orders) {
+                return sendBatches(apiKey, apiSecret, "/v5/order/cancel-batch", orders, true, order -> Map.of(
+                                "symbol", order.getSymbol(),
+                                "orderId", order.getExchangeOrderId()));
+        }
+
+        private Mono<List<BatchOrderResult>> sendBatches(String apiKey, String apiSecret, String path,
+                        List<Order> orders, boolean cancel, Function<Order, Map<String, Object>> toItem) {
+                return Flux.range(0, (orders.size() + BATCH_SIZE - 1) / BATCH_SIZE)
+                                .concatMap(chunkIndex -> {
+                                        int offset = chunkIndex * BATCH_SIZE;
+                                        List<Order> chunk = orders.subList(offset,
+                                                        Math.min(offset + BATCH_SIZE, orders.size()));
+                                        Map<String, Object> params = new HashMap<>();
+                                        params.put("category", "spot");
+                                        params.put("request", chunk.stream().map(toItem).collect(Collectors.toList()));
+                                        return makeSignedRequest(apiKey, apiSecret, "POST", path, params,
+                                                        BybitBatchOrderResult.class)
+                                                        .map(bybitResponse -> toBatchResults(bybitResponse, chunk,
+                                                                        offset, cancel))
+                                                        // Earlier chunks are already on the exchange, so a
+                                                        // failed request must not discard their results
+                                                        .onErrorResume(e -> Mono.just(failAll(chunk, offset,
+                                                                        e instanceof ExchangeException exchangeError
+                                                                                        ? exchangeError.getErrorCode()
+                                                                                        : null,
+                                                                        e.getMessage())));
+                                })
+                                .flatMapIterable(results -> results)
+                                .collectList();
+        }
+
+        private List<BatchOrderResult> toBatchResults(BybitResponse<BybitBatchOrderResult> bybitResponse,
+                        List<Order> chunk, int offset, boolean cancel) {
+                if (bybitResponse.getRetCode() != 0) {
+                        return failAll(chunk, offset, String.valueOf(bybitResponse.getRetCode()),
+                                        bybitResponse.getRetMsg());
+                }
+                BybitBatchExtInfo extInfo = bybitResponse.getRetExtInfo() != null
+                                ? objectMapper.convertValue(bybitResponse.getRetExtInfo(), BybitBatchExtInfo.class)
+                                : null;
+                return BybitMapper.toBatchResults(bybitResponse.getResult(), extInfo, chunk, offset, cancel);
+        }
+
+        private static List<BatchOrderResult> failAll(List<Order> chunk, int offset, String errorCode,
+                        String errorMessage) {
+                List<BatchOrderResult> results = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                        results.add(BatchOrderResult.failure(offset + i, chunk.get(i), errorCode, errorMessage));
+                }
+                return results;
+        }
+
         @Override
         public Mono<Order> getOrder(String apiKey, String apiSecret, String exchangeOrderId, Symbol symbol) {
                 return makeSignedRequest(apiKey, apiSecret, "GET", "/v5/order/realtime", Map.of(
                                 "category", "spot",
                                 "symbol", symbol.getValue(),
-                                "orderId", exchangeOrderId)).map(response -> {
+                                "orderId", exchangeOrderId), BybitOrderListResult.class).map(bybitResponse -> {
                                         try {
-                                                BybitResponse<BybitOrderListResult> bybitResponse = objectMapper
-                                                                .readValue(response,
-                                                                                objectMapper.getTypeFactory()
-                                                                                                .constructParametricType(
-                                                                                                                BybitResponse.class,
-                                                                                                                BybitOrderListResult.class));
                                                 if (bybitResponse.getRetCode() != 0) {
                                                         throw new ExchangeException("Bybit API error: "
                                                                         + bybitResponse.getRetMsg());
@@ -180,7 +240,7 @@ public class BybitAdapter implements ExchangeAdapter {
                                                 }
                                                 BybitOrderResult bybitOrder = bybitResponse.getResult().getList()
                                                                 .get(0);
-                                                return mapBybitOrderToDomain(bybitOrder,
+                                                return BybitMapper.toOrder(bybitOrder,
                                                                 Order.builder().exchangeOrderId(exchangeOrderId)
                                                                                 .symbol(symbol.getValue()).build());
                                         } catch (Exception e) {
@@ -189,6 +249,50 @@ public class BybitAdapter implements ExchangeAdapter {
                                 });
         }
 
+        /**
+         * Lists open orders with {@code /v5/order/realtime}, following
+         * {@code nextPageCursor} until the last page.
+         */
+        @Override
+        public Flux<Order> getOpenOrders(String apiKey, String apiSecret, Symbol symbol) {
+                return getOpenOrderPage(apiKey, apiSecret, symbol, null)
+                                .expand(page -> page.getList() == null || page.getList().isEmpty()
+                                                || page.getNextCursor() == null || page.getNextCursor().isEmpty()
+                                                                ? Mono.empty()
+                                                                : getOpenOrderPage(apiKey, apiSecret, symbol,
+                                                                                page.getNextCursor()))
+                                .flatMapIterable(page -> page.getList() != null ? page.getList()
+                                                : Collections.<BybitOrderResult>emptyList())
+                                .map(bybitOrder -> BybitMapper.toOrder(bybitOrder,
+                                                Order.builder().symbol(symbol.getValue()).build()));
+        }
+
+        private Mono<BybitOrderListResult> getOpenOrderPage(String apiKey, String apiSecret, Symbol symbol,
+                        String cursor) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("category", "spot");
+                params.put("symbol", symbol.getValue());
+                params.put("openOnly", "0");
+                params.put("limit", String.valueOf(OPEN_ORDERS_PAGE_SIZE));
+                if (cursor != null) {
+                        params.put("cursor", cursor);
+                }
+                return makeSignedRequest(apiKey, apiSecret, "GET", "/v5/order/realtime", params,
+                                BybitOrderListResult.class).map(bybitResponse -> {
+                        try {
+                                if (bybitResponse.getRetCode() != 0) {
+                                        throw new ExchangeException("Bybit API error: " + bybitResponse.getRetMsg());
+                                }
+                                return bybitResponse.getResult() != null ? bybitResponse.getResult()
+                                                : new BybitOrderListResult();
+                        } catch (ExchangeException e) {
+                                throw e;
+                        } catch (Exception e) {
+                                throw new ExchangeException("Failed to get open orders", e);
+                        }
+                });
+        }
+
         @Override
         public Flux<Order> getOrderHistory(String apiKey, String apiSecret, Symbol symbol, int limit) {
                 // Bybit V5 has a unified history endpoint for both active and historical
@@ -203,14 +307,9 @@ public class BybitAdapter implements ExchangeAdapter {
                 return makeSignedRequest(apiKey, apiSecret, "GET", "/v5/execution/list", Map.of(
                                 "category", "spot",
                                 "symbol", symbol.getValue(),
-                                "limit", String.valueOf(limit))).flatMapMany(response -> {
+                                "limit", String.valueOf(limit)), BybitExecutionListResult.class)
+                                .flatMapMany(bybitResponse -> {
                                         try {
-                                                BybitResponse<BybitExecutionListResult> bybitResponse = objectMapper
-                                                                .readValue(response,
-                                                                                objectMapper.getTypeFactory()
-                                                                                                .constructParametricType(
-                                                                                                                BybitResponse.class,
-                                                                                                                BybitExecutionListResult.class));
                                                 if (bybitResponse.getRetCode() != 0) {
                                                         return Mono.error(new ExchangeException("Bybit API error: "
                                                                         + bybitResponse.getRetMsg()));
@@ -220,24 +319,7 @@ public class BybitAdapter implements ExchangeAdapter {
                                                         return Flux.empty();
                                                 }
                                                 return Flux.fromIterable(bybitResponse.getResult().getList())
-                                                                .map(exec -> Trade.builder()
-                                                                                .exchangeType(ExchangeType.BYBIT)
-                                                                                .exchangeTradeId(exec.getExecId())
-                                                                                .symbol(exec.getSymbol())
-                                                                                .side(OrderSide.valueOf(exec.getSide()
-                                                                                                .toUpperCase()))
-                                                                                .quantity(new BigDecimal(
-                                                                                                exec.getExecQty()))
-                                                                                .price(new BigDecimal(
-                                                                                                exec.getExecPrice()))
-                                                                                .commission(new BigDecimal(
-                                                                                                exec.getExecFee()))
-                                                                                .executedAt(LocalDateTime.ofInstant(
-                                                                                                Instant.ofEpochMilli(
-                                                                                                                Long.parseLong(exec
-                                                                                                                                .getExecTime())),
-                                                                                                ZoneId.systemDefault()))
-                                                                                .build());
+                                                                .map(BybitMapper::toTrade);
                                         } catch (Exception e) {
                                                 return Mono.error(new ExchangeException(
                                                                 "Failed to get execution history", e));
@@ -245,21 +327,77 @@ public class BybitAdapter implements ExchangeAdapter {
                                 });
         }
 
+        /**
+         * Lists executions with {@code /v5/execution/list}. Bybit serves at most
+         * seven days per query, so the range is split into windows from
+         * {@code startTimeMillis} up to now, and each window is paged with
+         * {@code nextPageCursor}.
+         */
+        @Override
+        public Flux<Trade> getExecutionsSince(String apiKey, String apiSecret, Symbol symbol, long startTimeMillis) {
+                long now = System.currentTimeMillis();
+                return Flux.<Long, Long>generate(() -> startTimeMillis, (windowStart, sink) -> {
+                        if (windowStart > now) {
+                                sink.complete();
+                        } else {
+                                sink.next(windowStart);
+                        }
+                        return windowStart + EXECUTIONS_WINDOW_MS;
+                })
+                                .concatMap(windowStart -> {
+                                        long windowEnd = Math.min(windowStart + EXECUTIONS_WINDOW_MS - 1, now);
+                                        return getExecutionPage(apiKey, apiSecret, symbol, windowStart, windowEnd,
+                                                        null)
+                                                        .expand(page -> page.getList() == null
+                                                                        || page.getList().isEmpty()
+                                                                        || page.getNextCursor() == null
+                                                                        || page.getNextCursor().isEmpty()
+                                                                                        ? Mono.empty()
+                                                                                        : getExecutionPage(apiKey,
+                                                                                                        apiSecret,
+                                                                                                        symbol,
+                                                                                                        windowStart,
+                                                                                                        windowEnd,
+                                                                                                        page.getNextCursor()));
+                                })
+                                .flatMapIterable(page -> page.getList() != null ? page.getList()
+                                                : Collections.<BybitExecutionResult>emptyList())
+                                .map(BybitMapper::toTrade);
+        }
+
+        private Mono<BybitExecutionListResult> getExecutionPage(String apiKey, String apiSecret, Symbol symbol,
+                        long startTime, long endTime, String cursor) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("category", "spot");
+                params.put("symbol", symbol.getValue());
+                params.put("startTime", String.valueOf(startTime));
+                params.put("endTime", String.valueOf(endTime));
+                params.put("limit", String.valueOf(EXECUTIONS_PAGE_SIZE));
+                if (cursor != null) {
+                        params.put("cursor", cursor);
+                }
+                return makeSignedRequest(apiKey, apiSecret, "GET", "/v5/execution/list", params,
+                                BybitExecutionListResult.class).map(bybitResponse -> {
+                                        if (bybitResponse.getRetCode() != 0) {
+                                                throw new ExchangeException("Bybit API error: "
+                                                                + bybitResponse.getRetMsg());
+                                        }
+                                        return bybitResponse.getResult() != null ? bybitResponse.getResult()
+                                                        : new BybitExecutionListResult();
+                                });
+        }
+
         @Override
         public Mono<List<SymbolDetails>> getSymbolDetails() {
-                return webClientBuilder.build()
+                return webClients.forBaseUrl(baseUrl)
                                 .get()
-                                .uri(baseUrl + "/v5/market/instruments-info?category=spot")
+                                .uri("/v5/market/instruments-info?category=spot")
                                 .retrieve()
-                                .bodyToMono(String.class)
-                                .map(response -> {
+                                .bodyToMono(byte[].class)
+                                .map(body -> {
                                         try {
-                                                BybitResponse<BybitInstrumentInfoResult> bybitResponse = objectMapper
-                                                                .readValue(response,
-                                                                                objectMapper.getTypeFactory()
-                                                                                                .constructParametricType(
-                                                                                                                BybitResponse.class,
-                                                                                                                BybitInstrumentInfoResult.class));
+                                                BybitResponse<BybitInstrumentInfoResult> bybitResponse = responseReader
+                                                                .read(body, BybitInstrumentInfoResult.class);
                                                 if (bybitResponse.getRetCode() != 0) {
                                                         throw new ExchangeException("Bybit API error: "
                                                                         + bybitResponse.getRetMsg());
@@ -329,20 +467,30 @@ public class BybitAdapter implements ExchangeAdapter {
          * @return Flux of Candle objects
          */
         public Mono<List<Candle>> getHistoricalCandles(String symbol, String interval, int limit) {
-                return webClientBuilder.build()
+                return getHistoricalCandles(symbol, interval, null, null, limit);
+        }
+
+        /**
+         * Get one page of historical candlestick data within a time window. Bybit
+         * returns the newest candles of the window first, so older history is paged
+         * by moving {@code end} before the oldest candle received.
+         *
+         * @param start Window start in epoch millis (inclusive), or null
+         * @param end   Window end in epoch millis (inclusive), or null for now
+         */
+        public Mono<List<Candle>> getHistoricalCandles(String symbol, String interval, Long start, Long end,
+                        int limit) {
+                String window = (start != null ? "&start=" + start : "") + (end != null ? "&end=" + end : "");
+                return webClients.forBaseUrl(baseUrl)
                                 .get()
-                                .uri(baseUrl + "/v5/market/kline?category=spot&symbol=" + symbol
-                                                + "&interval=" + interval + "&limit=" + limit)
+                                .uri("/v5/market/kline?category=spot&symbol=" + symbol
+                                                + "&interval=" + interval + "&limit=" + limit + window)
                                 .retrieve()
-                                .bodyToMono(String.class)
-                                .map(response -> {
+                                .bodyToMono(byte[].class)
+                                .map(body -> {
                                         try {
-                                                BybitResponse<BybitKlineResult> bybitResponse = objectMapper
-                                                                .readValue(response,
-                                                                                objectMapper.getTypeFactory()
-                                                                                                .constructParametricType(
-                                                                                                                BybitResponse.class,
-                                                                                                                BybitKlineResult.class));
+                                                BybitResponse<BybitKlineResult> bybitResponse = responseReader
+                                                                .read(body, BybitKlineResult.class);
                                                 if (bybitResponse.getRetCode() != 0) {
                                                         throw new ExchangeException("Bybit API error: "
                                                                         + bybitResponse.getRetMsg());
@@ -371,8 +519,55 @@ public class BybitAdapter implements ExchangeAdapter {
                                 });
         }
 
-        private Mono<String> makeSignedRequest(String apiKey, String apiSecret, String method, String path,
-                        Map<String, Object> params) {
+        /**
+         * Sends a signed request once the rate limiter grants a permit. The
+         * request is signed only then, so time spent queued does not count
+         * against the receive window. Requests Bybit rejects for exceeding a
+         * rate limit are retried after the limiter has waited out the window.
+         * The body is decoded into {@code BybitResponse<T>} straight from its
+         * bytes.
+         */
+        private <T> Mono<BybitResponse<T>> makeSignedRequest(String apiKey, String apiSecret, String method,
+                        String path, Map<String, Object> params, Class<T> resultType) {
+                BybitRateLimiter.Priority priority = priorityOf(path);
+                return rateLimiter.acquire(apiKey, path, priority)
+                                .then(Mono.defer(() -> sendSignedRequest(apiKey, apiSecret, method, path, params)))
+                                .onErrorResume(WebClientResponseException.class, e -> {
+                                        if (e.getStatusCode().value() == 429) {
+                                                rateLimiter.onResponse(apiKey, path, priority, e.getHeaders(), true);
+                                                return Mono.error(new ExchangeException(
+                                                                "Bybit rate limit exceeded on " + path, "429"));
+                                        }
+                                        return Mono.error(e);
+                                })
+                                .flatMap(response -> {
+                                        BybitResponse<T> bybitResponse;
+                                        try {
+                                                bybitResponse = responseReader.read(
+                                                                response.getBody() != null ? response.getBody()
+                                                                                : new byte[0],
+                                                                resultType);
+                                        } catch (Exception e) {
+                                                rateLimiter.onResponse(apiKey, path, priority, response.getHeaders(),
+                                                                false);
+                                                return Mono.error(new ExchangeException(
+                                                                "Failed to decode Bybit response from " + path, e));
+                                        }
+                                        String retCode = String.valueOf(bybitResponse.getRetCode());
+                                        boolean rateLimited = BybitRateLimiter.isRateLimitError(retCode);
+                                        rateLimiter.onResponse(apiKey, path, priority, response.getHeaders(),
+                                                        rateLimited);
+                                        if (rateLimited) {
+                                                return Mono.error(new ExchangeException(
+                                                                "Bybit rate limit exceeded on " + path, retCode));
+                                        }
+                                        return Mono.just(bybitResponse);
+                                })
+                                .retryWhen(Retry.max(RATE_LIMIT_RETRIES).filter(BybitAdapter::isRateLimitRejection));
+        }
+
+        private Mono<ResponseEntity<byte[]>> sendSignedRequest(String apiKey, String apiSecret, String method,
+                        String path, Map<String, Object> params) {
                 long timestamp = System.currentTimeMillis();
                 String recvWindow = "5000";
                 String queryString = "";
@@ -391,13 +586,12 @@ public class BybitAdapter implements ExchangeAdapter {
                         }
                 }
 
-                String signaturePayload = timestamp + apiKey + recvWindow
-                                + (method.equals("GET") ? queryString : jsonBody);
-                String signature = generateSignature(signaturePayload, apiSecret);
+                String signature = signatureGenerator.generate(apiSecret, String.valueOf(timestamp), apiKey,
+                                recvWindow, "GET".equals(method) ? queryString : jsonBody);
 
-                String finalUrl = baseUrl + path + (queryString.isEmpty() ? "" : "?" + queryString);
+                String finalUrl = path + (queryString.isEmpty() ? "" : "?" + queryString);
 
-                WebClient.RequestBodySpec requestSpec = webClientBuilder.build()
+                WebClient.RequestBodySpec requestSpec = webClients.forBaseUrl(baseUrl)
                                 .method(org.springframework.http.HttpMethod.valueOf(method))
                                 .uri(finalUrl)
                                 .header("X-BAPI-API-KEY", apiKey)
@@ -411,67 +605,26 @@ public class BybitAdapter implements ExchangeAdapter {
                 }
 
                 return requestSpec.retrieve()
-                                .bodyToMono(String.class)
-                                .doOnNext(res -> log.debug("Bybit Response: {}", res));
-        }
-
-        private String generateSignature(String payload, String secret) {
-                try {
-                        Mac sha256_HMAC = Mac.getInstance("HmacSHA256");
-                        SecretKeySpec secret_key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
-                                        "HmacSHA256");
-                        sha256_HMAC.init(secret_key);
-                        return bytesToHex(sha256_HMAC.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
-                } catch (Exception e) {
-                        throw new RuntimeException("Failed to generate signature", e);
-                }
-        }
-
-        private String bytesToHex(byte[] bytes) {
-                StringBuilder result = new StringBuilder();
-                for (byte b : bytes) {
-                        result.append(String.format("%02x", b));
-                }
-                return result.toString();
+                                .toEntity(byte[].class)
+                                .doOnNext(res -> {
+                                        if (log.isDebugEnabled() && res.getBody() != null) {
+                                                log.debug("Bybit Response: {}",
+                                                                new String(res.getBody(), StandardCharsets.UTF_8));
+                                        }
+                                });
         }
 
-        private OrderStatus mapStatus(String bybitStatus) {
-                return switch (bybitStatus.toUpperCase()) {
-                        case "NEW" -> OrderStatus.NEW;
-                        case "PARTIALLYFILLED", "PARTIALLY_FILLED" -> OrderStatus.PARTIALLY_FILLED;
-                        case "FILLED" -> OrderStatus.FILLED;
-                        case "CANCELLED", "CANCELED", "DEACTIVATED" -> OrderStatus.CANCELLED;
-                        case "REJECTED" -> OrderStatus.REJECTED;
-                        default -> OrderStatus.NEW;
+        private static BybitRateLimiter.Priority priorityOf(String path) {
+                return switch (path) {
+                        case "/v5/order/cancel", "/v5/order/cancel-batch" -> BybitRateLimiter.Priority.CANCEL;
+                        case "/v5/order/create", "/v5/order/create-batch" -> BybitRateLimiter.Priority.PLACE;
+                        default -> BybitRateLimiter.Priority.READ;
                 };
         }
 
-        private Order mapBybitOrderToDomain(BybitOrderResult result, Order original) {
-                return Order.builder()
-                                .id(original.getId())
-                                .userId(original.getUserId())
-                                .apiKeyId(original.getApiKeyId())
-                                .exchangeType(ExchangeType.BYBIT)
-                                .exchangeOrderId(result.getOrderId())
-                                .symbol(result.getSymbol())
-                                .side(OrderSide.valueOf(result.getSide().toUpperCase()))
-                                .orderType(OrderType.valueOf(result.getOrderType().toUpperCase()))
-                                .quantity(new BigDecimal(result.getQty()))
-                                .price(result.getPrice() != null && !result.getPrice().isEmpty()
-                                                ? new BigDecimal(result.getPrice())
-                                                : null)
-                                .status(mapStatus(result.getOrderStatus()))
-                                .filledQuantity(new BigDecimal(result.getCumExecQty()))
-                                .averagePrice(result.getAvgPrice() != null && !result.getAvgPrice().isEmpty()
-                                                ? new BigDecimal(result.getAvgPrice())
-                                                : BigDecimal.ZERO)
-                                .createdAt(original.getCreatedAt())
-                                .exchangeCreatedAt(LocalDateTime.ofInstant(
-                                                Instant.ofEpochMilli(Long.parseLong(result.getCreatedTime())),
-                                                ZoneId.systemDefault()))
-                                .exchangeUpdatedAt(LocalDateTime.ofInstant(
-                                                Instant.ofEpochMilli(Long.parseLong(result.getUpdatedTime())),
-                                                ZoneId.systemDefault()))
-                                .build();
+        private static boolean isRateLimitRejection(Throwable error) {
+                return error instanceof ExchangeException exchangeError
+                                && ("429".equals(exchangeError.getErrorCode())
+                                                || BybitRateLimiter.isRateLimitError(exchangeError.getErrorCode()));
         }
 }
@@ -0,0 +1,301 @@
+package com.cryptobot.adapter.bybit;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Single-pass scanner over raw UTF-8 JSON shared by the Bybit stream
+ * decoders. Keys are matched as bytes, scalars are left as a token range and
+ * decimals are parsed straight into unscaled longs, so decoding allocates
+ * nothing in steady state.
+ * <p>
+ * Subclasses point {@link #buf}, {@link #pos} and {@link #end} at a payload
+ * and walk it with these primitives. Not thread-safe.
+ */
+abstract class BybitJsonScanner {
+
+    private static final int MAX_UNSCALED_DIGITS = 18;
+
+    // Scanner state for the payload being decoded
+    byte[] buf;
+    int pos;
+    int end;
+    int tokenStart;
+    int tokenEnd;
+    int parsedScale;
+
+    /**
+     * Advances to the next member of the current object and leaves its key in
+     * the token range, positioned after the colon.
+     *
+     * @return false once the closing brace has been consumed
+     */
+    final boolean nextKey() {
+        byte b = nextNonWhitespace();
+        if (b == ',') {
+            b = nextNonWhitespace();
+        }
+        if (b == '}') {
+            return false;
+        }
+        if (b != '"') {
+            throw malformed();
+        }
+        scanStringBody();
+        if (nextNonWhitespace() != ':') {
+            throw malformed();
+        }
+        return true;
+    }
+
+    /**
+     * Advances to the next element of the current array, an object or array
+     * opened by {@code open}, positioned after its opening bracket.
+     *
+     * @return false once the closing bracket has been consumed
+     */
+    final boolean nextElement(char open) {
+        byte b = nextNonWhitespace();
+        if (b == ',') {
+            b = nextNonWhitespace();
+        }
+        if (b == ']') {
+            return false;
+        }
+        if (b != open) {
+            throw malformed();
+        }
+        return true;
+    }
+
+    /**
+     * Reads a string or bare scalar value into the token range.
+     *
+     * @return false if the value was null
+     */
+    final boolean readString() {
+        byte b = nextNonWhitespace();
+        if (b == '"') {
+            scanStringBody();
+            return true;
+        }
+        pos--;
+        scanScalar();
+        return !(tokenEnd - tokenStart == 4 && buf[tokenStart] == 'n');
+    }
+
+    final long readLong() {
+        if (!readString()) {
+            return 0L;
+        }
+        long value = 0L;
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            byte c = buf[i];
+            if (c < '0' || c > '9') {
+                throw malformed();
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Parses a quoted or bare plain decimal into an unscaled long, leaving the
+     * scale in {@link #parsedScale}. Fraction digits that do not fit into a long
+     * are truncated; empty strings and nulls read as zero.
+     */
+    final long readDecimal() {
+        parsedScale = 0;
+        if (!readString()) {
+            return 0L;
+        }
+
+        long unscaled = 0L;
+        int scale = 0;
+        int digits = 0;
+        boolean negative = false;
+        boolean fraction = false;
+
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            byte c = buf[i];
+            if (c >= '0' && c <= '9') {
+                if (digits >= MAX_UNSCALED_DIGITS) {
+                    if (!fraction) {
+                        throw new NumberFormatException("Decimal out of range: " + tokenText());
+                    }
+                    continue;
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (unscaled != 0) {
+                    digits++;
+                }
+                if (fraction) {
+                    scale++;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if ((c == '-' || c == '+') && i == tokenStart) {
+                negative = c == '-';
+            } else {
+                throw new NumberFormatException("Invalid decimal: " + tokenText());
+            }
+        }
+
+        parsedScale = scale;
+        return negative ? -unscaled : unscaled;
+    }
+
+    final void skipValue() {
+        byte b = nextNonWhitespace();
+        if (b == '"') {
+            scanStringBody();
+        } else if (b == '{' || b == '[') {
+            int depth = 1;
+            while (depth > 0) {
+                if (pos >= end) {
+                    throw malformed();
+                }
+                byte c = buf[pos++];
+                if (c == '"') {
+                    scanStringBody();
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+            }
+        } else {
+            pos--;
+            scanScalar();
+        }
+    }
+
+    /** Scans a string whose opening quote has been consumed; escapes are kept raw. */
+    final void scanStringBody() {
+        tokenStart = pos;
+        while (pos < end) {
+            byte c = buf[pos++];
+            if (c == '\\') {
+                pos++;
+            } else if (c == '"') {
+                tokenEnd = pos - 1;
+                return;
+            }
+        }
+        throw malformed();
+    }
+
+    final void scanScalar() {
+        tokenStart = pos;
+        while (pos < end) {
+            byte c = buf[pos];
+            if (c == ',' || c == '}' || c == ']' || c <= ' ') {
+                break;
+            }
+            pos++;
+        }
+        tokenEnd = pos;
+    }
+
+    final byte nextNonWhitespace() {
+        while (pos < end) {
+            byte c = buf[pos++];
+            if (c > ' ') {
+                return c;
+            }
+        }
+        throw malformed();
+    }
+
+    final byte peek() {
+        byte c = nextNonWhitespace();
+        pos--;
+        return c;
+    }
+
+    final boolean keyEquals(byte[] key) {
+        if (tokenEnd - tokenStart != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (buf[tokenStart + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    final boolean tokenStartsWith(byte[] prefix) {
+        if (tokenEnd - tokenStart < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buf[tokenStart + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    final String tokenText() {
+        return new String(buf, tokenStart, tokenEnd - tokenStart, StandardCharsets.UTF_8);
+    }
+
+    final IllegalArgumentException malformed() {
+        return new IllegalArgumentException("Malformed payload at offset " + pos);
+    }
+
+    static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Fixed-size open-addressing table that maps symbol bytes to a canonical
+     * String so steady-state decoding does not allocate a new String per tick.
+     */
+    static final class SymbolCache {
+        private static final int MAX_PROBES = 8;
+
+        private final String[] table;
+        private final int mask;
+
+        SymbolCache(int capacity) {
+            int size = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+            this.table = new String[size];
+            this.mask = size - 1;
+        }
+
+        String intern(byte[] bytes, int offset, int length) {
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + bytes[offset + i];
+            }
+            int index = (hash ^ (hash >>> 16)) & mask;
+
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                String candidate = table[index];
+                if (candidate == null) {
+                    String created = new String(bytes, offset, length, StandardCharsets.US_ASCII);
+                    table[index] = created;
+                    return created;
+                }
+                if (matches(candidate, bytes, offset, length)) {
+                    return candidate;
+                }
+                index = (index + 1) & mask;
+            }
+            return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+        }
+
+        private static boolean matches(String candidate, byte[] bytes, int offset, int length) {
+            if (candidate.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (candidate.charAt(i) != bytes[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
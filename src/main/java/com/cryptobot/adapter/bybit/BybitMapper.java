@@ -0,0 +1,157 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.adapter.bybit.dto.BybitBalanceResult;
+import com.cryptobot.adapter.bybit.dto.BybitBatchExtInfo;
+import com.cryptobot.adapter.bybit.dto.BybitBatchOrderResult;
+import com.cryptobot.adapter.bybit.dto.BybitExecutionResult;
+import com.cryptobot.adapter.bybit.dto.BybitOrderResult;
+import com.cryptobot.domain.model.Balance;
+import com.cryptobot.domain.model.BatchOrderResult;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Trade;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.OrderStatus;
+import com.cryptobot.domain.vo.OrderType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps Bybit V5 order, execution and wallet records to domain models. Shared
+ * by the REST adapter and the private WebSocket stream, which use the same
+ * field names.
+ */
+final class BybitMapper {
+
+    private BybitMapper() {
+    }
+
+    static OrderStatus mapStatus(String bybitStatus) {
+        return switch (bybitStatus.toUpperCase()) {
+            case "NEW" -> OrderStatus.NEW;
+            case "PARTIALLYFILLED", "PARTIALLY_FILLED" -> OrderStatus.PARTIALLY_FILLED;
+            case "FILLED" -> OrderStatus.FILLED;
+            case "CANCELLED", "CANCELED", "DEACTIVATED", "PARTIALLYFILLEDCANCELED" -> OrderStatus.CANCELLED;
+            case "REJECTED" -> OrderStatus.REJECTED;
+            default -> OrderStatus.NEW;
+        };
+    }
+
+    /**
+     * Maps an order record; fields Bybit leaves out (e.g. the create response
+     * only carries the order id) are taken from {@code original}.
+     */
+    static Order toOrder(BybitOrderResult result, Order original) {
+        return Order.builder()
+                .id(original.getId())
+                .userId(original.getUserId())
+                .apiKeyId(original.getApiKeyId())
+                .exchangeType(ExchangeType.BYBIT)
+                .exchangeOrderId(result.getOrderId())
+                .symbol(result.getSymbol() != null ? result.getSymbol() : original.getSymbol())
+                .side(result.getSide() != null
+                        ? OrderSide.valueOf(result.getSide().toUpperCase())
+                        : original.getSide())
+                .orderType(result.getOrderType() != null
+                        ? OrderType.valueOf(result.getOrderType().toUpperCase())
+                        : original.getOrderType())
+                .quantity(hasText(result.getQty()) ? new BigDecimal(result.getQty()) : original.getQuantity())
+                .price(hasText(result.getPrice()) ? new BigDecimal(result.getPrice()) : original.getPrice())
+                .status(result.getOrderStatus() != null ? mapStatus(result.getOrderStatus()) : OrderStatus.NEW)
+                .filledQuantity(hasText(result.getCumExecQty()) ? new BigDecimal(result.getCumExecQty())
+                        : BigDecimal.ZERO)
+                .averagePrice(hasText(result.getAvgPrice()) ? new BigDecimal(result.getAvgPrice()) : BigDecimal.ZERO)
+                .createdAt(original.getCreatedAt())
+                .exchangeCreatedAt(toDateTime(result.getCreatedTime()))
+                .exchangeUpdatedAt(toDateTime(result.getUpdatedTime()))
+                .build();
+    }
+
+    /**
+     * Maps a batch response to one result per order of the chunk. Bybit
+     * reports each item's code in {@code retExtInfo.list} and its order in
+     * {@code result.list}, both in request order; an item the response does
+     * not cover counts as failed.
+     *
+     * @param offset position of the chunk's first order in the whole batch
+     * @param cancelled whether the chunk was a cancellation, so successful
+     *                  items are reported as {@link OrderStatus#CANCELLED}
+     */
+    static List<BatchOrderResult> toBatchResults(BybitBatchOrderResult result, BybitBatchExtInfo extInfo,
+            List<Order> chunk, int offset, boolean cancelled) {
+        List<BybitOrderResult> items = result != null && result.getList() != null ? result.getList() : List.of();
+        List<BybitBatchExtInfo.ItemStatus> statuses = extInfo != null && extInfo.getList() != null
+                ? extInfo.getList()
+                : List.of();
+        List<BatchOrderResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Order original = chunk.get(i);
+            BybitBatchExtInfo.ItemStatus status = i < statuses.size() ? statuses.get(i) : null;
+            BybitOrderResult item = i < items.size() ? items.get(i) : null;
+            if (status != null && status.getCode() != 0) {
+                results.add(BatchOrderResult.failure(offset + i, original, String.valueOf(status.getCode()),
+                        status.getMsg()));
+            } else if (item == null || !hasText(item.getOrderId())) {
+                results.add(BatchOrderResult.failure(offset + i, original, null, "No result for batch item"));
+            } else if (cancelled) {
+                Order order = toOrder(item, original);
+                order.setStatus(OrderStatus.CANCELLED);
+                results.add(BatchOrderResult.success(offset + i, order));
+            } else {
+                results.add(BatchOrderResult.success(offset + i, toOrder(item, original)));
+            }
+        }
+        return results;
+    }
+
+    static Trade toTrade(BybitExecutionResult exec) {
+        return Trade.builder()
+                .exchangeType(ExchangeType.BYBIT)
+                .exchangeTradeId(exec.getExecId())
+                .exchangeOrderId(exec.getOrderId())
+                .symbol(exec.getSymbol())
+                .side(OrderSide.valueOf(exec.getSide().toUpperCase()))
+                .quantity(new BigDecimal(exec.getExecQty()))
+                .price(new BigDecimal(exec.getExecPrice()))
+                .commission(hasText(exec.getExecFee()) ? new BigDecimal(exec.getExecFee()) : BigDecimal.ZERO)
+                .commissionAsset(exec.getFeeCurrency())
+                .executedAt(toDateTime(exec.getExecTime()))
+                .build();
+    }
+
+    /**
+     * Unified accounts report {@code free} empty, so available balance falls
+     * back to wallet balance minus locked.
+     */
+    static Balance toBalance(BybitBalanceResult.BybitCoinBalance coin) {
+        BigDecimal total = hasText(coin.getWalletBalance())
+                ? new BigDecimal(coin.getWalletBalance())
+                : BigDecimal.ZERO;
+        BigDecimal locked = hasText(coin.getLocked()) ? new BigDecimal(coin.getLocked()) : BigDecimal.ZERO;
+        BigDecimal free = hasText(coin.getFree()) ? new BigDecimal(coin.getFree()) : total.subtract(locked);
+        return Balance.builder()
+                .exchangeType(ExchangeType.BYBIT)
+                .asset(coin.getCoin())
+                .freeBalance(free)
+                .lockedBalance(locked)
+                .totalBalance(total)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    static LocalDateTime toDateTime(String epochMillis) {
+        if (!hasText(epochMillis)) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
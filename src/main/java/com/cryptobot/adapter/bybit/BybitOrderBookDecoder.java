@@ -0,0 +1,123 @@
+package com.cryptobot.adapter.bybit;
+
+/**
+ * Streaming decoder for Bybit V5 public order book messages
+ * ({@code orderbook.{depth}.{symbol}}, snapshot and delta).
+ * <p>
+ * Same single token pass as {@link BybitTickerDecoder}: other topics are
+ * rejected as soon as their topic is seen, and the {@code b}/{@code a} levels
+ * are parsed straight into the primitive arrays of a reusable
+ * {@link BybitOrderBookFrame}.
+ * <p>
+ * Instances are not thread-safe: use one decoder per WebSocket connection.
+ */
+public final class BybitOrderBookDecoder extends BybitJsonScanner {
+
+    private static final byte[] ORDER_BOOK_TOPIC_PREFIX = ascii("orderbook.");
+    private static final byte[] SNAPSHOT = ascii("snapshot");
+    private static final byte[] KEY_TOPIC = ascii("topic");
+    private static final byte[] KEY_TYPE = ascii("type");
+    private static final byte[] KEY_TS = ascii("ts");
+    private static final byte[] KEY_DATA = ascii("data");
+    private static final byte[] KEY_SYMBOL = ascii("s");
+    private static final byte[] KEY_BIDS = ascii("b");
+    private static final byte[] KEY_ASKS = ascii("a");
+    private static final byte[] KEY_UPDATE_ID = ascii("u");
+    private static final byte[] KEY_SEQ = ascii("seq");
+
+    private final BybitOrderBookFrame frame = new BybitOrderBookFrame();
+    private final SymbolCache symbols = new SymbolCache(1024);
+
+    /**
+     * Decodes an order book message from raw UTF-8 bytes.
+     *
+     * @return the shared frame if this was an order book message, otherwise null
+     * @throws IllegalArgumentException if the payload is not well-formed JSON
+     */
+    public BybitOrderBookFrame decode(byte[] bytes, int offset, int length) {
+        frame.reset();
+        buf = bytes;
+        pos = offset;
+        end = offset + length;
+
+        try {
+            if (nextNonWhitespace() != '{') {
+                return null;
+            }
+
+            boolean orderBookTopic = false;
+            boolean hasData = false;
+
+            while (nextKey()) {
+                if (keyEquals(KEY_TOPIC)) {
+                    if (!readString() || !tokenStartsWith(ORDER_BOOK_TOPIC_PREFIX)) {
+                        return null;
+                    }
+                    orderBookTopic = true;
+                } else if (keyEquals(KEY_TYPE)) {
+                    frame.setSnapshot(readString() && tokenEquals(SNAPSHOT));
+                } else if (keyEquals(KEY_TS)) {
+                    frame.setTimestamp(readLong());
+                } else if (keyEquals(KEY_DATA)) {
+                    if (peek() == '{') {
+                        pos++;
+                        readData();
+                        hasData = true;
+                    } else {
+                        skipValue();
+                    }
+                } else {
+                    skipValue();
+                }
+            }
+
+            return orderBookTopic && hasData && frame.getSymbol() != null ? frame : null;
+        } finally {
+            buf = null;
+        }
+    }
+
+    private void readData() {
+        while (nextKey()) {
+            if (keyEquals(KEY_SYMBOL)) {
+                if (readString()) {
+                    frame.setSymbol(symbols.intern(buf, tokenStart, tokenEnd - tokenStart));
+                }
+            } else if (keyEquals(KEY_BIDS)) {
+                readLevels(frame.getBids());
+            } else if (keyEquals(KEY_ASKS)) {
+                readLevels(frame.getAsks());
+            } else if (keyEquals(KEY_UPDATE_ID)) {
+                frame.setUpdateId(readLong());
+            } else if (keyEquals(KEY_SEQ)) {
+                frame.setSeq(readLong());
+            } else {
+                skipValue();
+            }
+        }
+    }
+
+    // [["price","size"], ...]
+    private void readLevels(BybitOrderBookFrame.Levels levels) {
+        if (nextNonWhitespace() != '[') {
+            throw malformed();
+        }
+        while (nextElement('[')) {
+            long price = readDecimal();
+            int priceScale = parsedScale;
+            if (nextNonWhitespace() != ',') {
+                throw malformed();
+            }
+            long size = readDecimal();
+            int sizeScale = parsedScale;
+            if (nextNonWhitespace() != ']') {
+                throw malformed();
+            }
+            levels.add(price, priceScale, size, sizeScale);
+        }
+    }
+
+    private boolean tokenEquals(byte[] value) {
+        return tokenEnd - tokenStart == value.length && tokenStartsWith(value);
+    }
+}
@@ -0,0 +1,103 @@
+package com.cryptobot.adapter.bybit;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Mutable, reusable holder for a Bybit V5 {@code orderbook.{depth}.{symbol}}
+ * message.
+ * <p>
+ * Levels are kept as unscaled {@code long}s plus a scale each, exactly as they
+ * appeared on the wire, in growable primitive arrays, so decoding a message
+ * does not allocate once the arrays have grown to the stream's depth. A level
+ * with size zero in a delta removes the price. The same instance is
+ * overwritten by every decode call.
+ */
+@Getter
+public final class BybitOrderBookFrame {
+    private String symbol;
+    private boolean snapshot;
+    // "u": consecutive per topic; a snapshot resets it
+    private long updateId;
+    // "seq": cross sequence, comparable across depths of one symbol
+    private long seq;
+    private long timestamp;
+
+    private final Levels bids = new Levels();
+    private final Levels asks = new Levels();
+
+    void reset() {
+        symbol = null;
+        snapshot = false;
+        updateId = seq = timestamp = 0L;
+        bids.count = 0;
+        asks.count = 0;
+    }
+
+    void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    void setUpdateId(long updateId) {
+        this.updateId = updateId;
+    }
+
+    void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * One side's levels in message order.
+     */
+    public static final class Levels {
+        private long[] prices = new long[64];
+        private int[] priceScales = new int[64];
+        private long[] sizes = new long[64];
+        private int[] sizeScales = new int[64];
+        private int count;
+
+        void add(long price, int priceScale, long size, int sizeScale) {
+            if (count == prices.length) {
+                int capacity = count * 2;
+                prices = Arrays.copyOf(prices, capacity);
+                priceScales = Arrays.copyOf(priceScales, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+                sizeScales = Arrays.copyOf(sizeScales, capacity);
+            }
+            prices[count] = price;
+            priceScales[count] = priceScale;
+            sizes[count] = size;
+            sizeScales[count] = sizeScale;
+            count++;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long price(int index) {
+            return prices[index];
+        }
+
+        public int priceScale(int index) {
+            return priceScales[index];
+        }
+
+        public long size(int index) {
+            return sizes[index];
+        }
+
+        public int sizeScale(int index) {
+            return sizeScales[index];
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.bybit.dto.BybitBalanceResult;
+import com.cryptobot.adapter.bybit.dto.BybitExecutionResult;
+import com.cryptobot.adapter.bybit.dto.BybitOrderResult;
+import com.cryptobot.domain.exception.ExchangeException;
+import com.cryptobot.domain.model.AccountUpdate;
+import com.cryptobot.domain.model.Order;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Client for Bybit's V5 private WebSocket stream.
+ * <p>
+ * Each connection is authenticated with one API key (Bybit scopes a private
+ * connection to a single account) and subscribes to the {@code order},
+ * {@code execution} and {@code wallet} topics once the {@code auth}
+ * operation succeeds. Spot records are mapped to domain models with the same
+ * mapping as the REST adapter.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BybitPrivateStreamClient {
+
+    static final List<String> TOPICS = List.of("order", "execution", "wallet");
+
+    // Validity of the signed auth request
+    private static final long AUTH_EXPIRY_MILLIS = 10_000;
+    private static final Duration PING_INTERVAL = Duration.ofSeconds(20);
+
+    private final WebSocketClient webSocketClient;
+    private final ObjectMapper objectMapper;
+    private final BybitSignatureGenerator signatureGenerator;
+
+    @Value("${bybit.websocket.private-url:wss://stream-testnet.bybit.com/v5/private}")
+    private String privateUrl;
+
+    /**
+     * Opens a private stream for one account. The flux starts with a
+     * {@link AccountUpdate.Type#CONNECTED} event once subscribed, and errors
+     * when the connection drops or authentication fails; callers resubscribe
+     * to reconnect.
+     */
+    public Flux<AccountUpdate> connect(String apiKey, String apiSecret) {
+        return Flux.create(sink -> {
+            Disposable connection = webSocketClient.execute(URI.create(privateUrl), session -> {
+                // Outbound frames: auth first, subscribe once auth is acknowledged, then pings
+                Sinks.Many<String> outbound = Sinks.many().unicast().onBackpressureBuffer();
+                long expires = System.currentTimeMillis() + AUTH_EXPIRY_MILLIS;
+                outbound.tryEmitNext(operation("auth", List.of(apiKey, expires,
+                        signatureGenerator.generateWebSocketAuth(apiSecret, expires))));
+
+                Mono<Void> send = session.send(Flux.merge(
+                        outbound.asFlux(),
+                        Flux.interval(PING_INTERVAL).map(i -> "{\"op\":\"ping\"}"))
+                        .map(session::textMessage));
+
+                Mono<Void> receive = session.receive()
+                        .map(WebSocketMessage::getPayloadAsText)
+                        .doOnNext(text -> handleFrame(text, session, outbound, sink))
+                        .then(Mono.<Void>error(new ExchangeException("Private stream closed by server")));
+
+                return Mono.when(send, receive);
+            }).subscribe(null, sink::error, sink::complete);
+            sink.onDispose(connection);
+        });
+    }
+
+    private void handleFrame(String text, WebSocketSession session, Sinks.Many<String> outbound,
+            FluxSink<AccountUpdate> sink) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(text);
+        } catch (IOException e) {
+            log.warn("Unreadable private stream frame on session {}: {}", session.getId(), e.getMessage());
+            return;
+        }
+
+        String op = root.path("op").asText(null);
+        if (op != null) {
+            boolean success = root.path("success").asBoolean(true);
+            switch (op) {
+                case "auth" -> {
+                    if (!success) {
+                        sink.error(new ExchangeException("Private stream authentication failed: "
+                                + root.path("ret_msg").asText()));
+                        return;
+                    }
+                    outbound.tryEmitNext(operation("subscribe", TOPICS));
+                }
+                case "subscribe" -> {
+                    if (!success) {
+                        sink.error(new ExchangeException("Private stream subscription failed: "
+                                + root.path("ret_msg").asText()));
+                        return;
+                    }
+                    log.info("Private stream subscribed on session {}: {}", session.getId(), TOPICS);
+                    sink.next(AccountUpdate.builder().type(AccountUpdate.Type.CONNECTED).build());
+                }
+                default -> {
+                    // pong
+                }
+            }
+            return;
+        }
+
+        try {
+            AccountUpdate update = decode(root);
+            if (update != null) {
+                sink.next(update);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error processing private stream frame: {}", e.getMessage());
+        }
+    }
+
+    AccountUpdate decode(JsonNode root) {
+        JsonNode data = root.path("data");
+        return switch (root.path("topic").asText("")) {
+            case "order" -> AccountUpdate.builder()
+                    .type(AccountUpdate.Type.ORDER)
+                    .orders(this.<BybitOrderResult>read(data, new TypeReference<>() {
+                    }).stream()
+                            .filter(order -> isSpot(order.getCategory()))
+                            .map(order -> BybitMapper.toOrder(order, Order.builder().build()))
+                            .collect(Collectors.toList()))
+                    .build();
+            case "execution" -> AccountUpdate.builder()
+                    .type(AccountUpdate.Type.EXECUTION)
+                    .executions(this.<BybitExecutionResult>read(data, new TypeReference<>() {
+                    }).stream()
+                            .filter(execution -> isSpot(execution.getCategory()))
+                            .map(BybitMapper::toTrade)
+                            .collect(Collectors.toList()))
+                    .build();
+            case "wallet" -> AccountUpdate.builder()
+                    .type(AccountUpdate.Type.WALLET)
+                    .balances(this.<BybitBalanceResult.BybitBalanceAccount>read(data, new TypeReference<>() {
+                    }).stream()
+                            .filter(account -> account.getCoin() != null)
+                            .flatMap(account -> account.getCoin().stream())
+                            .map(BybitMapper::toBalance)
+                            .collect(Collectors.toList()))
+                    .build();
+            default -> null;
+        };
+    }
+
+    private <T> List<T> read(JsonNode data, TypeReference<List<T>> type) {
+        if (!data.isArray()) {
+            return List.of();
+        }
+        return objectMapper.convertValue(data, type);
+    }
+
+    private static boolean isSpot(String category) {
+        return category == null || "spot".equals(category);
+    }
+
+    private String operation(String op, List<?> args) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("op", op, "args", args));
+        } catch (IOException e) {
+            throw new ExchangeException("Failed to serialize private stream operation " + op, e);
+        }
+    }
+}
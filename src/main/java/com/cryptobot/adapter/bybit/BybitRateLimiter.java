@@ -0,0 +1,317 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.domain.exception.ExchangeException;
+import com.cryptobot.domain.model.RateLimitMetrics;
+import com.cryptobot.service.metrics.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbound scheduler for signed Bybit requests.
+ * <p>
+ * Every API key has a token bucket refilled at
+ * {@code bybit.rate-limit.requests-per-second}, and one bucket per endpoint
+ * whose size and reset time are learned from Bybit's {@code X-Bapi-Limit*}
+ * response headers. Waiting requests are queued in priority lanes: when a key
+ * token frees up it goes to a cancel before a placement before a read, and a
+ * request whose endpoint bucket is empty does not hold up requests to other
+ * endpoints behind it. Requests that wait longer than
+ * {@code bybit.rate-limit.max-wait-ms} fail without being sent.
+ */
+@Slf4j
+@Component
+public class BybitRateLimiter {
+
+    /**
+     * Lanes in the order they are served.
+     */
+    public enum Priority {
+        CANCEL, PLACE, READ
+    }
+
+    static final String LIMIT_HEADER = "X-Bapi-Limit";
+    static final String LIMIT_STATUS_HEADER = "X-Bapi-Limit-Status";
+    static final String LIMIT_RESET_HEADER = "X-Bapi-Limit-Reset-Timestamp";
+
+    // Bybit's per-endpoint limits are counted over one-second windows
+    private static final long WINDOW_MILLIS = 1000;
+    private static final String TOO_MANY_VISITS = "10006";
+    private static final String IP_LIMIT_EXCEEDED = "10018";
+
+    private final double requestsPerSecond;
+    private final long maxWaitMillis;
+    private final Scheduler timer = Schedulers.parallel();
+    private final Map<String, KeyLimiter> keys = new ConcurrentHashMap<>();
+    private final LaneStats[] stats = new LaneStats[Priority.values().length];
+
+    public BybitRateLimiter(
+            @Value("${bybit.rate-limit.requests-per-second:10}") double requestsPerSecond,
+            @Value("${bybit.rate-limit.max-wait-ms:10000}") long maxWaitMillis) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("bybit.rate-limit.requests-per-second must be positive");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.maxWaitMillis = maxWaitMillis;
+        for (Priority priority : Priority.values()) {
+            stats[priority.ordinal()] = new LaneStats();
+        }
+    }
+
+    /**
+     * Completes once a request of the given key to {@code endpoint} may be
+     * sent. Fails with an {@link ExchangeException} if no permit was granted
+     * within the maximum wait.
+     */
+    public Mono<Void> acquire(String apiKey, String endpoint, Priority priority) {
+        LaneStats lane = stats[priority.ordinal()];
+        return Mono.<Void>create(sink -> {
+            KeyLimiter limiter = keys.computeIfAbsent(apiKey, key -> new KeyLimiter());
+            Ticket ticket = new Ticket(priority, endpoint, sink, System.nanoTime());
+            sink.onCancel(() -> limiter.remove(ticket));
+            limiter.enqueue(ticket);
+            limiter.drain();
+        })
+                .timeout(Duration.ofMillis(maxWaitMillis))
+                .onErrorMap(TimeoutException.class, e -> {
+                    lane.queueTimeouts.increment();
+                    return new ExchangeException("Rate limit queue wait exceeded " + maxWaitMillis + " ms for "
+                            + endpoint, "RATE_LIMIT_QUEUE_TIMEOUT");
+                });
+    }
+
+    /**
+     * Learns the endpoint's limit from the response headers. A rate-limit
+     * rejection empties the endpoint bucket until the reported reset time.
+     */
+    public void onResponse(String apiKey, String endpoint, Priority priority, HttpHeaders headers,
+            boolean rateLimited) {
+        KeyLimiter limiter = keys.get(apiKey);
+        if (limiter == null) {
+            return;
+        }
+        if (rateLimited) {
+            stats[priority.ordinal()].rejections.increment();
+            log.warn("Bybit rate limit hit on {} ({} lane)", endpoint, priority);
+        }
+        long now = System.currentTimeMillis();
+        limiter.update(endpoint, headerValue(headers, LIMIT_HEADER), headerValue(headers, LIMIT_STATUS_HEADER),
+                headerValue(headers, LIMIT_RESET_HEADER), rateLimited, now);
+        limiter.drain();
+    }
+
+    /**
+     * Whether a Bybit error code means the request was rejected for exceeding
+     * a rate limit.
+     */
+    public static boolean isRateLimitError(String retCode) {
+        return TOO_MANY_VISITS.equals(retCode) || IP_LIMIT_EXCEEDED.equals(retCode);
+    }
+
+    public RateLimitMetrics metrics() {
+        int[] queued = new int[stats.length];
+        int endpoints = 0;
+        for (KeyLimiter limiter : keys.values()) {
+            endpoints += limiter.addQueued(queued);
+        }
+        List<RateLimitMetrics.Lane> lanes = new ArrayList<>();
+        for (Priority priority : Priority.values()) {
+            LaneStats lane = stats[priority.ordinal()];
+            lanes.add(RateLimitMetrics.Lane.builder()
+                    .priority(priority.name())
+                    .queued(queued[priority.ordinal()])
+                    .granted(lane.queueDelay.getCount())
+                    .rejections(lane.rejections.sum())
+                    .queueTimeouts(lane.queueTimeouts.sum())
+                    .queueDelayP50Micros(TimeUnit.NANOSECONDS.toMicros(lane.queueDelay.getPercentileNanos(50)))
+                    .queueDelayP99Micros(TimeUnit.NANOSECONDS.toMicros(lane.queueDelay.getPercentileNanos(99)))
+                    .queueDelayMaxMicros(TimeUnit.NANOSECONDS.toMicros(lane.queueDelay.getMaxNanos()))
+                    .build());
+        }
+        return RateLimitMetrics.builder()
+                .requestsPerSecond(requestsPerSecond)
+                .trackedKeys(keys.size())
+                .learnedEndpoints(endpoints)
+                .lanes(lanes)
+                .build();
+    }
+
+    private static long headerValue(HttpHeaders headers, String name) {
+        String value = headers != null ? headers.getFirst(name) : null;
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record Ticket(Priority priority, String endpoint, MonoSink<Void> sink, long enqueuedAt) {
+    }
+
+    private static final class LaneStats {
+        private final LatencyHistogram queueDelay = new LatencyHistogram();
+        private final LongAdder rejections = new LongAdder();
+        private final LongAdder queueTimeouts = new LongAdder();
+    }
+
+    /**
+     * Remaining requests of one endpoint in the current window, as last
+     * reported by Bybit and decremented locally for requests sent since.
+     */
+    private static final class EndpointBucket {
+        private long limit;
+        private long remaining;
+        private long resetAt;
+
+        long availableAt(long now) {
+            if (now >= resetAt) {
+                // Limit not reported yet (rejected without headers): only the key bucket applies
+                remaining = limit > 0 ? limit : Long.MAX_VALUE;
+                resetAt = now + WINDOW_MILLIS;
+            }
+            return remaining > 0 ? now : resetAt;
+        }
+
+        void take() {
+            remaining--;
+        }
+
+        void update(long limit, long status, long reset, boolean rateLimited, long now, long maxWait) {
+            if (limit > 0) {
+                this.limit = limit;
+            }
+            // Never wait on a reset time further out than a request may queue (clock skew, bans)
+            long nextReset = reset > 0 ? Math.min(reset, now + maxWait) : now + WINDOW_MILLIS;
+            if (rateLimited) {
+                remaining = 0;
+                resetAt = Math.max(resetAt, nextReset);
+                return;
+            }
+            if (status < 0) {
+                return;
+            }
+            // Requests sent after this one already took from the local count
+            remaining = nextReset == resetAt ? Math.min(remaining, status) : status;
+            resetAt = nextReset;
+        }
+    }
+
+    /**
+     * Lanes and buckets of one API key. All state is guarded by the
+     * instance lock; permits are granted outside it.
+     */
+    private final class KeyLimiter {
+        private final ArrayDeque<Ticket>[] lanes;
+        private final Map<String, EndpointBucket> endpoints = new HashMap<>();
+        private double tokens = Math.max(1, requestsPerSecond);
+        private long refilledAt = System.currentTimeMillis();
+        private long wakeAt = Long.MAX_VALUE;
+
+        @SuppressWarnings("unchecked")
+        KeyLimiter() {
+            lanes = new ArrayDeque[Priority.values().length];
+            Arrays.setAll(lanes, i -> new ArrayDeque<>());
+        }
+
+        synchronized void enqueue(Ticket ticket) {
+            lanes[ticket.priority().ordinal()].addLast(ticket);
+        }
+
+        synchronized void remove(Ticket ticket) {
+            lanes[ticket.priority().ordinal()].remove(ticket);
+        }
+
+        synchronized void update(String endpoint, long limit, long status, long reset, boolean rateLimited,
+                long now) {
+            if (limit <= 0 && !rateLimited) {
+                return;
+            }
+            endpoints.computeIfAbsent(endpoint, e -> new EndpointBucket())
+                    .update(limit, status, reset, rateLimited, now, maxWaitMillis);
+        }
+
+        synchronized int addQueued(int[] queued) {
+            for (int i = 0; i < lanes.length; i++) {
+                queued[i] += lanes[i].size();
+            }
+            return endpoints.size();
+        }
+
+        void drain() {
+            List<Ticket> granted = new ArrayList<>();
+            long wake;
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                tokens = Math.min(Math.max(1, requestsPerSecond),
+                        tokens + (now - refilledAt) * requestsPerSecond / 1000.0);
+                refilledAt = now;
+
+                long next = Long.MAX_VALUE;
+                lanes:
+                for (ArrayDeque<Ticket> lane : lanes) {
+                    Iterator<Ticket> waiting = lane.iterator();
+                    while (waiting.hasNext()) {
+                        if (tokens < 1) {
+                            next = Math.min(next, now + (long) Math.ceil((1 - tokens) * 1000 / requestsPerSecond));
+                            break lanes;
+                        }
+                        Ticket ticket = waiting.next();
+                        EndpointBucket bucket = endpoints.get(ticket.endpoint());
+                        long availableAt = bucket != null ? bucket.availableAt(now) : now;
+                        if (availableAt > now) {
+                            next = Math.min(next, availableAt);
+                            continue;
+                        }
+                        waiting.remove();
+                        tokens -= 1;
+                        if (bucket != null) {
+                            bucket.take();
+                        }
+                        granted.add(ticket);
+                    }
+                }
+                wake = next < wakeAt ? next : Long.MAX_VALUE;
+                if (wake != Long.MAX_VALUE) {
+                    wakeAt = wake;
+                }
+            }
+
+            if (wake != Long.MAX_VALUE) {
+                timer.schedule(() -> {
+                    synchronized (this) {
+                        if (wakeAt == wake) {
+                            wakeAt = Long.MAX_VALUE;
+                        }
+                    }
+                    drain();
+                }, Math.max(1, wake - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            }
+            long grantedAt = System.nanoTime();
+            for (Ticket ticket : granted) {
+                stats[ticket.priority().ordinal()].queueDelay.record(grantedAt - ticket.enqueuedAt());
+                ticket.sink().success();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.bybit.dto.BybitBalanceResult;
+import com.cryptobot.adapter.bybit.dto.BybitBatchOrderResult;
+import com.cryptobot.adapter.bybit.dto.BybitExecutionListResult;
+import com.cryptobot.adapter.bybit.dto.BybitInstrumentInfoResult;
+import com.cryptobot.adapter.bybit.dto.BybitKlineResult;
+import com.cryptobot.adapter.bybit.dto.BybitOrderListResult;
+import com.cryptobot.adapter.bybit.dto.BybitOrderResult;
+import com.cryptobot.adapter.bybit.dto.BybitResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Decodes Bybit V5 REST responses into {@code BybitResponse<T>}.
+ * <p>
+ * The {@link JavaType} and {@link ObjectReader} of every result DTO are
+ * resolved once at startup, and bodies are decoded from the raw UTF-8 bytes
+ * without first being copied into a {@code String}.
+ */
+@Component
+public class BybitResponseReader {
+
+    static final List<Class<?>> RESULT_TYPES = List.of(
+            BybitBalanceResult.class,
+            BybitOrderResult.class,
+            BybitOrderListResult.class,
+            BybitBatchOrderResult.class,
+            BybitExecutionListResult.class,
+            BybitInstrumentInfoResult.class,
+            BybitKlineResult.class);
+
+    private final Map<Class<?>, ObjectReader> readers;
+
+    public BybitResponseReader(ObjectMapper objectMapper) {
+        this.readers = RESULT_TYPES.stream().collect(Collectors.toUnmodifiableMap(Function.identity(), type -> {
+            JavaType javaType = objectMapper.getTypeFactory().constructParametricType(BybitResponse.class, type);
+            return objectMapper.readerFor(javaType);
+        }));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code resultType} is not a known result DTO
+     */
+    public <T> BybitResponse<T> read(byte[] body, Class<T> resultType) throws IOException {
+        ObjectReader reader = readers.get(resultType);
+        if (reader == null) {
+            throw new IllegalArgumentException("No reader registered for " + resultType.getSimpleName());
+        }
+        return reader.readValue(body);
+    }
+}
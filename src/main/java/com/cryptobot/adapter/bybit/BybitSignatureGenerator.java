@@ -1,19 +1,29 @@
 package com.cryptobot.adapter.bybit;
 
+import com.cryptobot.security.CredentialCache;
+import com.cryptobot.security.HmacSigner;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.util.HexFormat;
-
 /**
  * Utility for generating Bybit API v5 request signatures
+ * <p>
+ * Keys whose credentials are held in the {@link CredentialCache} are signed
+ * with their pre-initialised signer; any other secret gets a one-off signer.
  */
 @Component
 public class BybitSignatureGenerator {
 
-    private static final String HMAC_SHA256 = "HmacSHA256";
+    private final CredentialCache credentialCache;
+
+    public BybitSignatureGenerator() {
+        this(null);
+    }
+
+    @Autowired
+    public BybitSignatureGenerator(CredentialCache credentialCache) {
+        this.credentialCache = credentialCache;
+    }
 
     /**
      * Generates a signature for Bybit API v5
@@ -26,17 +36,30 @@ public class BybitSignatureGenerator {
      * @return Hex-encoded signature
      */
     public String generate(String apiSecret, String timestamp, String apiKey, String recvWindow, String payload) {
-        try {
-            String message = timestamp + apiKey + recvWindow + payload;
+        String message = timestamp + apiKey + recvWindow + payload;
+        HmacSigner signer = credentialCache != null ? credentialCache.signer(apiKey, apiSecret) : null;
+        if (signer != null) {
+            try {
+                return signer.sign(message);
+            } catch (IllegalStateException e) {
+                // Evicted between lookup and use
+            }
+        }
+        return sign(apiSecret, message);
+    }
 
-            Mac sha256_HMAC = Mac.getInstance(HMAC_SHA256);
-            SecretKeySpec secret_key = new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), HMAC_SHA256);
-            sha256_HMAC.init(secret_key);
+    /**
+     * Generates a signature for the private WebSocket {@code auth} operation
+     *
+     * @param apiSecret The user's API secret
+     * @param expires   Expiry of the auth request in epoch milliseconds
+     * @return Hex-encoded signature
+     */
+    public String generateWebSocketAuth(String apiSecret, long expires) {
+        return sign(apiSecret, "GET/realtime" + expires);
+    }
 
-            byte[] hash = sha256_HMAC.doFinal(message.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate Bybit signature", e);
-        }
+    private String sign(String apiSecret, String message) {
+        return new HmacSigner(apiSecret).sign(message);
     }
 }
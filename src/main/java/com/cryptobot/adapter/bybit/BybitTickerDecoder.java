@@ -0,0 +1,165 @@
+package com.cryptobot.adapter.bybit;
+
+import java.util.function.Consumer;
+
+/**
+ * Streaming decoder for Bybit V5 public ticker frames.
+ * <p>
+ * Runs a single token pass over the raw UTF-8 payload, routes on the
+ * {@code topic} field and copies only the fields the platform uses into a
+ * reusable {@link BybitTickerFrame}. Non-ticker frames (pongs, subscription
+ * acks, other topics) are rejected as soon as their topic is seen. In steady
+ * state a decode allocates nothing: keys are matched as bytes, decimals are
+ * parsed straight into unscaled longs and symbols are served from a cache.
+ * The same pass reads the REST {@code /v5/market/tickers} response, handing
+ * each ticker of the list to a callback without building a tree.
+ * <p>
+ * Instances are not thread-safe: use one decoder per WebSocket connection.
+ */
+public final class BybitTickerDecoder extends BybitJsonScanner {
+
+    private static final byte[] TICKER_TOPIC_PREFIX = ascii("ticker.");
+    private static final byte[] KEY_TOPIC = ascii("topic");
+    private static final byte[] KEY_TS = ascii("ts");
+    private static final byte[] KEY_DATA = ascii("data");
+    private static final byte[] KEY_SYMBOL = ascii("symbol");
+    private static final byte[] KEY_LAST_PRICE = ascii("lastPrice");
+    private static final byte[] KEY_HIGH_PRICE = ascii("highPrice24h");
+    private static final byte[] KEY_LOW_PRICE = ascii("lowPrice24h");
+    private static final byte[] KEY_VOLUME = ascii("volume24h");
+    private static final byte[] KEY_RET_CODE = ascii("retCode");
+    private static final byte[] KEY_RET_MSG = ascii("retMsg");
+    private static final byte[] KEY_RESULT = ascii("result");
+    private static final byte[] KEY_LIST = ascii("list");
+
+    private final BybitTickerFrame frame = new BybitTickerFrame();
+    private final SymbolCache symbols = new SymbolCache(1024);
+
+    /**
+     * Decodes a ticker message from raw UTF-8 bytes.
+     *
+     * @return the shared frame if this was a ticker message, otherwise null
+     * @throws IllegalArgumentException if the payload is not well-formed JSON
+     */
+    public BybitTickerFrame decode(byte[] bytes, int offset, int length) {
+        frame.reset();
+        buf = bytes;
+        pos = offset;
+        end = offset + length;
+
+        try {
+            if (nextNonWhitespace() != '{') {
+                return null;
+            }
+
+            boolean tickerTopic = false;
+            boolean hasData = false;
+
+            while (nextKey()) {
+                if (keyEquals(KEY_TOPIC)) {
+                    if (!readString() || !tokenStartsWith(TICKER_TOPIC_PREFIX)) {
+                        return null;
+                    }
+                    tickerTopic = true;
+                } else if (keyEquals(KEY_TS)) {
+                    frame.setTimestamp(readLong());
+                } else if (keyEquals(KEY_DATA)) {
+                    if (peek() == '{') {
+                        pos++;
+                        readData();
+                        hasData = true;
+                    } else {
+                        skipValue();
+                    }
+                } else {
+                    skipValue();
+                }
+            }
+
+            return tickerTopic && hasData && frame.getSymbol() != null ? frame : null;
+        } finally {
+            buf = null;
+        }
+    }
+
+    /**
+     * Decodes a REST tickers response from raw UTF-8 bytes, passing the shared
+     * frame to {@code consumer} once per ticker. The frame is overwritten by
+     * the next ticker, so the consumer must copy what it keeps.
+     *
+     * @param timestamp Stamped on every frame; the response carries no per-ticker time
+     * @return the number of tickers decoded
+     * @throws IllegalArgumentException if the payload is not well-formed JSON
+     * @throws IllegalStateException if Bybit reported an error
+     */
+    public int decodeSnapshot(byte[] bytes, int offset, int length, long timestamp,
+            Consumer<BybitTickerFrame> consumer) {
+        buf = bytes;
+        pos = offset;
+        end = offset + length;
+
+        try {
+            if (nextNonWhitespace() != '{') {
+                throw malformed();
+            }
+            long retCode = 0L;
+            String retMsg = null;
+            int count = 0;
+
+            while (nextKey()) {
+                if (keyEquals(KEY_RET_CODE)) {
+                    retCode = readLong();
+                } else if (keyEquals(KEY_RET_MSG)) {
+                    retMsg = readString() ? tokenText() : null;
+                } else if (keyEquals(KEY_RESULT) && peek() == '{') {
+                    pos++;
+                    while (nextKey()) {
+                        if (keyEquals(KEY_LIST) && peek() == '[') {
+                            pos++;
+                            while (nextElement('{')) {
+                                frame.reset();
+                                frame.setTimestamp(timestamp);
+                                readData();
+                                if (frame.getSymbol() != null) {
+                                    consumer.accept(frame);
+                                    count++;
+                                }
+                            }
+                        } else {
+                            skipValue();
+                        }
+                    }
+                } else {
+                    skipValue();
+                }
+            }
+
+            if (retCode != 0) {
+                throw new IllegalStateException("Bybit tickers request failed: " + retCode + " " + retMsg);
+            }
+            return count;
+        } finally {
+            buf = null;
+        }
+    }
+
+    private void readData() {
+        while (nextKey()) {
+            if (keyEquals(KEY_SYMBOL)) {
+                if (readString()) {
+                    frame.setSymbol(symbols.intern(buf, tokenStart, tokenEnd - tokenStart));
+                }
+            } else if (keyEquals(KEY_LAST_PRICE)) {
+                frame.setLastPrice(readDecimal(), parsedScale);
+            } else if (keyEquals(KEY_HIGH_PRICE)) {
+                frame.setHighPrice24h(readDecimal(), parsedScale);
+            } else if (keyEquals(KEY_LOW_PRICE)) {
+                frame.setLowPrice24h(readDecimal(), parsedScale);
+            } else if (keyEquals(KEY_VOLUME)) {
+                frame.setVolume24h(readDecimal(), parsedScale);
+            } else {
+                skipValue();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cryptobot.adapter.bybit;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Mutable, reusable holder for the fields of a Bybit V5 ticker frame.
+ * <p>
+ * Decimal fields are kept as an unscaled {@code long} plus a scale, exactly as
+ * they appeared on the wire, so decoding a tick does not allocate. The same
+ * instance is overwritten by every decode call; copy what you need before the
+ * next frame arrives.
+ */
+@Getter
+public final class BybitTickerFrame {
+    private String symbol;
+    private long timestamp;
+
+    private long lastPrice;
+    private int lastPriceScale;
+    private long highPrice24h;
+    private int highPrice24hScale;
+    private long lowPrice24h;
+    private int lowPrice24hScale;
+    private long volume24h;
+    private int volume24hScale;
+
+    void reset() {
+        symbol = null;
+        timestamp = 0L;
+        lastPrice = highPrice24h = lowPrice24h = volume24h = 0L;
+        lastPriceScale = highPrice24hScale = lowPrice24hScale = volume24hScale = 0;
+    }
+
+    void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    void setLastPrice(long unscaled, int scale) {
+        this.lastPrice = unscaled;
+        this.lastPriceScale = scale;
+    }
+
+    void setHighPrice24h(long unscaled, int scale) {
+        this.highPrice24h = unscaled;
+        this.highPrice24hScale = scale;
+    }
+
+    void setLowPrice24h(long unscaled, int scale) {
+        this.lowPrice24h = unscaled;
+        this.lowPrice24hScale = scale;
+    }
+
+    void setVolume24h(long unscaled, int scale) {
+        this.volume24h = unscaled;
+        this.volume24hScale = scale;
+    }
+
+    public BigDecimal lastPriceAsBigDecimal() {
+        return BigDecimal.valueOf(lastPrice, lastPriceScale);
+    }
+
+    public BigDecimal highPrice24hAsBigDecimal() {
+        return BigDecimal.valueOf(highPrice24h, highPrice24hScale);
+    }
+
+    public BigDecimal lowPrice24hAsBigDecimal() {
+        return BigDecimal.valueOf(lowPrice24h, lowPrice24hScale);
+    }
+
+    public BigDecimal volume24hAsBigDecimal() {
+        return BigDecimal.valueOf(volume24h, volume24hScale);
+    }
+}
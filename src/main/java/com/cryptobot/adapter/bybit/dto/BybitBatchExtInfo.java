@@ -0,0 +1,23 @@
+package com.cryptobot.adapter.bybit.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * {@code retExtInfo} of a Bybit API v5 batch order response: the outcome of
+ * each request item, in request order
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BybitBatchExtInfo {
+    private List<ItemStatus> list;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ItemStatus {
+        private int code;
+        private String msg;
+    }
+}
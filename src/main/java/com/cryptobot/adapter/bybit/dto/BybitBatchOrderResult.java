@@ -0,0 +1,16 @@
+package com.cryptobot.adapter.bybit.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Bybit API v5 batch order result, one entry per request item in request
+ * order
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BybitBatchOrderResult {
+    private List<BybitOrderResult> list;
+}
@@ -9,6 +9,7 @@ import lombok.Data;
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class BybitExecutionResult {
+    private String category;
     private String symbol;
     private String orderId;
     private String side;
@@ -17,4 +18,5 @@ public class BybitExecutionResult {
     private String execFee;
     private String execId;
     private String execTime; // unix timestamp in ms
+    private String feeCurrency;
 }
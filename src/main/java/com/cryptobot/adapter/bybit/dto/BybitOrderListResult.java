@@ -1,6 +1,7 @@
 package com.cryptobot.adapter.bybit.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 import java.util.List;
@@ -13,5 +14,7 @@ import java.util.List;
 public class BybitOrderListResult {
     private String category;
     private List<BybitOrderResult> list;
+    // Bybit names the paging cursor "nextPageCursor"
+    @JsonProperty("nextPageCursor")
     private String nextCursor;
 }
@@ -9,6 +9,7 @@ import lombok.Data;
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class BybitOrderResult {
+    private String category;
     private String orderId;
     private String orderLinkId;
     private String symbol;
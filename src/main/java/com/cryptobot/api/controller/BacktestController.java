@@ -0,0 +1,65 @@
+package com.cryptobot.api.controller;
+
+import com.cryptobot.api.dto.BacktestRequest;
+import com.cryptobot.api.dto.OptimizationRequest;
+import com.cryptobot.domain.model.BacktestResult;
+import com.cryptobot.domain.model.OptimizationResult;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.service.backtest.BacktestService;
+import com.cryptobot.service.backtest.CandleSeries;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Controller for backtesting strategies over historical candles
+ */
+@RestController
+@RequestMapping("/api/backtests")
+@RequiredArgsConstructor
+@Tag(name = "Backtesting", description = "Endpoints for replaying strategies over historical market data")
+public class BacktestController {
+
+    private final BacktestService backtestService;
+
+    @PostMapping
+    @Operation(summary = "Backtest a strategy configuration and report PnL, drawdown and trades")
+    public Mono<ResponseEntity<BacktestResult>> runBacktest(@Valid @RequestBody BacktestRequest request) {
+        request.validate();
+        return backtestService.backtest(toStrategy(request), series(request), request.toSettings())
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/optimize")
+    @Operation(summary = "Backtest a grid or random sample of parameter combinations and rank them")
+    public Mono<ResponseEntity<OptimizationResult>> optimize(@Valid @RequestBody OptimizationRequest request) {
+        request.validate();
+        return backtestService.optimize(toStrategy(request), series(request), request.toParameterSpace(),
+                        request.toOptimizationSettings())
+                .map(ResponseEntity::ok);
+    }
+
+    private Strategy toStrategy(BacktestRequest request) {
+        return Strategy.builder()
+                .name("backtest")
+                .type(request.getType())
+                .symbol(request.getSymbol().toUpperCase())
+                .parameters(request.getParameters())
+                .build();
+    }
+
+    private Mono<CandleSeries> series(BacktestRequest request) {
+        String symbol = request.getSymbol().toUpperCase();
+        if (request.getDataFile() != null) {
+            return backtestService.loadFile(request.getDataFile(), symbol, request.getInterval());
+        }
+        return backtestService.fetchHistory(symbol, request.getInterval(), request.getFrom(),
+                request.getTo() != null ? request.getTo() : Instant.now());
+    }
+}
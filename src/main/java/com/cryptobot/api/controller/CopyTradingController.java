@@ -1,6 +1,7 @@
 package com.cryptobot.api.controller;
 
 import com.cryptobot.domain.model.CopyRelation;
+import com.cryptobot.domain.model.CopyTradingStatus;
 import com.cryptobot.service.CopyTradingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,4 +30,13 @@ public class CopyTradingController {
             @RequestParam(defaultValue = "1.0") BigDecimal scaleFactor) {
         return ResponseEntity.ok(copyTradingService.linkFollower(leadUserId, userId, scaleFactor));
     }
+
+    @PutMapping("/follow/{leadUserId}/status")
+    @Operation(summary = "Pause, resume or stop following a lead trader")
+    public ResponseEntity<CopyRelation> updateStatus(
+            @PathVariable Long userId,
+            @PathVariable Long leadUserId,
+            @RequestParam CopyTradingStatus status) {
+        return ResponseEntity.ok(copyTradingService.updateStatus(leadUserId, userId, status));
+    }
 }
@@ -0,0 +1,29 @@
+package com.cryptobot.api.controller;
+
+import com.cryptobot.domain.model.CopyTradingMetrics;
+import com.cryptobot.service.CopyTradingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller to expose the state of the copy-trading fan-out
+ */
+@RestController
+@RequestMapping("/api/copy-trading")
+@RequiredArgsConstructor
+@Tag(name = "Copy Trading", description = "Endpoints for trade mirroring and social trading link management")
+public class CopyTradingMetricsController {
+
+    private final CopyTradingService copyTradingService;
+
+    @GetMapping("/metrics")
+    @Operation(summary = "Get fan-out metrics (in-flight mirrors, throttling, lead-to-follower ack latency)")
+    public ResponseEntity<CopyTradingMetrics> getMetrics() {
+        return ResponseEntity.ok(copyTradingService.getMetrics());
+    }
+}
@@ -0,0 +1,29 @@
+package com.cryptobot.api.controller;
+
+import com.cryptobot.adapter.bybit.BybitRateLimiter;
+import com.cryptobot.domain.model.RateLimitMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller to expose the state of exchange connectivity
+ */
+@RestController
+@RequestMapping("/api/exchange")
+@RequiredArgsConstructor
+@Tag(name = "Exchange", description = "Endpoints for exchange connectivity diagnostics")
+public class ExchangeController {
+
+    private final BybitRateLimiter bybitRateLimiter;
+
+    @GetMapping("/bybit/rate-limits")
+    @Operation(summary = "Get Bybit request scheduler metrics (queue depth, queueing delay, rejections) per lane")
+    public ResponseEntity<RateLimitMetrics> getBybitRateLimits() {
+        return ResponseEntity.ok(bybitRateLimiter.metrics());
+    }
+}
@@ -1,15 +1,24 @@
 package com.cryptobot.api.controller;
 
+import com.cryptobot.domain.model.OrderBookSnapshot;
+import com.cryptobot.domain.model.TickerSubscriberMetrics;
 import com.cryptobot.domain.model.TickerUpdate;
 import com.cryptobot.service.MarketDataService;
+import com.cryptobot.service.TickerHub;
+import com.cryptobot.service.orderbook.OrderBookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
 
 /**
  * Controller to expose real-time market data
@@ -21,6 +30,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class MarketDataController {
 
     private final MarketDataService marketDataService;
+    private final TickerHub tickerHub;
+    private final OrderBookService orderBookService;
 
     @GetMapping("/price/{symbol}")
     @Operation(summary = "Get the latest ticker price from the WebSocket cache")
@@ -31,4 +42,27 @@ public class MarketDataController {
         }
         return ResponseEntity.ok(ticker);
     }
+
+    @GetMapping(value = "/stream/{symbol}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream live ticker updates of a symbol", description = "Subscribes the symbol on the exchange stream while the client is connected")
+    public Flux<TickerUpdate> streamTicker(@PathVariable String symbol) {
+        return marketDataService.streamTicker(symbol.toUpperCase());
+    }
+
+    @GetMapping("/orderbook/{symbol}")
+    @Operation(summary = "Get the top levels of the local order book kept from the WebSocket stream")
+    public ResponseEntity<OrderBookSnapshot> getOrderBook(@PathVariable String symbol,
+            @RequestParam(defaultValue = "20") int depth) {
+        OrderBookSnapshot snapshot = orderBookService.getSnapshot(symbol.toUpperCase(), Math.max(depth, 0));
+        if (snapshot == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(snapshot);
+    }
+
+    @GetMapping("/subscribers")
+    @Operation(summary = "Get ticker fan-out metrics (queued, delivered and dropped updates) per internal subscriber")
+    public ResponseEntity<List<TickerSubscriberMetrics>> getSubscriberMetrics() {
+        return ResponseEntity.ok(tickerHub.metrics());
+    }
 }
@@ -1,6 +1,9 @@
 package com.cryptobot.api.controller;
 
+import com.cryptobot.api.dto.BatchCancelOrderRequest;
+import com.cryptobot.api.dto.BatchPlaceOrderRequest;
 import com.cryptobot.api.dto.PlaceOrderRequest;
+import com.cryptobot.domain.model.BatchOrderResult;
 import com.cryptobot.domain.model.Order;
 import com.cryptobot.domain.vo.Symbol;
 import com.cryptobot.service.OrderService;
@@ -28,16 +31,27 @@ public class OrderController {
             @Valid @RequestBody PlaceOrderRequest request) {
         request.validate();
 
-        Order orderRequest = Order.builder()
-                .exchangeType(request.getExchangeType())
-                .symbol(request.getSymbol())
-                .orderType(request.getOrderType())
-                .side(request.getSide())
-                .quantity(request.getQuantity())
-                .price(request.getPrice())
-                .build();
+        return orderService.placeOrder(userId, toOrder(request))
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Place several orders on one exchange", description = "Returns one result per order, in request order; a rejected order does not fail the others")
+    public Mono<ResponseEntity<List<BatchOrderResult>>> placeOrders(
+            @PathVariable Long userId,
+            @Valid @RequestBody BatchPlaceOrderRequest request) {
+        request.validate();
 
-        return orderService.placeOrder(userId, orderRequest)
+        return orderService.placeOrders(userId, request.getOrders().stream().map(this::toOrder).toList())
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch-cancel")
+    @Operation(summary = "Cancel several open orders", description = "Returns one result per order id, in request order")
+    public Mono<ResponseEntity<List<BatchOrderResult>>> cancelOrders(
+            @PathVariable Long userId,
+            @Valid @RequestBody BatchCancelOrderRequest request) {
+        return orderService.cancelOrders(userId, request.getOrderIds())
                 .map(ResponseEntity::ok);
     }
 
@@ -67,4 +81,15 @@ public class OrderController {
         }
         return ResponseEntity.ok(order);
     }
+
+    private Order toOrder(PlaceOrderRequest request) {
+        return Order.builder()
+                .exchangeType(request.getExchangeType())
+                .symbol(request.getSymbol())
+                .orderType(request.getOrderType())
+                .side(request.getSide())
+                .quantity(request.getQuantity())
+                .price(request.getPrice())
+                .build();
+    }
 }
@@ -1,6 +1,7 @@
 package com.cryptobot.api.controller;
 
 import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyMetrics;
 import com.cryptobot.domain.model.StrategyStatus;
 import com.cryptobot.service.StrategyService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,4 +51,17 @@ public class StrategyController {
         }
         return ResponseEntity.ok(strategyService.updateStatus(strategyId, status));
     }
+
+    @GetMapping("/{strategyId}/metrics")
+    @Operation(summary = "Get execution metrics (mailbox depth, conflation, evaluate latency) of an active strategy")
+    public ResponseEntity<StrategyMetrics> getMetrics(
+            @PathVariable Long userId,
+            @PathVariable Long strategyId) {
+        Strategy existing = strategyService.getStrategy(strategyId);
+        if (!existing.getUserId().equals(userId)) {
+            return ResponseEntity.status(403).build();
+        }
+        StrategyMetrics metrics = strategyService.getMetrics(strategyId);
+        return metrics != null ? ResponseEntity.ok(metrics) : ResponseEntity.notFound().build();
+    }
 }
@@ -20,13 +20,12 @@ public class TradeController {
     private final TradeService tradeService;
 
     @PostMapping("/sync")
-    @Operation(summary = "Sync trade history from exchange")
+    @Operation(summary = "Sync trade history from exchange", description = "Stores executions made since the last sync of the symbol")
     public Mono<ResponseEntity<List<Trade>>> syncTrades(
             @PathVariable Long userId,
             @RequestParam ExchangeType exchangeType,
-            @RequestParam String symbol,
-            @RequestParam(defaultValue = "50") int limit) {
-        return tradeService.syncTradeHistory(userId, exchangeType, symbol, limit)
+            @RequestParam String symbol) {
+        return tradeService.syncTradeHistory(userId, exchangeType, symbol)
                 .map(ResponseEntity::ok);
     }
 
@@ -0,0 +1,80 @@
+package com.cryptobot.api.dto;
+
+import com.cryptobot.domain.model.StrategyType;
+import com.cryptobot.service.backtest.BacktestSettings;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Request to backtest a strategy configuration over historical candles
+ */
+@Data
+@Schema(description = "Request to replay a strategy over historical candles")
+public class BacktestRequest {
+
+    @NotNull(message = "Strategy type is required")
+    @Schema(description = "Strategy implementation to test", example = "GRID")
+    private StrategyType type;
+
+    @NotBlank(message = "Symbol is required")
+    @Schema(description = "Trading pair symbol", example = "BTCUSDT")
+    private String symbol;
+
+    @Schema(description = "Strategy parameters, as for a live strategy")
+    private Map<String, Object> parameters;
+
+    @Schema(description = "Candle interval", example = "1")
+    private String interval = "1";
+
+    @Schema(description = "Start of the window, required unless dataFile is given", example = "2023-01-01T00:00:00Z")
+    private Instant from;
+
+    @Schema(description = "End of the window, defaults to now")
+    private Instant to;
+
+    @Schema(description = "CSV file in the backtest data directory to use instead of exchange history",
+            example = "BTCUSDT-1m-2023.csv")
+    private String dataFile;
+
+    @Positive(message = "Initial capital must be positive")
+    @Schema(description = "Starting cash in quote currency", example = "10000")
+    private BigDecimal initialCapital;
+
+    @DecimalMin(value = "0", message = "Fee rate must not be negative")
+    @Schema(description = "Fee charged per fill as a fraction of notional", example = "0.001")
+    private BigDecimal feeRate;
+
+    @DecimalMin(value = "0", message = "Slippage must not be negative")
+    @Schema(description = "Slippage applied to market fills in basis points", example = "2")
+    private BigDecimal slippageBps;
+
+    @Schema(description = "How candles are turned into ticks", example = "OHLC")
+    private BacktestSettings.TickMode tickMode;
+
+    public void validate() {
+        if (dataFile == null && from == null) {
+            throw new IllegalArgumentException("Either 'from' or 'dataFile' is required");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+    }
+
+    public BacktestSettings toSettings() {
+        BacktestSettings defaults = BacktestSettings.defaults();
+        return BacktestSettings.builder()
+                .initialCapital(initialCapital != null ? initialCapital : defaults.getInitialCapital())
+                .feeRate(feeRate != null ? feeRate : defaults.getFeeRate())
+                .slippageBps(slippageBps != null ? slippageBps : defaults.getSlippageBps())
+                .tickMode(tickMode != null ? tickMode : defaults.getTickMode())
+                .build();
+    }
+}
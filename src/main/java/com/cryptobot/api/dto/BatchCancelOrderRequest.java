@@ -0,0 +1,22 @@
+package com.cryptobot.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request to cancel several open orders
+ */
+@Data
+@Schema(description = "Request to cancel several open orders")
+public class BatchCancelOrderRequest {
+
+    @NotEmpty(message = "At least one order id is required")
+    @Size(max = 100, message = "At most 100 orders per batch")
+    @Schema(description = "Ids of the orders to cancel", example = "[12, 13]")
+    private List<@NotNull Long> orderIds;
+}
@@ -0,0 +1,26 @@
+package com.cryptobot.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request to place several orders on one exchange
+ */
+@Data
+@Schema(description = "Request to place several spot orders on one exchange")
+public class BatchPlaceOrderRequest {
+
+    @Valid
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = 100, message = "At most 100 orders per batch")
+    private List<PlaceOrderRequest> orders;
+
+    public void validate() {
+        orders.forEach(PlaceOrderRequest::validate);
+    }
+}
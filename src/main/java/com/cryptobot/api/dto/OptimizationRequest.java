@@ -0,0 +1,92 @@
+package com.cryptobot.api.dto;
+
+import com.cryptobot.domain.model.OptimizationObjective;
+import com.cryptobot.service.backtest.OptimizationSettings;
+import com.cryptobot.service.backtest.ParameterSpace;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request to sweep strategy parameters over historical candles; the backtest
+ * fields describe the data and simulation shared by every run
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Schema(description = "Request to backtest many parameter combinations and rank them")
+public class OptimizationRequest extends BacktestRequest {
+
+    /**
+     * Evenly stepped numeric values for a parameter
+     */
+    @Data
+    public static class Range {
+        @NotNull(message = "Range 'from' is required")
+        private BigDecimal from;
+        @NotNull(message = "Range 'to' is required")
+        private BigDecimal to;
+        @NotNull(message = "Range 'step' is required")
+        private BigDecimal step;
+    }
+
+    @Schema(description = "Explicit values to try per parameter", example = "{\"levels\": [10, 20, 40]}")
+    private Map<String, List<Object>> values;
+
+    @Schema(description = "Stepped ranges to try per parameter",
+            example = "{\"intervalMinutes\": {\"from\": 60, \"to\": 1440, \"step\": 60}}")
+    private Map<String, Range> ranges;
+
+    @Schema(description = "What runs are ranked by", example = "RETURN_OVER_DRAWDOWN")
+    private OptimizationObjective objective = OptimizationObjective.NET_PROFIT;
+
+    @PositiveOrZero(message = "Samples must not be negative")
+    @Schema(description = "Random combinations to try; 0 runs the full grid", example = "0")
+    private int samples;
+
+    @Schema(description = "Seed of the random search", example = "42")
+    private long seed = 42;
+
+    @Positive(message = "Top must be positive")
+    @Max(value = 1000, message = "Top must be at most 1000")
+    @Schema(description = "Number of best runs to return", example = "20")
+    private int top = 20;
+
+    @Override
+    public void validate() {
+        super.validate();
+        if ((values == null || values.isEmpty()) && (ranges == null || ranges.isEmpty())) {
+            throw new IllegalArgumentException("At least one parameter to sweep is required in 'values' or 'ranges'");
+        }
+    }
+
+    public ParameterSpace toParameterSpace() {
+        Map<String, List<Object>> candidates = new LinkedHashMap<>();
+        if (values != null) {
+            candidates.putAll(values);
+        }
+        if (ranges != null) {
+            ranges.forEach((name, range) -> candidates.put(name,
+                    ParameterSpace.range(range.getFrom(), range.getTo(), range.getStep())));
+        }
+        return ParameterSpace.of(getParameters(), candidates);
+    }
+
+    public OptimizationSettings toOptimizationSettings() {
+        return OptimizationSettings.builder()
+                .objective(objective != null ? objective : OptimizationObjective.NET_PROFIT)
+                .samples(samples)
+                .seed(seed)
+                .top(top)
+                .backtest(toSettings())
+                .build();
+    }
+}
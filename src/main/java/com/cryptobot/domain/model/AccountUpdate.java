@@ -0,0 +1,33 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Event pushed on an exchange account's private stream
+ */
+@Value
+@Builder
+public class AccountUpdate {
+
+    public enum Type {
+        // Authenticated and subscribed; events may have been missed before this
+        CONNECTED,
+        ORDER,
+        EXECUTION,
+        WALLET
+    }
+
+    Type type;
+
+    @Builder.Default
+    List<Order> orders = List.of();
+
+    @Builder.Default
+    List<Trade> executions = List.of();
+
+    @Builder.Default
+    List<Balance> balances = List.of();
+}
@@ -0,0 +1,42 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outcome of replaying a strategy over a candle series
+ */
+@Value
+@Builder
+public class BacktestResult {
+    String symbol;
+    String interval;
+    StrategyType strategyType;
+    int candles;
+    Instant from;
+    Instant to;
+
+    BigDecimal initialCapital;
+    // Cash plus the open position marked at the last close
+    BigDecimal finalEquity;
+    BigDecimal netProfit;
+    BigDecimal returnPct;
+    // Largest peak-to-trough fall of equity, measured at candle closes
+    BigDecimal maxDrawdown;
+    BigDecimal maxDrawdownPct;
+    BigDecimal totalFees;
+    BigDecimal finalPosition;
+
+    long tradeCount;
+    // Orders that could not be filled (not enough cash, selling more than held)
+    long rejectedOrders;
+    List<BacktestTrade> trades;
+    // True when more trades happened than are listed in trades
+    boolean tradesTruncated;
+
+    long elapsedMillis;
+}
@@ -0,0 +1,24 @@
+package com.cryptobot.domain.model;
+
+import com.cryptobot.domain.vo.OrderSide;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A simulated fill produced by a backtest
+ */
+@Value
+@Builder
+public class BacktestTrade {
+    Instant time;
+    OrderSide side;
+    // Fill price after slippage
+    BigDecimal price;
+    BigDecimal quantity;
+    BigDecimal fee;
+    // Gross PnL realized by a SELL against the average entry price, zero for BUY
+    BigDecimal realizedPnl;
+}
@@ -0,0 +1,41 @@
+package com.cryptobot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one order of a batch placement or cancellation
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResult {
+    // Position of the order in the batch request
+    private int index;
+    private boolean success;
+    // The placed or cancelled order; on failure, the order as requested
+    private Order order;
+    private String errorCode;
+    private String errorMessage;
+
+    public static BatchOrderResult success(int index, Order order) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .success(true)
+                .order(order)
+                .build();
+    }
+
+    public static BatchOrderResult failure(int index, Order order, String errorCode, String errorMessage) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .success(false)
+                .order(order)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Point-in-time metrics of the copy-trading fan-out
+ */
+@Value
+@Builder
+public class CopyTradingMetrics {
+    // Configured maximum of mirrored orders in flight across all leads
+    int concurrency;
+    int inFlight;
+    // Lead orders whose followers are still waiting for a slot
+    int queuedBursts;
+
+    long bursts;
+    long mirrored;
+    long failed;
+    // Mirrors skipped because the follower exceeded its order rate
+    long throttled;
+    // Mirrors skipped because the follower has no active key for the exchange
+    long missingKeys;
+
+    // Lead order stored -> follower order acknowledged and stored
+    long ackLatencyP50Millis;
+    long ackLatencyP99Millis;
+    long ackLatencyP999Millis;
+    long ackLatencyMaxMillis;
+}
@@ -0,0 +1,30 @@
+package com.cryptobot.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * What a parameter sweep ranks its runs by; higher scores rank first
+ */
+@Getter
+@AllArgsConstructor
+public enum OptimizationObjective {
+    NET_PROFIT("Highest net profit"),
+    RETURN_OVER_DRAWDOWN("Highest return per unit of maximum drawdown"),
+    MIN_DRAWDOWN("Smallest maximum drawdown");
+
+    private final String description;
+
+    public double score(BacktestResult result) {
+        return switch (this) {
+            case NET_PROFIT -> result.getNetProfit().doubleValue();
+            case RETURN_OVER_DRAWDOWN -> {
+                double drawdown = result.getMaxDrawdownPct().doubleValue();
+                double returnPct = result.getReturnPct().doubleValue();
+                // No drawdown at all: rank by return alone, ahead of any run that had one
+                yield drawdown > 0 ? returnPct / drawdown : returnPct * 1e6;
+            }
+            case MIN_DRAWDOWN -> -result.getMaxDrawdownPct().doubleValue();
+        };
+    }
+}
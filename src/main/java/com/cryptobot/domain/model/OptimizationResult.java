@@ -0,0 +1,30 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Ranked outcome of a parameter sweep over one candle series
+ */
+@Value
+@Builder
+public class OptimizationResult {
+    String symbol;
+    String interval;
+    StrategyType strategyType;
+    int candles;
+    OptimizationObjective objective;
+
+    // Combinations in the parameter space and how many of them were backtested
+    long combinations;
+    int runs;
+    // Combinations the strategy rejected at compile time (e.g. upperPrice below lowerPrice)
+    int invalidRuns;
+    int parallelism;
+    long elapsedMillis;
+
+    // Best runs first
+    List<OptimizationRun> top;
+}
@@ -0,0 +1,24 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * One parameter combination of a sweep and how it performed
+ */
+@Value
+@Builder
+public class OptimizationRun {
+    int rank;
+    Map<String, Object> parameters;
+    double score;
+    BigDecimal netProfit;
+    BigDecimal returnPct;
+    BigDecimal maxDrawdownPct;
+    BigDecimal totalFees;
+    long tradeCount;
+    long rejectedOrders;
+}
@@ -41,10 +41,7 @@ public class Order {
      * Check if order is in a terminal state
      */
     public boolean isTerminal() {
-        return status == OrderStatus.FILLED
-                || status == OrderStatus.CANCELLED
-                || status == OrderStatus.REJECTED
-                || status == OrderStatus.EXPIRED;
+        return status != null && status.isTerminal();
     }
 
     /**
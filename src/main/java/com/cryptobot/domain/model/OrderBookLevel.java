@@ -0,0 +1,14 @@
+package com.cryptobot.domain.model;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * One price level of an order book side
+ */
+@Value
+public class OrderBookLevel {
+    BigDecimal price;
+    BigDecimal size;
+}
@@ -0,0 +1,26 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Top levels of a local order book at one point in time
+ */
+@Value
+@Builder
+public class OrderBookSnapshot {
+    String symbol;
+    // Exchange update id ("u") of the last message applied
+    long updateId;
+    // Exchange cross sequence ("seq") of the last message applied
+    long seq;
+    long timestampMillis;
+    // False after a missed update, until the resubscription's snapshot arrives
+    boolean synced;
+
+    // Best price first
+    List<OrderBookLevel> bids;
+    List<OrderBookLevel> asks;
+}
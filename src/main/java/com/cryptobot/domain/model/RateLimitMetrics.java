@@ -0,0 +1,37 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Point-in-time metrics of the outbound exchange request scheduler
+ */
+@Value
+@Builder
+public class RateLimitMetrics {
+    // Configured per-key request rate
+    double requestsPerSecond;
+    int trackedKeys;
+    // Endpoints whose limit has been learned from response headers
+    int learnedEndpoints;
+    List<Lane> lanes;
+
+    @Value
+    @Builder
+    public static class Lane {
+        // CANCEL, PLACE or READ
+        String priority;
+        int queued;
+        long granted;
+        // Requests the exchange rejected for exceeding a rate limit
+        long rejections;
+        // Requests dropped after waiting too long for a permit
+        long queueTimeouts;
+
+        long queueDelayP50Micros;
+        long queueDelayP99Micros;
+        long queueDelayMaxMicros;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Point-in-time execution metrics of an active strategy
+ */
+@Value
+@Builder
+public class StrategyMetrics {
+    Long strategyId;
+    String symbol;
+
+    // Ticks waiting in the strategy's mailbox (0 or 1, the mailbox conflates)
+    int queueDepth;
+
+    long ticksReceived;
+    // Ticks replaced by a newer one before the strategy got to evaluate them
+    long ticksConflated;
+    long evaluations;
+    long failures;
+    // Ticks skipped because an order triggered by the strategy was still in flight
+    long suppressedEvaluations;
+    // State of the strategy's in-flight order (IDLE, PENDING, ACKED, FAILED)
+    String orderState;
+
+    long evaluateLatencyP50Micros;
+    long evaluateLatencyP99Micros;
+    long evaluateLatencyMaxMicros;
+}
@@ -0,0 +1,109 @@
+package com.cryptobot.domain.model;
+
+import com.cryptobot.domain.vo.FixedPoint;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Precomputed fixed-point view of a symbol's trading constraints.
+ * <p>
+ * Quantities are held in units of {@code 10^-quantityScale} and prices in units
+ * of {@code 10^-priceScale}, so order validation and normalization become long
+ * comparisons and integer rounding. Built once per symbol whenever the
+ * {@link SymbolDetails} cache is refreshed.
+ */
+@Value
+public class SymbolPrecision {
+    String symbol;
+    int quantityScale;
+    int quotePrecision;
+    int tickScale;
+    int priceScale;
+    long tickSizeUnits;
+    long minQuantityUnits;
+    long maxQuantityUnits;
+
+    public static SymbolPrecision of(SymbolDetails details) {
+        int quantityScale = details.getBasePrecision();
+        int tickScale = details.getTickSize() != null && details.getTickSize().signum() > 0
+                ? Math.max(details.getTickSize().stripTrailingZeros().scale(), 0)
+                : details.getQuotePrecision();
+        int priceScale = Math.max(details.getQuotePrecision(), tickScale);
+
+        long tickUnits = details.getTickSize() != null && details.getTickSize().signum() > 0
+                ? FixedPoint.toUnits(details.getTickSize(), priceScale, RoundingMode.UNNECESSARY)
+                : 0L;
+        long minUnits = details.getMinQuantity() != null
+                ? FixedPoint.toUnits(details.getMinQuantity(), quantityScale, RoundingMode.CEILING)
+                : 0L;
+        long maxUnits = details.getMaxQuantity() != null
+                ? toUnitsSaturated(details.getMaxQuantity(), quantityScale)
+                : Long.MAX_VALUE;
+
+        return new SymbolPrecision(details.getSymbol(), quantityScale, details.getQuotePrecision(), tickScale,
+                priceScale, tickUnits, minUnits, maxUnits);
+    }
+
+    public long quantityToUnits(BigDecimal quantity, RoundingMode mode) {
+        return FixedPoint.toUnits(quantity, quantityScale, mode);
+    }
+
+    public BigDecimal quantityToBigDecimal(long units) {
+        return FixedPoint.toBigDecimal(units, quantityScale);
+    }
+
+    /**
+     * Rounds a price held at {@code scale} first to the quote precision and then
+     * to the nearest tick, matching the exchange's price filter.
+     *
+     * @return the normalized price in {@link #priceScale} units
+     */
+    public long normalizePrice(long units, int scale) {
+        return alignToTick(FixedPoint.rescale(units, scale, quotePrecision, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Same as {@link #normalizePrice(long, int)} for a decimal coming in from the
+     * REST or persistence edge.
+     */
+    public long normalizePrice(BigDecimal price) {
+        return alignToTick(FixedPoint.toUnits(price, quotePrecision, RoundingMode.HALF_UP));
+    }
+
+    private long alignToTick(long quoteUnits) {
+        long units = FixedPoint.rescale(quoteUnits, quotePrecision, priceScale, RoundingMode.UNNECESSARY);
+        return tickSizeUnits > 0 ? FixedPoint.roundToStep(units, tickSizeUnits, RoundingMode.HALF_UP) : units;
+    }
+
+    /**
+     * Converts a price in {@link #priceScale} units back to a decimal, using the
+     * tick size's scale when the price sits on the tick grid.
+     */
+    public BigDecimal priceToBigDecimal(long priceUnits) {
+        if (tickScale < priceScale) {
+            long factor = FixedPoint.pow10(priceScale - tickScale);
+            if (priceUnits % factor == 0) {
+                return FixedPoint.toBigDecimal(priceUnits / factor, tickScale);
+            }
+        }
+        return FixedPoint.toBigDecimal(priceUnits, priceScale);
+    }
+
+    public BigDecimal getMinQuantity() {
+        return quantityToBigDecimal(minQuantityUnits);
+    }
+
+    public BigDecimal getMaxQuantity() {
+        return maxQuantityUnits == Long.MAX_VALUE ? null : quantityToBigDecimal(maxQuantityUnits);
+    }
+
+    private static long toUnitsSaturated(BigDecimal value, int scale) {
+        try {
+            return FixedPoint.toUnits(value, scale, RoundingMode.FLOOR);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
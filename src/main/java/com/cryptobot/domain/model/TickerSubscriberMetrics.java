@@ -0,0 +1,28 @@
+package com.cryptobot.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * Point-in-time metrics of one ticker subscriber
+ */
+@Value
+@Builder
+public class TickerSubscriberMetrics {
+    String name;
+    // Overflow policy of the subscriber's queue (CONFLATE_LATEST, DROP_OLDEST)
+    String overflow;
+    int capacity;
+    // Symbols the subscriber asked for; empty for all symbols
+    Set<String> symbols;
+
+    // Updates waiting in the subscriber's queue
+    int queued;
+    // Updates routed to the subscriber
+    long emitted;
+    long delivered;
+    // Updates evicted or replaced by a newer tick of their symbol
+    long dropped;
+}
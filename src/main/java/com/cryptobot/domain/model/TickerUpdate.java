@@ -1,5 +1,7 @@
 package com.cryptobot.domain.model;
 
+import com.cryptobot.domain.vo.FixedPoint;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Builder;
 import lombok.Value;
 
@@ -7,15 +9,44 @@ import java.math.BigDecimal;
 import java.time.Instant;
 
 /**
- * Domain model for a real-time price ticker update
+ * Domain model for a real-time price ticker update.
+ * <p>
+ * Prices are carried as scaled longs ({@code priceScale} decimal places, the
+ * symbol's tick precision) and volume at {@code volumeScale}, so a tick can be
+ * published and evaluated without allocating decimals. The {@link BigDecimal}
+ * and {@link Instant} accessors exist for the REST edge.
  */
 @Value
 @Builder
+@JsonIgnoreProperties({ "priceScale", "lastPriceUnits", "highPrice24hUnits", "lowPrice24hUnits",
+        "volumeScale", "volume24hUnits", "timestampMillis" })
 public class TickerUpdate {
     String symbol;
-    BigDecimal lastPrice;
-    BigDecimal highPrice24h;
-    BigDecimal lowPrice24h;
-    BigDecimal volume24h;
-    Instant timestamp;
+    int priceScale;
+    long lastPriceUnits;
+    long highPrice24hUnits;
+    long lowPrice24hUnits;
+    int volumeScale;
+    long volume24hUnits;
+    long timestampMillis;
+
+    public BigDecimal getLastPrice() {
+        return FixedPoint.toBigDecimal(lastPriceUnits, priceScale);
+    }
+
+    public BigDecimal getHighPrice24h() {
+        return FixedPoint.toBigDecimal(highPrice24hUnits, priceScale);
+    }
+
+    public BigDecimal getLowPrice24h() {
+        return FixedPoint.toBigDecimal(lowPrice24hUnits, priceScale);
+    }
+
+    public BigDecimal getVolume24h() {
+        return FixedPoint.toBigDecimal(volume24hUnits, volumeScale);
+    }
+
+    public Instant getTimestamp() {
+        return Instant.ofEpochMilli(timestampMillis);
+    }
 }
@@ -20,6 +20,8 @@ import java.time.LocalDateTime;
 public class Trade {
     private Long id;
     private Long orderId;
+    // Exchange-side id of the order this trade filled
+    private String exchangeOrderId;
     private Long userId;
     private ExchangeType exchangeType;
     private String exchangeTradeId;
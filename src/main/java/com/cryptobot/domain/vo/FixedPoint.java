@@ -0,0 +1,153 @@
+package com.cryptobot.domain.vo;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Arithmetic on scaled-long decimals: a value is held as a {@code long} count
+ * of units where one unit is {@code 10^-scale}. Used on the tick-to-order hot
+ * path instead of {@link BigDecimal} so that prices and quantities can be
+ * compared, rounded and multiplied without allocating.
+ * <p>
+ * Results that do not fit into a long fall back to exact {@link BigDecimal}
+ * arithmetic and throw {@link ArithmeticException} if the final value still
+ * overflows.
+ */
+public final class FixedPoint {
+
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        long value = 1L;
+        for (int i = 0; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = value;
+            value *= 10;
+        }
+    }
+
+    private FixedPoint() {
+    }
+
+    public static long pow10(int exponent) {
+        if (exponent < 0 || exponent > MAX_SCALE) {
+            throw new ArithmeticException("Scale out of range: " + exponent);
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * Converts a decimal to units at the given scale, rounding as requested.
+     */
+    public static long toUnits(BigDecimal value, int scale, RoundingMode mode) {
+        return value.setScale(scale, mode).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long units, int scale) {
+        return BigDecimal.valueOf(units, scale);
+    }
+
+    /**
+     * Re-expresses units at another scale. Increasing the scale is exact;
+     * decreasing it rounds with the given mode.
+     */
+    public static long rescale(long units, int fromScale, int toScale, RoundingMode mode) {
+        if (fromScale == toScale) {
+            return units;
+        }
+        if (toScale > fromScale) {
+            return Math.multiplyExact(units, pow10(toScale - fromScale));
+        }
+        if (fromScale - toScale > MAX_SCALE) {
+            return toUnits(BigDecimal.valueOf(units, fromScale), toScale, mode);
+        }
+        return divide(units, pow10(fromScale - toScale), mode);
+    }
+
+    /**
+     * {@code a * b} expressed at {@code resultScale}.
+     */
+    public static long multiply(long a, int aScale, long b, int bScale, int resultScale, RoundingMode mode) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return rescale(low, aScale + bScale, resultScale, mode);
+        }
+        return toUnits(BigDecimal.valueOf(a, aScale).multiply(BigDecimal.valueOf(b, bScale)), resultScale, mode);
+    }
+
+    /**
+     * {@code a / b} expressed at {@code resultScale}.
+     */
+    public static long divide(long a, int aScale, long b, int bScale, int resultScale, RoundingMode mode) {
+        if (b == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        int exponent = resultScale - aScale + bScale;
+        if (exponent >= -MAX_SCALE && exponent <= MAX_SCALE) {
+            long factor = pow10(Math.abs(exponent));
+            long high = exponent >= 0 ? Math.multiplyHigh(a, factor) : Math.multiplyHigh(b, factor);
+            long scaled = exponent >= 0 ? a * factor : b * factor;
+            if ((high == 0 && scaled >= 0) || (high == -1 && scaled < 0)) {
+                return exponent >= 0 ? divide(scaled, b, mode) : divide(a, scaled, mode);
+            }
+        }
+        return toUnits(BigDecimal.valueOf(a, aScale).divide(BigDecimal.valueOf(b, bScale), resultScale, mode),
+                resultScale, mode);
+    }
+
+    /**
+     * Integer division of two unit counts with {@link BigDecimal} rounding
+     * semantics.
+     */
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int sign = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        boolean awayFromZero = switch (mode) {
+            case DOWN -> false;
+            case UP -> true;
+            case FLOOR -> sign < 0;
+            case CEILING -> sign > 0;
+            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                long absRemainder = Math.abs(remainder);
+                int half = Long.compare(absRemainder, Math.abs(divisor) - absRemainder);
+                if (half != 0) {
+                    yield half > 0;
+                }
+                yield mode == RoundingMode.HALF_UP || (mode == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+            }
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return awayFromZero ? quotient + sign : quotient;
+    }
+
+    /**
+     * Rounds units to the nearest multiple of {@code step} (both at the same
+     * scale).
+     */
+    public static long roundToStep(long units, long step, RoundingMode mode) {
+        return Math.multiplyExact(divide(units, step, mode), step);
+    }
+
+    /**
+     * Compares two decimals held at possibly different scales.
+     */
+    public static int compare(long a, int aScale, long b, int bScale) {
+        if (aScale == bScale) {
+            return Long.compare(a, b);
+        }
+        try {
+            return aScale < bScale
+                    ? Long.compare(Math.multiplyExact(a, pow10(bScale - aScale)), b)
+                    : Long.compare(a, Math.multiplyExact(b, pow10(aScale - bScale)));
+        } catch (ArithmeticException e) {
+            return BigDecimal.valueOf(a, aScale).compareTo(BigDecimal.valueOf(b, bScale));
+        }
+    }
+}
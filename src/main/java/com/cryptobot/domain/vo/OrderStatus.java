@@ -1,5 +1,9 @@
 package com.cryptobot.domain.vo;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Order status throughout its lifecycle
  */
@@ -32,5 +36,21 @@ public enum OrderStatus {
     /**
      * Order has expired (for time-limited orders)
      */
-    EXPIRED
+    EXPIRED;
+
+    private static final Set<OrderStatus> OPEN = Collections.unmodifiableSet(EnumSet.of(NEW, PARTIALLY_FILLED));
+
+    /**
+     * Check if the status is final (no further fills or changes)
+     */
+    public boolean isTerminal() {
+        return !OPEN.contains(this);
+    }
+
+    /**
+     * Statuses of orders still working on the exchange
+     */
+    public static Set<OrderStatus> open() {
+        return OPEN;
+    }
 }
@@ -5,6 +5,7 @@ import com.cryptobot.repository.entity.ApiKeyEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,9 @@ public interface ApiKeyRepository extends JpaRepository<ApiKeyEntity, Long> {
     List<ApiKeyEntity> findByUserIdAndActiveTrue(Long userId);
 
     Optional<ApiKeyEntity> findByUserIdAndExchangeTypeAndActiveTrue(Long userId, ExchangeType exchangeType);
+
+    List<ApiKeyEntity> findByExchangeTypeAndActiveTrue(ExchangeType exchangeType);
+
+    List<ApiKeyEntity> findByUserIdInAndExchangeTypeAndActiveTrue(Collection<Long> userIds,
+            ExchangeType exchangeType);
 }
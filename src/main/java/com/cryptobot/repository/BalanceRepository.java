@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BalanceRepository extends JpaRepository<BalanceEntity, Long> {
+public interface BalanceRepository extends JpaRepository<BalanceEntity, Long>, BalanceRepositoryCustom {
     List<BalanceEntity> findByUserId(Long userId);
 
     List<BalanceEntity> findByUserIdAndApiKeyId(Long userId, Long apiKeyId);
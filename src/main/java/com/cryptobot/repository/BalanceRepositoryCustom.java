@@ -0,0 +1,25 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.repository.entity.BalanceEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bulk write path for {@link BalanceRepository} that bypasses the JPA
+ * persistence context.
+ */
+public interface BalanceRepositoryCustom {
+
+    /**
+     * Stores a balance snapshot of one API key. The stored rows of the key
+     * are read once; assets whose free, locked and total amounts are
+     * unchanged are skipped and the rest are written in one JDBC batch of
+     * {@code INSERT ... ON CONFLICT (user_id, api_key_id, asset) DO UPDATE}.
+     * Assets missing from the snapshot are left as they are.
+     *
+     * @return The stored rows of the snapshot's assets after the merge, in
+     *         snapshot order
+     */
+    List<BalanceEntity> upsertBalances(Long userId, Long apiKeyId, Collection<BalanceEntity> balances);
+}
@@ -0,0 +1,141 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.repository.entity.BalanceEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class BalanceRepositoryImpl implements BalanceRepositoryCustom {
+
+    // Scale of the amount columns
+    private static final int SCALE = 8;
+
+    private static final String SELECT_BY_KEY = """
+            SELECT id, user_id, api_key_id, exchange_type, asset, free_balance, locked_balance, total_balance,
+                   updated_at
+              FROM balances
+             WHERE user_id = ? AND api_key_id = ?
+            """;
+
+    // The WHERE clause keeps a concurrent writer's identical values from producing a new row version
+    private static final String UPSERT = """
+            INSERT INTO balances (user_id, api_key_id, exchange_type, asset, free_balance, locked_balance,
+                                  total_balance, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, api_key_id, asset) DO UPDATE
+               SET exchange_type = EXCLUDED.exchange_type,
+                   free_balance = EXCLUDED.free_balance,
+                   locked_balance = EXCLUDED.locked_balance,
+                   total_balance = EXCLUDED.total_balance,
+                   updated_at = EXCLUDED.updated_at
+             WHERE (balances.free_balance, balances.locked_balance, balances.total_balance)
+                   IS DISTINCT FROM (EXCLUDED.free_balance, EXCLUDED.locked_balance, EXCLUDED.total_balance)
+            """;
+
+    private static final RowMapper<BalanceEntity> ROW_MAPPER = (rs, rowNum) -> BalanceEntity.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getLong("user_id"))
+            .apiKeyId(rs.getLong("api_key_id"))
+            .exchangeType(ExchangeType.valueOf(rs.getString("exchange_type")))
+            .asset(rs.getString("asset"))
+            .freeBalance(rs.getBigDecimal("free_balance"))
+            .lockedBalance(rs.getBigDecimal("locked_balance"))
+            .totalBalance(rs.getBigDecimal("total_balance"))
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<BalanceEntity> upsertBalances(Long userId, Long apiKeyId, Collection<BalanceEntity> balances) {
+        if (balances.isEmpty()) {
+            return List.of();
+        }
+        Map<String, BalanceEntity> stored = new HashMap<>();
+        for (BalanceEntity row : jdbcTemplate.query(SELECT_BY_KEY, ROW_MAPPER, userId, apiKeyId)) {
+            stored.put(row.getAsset(), row);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>();
+        boolean inserted = false;
+        for (BalanceEntity balance : balances) {
+            BalanceEntity current = stored.get(balance.getAsset());
+            if (current != null && sameAmounts(current, balance)) {
+                continue;
+            }
+            inserted |= current == null;
+            rows.add(new Object[] {
+                    userId,
+                    apiKeyId,
+                    balance.getExchangeType().name(),
+                    balance.getAsset(),
+                    amount(balance.getFreeBalance()),
+                    amount(balance.getLockedBalance()),
+                    amount(balance.getTotalBalance()),
+                    updatedAt });
+            if (current != null) {
+                current.setExchangeType(balance.getExchangeType());
+                current.setFreeBalance(amount(balance.getFreeBalance()));
+                current.setLockedBalance(amount(balance.getLockedBalance()));
+                current.setTotalBalance(amount(balance.getTotalBalance()));
+                current.setUpdatedAt(now);
+            }
+        }
+        if (rows.isEmpty()) {
+            return merged(balances, stored);
+        }
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+
+        if (inserted) {
+            // New rows need their generated ids; read the key back once instead of per row
+            stored.clear();
+            for (BalanceEntity row : jdbcTemplate.query(SELECT_BY_KEY, ROW_MAPPER, userId, apiKeyId)) {
+                stored.put(row.getAsset(), row);
+            }
+        }
+        return merged(balances, stored);
+    }
+
+    private static List<BalanceEntity> merged(Collection<BalanceEntity> balances, Map<String, BalanceEntity> stored) {
+        List<BalanceEntity> result = new ArrayList<>(balances.size());
+        for (BalanceEntity balance : balances) {
+            BalanceEntity row = stored.get(balance.getAsset());
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compares numerically: the columns are DECIMAL(30, 8), so a stored
+     * {@code 1.00000000} equals a reported {@code 1}.
+     */
+    private static boolean sameAmounts(BalanceEntity stored, BalanceEntity balance) {
+        return stored.getFreeBalance().compareTo(amount(balance.getFreeBalance())) == 0
+                && stored.getLockedBalance().compareTo(amount(balance.getLockedBalance())) == 0
+                && stored.getTotalBalance().compareTo(amount(balance.getTotalBalance())) == 0;
+    }
+
+    /**
+     * A reported amount as the column stores it, so that amounts with more
+     * than 8 decimals do not look changed on every refresh.
+     */
+    private static BigDecimal amount(BigDecimal value) {
+        return value != null ? value.setScale(SCALE, RoundingMode.HALF_UP) : BigDecimal.ZERO.setScale(SCALE);
+    }
+}
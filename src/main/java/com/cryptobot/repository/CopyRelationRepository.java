@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for managing copy-trading relationships
@@ -15,4 +16,8 @@ public interface CopyRelationRepository extends JpaRepository<CopyRelationEntity
     List<CopyRelationEntity> findByLeadUserIdAndStatus(Long leadUserId, CopyTradingStatus status);
 
     List<CopyRelationEntity> findByFollowerUserId(Long followerUserId);
+
+    List<CopyRelationEntity> findByStatus(CopyTradingStatus status);
+
+    Optional<CopyRelationEntity> findByLeadUserIdAndFollowerUserId(Long leadUserId, Long followerUserId);
 }
@@ -0,0 +1,12 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.repository.entity.ExecutionWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ExecutionWatermarkRepository extends JpaRepository<ExecutionWatermarkEntity, Long> {
+    Optional<ExecutionWatermarkEntity> findByApiKeyIdAndSymbol(Long apiKeyId, String symbol);
+}
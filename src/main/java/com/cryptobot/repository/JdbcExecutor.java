@@ -0,0 +1,83 @@
+package com.cryptobot.repository;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+/**
+ * Boundary between reactive flows and the blocking JPA/JDBC repositories.
+ * <p>
+ * Work is run on a dedicated scheduler sized like the connection pool, so
+ * event-loop threads never block on the database and callers queue for a
+ * thread instead of for a connection. Every unit of work runs in its own
+ * transaction through a {@link TransactionTemplate}; {@code @Transactional}
+ * on a method returning a {@code Mono} only covers the assembly of the
+ * pipeline, not the work done when it is subscribed.
+ */
+@Component
+public class JdbcExecutor {
+
+    private final Scheduler scheduler;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    @Autowired
+    public JdbcExecutor(PlatformTransactionManager transactionManager,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int threads,
+            @Value("${app.jdbc.queue-size:10000}") int queueSize) {
+        this(Schedulers.newBoundedElastic(threads, queueSize, "jdbc"), transactionManager);
+    }
+
+    public JdbcExecutor(Scheduler scheduler, PlatformTransactionManager transactionManager) {
+        this.scheduler = scheduler;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Runs {@code work} in a read-only transaction. A {@code null} result
+     * completes the returned Mono empty.
+     */
+    public <T> Mono<T> read(Supplier<T> work) {
+        return Mono.fromCallable(() -> readTransaction.execute(status -> work.get()))
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Runs {@code work} in a read-write transaction that is rolled back if it
+     * throws. A {@code null} result completes the returned Mono empty.
+     */
+    public <T> Mono<T> write(Supplier<T> work) {
+        return Mono.fromCallable(() -> writeTransaction.execute(status -> work.get()))
+                .subscribeOn(scheduler);
+    }
+
+    public Mono<Void> run(Runnable work) {
+        return write(() -> {
+            work.run();
+            return null;
+        }).then();
+    }
+
+    /**
+     * The scheduler JDBC work runs on, for pipelines that hand over to
+     * repositories themselves.
+     */
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
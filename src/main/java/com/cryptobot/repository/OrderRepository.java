@@ -1,17 +1,29 @@
 package com.cryptobot.repository;
 
+import com.cryptobot.domain.vo.OrderStatus;
 import com.cryptobot.repository.entity.OrderEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
+public interface OrderRepository extends JpaRepository<OrderEntity, Long>, OrderRepositoryCustom {
     List<OrderEntity> findByUserId(Long userId);
 
     List<OrderEntity> findByUserIdAndSymbol(Long userId, String symbol);
 
     Optional<OrderEntity> findByExchangeOrderId(String exchangeOrderId);
+
+    List<OrderEntity> findByApiKeyIdAndExchangeOrderIdIn(Long apiKeyId, Collection<String> exchangeOrderIds);
+
+    /**
+     * Keyset page of orders in the given statuses with an id above
+     * {@code afterId}, in id order (served by {@code idx_orders_open}).
+     */
+    List<OrderEntity> findByStatusInAndIdGreaterThanOrderByIdAsc(Collection<OrderStatus> statuses, Long afterId,
+            Pageable pageable);
 }
@@ -0,0 +1,32 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.repository.entity.OrderEntity;
+
+import java.util.Collection;
+
+/**
+ * Bulk write paths for {@link OrderRepository} that bypass the JPA
+ * persistence context.
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * Writes status, filled quantity, average price and exchange update time
+     * of the given orders in one JDBC batch. A row is skipped when the stored
+     * exchange update time is newer, so a concurrent stream update is never
+     * overwritten by an older snapshot. An order without an exchange update
+     * time keeps the stored one.
+     *
+     * @return Number of rows updated
+     */
+    int batchUpdateExchangeState(Collection<OrderEntity> orders);
+
+    /**
+     * Records that the exchange state of the given orders was read and found
+     * unchanged: touches their update time and stores their exchange update
+     * time, unless the stored one is newer. Nothing else is written.
+     *
+     * @return Number of rows updated
+     */
+    int batchConfirmExchangeState(Collection<OrderEntity> orders);
+}
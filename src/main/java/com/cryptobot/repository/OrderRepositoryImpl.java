@@ -0,0 +1,103 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.repository.entity.OrderEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    // Two statements rather than "? IS NULL": PostgreSQL cannot type a parameter that is only null-checked
+    private static final String UPDATE_EXCHANGE_STATE = """
+            UPDATE orders
+               SET status = ?, filled_quantity = ?, average_price = ?, exchange_updated_at = ?,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE id = ?
+               AND (exchange_updated_at IS NULL OR exchange_updated_at <= ?)
+            """;
+
+    // For a state without an exchange update time; keeps the stored one
+    private static final String UPDATE_UNTIMED_EXCHANGE_STATE = """
+            UPDATE orders
+               SET status = ?, filled_quantity = ?, average_price = ?, updated_at = CURRENT_TIMESTAMP
+             WHERE id = ?
+            """;
+
+    private static final String CONFIRM_EXCHANGE_STATE = """
+            UPDATE orders
+               SET exchange_updated_at = ?, updated_at = CURRENT_TIMESTAMP
+             WHERE id = ?
+               AND (exchange_updated_at IS NULL OR exchange_updated_at <= ?)
+            """;
+
+    private static final String CONFIRM_UNTIMED_EXCHANGE_STATE = """
+            UPDATE orders
+               SET updated_at = CURRENT_TIMESTAMP
+             WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int batchUpdateExchangeState(Collection<OrderEntity> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> timed = new ArrayList<>(orders.size());
+        List<Object[]> untimed = new ArrayList<>();
+        for (OrderEntity order : orders) {
+            if (order.getExchangeUpdatedAt() != null) {
+                Timestamp exchangeUpdatedAt = Timestamp.valueOf(order.getExchangeUpdatedAt());
+                timed.add(new Object[] {
+                        order.getStatus().name(),
+                        order.getFilledQuantity(),
+                        order.getAveragePrice(),
+                        exchangeUpdatedAt,
+                        order.getId(),
+                        exchangeUpdatedAt });
+            } else {
+                untimed.add(new Object[] {
+                        order.getStatus().name(),
+                        order.getFilledQuantity(),
+                        order.getAveragePrice(),
+                        order.getId() });
+            }
+        }
+        return batchUpdate(UPDATE_EXCHANGE_STATE, timed) + batchUpdate(UPDATE_UNTIMED_EXCHANGE_STATE, untimed);
+    }
+
+    @Override
+    public int batchConfirmExchangeState(Collection<OrderEntity> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> timed = new ArrayList<>(orders.size());
+        List<Object[]> untimed = new ArrayList<>();
+        for (OrderEntity order : orders) {
+            if (order.getExchangeUpdatedAt() != null) {
+                Timestamp exchangeUpdatedAt = Timestamp.valueOf(order.getExchangeUpdatedAt());
+                timed.add(new Object[] { exchangeUpdatedAt, order.getId(), exchangeUpdatedAt });
+            } else {
+                untimed.add(new Object[] { order.getId() });
+            }
+        }
+        return batchUpdate(CONFIRM_EXCHANGE_STATE, timed) + batchUpdate(CONFIRM_UNTIMED_EXCHANGE_STATE, untimed);
+    }
+
+    private int batchUpdate(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(sql, rows)) {
+            // The driver may report SUCCESS_NO_INFO (-2) for batched statements
+            updated += Math.max(count, 0);
+        }
+        return updated;
+    }
+}
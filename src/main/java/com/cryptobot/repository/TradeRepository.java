@@ -1,14 +1,29 @@
 package com.cryptobot.repository;
 
+import com.cryptobot.adapter.ExchangeType;
 import com.cryptobot.repository.entity.TradeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
-public interface TradeRepository extends JpaRepository<TradeEntity, Long> {
+public interface TradeRepository extends JpaRepository<TradeEntity, Long>, TradeRepositoryCustom {
     List<TradeEntity> findByUserId(Long userId);
 
     List<TradeEntity> findByOrderId(Long orderId);
+
+    boolean existsByExchangeTypeAndExchangeTradeId(ExchangeType exchangeType, String exchangeTradeId);
+
+    /**
+     * @return The given exchange trade ids that are already stored
+     */
+    @Query("SELECT t.exchangeTradeId FROM TradeEntity t "
+            + "WHERE t.exchangeType = :exchangeType AND t.exchangeTradeId IN :exchangeTradeIds")
+    Set<String> findStoredExchangeTradeIds(@Param("exchangeType") ExchangeType exchangeType,
+            @Param("exchangeTradeIds") Collection<String> exchangeTradeIds);
 }
@@ -0,0 +1,23 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.repository.entity.TradeEntity;
+
+import java.util.List;
+
+/**
+ * Bulk write path for {@link TradeRepository} that bypasses the JPA
+ * persistence context.
+ */
+public interface TradeRepositoryCustom {
+
+    /**
+     * Inserts the trades in one JDBC batch with
+     * {@code ON CONFLICT (exchange_type, exchange_trade_id) DO NOTHING}, so
+     * trades already stored are skipped without failing the batch or the
+     * surrounding transaction.
+     *
+     * @return Per trade, 1 if inserted, 0 if it already existed, or a
+     *         negative value if the driver did not report it
+     */
+    int[] insertIgnoringDuplicates(List<TradeEntity> trades);
+}
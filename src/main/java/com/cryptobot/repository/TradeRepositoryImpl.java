@@ -0,0 +1,45 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.repository.entity.TradeEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TradeRepositoryImpl implements TradeRepositoryCustom {
+
+    private static final String INSERT_IGNORING_DUPLICATES = """
+            INSERT INTO trades (order_id, user_id, exchange_type, exchange_trade_id, symbol, side, quantity, price,
+                                commission, commission_asset, executed_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (exchange_type, exchange_trade_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] insertIgnoringDuplicates(List<TradeEntity> trades) {
+        if (trades.isEmpty()) {
+            return new int[0];
+        }
+        List<Object[]> rows = new ArrayList<>(trades.size());
+        for (TradeEntity trade : trades) {
+            rows.add(new Object[] {
+                    trade.getOrderId(),
+                    trade.getUserId(),
+                    trade.getExchangeType().name(),
+                    trade.getExchangeTradeId(),
+                    trade.getSymbol(),
+                    trade.getSide().name(),
+                    trade.getQuantity(),
+                    trade.getPrice(),
+                    trade.getCommission(),
+                    trade.getCommissionAsset(),
+                    Timestamp.valueOf(trade.getExecutedAt()) });
+        }
+        return jdbcTemplate.batchUpdate(INSERT_IGNORING_DUPLICATES, rows);
+    }
+}
@@ -0,0 +1,37 @@
+package com.cryptobot.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Execution time (epoch millis) of the newest execution synced for one API
+ * key and symbol
+ */
+@Entity
+@Table(name = "execution_sync_watermarks", uniqueConstraints = @UniqueConstraint(columnNames = { "api_key_id",
+        "symbol" }))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionWatermarkEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "api_key_id", nullable = false)
+    private Long apiKeyId;
+
+    @Column(nullable = false)
+    private String symbol;
+
+    @Column(name = "last_exec_time", nullable = false)
+    private Long lastExecTime;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,168 @@
+package com.cryptobot.security;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.ApiKey;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of decrypted API credentials and their HMAC signers,
+ * keyed by API key id, plus the active-key lookup per user and exchange.
+ * <p>
+ * Entries expire {@code app.security.credential-cache.ttl-ms} after they were
+ * loaded and at most {@code app.security.credential-cache.max-entries} are
+ * kept; evicted signers are destroyed so their key material is zeroed. An
+ * entry is also dropped as soon as the stored (encrypted) key it was loaded
+ * from changes. The decrypted strings themselves cannot be wiped; the cache
+ * only stops referencing them.
+ */
+@Slf4j
+@Component
+public class CredentialCache {
+
+    /**
+     * Decrypted credentials of one API key and a signer for its secret.
+     */
+    public record CachedCredentials(String apiKey, String apiSecret, HmacSigner signer) {
+
+        public static CachedCredentials of(String apiKey, String apiSecret) {
+            return new CachedCredentials(apiKey, apiSecret, new HmacSigner(apiSecret));
+        }
+    }
+
+    private record Entry(CachedCredentials credentials, String fingerprint, long expiresAt) {
+    }
+
+    private record ActiveKey(Long userId, ExchangeType exchangeType) {
+    }
+
+    private record ActiveEntry(ApiKey apiKey, long expiresAt) {
+    }
+
+    @Value("${app.security.credential-cache.ttl-ms:300000}")
+    private long ttlMillis = 300_000;
+
+    @Value("${app.security.credential-cache.max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+    // Exchange-side API key -> entry, so adapters that only see the key string find its signer
+    private final Map<String, Entry> byApiKey = new ConcurrentHashMap<>();
+    private final Map<ActiveKey, ActiveEntry> activeKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Cached credentials of the key, loading them if absent, expired or
+     * loaded from a different encrypted value.
+     */
+    public CachedCredentials get(ApiKey apiKey, Supplier<CachedCredentials> loader) {
+        String fingerprint = fingerprint(apiKey);
+        long now = System.currentTimeMillis();
+        Entry entry = byId.get(apiKey.getId());
+        if (entry != null && entry.expiresAt() > now && entry.fingerprint().equals(fingerprint)) {
+            return entry.credentials();
+        }
+        Entry loaded = new Entry(loader.get(), fingerprint, now + ttlMillis);
+        Entry previous = byId.put(apiKey.getId(), loaded);
+        byApiKey.put(loaded.credentials().apiKey(), loaded);
+        if (previous != null) {
+            release(previous);
+        }
+        if (byId.size() > maxEntries) {
+            evictOldest();
+        }
+        return loaded.credentials();
+    }
+
+    /**
+     * Signer of a cached key, or {@code null} if the key is not cached with
+     * this secret.
+     */
+    public HmacSigner signer(String apiKey, String apiSecret) {
+        Entry entry = byApiKey.get(apiKey);
+        if (entry == null || entry.expiresAt() <= System.currentTimeMillis()
+                || !entry.credentials().apiSecret().equals(apiSecret)) {
+            return null;
+        }
+        return entry.credentials().signer();
+    }
+
+    public ApiKey getActiveKey(Long userId, ExchangeType exchangeType) {
+        ActiveEntry entry = activeKeys.get(new ActiveKey(userId, exchangeType));
+        return entry != null && entry.expiresAt() > System.currentTimeMillis() ? entry.apiKey() : null;
+    }
+
+    public void putActiveKey(ApiKey apiKey) {
+        activeKeys.put(new ActiveKey(apiKey.getUserId(), apiKey.getExchangeType()),
+                new ActiveEntry(apiKey, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * Drops the active-key lookup of a user, e.g. after a key was added.
+     */
+    public void invalidateActiveKey(Long userId, ExchangeType exchangeType) {
+        activeKeys.remove(new ActiveKey(userId, exchangeType));
+    }
+
+    /**
+     * Drops everything cached for one API key and destroys its signer.
+     */
+    public void invalidate(Long apiKeyId) {
+        activeKeys.values().removeIf(entry -> Objects.equals(entry.apiKey().getId(), apiKeyId));
+        Entry entry = byId.remove(apiKeyId);
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.credential-cache.sweep-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        activeKeys.values().removeIf(entry -> entry.expiresAt() <= now);
+        byId.entrySet().removeIf(e -> {
+            if (e.getValue().expiresAt() > now) {
+                return false;
+            }
+            release(e.getValue());
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void clear() {
+        activeKeys.clear();
+        byId.values().forEach(this::release);
+        byId.clear();
+    }
+
+    private void evictOldest() {
+        byId.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                .ifPresent(oldest -> {
+                    if (byId.remove(oldest.getKey(), oldest.getValue())) {
+                        release(oldest.getValue());
+                    }
+                });
+    }
+
+    private void release(Entry entry) {
+        byApiKey.remove(entry.credentials().apiKey(), entry);
+        entry.credentials().signer().destroy();
+    }
+
+    private static String fingerprint(ApiKey apiKey) {
+        return apiKey.getApiKeyEncrypted() + ':' + apiKey.getApiSecretEncrypted();
+    }
+}
@@ -0,0 +1,84 @@
+package com.cryptobot.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * HMAC-SHA256 signer for one secret.
+ * <p>
+ * The {@link Mac} is initialised once; every signature works on a clone of
+ * it, which skips the provider lookup and key schedule and makes the signer
+ * safe to share between threads. {@link #destroy()} overwrites the key
+ * material held by the signer.
+ */
+public final class HmacSigner {
+
+    public static final String HMAC_SHA256 = "HmacSHA256";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final byte[] secret;
+    private final Mac prototype;
+    private volatile boolean cloneable = true;
+    private volatile boolean destroyed;
+
+    public HmacSigner(String secret) {
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        try {
+            this.prototype = Mac.getInstance(HMAC_SHA256);
+            prototype.init(new SecretKeySpec(this.secret, HMAC_SHA256));
+        } catch (GeneralSecurityException e) {
+            throw new SecurityException("Could not initialise " + HMAC_SHA256, e);
+        }
+    }
+
+    /**
+     * @return Hex-encoded HMAC of the UTF-8 bytes of {@code message}
+     */
+    public String sign(String message) {
+        return HEX.formatHex(mac().doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Zeroes the secret and re-keys the {@link Mac} with a zero key so that no
+     * derived key material stays reachable. The signer is unusable afterwards.
+     */
+    public void destroy() {
+        destroyed = true;
+        Arrays.fill(secret, (byte) 0);
+        synchronized (prototype) {
+            try {
+                prototype.init(new SecretKeySpec(new byte[32], HMAC_SHA256));
+            } catch (GeneralSecurityException e) {
+                // Nothing sensible left to do; the key bytes above are already zeroed
+            }
+        }
+    }
+
+    private Mac mac() {
+        if (destroyed) {
+            throw new IllegalStateException("Signer has been destroyed");
+        }
+        if (cloneable) {
+            try {
+                synchronized (prototype) {
+                    return (Mac) prototype.clone();
+                }
+            } catch (CloneNotSupportedException e) {
+                // Provider without cloneable MACs: initialise one per signature from here on
+                cloneable = false;
+            }
+        }
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(secret, HMAC_SHA256));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new SecurityException("Could not initialise " + HMAC_SHA256, e);
+        }
+    }
+}
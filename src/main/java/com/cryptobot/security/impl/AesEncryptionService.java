@@ -30,6 +30,14 @@ public class AesEncryptionService implements EncryptionService {
 
     private SecretKey secretKey;
     private final SecureRandom secureRandom = new SecureRandom();
+    // Cipher instances are not thread-safe; each thread re-initialises its own with a fresh IV per call
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (Exception e) {
+            throw new SecurityException("Could not create " + ALGORITHM + " cipher", e);
+        }
+    });
 
     @PostConstruct
     public void init() {
@@ -53,7 +61,7 @@ public class AesEncryptionService implements EncryptionService {
             byte[] iv = new byte[IV_LENGTH_BYTE];
             secureRandom.nextBytes(iv);
 
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            Cipher cipher = ciphers.get();
             GCMParameterSpec parameterSpec = new GCMParameterSpec(TAG_LENGTH_BIT, iv);
             cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
 
@@ -83,7 +91,7 @@ public class AesEncryptionService implements EncryptionService {
             byte[] cipherText = new byte[byteBuffer.remaining()];
             byteBuffer.get(cipherText);
 
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            Cipher cipher = ciphers.get();
             GCMParameterSpec parameterSpec = new GCMParameterSpec(TAG_LENGTH_BIT, iv);
             cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
 
@@ -5,6 +5,7 @@ import com.cryptobot.domain.exception.ApiKeyNotFoundException;
 import com.cryptobot.domain.model.ApiKey;
 import com.cryptobot.repository.ApiKeyRepository;
 import com.cryptobot.repository.entity.ApiKeyEntity;
+import com.cryptobot.security.CredentialCache;
 import com.cryptobot.security.EncryptionService;
 import com.cryptobot.service.mapper.ApiKeyMapper;
 import lombok.RequiredArgsConstructor;
@@ -12,15 +13,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ApiKeyService {
+    // Users per query when resolving many active keys
+    private static final int ACTIVE_KEY_CHUNK = 1000;
+
     private final ApiKeyRepository apiKeyRepository;
     private final ApiKeyMapper apiKeyMapper;
     private final EncryptionService encryptionService;
+    private final CredentialCache credentialCache;
 
     @Transactional
     public ApiKey addApiKey(Long userId, ExchangeType exchangeType, String apiKey, String apiSecret, String label) {
@@ -36,7 +45,9 @@ public class ApiKeyService {
                 .active(true)
                 .build();
 
-        return apiKeyMapper.toDomain(apiKeyRepository.save(entity));
+        ApiKey saved = apiKeyMapper.toDomain(apiKeyRepository.save(entity));
+        credentialCache.invalidateActiveKey(userId, exchangeType);
+        return saved;
     }
 
     public List<ApiKey> getUserApiKeys(Long userId) {
@@ -45,11 +56,59 @@ public class ApiKeyService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Active key of a user for an exchange; served from the credential cache
+     * for up to its TTL
+     */
     public ApiKey getActiveKey(Long userId, ExchangeType exchangeType) {
-        return apiKeyRepository.findByUserIdAndExchangeTypeAndActiveTrue(userId, exchangeType)
+        ApiKey cached = credentialCache.getActiveKey(userId, exchangeType);
+        if (cached != null) {
+            return cached;
+        }
+        ApiKey apiKey = apiKeyRepository.findByUserIdAndExchangeTypeAndActiveTrue(userId, exchangeType)
                 .map(apiKeyMapper::toDomain)
                 .orElseThrow(
                         () -> new ApiKeyNotFoundException("No active API key found for exchange: " + exchangeType));
+        credentialCache.putActiveKey(apiKey);
+        return apiKey;
+    }
+
+    /**
+     * Active keys of several users for an exchange, keyed by user id. Users
+     * without an active key are absent. Keys missing from the credential
+     * cache are loaded with one query per {@value #ACTIVE_KEY_CHUNK} users.
+     */
+    public Map<Long, ApiKey> getActiveKeysByUser(Collection<Long> userIds, ExchangeType exchangeType) {
+        Map<Long, ApiKey> keys = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : userIds) {
+            ApiKey cached = credentialCache.getActiveKey(userId, exchangeType);
+            if (cached != null) {
+                keys.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += ACTIVE_KEY_CHUNK) {
+            List<Long> chunk = missing.subList(from, Math.min(from + ACTIVE_KEY_CHUNK, missing.size()));
+            for (ApiKeyEntity entity : apiKeyRepository.findByUserIdInAndExchangeTypeAndActiveTrue(chunk,
+                    exchangeType)) {
+                ApiKey apiKey = apiKeyMapper.toDomain(entity);
+                credentialCache.putActiveKey(apiKey);
+                keys.put(apiKey.getUserId(), apiKey);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Active keys among the given ids, loaded in one query
+     */
+    public List<ApiKey> getActiveKeys(Collection<Long> ids) {
+        return apiKeyRepository.findAllById(ids).stream()
+                .filter(ApiKeyEntity::isActive)
+                .map(apiKeyMapper::toDomain)
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -61,12 +120,28 @@ public class ApiKeyService {
     }
 
     /**
-     * Decrypts credentials for internal use (e.g., calling exchange API)
+     * Decrypts credentials for internal use (e.g., calling exchange API).
+     * Stored keys are decrypted once and then served from the credential cache.
      */
     public Credentials getDecryptedCredentials(ApiKey apiKey) {
-        return new Credentials(
-                encryptionService.decrypt(apiKey.getApiKeyEncrypted()),
-                encryptionService.decrypt(apiKey.getApiSecretEncrypted()));
+        if (apiKey.getId() == null) {
+            return new Credentials(
+                    encryptionService.decrypt(apiKey.getApiKeyEncrypted()),
+                    encryptionService.decrypt(apiKey.getApiSecretEncrypted()));
+        }
+        CredentialCache.CachedCredentials cached = credentialCache.get(apiKey,
+                () -> CredentialCache.CachedCredentials.of(
+                        encryptionService.decrypt(apiKey.getApiKeyEncrypted()),
+                        encryptionService.decrypt(apiKey.getApiSecretEncrypted())));
+        return new Credentials(cached.apiKey(), cached.apiSecret());
+    }
+
+    /**
+     * Drops cached lookups and credentials of a key that changed or was
+     * deactivated
+     */
+    public void invalidateCache(Long apiKeyId) {
+        credentialCache.invalidate(apiKeyId);
     }
 
     public record Credentials(String apiKey, String apiSecret) {
@@ -6,12 +6,12 @@ import com.cryptobot.adapter.ExchangeType;
 import com.cryptobot.domain.model.ApiKey;
 import com.cryptobot.domain.model.Balance;
 import com.cryptobot.repository.BalanceRepository;
+import com.cryptobot.repository.JdbcExecutor;
 import com.cryptobot.repository.entity.BalanceEntity;
 import com.cryptobot.service.mapper.BalanceMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -25,33 +25,34 @@ public class BalanceService {
     private final BalanceMapper balanceMapper;
     private final ApiKeyService apiKeyService;
     private final ExchangeAdapterFactory adapterFactory;
+    private final JdbcExecutor jdbcExecutor;
 
-    @Transactional
     public Mono<List<Balance>> refreshBalances(Long userId, ExchangeType exchangeType) {
-        ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, exchangeType);
-        ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(apiKeyModel);
         ExchangeAdapter adapter = adapterFactory.getAdapter(exchangeType);
 
-        return adapter.getBalances(credentials.apiKey(), credentials.apiSecret())
-                .map(balances -> {
-                    // Sync with database
-                    List<BalanceEntity> entities = balances.stream()
-                            .map(b -> {
-                                BalanceEntity entity = balanceMapper.toEntity(b);
-                                entity.setUserId(userId);
-                                entity.setApiKeyId(apiKeyModel.getId());
-
-                                // Check if exists to update or create
-                                balanceRepository
-                                        .findByUserIdAndApiKeyIdAndAsset(userId, apiKeyModel.getId(), b.getAsset())
-                                        .ifPresent(existing -> entity.setId(existing.getId()));
+        return jdbcExecutor.read(() -> apiKeyService.getActiveKey(userId, exchangeType))
+                .flatMap(apiKeyModel -> {
+                    ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(apiKeyModel);
+                    return adapter.getBalances(credentials.apiKey(), credentials.apiSecret())
+                            .flatMap(balances -> jdbcExecutor.write(() -> save(userId, apiKeyModel, balances)));
+                });
+    }
 
-                                return balanceRepository.save(entity);
-                            })
-                            .collect(Collectors.toList());
+    private List<Balance> save(Long userId, ApiKey apiKeyModel, List<Balance> balances) {
+        // Sync with database in one batch; unchanged assets are not rewritten
+        List<BalanceEntity> entities = balances.stream()
+                .map(b -> {
+                    BalanceEntity entity = balanceMapper.toEntity(b);
+                    entity.setUserId(userId);
+                    entity.setApiKeyId(apiKeyModel.getId());
+                    entity.setExchangeType(apiKeyModel.getExchangeType());
+                    return entity;
+                })
+                .collect(Collectors.toList());
 
-                    return entities.stream().map(balanceMapper::toDomain).collect(Collectors.toList());
-                });
+        return balanceRepository.upsertBalances(userId, apiKeyModel.getId(), entities).stream()
+                .map(balanceMapper::toDomain)
+                .collect(Collectors.toList());
     }
 
     public List<Balance> getCachedBalances(Long userId, Long apiKeyId) {
@@ -0,0 +1,132 @@
+package com.cryptobot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Keeps {@link FollowerGraph} in step with changes made on other nodes.
+ * <p>
+ * A trigger on {@code copy_relations} (V6) publishes the lead user id of
+ * every changed row on the {@value #CHANNEL} channel when the change
+ * commits. This listener holds one dedicated connection outside the pool,
+ * waits on it for notifications and reloads the named leads. Each time
+ * {@code LISTEN} succeeds, on the first connect as after a reconnect, it
+ * reloads the whole graph, since changes committed before that sent no
+ * notification it could receive. Only PostgreSQL data sources are listened
+ * to.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CopyRelationChangeListener {
+
+    static final String CHANNEL = "copy_relations_changed";
+
+    private static final int POLL_TIMEOUT_MS = 5_000;
+
+    private final FollowerGraph followerGraph;
+    private final DataSourceProperties dataSourceProperties;
+
+    @Value("${app.copy-trading.reconnect-delay-ms:5000}")
+    private long reconnectDelayMillis = 5_000;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    @PostConstruct
+    public void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            log.info("Copy relation change feed disabled: not a PostgreSQL data source");
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listen, "copy-relations-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeConnection();
+    }
+
+    private void listen() {
+        while (running) {
+            try {
+                connect();
+                // Covers changes since FollowerGraph.init() or the previous connection
+                followerGraph.reloadAll();
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Copy relation change feed interrupted, reconnecting in {} ms: {}", reconnectDelayMillis,
+                        e.getMessage());
+                closeConnection();
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        closeConnection();
+    }
+
+    private void connect() throws SQLException {
+        connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("Listening for copy relation changes on {}", CHANNEL);
+    }
+
+    void handle(String payload) {
+        try {
+            followerGraph.reload(Long.valueOf(payload));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed copy relation notification: {}", payload);
+        }
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Error closing change feed connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.cryptobot.service;
+
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.CopyTradingMetrics;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.SymbolPrecision;
+import com.cryptobot.repository.JdbcExecutor;
+import com.cryptobot.service.metrics.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Places the mirrored orders of lead orders.
+ * <p>
+ * Each lead order becomes a burst. The followers' active keys, their
+ * credentials and the symbol precision are resolved once for the whole
+ * burst, in one JDBC read. Mirrored orders then go out with at most
+ * {@code app.copy-trading.fan-out.concurrency} in flight across all bursts,
+ * taken round-robin from the bursts waiting, a new burst first, so a lead
+ * with thousands of followers does not hold up the followers of the next
+ * lead. A follower account gets at most
+ * {@code app.copy-trading.fan-out.follower-orders-per-second} mirrored
+ * orders (bursts of up to {@code follower-burst}); mirrors beyond that are
+ * dropped rather than queued, since a late copy is worse than none.
+ * <p>
+ * The time from the lead order being stored to each follower order being
+ * acknowledged and stored is recorded for the SLO percentiles in
+ * {@link #metrics()}.
+ */
+@Slf4j
+@Component
+public class CopyTradeFanOut {
+
+    private final OrderService orderService;
+    private final ApiKeyService apiKeyService;
+    private final SymbolDetailsService symbolDetailsService;
+    private final JdbcExecutor jdbcExecutor;
+
+    private final int concurrency;
+    private final double followerOrdersPerSecond;
+    private final int followerBurst;
+
+    private final Deque<Burst> waiting = new ArrayDeque<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private int inFlight;
+
+    private final Map<Long, FollowerBucket> followerBuckets = new ConcurrentHashMap<>();
+    private final LatencyHistogram ackLatency = new LatencyHistogram();
+    private final LongAdder bursts = new LongAdder();
+    private final LongAdder mirrored = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder missingKeys = new LongAdder();
+
+    public CopyTradeFanOut(
+            @Lazy OrderService orderService,
+            ApiKeyService apiKeyService,
+            SymbolDetailsService symbolDetailsService,
+            JdbcExecutor jdbcExecutor,
+            @Value("${app.copy-trading.fan-out.concurrency:16}") int concurrency,
+            @Value("${app.copy-trading.fan-out.follower-orders-per-second:2}") double followerOrdersPerSecond,
+            @Value("${app.copy-trading.fan-out.follower-burst:5}") int followerBurst) {
+        if (concurrency <= 0 || followerOrdersPerSecond <= 0 || followerBurst <= 0) {
+            throw new IllegalArgumentException("app.copy-trading.fan-out settings must be positive");
+        }
+        this.orderService = orderService;
+        this.apiKeyService = apiKeyService;
+        this.symbolDetailsService = symbolDetailsService;
+        this.jdbcExecutor = jdbcExecutor;
+        this.concurrency = concurrency;
+        this.followerOrdersPerSecond = followerOrdersPerSecond;
+        this.followerBurst = followerBurst;
+    }
+
+    /**
+     * Mirrors a stored lead order to the given followers. Returns once the
+     * burst is resolved and queued; the orders are placed asynchronously.
+     */
+    public void submit(Order leadOrder, FollowerGraph.Followers followers) {
+        long leadAckNanos = System.nanoTime();
+        bursts.increment();
+        List<Long> followerIds = new ArrayList<>(followers.size());
+        for (long userId : followers.userIds()) {
+            followerIds.add(userId);
+        }
+        jdbcExecutor.read(() -> {
+                    Map<Long, ApiKey> keys = apiKeyService.getActiveKeysByUser(followerIds,
+                            leadOrder.getExchangeType());
+                    Map<Long, ApiKeyService.Credentials> credentials = new HashMap<>();
+                    keys.forEach((userId, key) -> credentials.put(userId, apiKeyService.getDecryptedCredentials(key)));
+                    SymbolPrecision precision = symbolDetailsService.getPrecision(leadOrder.getExchangeType(),
+                            leadOrder.getSymbol());
+                    return new Burst(leadOrder, followers, keys, credentials, precision, leadAckNanos);
+                })
+                .subscribe(this::enqueue, error -> {
+                    failed.add(followers.size());
+                    log.error("Failed to resolve followers of lead user {}: {}", leadOrder.getUserId(),
+                            error.getMessage());
+                });
+    }
+
+    private void enqueue(Burst burst) {
+        if (burst.followers.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            // Ahead of the bursts that already had a turn
+            waiting.addFirst(burst);
+        }
+        drain();
+    }
+
+    /**
+     * Starts mirrored orders while slots are free, one per waiting burst in
+     * turn. Completions call back in here; the work-in-progress counter keeps
+     * that from recursing when an order completes synchronously.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (true) {
+                Burst burst;
+                int index;
+                synchronized (this) {
+                    if (inFlight >= concurrency || waiting.isEmpty()) {
+                        break;
+                    }
+                    burst = waiting.pollFirst();
+                    index = burst.next++;
+                    if (burst.next < burst.followers.size()) {
+                        waiting.addLast(burst);
+                    }
+                    inFlight++;
+                }
+                start(burst, index);
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void start(Burst burst, int index) {
+        Mono<Order> mirror;
+        try {
+            mirror = mirror(burst, index);
+        } catch (RuntimeException e) {
+            mirror = Mono.error(e);
+        }
+        mirror.doFinally(signal -> {
+                    synchronized (this) {
+                        inFlight--;
+                    }
+                    drain();
+                })
+                .subscribe(
+                        result -> log.debug("Mirrored order placed for follower {}", result.getUserId()),
+                        error -> {
+                            failed.increment();
+                            log.error("Error placing mirrored order for follower {}: {}",
+                                    burst.followers.userIds()[index], error.getMessage());
+                        });
+    }
+
+    private Mono<Order> mirror(Burst burst, int index) {
+        long followerUserId = burst.followers.userIds()[index];
+        ApiKey apiKey = burst.keys.get(followerUserId);
+        if (apiKey == null) {
+            missingKeys.increment();
+            log.debug("Follower {} has no active {} key", followerUserId, burst.leadOrder.getExchangeType());
+            return Mono.empty();
+        }
+        if (!followerBuckets.computeIfAbsent(followerUserId, id -> new FollowerBucket(followerBurst))
+                .tryAcquire(followerOrdersPerSecond, followerBurst, System.nanoTime())) {
+            throttled.increment();
+            log.warn("Follower {} exceeded {} mirrored orders/s, skipping", followerUserId, followerOrdersPerSecond);
+            return Mono.empty();
+        }
+
+        Order leadOrder = burst.leadOrder;
+        BigDecimal scaleFactor = burst.followers.scaleFactors()[index];
+        Order mirroredOrder = Order.builder()
+                .exchangeType(leadOrder.getExchangeType())
+                .symbol(leadOrder.getSymbol())
+                .side(leadOrder.getSide())
+                .orderType(leadOrder.getOrderType())
+                .quantity(leadOrder.getQuantity().multiply(scaleFactor))
+                .price(leadOrder.getPrice()) // Same price as lead for LIMIT orders
+                .build();
+        return orderService.placePreparedOrder(apiKey, burst.credentials.get(followerUserId), mirroredOrder,
+                        burst.precision)
+                .doOnNext(order -> {
+                    mirrored.increment();
+                    ackLatency.record(System.nanoTime() - burst.leadAckNanos);
+                });
+    }
+
+    public CopyTradingMetrics metrics() {
+        int active;
+        int queued;
+        synchronized (this) {
+            active = inFlight;
+            queued = waiting.size();
+        }
+        return CopyTradingMetrics.builder()
+                .concurrency(concurrency)
+                .inFlight(active)
+                .queuedBursts(queued)
+                .bursts(bursts.sum())
+                .mirrored(mirrored.sum())
+                .failed(failed.sum())
+                .throttled(throttled.sum())
+                .missingKeys(missingKeys.sum())
+                .ackLatencyP50Millis(TimeUnit.NANOSECONDS.toMillis(ackLatency.getPercentileNanos(50)))
+                .ackLatencyP99Millis(TimeUnit.NANOSECONDS.toMillis(ackLatency.getPercentileNanos(99)))
+                .ackLatencyP999Millis(TimeUnit.NANOSECONDS.toMillis(ackLatency.getPercentileNanos(99.9)))
+                .ackLatencyMaxMillis(TimeUnit.NANOSECONDS.toMillis(ackLatency.getMaxNanos()))
+                .build();
+    }
+
+    /**
+     * One lead order's resolved followers; {@code next} is the next follower
+     * to start and is only touched under the fan-out's lock.
+     */
+    private static final class Burst {
+        private final Order leadOrder;
+        private final FollowerGraph.Followers followers;
+        private final Map<Long, ApiKey> keys;
+        private final Map<Long, ApiKeyService.Credentials> credentials;
+        private final SymbolPrecision precision;
+        private final long leadAckNanos;
+        private int next;
+
+        private Burst(Order leadOrder, FollowerGraph.Followers followers, Map<Long, ApiKey> keys,
+                Map<Long, ApiKeyService.Credentials> credentials, SymbolPrecision precision, long leadAckNanos) {
+            this.leadOrder = leadOrder;
+            this.followers = followers;
+            this.keys = keys;
+            this.credentials = credentials;
+            this.precision = precision;
+            this.leadAckNanos = leadAckNanos;
+        }
+    }
+
+    /**
+     * Token bucket of one follower account.
+     */
+    private static final class FollowerBucket {
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        private FollowerBucket(int burst) {
+            this.tokens = burst;
+        }
+
+        synchronized boolean tryAcquire(double perSecond, int burst, long now) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) / 1e9 * perSecond);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
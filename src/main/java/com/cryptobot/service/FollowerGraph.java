@@ -0,0 +1,107 @@
+package com.cryptobot.service;
+
+import com.cryptobot.domain.model.CopyTradingStatus;
+import com.cryptobot.repository.CopyRelationRepository;
+import com.cryptobot.repository.entity.CopyRelationEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lead → active followers adjacency of the copy-trading relations, kept in
+ * memory so that mirroring a lead order does not touch the database.
+ * <p>
+ * The graph is loaded at startup. A lead's entry is rebuilt from the
+ * database whenever one of its relations changes, either locally through
+ * {@link #reload(Long)} or on another node through
+ * {@link CopyRelationChangeListener}. Entries are immutable and replaced
+ * whole, so readers never see a half-updated follower list.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowerGraph {
+
+    private final CopyRelationRepository copyRelationRepository;
+
+    private final Map<Long, Followers> followersByLead = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        reloadAll();
+    }
+
+    /**
+     * Active followers of a lead, or {@link Followers#NONE}.
+     */
+    public Followers followersOf(Long leadUserId) {
+        return followersByLead.getOrDefault(leadUserId, Followers.NONE);
+    }
+
+    /**
+     * Rebuilds the whole graph. Used at startup and after the change feed was
+     * interrupted, when notifications may have been missed.
+     */
+    public synchronized void reloadAll() {
+        Map<Long, List<CopyRelationEntity>> relations = new HashMap<>();
+        for (CopyRelationEntity relation : copyRelationRepository.findByStatus(CopyTradingStatus.ACTIVE)) {
+            relations.computeIfAbsent(relation.getLeadUserId(), lead -> new ArrayList<>()).add(relation);
+        }
+        Map<Long, Followers> loaded = new HashMap<>();
+        relations.forEach((lead, rows) -> loaded.put(lead, Followers.of(rows)));
+        followersByLead.keySet().retainAll(loaded.keySet());
+        followersByLead.putAll(loaded);
+        log.info("Loaded copy-trading graph: {} leads, {} relations", loaded.size(),
+                relations.values().stream().mapToInt(List::size).sum());
+    }
+
+    /**
+     * Rebuilds one lead's followers from the database. Reloads are
+     * serialized so that an older read cannot overwrite a newer one.
+     */
+    public synchronized void reload(Long leadUserId) {
+        List<CopyRelationEntity> rows = copyRelationRepository.findByLeadUserIdAndStatus(leadUserId,
+                CopyTradingStatus.ACTIVE);
+        if (rows.isEmpty()) {
+            followersByLead.remove(leadUserId);
+        } else {
+            followersByLead.put(leadUserId, Followers.of(rows));
+        }
+        log.debug("Reloaded {} active followers of lead user {}", rows.size(), leadUserId);
+    }
+
+    /**
+     * Follower ids and scale factors of one lead, index-aligned.
+     */
+    public record Followers(long[] userIds, BigDecimal[] scaleFactors) {
+
+        public static final Followers NONE = new Followers(new long[0], new BigDecimal[0]);
+
+        static Followers of(List<CopyRelationEntity> rows) {
+            long[] userIds = new long[rows.size()];
+            BigDecimal[] scaleFactors = new BigDecimal[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                CopyRelationEntity row = rows.get(i);
+                userIds[i] = row.getFollowerUserId();
+                scaleFactors[i] = row.getScaleFactor() != null ? row.getScaleFactor() : BigDecimal.ONE;
+            }
+            return new Followers(userIds, scaleFactors);
+        }
+
+        public int size() {
+            return userIds.length;
+        }
+
+        public boolean isEmpty() {
+            return userIds.length == 0;
+        }
+    }
+}
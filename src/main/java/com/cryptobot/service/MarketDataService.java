@@ -1,17 +1,26 @@
 package com.cryptobot.service;
 
-import com.cryptobot.adapter.bybit.dto.BybitWebSocketTickerResponse;
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.adapter.WebClientRegistry;
+import com.cryptobot.adapter.bybit.BybitOrderBookDecoder;
+import com.cryptobot.adapter.bybit.BybitOrderBookFrame;
+import com.cryptobot.adapter.bybit.BybitTickerDecoder;
+import com.cryptobot.adapter.bybit.BybitTickerFrame;
+import com.cryptobot.domain.model.SymbolPrecision;
 import com.cryptobot.domain.model.TickerUpdate;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.cryptobot.domain.vo.FixedPoint;
+import com.cryptobot.service.orderbook.OrderBook;
+import com.cryptobot.service.orderbook.OrderBookService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
 import org.springframework.web.reactive.socket.client.WebSocketClient;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
@@ -19,19 +28,29 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 import reactor.util.retry.Retry;
 
-import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.URI;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service to manage WebSocket connections for real-time market data.
- * Maintains an in-memory cache of the latest ticker prices.
- * Falls back to REST polling if WebSocket is unstable.
+ * Maintains an in-memory cache of the latest ticker prices, warmed for every
+ * spot symbol by one bulk REST call.
+ * Ticker and order book topics are subscribed at runtime while any holder
+ * needs them (see {@link StreamTopics}) and spread over as many connections as
+ * the per connection topic limit requires. Order book messages are applied to
+ * the local books of {@link OrderBookService}.
+ * Falls back to REST polling while the WebSocket has gone stale.
  */
 @Slf4j
 @Service
@@ -40,7 +59,10 @@ public class MarketDataService {
 
     private final ObjectMapper objectMapper;
     private final WebSocketClient webSocketClient;
-    private final WebClient.Builder webClientBuilder;
+    private final WebClientRegistry webClients;
+    private final SymbolDetailsService symbolDetailsService;
+    private final TickerHub tickerHub;
+    private final OrderBookService orderBookService;
 
     @Value("${bybit.websocket.base-url:wss://stream-testnet.bybit.com/v5/public/spot}")
     private String wsUrl;
@@ -51,31 +73,63 @@ public class MarketDataService {
     @Value("${bybit.websocket.topics:ticker.BTCUSDT,ticker.ETHUSDT,ticker.SOLUSDT,ticker.BNBUSDT,ticker.XRPUSDT}")
     private List<String> topics;
 
+    // Symbols whose local order book is kept from startup; strategies and clients add their own
+    @Value("${bybit.websocket.orderbook-symbols:BTCUSDT,ETHUSDT}")
+    private List<String> orderBookSymbols = List.of();
+
+    // Levels per side of the order book stream (orderbook.{depth}.{symbol})
+    @Value("${bybit.websocket.orderbook-depth:50}")
+    private int orderBookDepth = 50;
+
+    // A symbol whose last WebSocket tick is older than this is refreshed over REST
+    @Value("${app.market-data.stale-after-ms:30000}")
+    private long staleAfterMillis = 30_000;
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(10);
+
     private final Map<String, TickerUpdate> tickerCache = new ConcurrentHashMap<>();
+    // Local receipt time of each symbol's last WebSocket tick
+    private final Map<String, AtomicLong> streamTickAt = new ConcurrentHashMap<>();
+
+    // Topics per WebSocket connection; further topics open another connection
+    @Value("${bybit.websocket.topics-per-connection:100}")
+    private int topicsPerConnection = 100;
+
+    private static final int ARGS_PER_REQUEST = 10;
+    private static final Duration PING_INTERVAL = Duration.ofSeconds(20);
+    private static final String PING = "{\"op\":\"ping\"}";
+    private static final String CONFIGURED_TOPICS = "config";
 
-    // Sink to broadcast ticker updates to other internal services
-    private final Sinks.Many<TickerUpdate> tickerSink = Sinks.many().multicast().directBestEffort();
+    private StreamTopics streamTopics;
+    // Open connections by shard id; guarded by this service
+    private final Map<Integer, Shard> shards = new HashMap<>();
 
-    private Disposable connectionDisposable;
     private Disposable pollingDisposable;
 
+    // Decodes REST snapshots; guarded by its own lock as the initial fetch and polling may overlap
+    private final BybitTickerDecoder snapshotDecoder = new BybitTickerDecoder();
+
     @PostConstruct
     public void init() {
+        streamTopics = new StreamTopics(topicsPerConnection);
+
         // 1. Initial snapshot via REST to prevent 404s
         fetchInitialSnapshot();
 
-        // 2. Start WebSocket
-        connectWs();
+        // 2. Start WebSocket connections for the configured topics; strategies and clients add their own
+        subscribe(CONFIGURED_TOPICS, topics.stream()
+                .map(topic -> topic.replace(StreamTopics.TICKER_PREFIX, ""))
+                .toList());
+        subscribeOrderBooks(CONFIGURED_TOPICS, orderBookSymbols);
 
-        // 3. Start Polling as backup (every 10s)
+        // 3. Start Polling as backup for symbols the WebSocket stops updating
         startPolling();
     }
 
     @PreDestroy
-    public void cleanup() {
-        if (connectionDisposable != null && !connectionDisposable.isDisposed()) {
-            connectionDisposable.dispose();
-        }
+    public synchronized void cleanup() {
+        shards.values().forEach(shard -> shard.connection.dispose());
+        shards.clear();
         if (pollingDisposable != null && !pollingDisposable.isDisposed()) {
             pollingDisposable.dispose();
         }
@@ -83,135 +137,292 @@ public class MarketDataService {
 
     private void fetchInitialSnapshot() {
         log.info("Fetching initial market data snapshot via REST...");
-        WebClient client = webClientBuilder.baseUrl(restfulUrl).build();
-
-        // Fetch each symbol individually to safely handle potential API quirks
-        Flux.fromIterable(topics)
-                .map(t -> t.replace("ticker.", ""))
-                .flatMap(symbol -> client.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/v5/market/tickers")
-                                .queryParam("category", "spot")
-                                .queryParam("symbol", symbol)
-                                .build())
-                        .retrieve()
-                        .bodyToMono(JsonNode.class)
+        fetchAllTickers().subscribe(
+                count -> log.info("Market data snapshot loaded for {} symbols", count),
+                e -> log.error("Failed to fetch initial market data snapshot: {}", e.getMessage()));
+    }
+
+    /**
+     * Falls back to REST only while a subscribed symbol's WebSocket ticks have
+     * gone stale; a healthy stream costs no requests.
+     */
+    private void startPolling() {
+        pollingDisposable = Flux.interval(POLL_INTERVAL)
+                .filter(i -> hasStaleTopics())
+                .concatMap(i -> fetchAllTickers()
                         .onErrorResume(e -> {
-                            log.error("Failed to fetch initial snapshot for {}: {}", symbol, e.getMessage());
+                            log.warn("REST ticker fallback failed: {}", e.getMessage());
                             return Mono.empty();
                         }))
-                .subscribe(this::processRestResponse);
+                .subscribe(count -> log.debug("REST ticker fallback refreshed {} symbols", count));
     }
 
-    private void startPolling() {
-        pollingDisposable = Flux.interval(Duration.ofSeconds(10))
-                .flatMap(i -> Flux.fromIterable(topics))
-                .map(t -> t.replace("ticker.", ""))
-                .flatMap(symbol -> {
-                    WebClient client = webClientBuilder.baseUrl(restfulUrl).build();
-                    return client.get()
-                            .uri(uriBuilder -> uriBuilder
-                                    .path("/v5/market/tickers")
-                                    .queryParam("category", "spot")
-                                    .queryParam("symbol", symbol)
-                                    .build())
-                            .retrieve()
-                            .bodyToMono(JsonNode.class)
-                            .onErrorResume(e -> Mono.empty());
-                })
-                .subscribe(this::processRestResponse);
-    }
-
-    private void processRestResponse(JsonNode root) {
-        try {
-            if (root.has("result") && root.get("result").has("list")) {
-                JsonNode list = root.get("result").get("list");
-                if (list.isArray()) {
-                    for (JsonNode item : list) {
-                        TickerUpdate update = TickerUpdate.builder()
-                                .symbol(item.get("symbol").asText())
-                                .lastPrice(new BigDecimal(item.get("lastPrice").asText()))
-                                .highPrice24h(new BigDecimal(item.get("highPrice24h").asText()))
-                                .lowPrice24h(new BigDecimal(item.get("lowPrice24h").asText()))
-                                .volume24h(new BigDecimal(item.get("volume24h").asText()))
-                                .timestamp(Instant.now())
-                                .build();
-
-                        tickerCache.put(update.getSymbol(), update);
-                        tickerSink.tryEmitNext(update);
-                    }
+    /**
+     * Fetches every spot ticker in one request, without the {@code symbol}
+     * filter, and decodes it in one token pass.
+     *
+     * @return the number of tickers applied
+     */
+    private Mono<Integer> fetchAllTickers() {
+        return webClients.forBaseUrl(restfulUrl).get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/v5/market/tickers")
+                        .queryParam("category", "spot")
+                        .build())
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(this::processSnapshot);
+    }
+
+    private int processSnapshot(byte[] body) {
+        long now = System.currentTimeMillis();
+        int[] applied = new int[1];
+        synchronized (snapshotDecoder) {
+            snapshotDecoder.decodeSnapshot(body, 0, body.length, now, frame -> {
+                // The stream is fresher than the snapshot for symbols it keeps up to date
+                if (!isStreamFresh(frame.getSymbol(), now)) {
+                    TickerUpdate update = mapToDomain(frame);
+                    tickerCache.put(update.getSymbol(), update);
+                    tickerHub.publish(update);
+                    applied[0]++;
                 }
+            });
+        }
+        return applied[0];
+    }
+
+    private boolean hasStaleTopics() {
+        long now = System.currentTimeMillis();
+        for (String symbol : streamTopics.symbols(StreamTopics.TICKER_PREFIX)) {
+            if (!isStreamFresh(symbol, now)) {
+                return true;
             }
-        } catch (Exception e) {
-            log.error("Error processing REST response: {}", e.getMessage());
         }
+        return false;
+    }
+
+    private boolean isStreamFresh(String symbol, long now) {
+        AtomicLong receivedAt = streamTickAt.get(symbol);
+        return receivedAt != null && now - receivedAt.get() < staleAfterMillis;
     }
 
     /**
-     * Connect to the WebSocket and subscribe to topics.
+     * Sets the symbols a holder needs ticks for, replacing what it held
+     * before. Topics that become needed or unneeded are subscribed or
+     * unsubscribed on their live connections, opening a connection when the
+     * others are full and closing one that no longer carries any topic.
+     *
+     * @param holder Identifies who needs the symbols, e.g. {@code strategy:42}
      */
-    public void connectWs() {
-        log.info("Connecting to Bybit WebSocket: {}", wsUrl);
+    public synchronized void subscribe(String holder, Collection<String> symbols) {
+        apply(streamTopics.hold("ticker/" + holder, symbols.stream().map(this::tickerTopic).toList()));
+    }
 
-        connectionDisposable = webSocketClient.execute(URI.create(wsUrl), session -> {
-            log.info("WebSocket session established: {}", session.getId());
+    public synchronized void unsubscribe(String holder) {
+        apply(streamTopics.release("ticker/" + holder));
+    }
 
-            // Sending subscription message
-            String subMessage = String.format("{\"op\": \"subscribe\", \"args\": %s}",
-                    toJsonArray(topics));
+    /**
+     * Sets the symbols a holder needs a local order book of, replacing what it
+     * held before; see {@link #subscribe}. The books are read through
+     * {@link OrderBookService}.
+     */
+    public synchronized void subscribeOrderBooks(String holder, Collection<String> symbols) {
+        apply(streamTopics.hold("orderbook/" + holder, symbols.stream().map(this::orderBookTopic).toList()));
+    }
 
-            Mono<Void> sendSub = session.send(Flux.just(session.textMessage(subMessage)));
+    public synchronized void unsubscribeOrderBooks(String holder) {
+        apply(streamTopics.release("orderbook/" + holder));
+    }
+
+    private String tickerTopic(String symbol) {
+        return StreamTopics.TICKER_PREFIX + symbol.toUpperCase(Locale.ROOT);
+    }
+
+    private String orderBookTopic(String symbol) {
+        return StreamTopics.ORDER_BOOK_PREFIX + orderBookDepth + "." + symbol.toUpperCase(Locale.ROOT);
+    }
 
-            Mono<Void> receiveMessages = session.receive()
-                    .map(WebSocketMessage::getPayloadAsText)
-                    .doOnNext(this::processWsMessage)
-                    .doOnError(e -> log.error("WebSocket error: {}", e.getMessage()))
-                    .then();
+    /**
+     * Live ticks of one symbol for a streaming client. The symbol stays
+     * subscribed for as long as the client is connected.
+     */
+    public Flux<TickerUpdate> streamTicker(String symbol) {
+        return Flux.defer(() -> {
+            String holder = "client:" + UUID.randomUUID();
+            subscribe(holder, List.of(symbol));
+            return tickerHub.subscribe(holder, TickerHub.Overflow.CONFLATE_LATEST, 1, List.of(symbol))
+                    .doFinally(signal -> unsubscribe(holder));
+        });
+    }
+
+    private void apply(List<StreamTopics.ShardOp> ops) {
+        for (StreamTopics.ShardOp op : ops) {
+            Shard shard = shards.get(op.shard());
+            if (shard == null) {
+                if (op.subscribe()) {
+                    // Subscribes to everything placed on the shard once connected
+                    open(op.shard());
+                }
+            } else if (!op.subscribe() && streamTopics.topicsOf(op.shard()).isEmpty()) {
+                close(shard);
+            } else {
+                synchronized (shard) {
+                    if (shard.outbound != null) {
+                        // A session that came up after the change already subscribed from topicsOf
+                        List<String> pending = op.topics().stream()
+                                .filter(topic -> op.subscribe() ? shard.subscribed.add(topic)
+                                        : shard.subscribed.remove(topic))
+                                .toList();
+                        emit(shard.outbound, op.subscribe() ? "subscribe" : "unsubscribe", pending);
+                    }
+                }
+            }
+        }
+    }
 
-            // Periodic PING to keep connection alive
-            Flux<Void> pings = Flux.interval(Duration.ofSeconds(20))
-                    .flatMap(i -> session.send(Flux.just(session.textMessage("{\"op\":\"ping\"}"))))
-                    .takeUntilOther(receiveMessages);
+    /**
+     * Opens one connection of the public stream. It reconnects on its own when
+     * lost and then resubscribes only its own topics.
+     */
+    private void open(int id) {
+        Shard shard = new Shard(id);
+        shards.put(id, shard);
+        log.info("Connecting to Bybit WebSocket: {} (connection {})", wsUrl, id);
 
-            return Mono.when(sendSub, receiveMessages, pings);
-        })
+        shard.connection = webSocketClient.execute(URI.create(wsUrl), session -> run(shard, session))
                 .retryWhen(Retry.backoff(Integer.MAX_VALUE, Duration.ofSeconds(5))
-                        .doBeforeRetry(retrySignal -> log.warn("WebSocket connection lost, retrying... (Attempt {})",
-                                retrySignal.totalRetries() + 1)))
+                        .maxBackoff(Duration.ofMinutes(1))
+                        .doBeforeRetry(retrySignal -> log.warn("WebSocket connection {} lost, retrying... (Attempt {})",
+                                id, retrySignal.totalRetries() + 1)))
                 .subscribe(
                         null,
-                        error -> log.error("Fatal WebSocket connection error: {}", error.getMessage()));
+                        error -> log.error("Fatal WebSocket connection error on connection {}: {}", id,
+                                error.getMessage()));
+    }
+
+    private Mono<Void> run(Shard shard, WebSocketSession session) {
+        log.info("WebSocket session established: {} (connection {})", session.getId(), shard.id);
+        Sinks.Many<String> outbound = Sinks.many().unicast().onBackpressureBuffer();
+        synchronized (shard) {
+            // Everything on the shard now, including topics placed while it was down
+            List<String> topicList = streamTopics.topicsOf(shard.id);
+            shard.subscribed.clear();
+            shard.subscribed.addAll(topicList);
+            emit(outbound, "subscribe", topicList);
+            shard.outbound = outbound;
+        }
+
+        // Periodic PING to keep connection alive
+        Flux<String> pings = Flux.interval(PING_INTERVAL).map(i -> PING);
+        Mono<Void> send = session.send(Flux.merge(outbound.asFlux(), pings).map(session::textMessage));
+
+        Mono<Void> receiveMessages = session.receive()
+                .map(WebSocketMessage::getPayload)
+                .doOnNext(payload -> processMessage(shard, payload))
+                .doOnError(e -> log.error("WebSocket error on connection {}: {}", shard.id, e.getMessage()))
+                // A close by the server is a lost connection too
+                .then(Mono.error(() -> new IllegalStateException("Closed by server")));
+
+        return Mono.firstWithSignal(send, receiveMessages)
+                .doFinally(signal -> {
+                    synchronized (shard) {
+                        if (shard.outbound == outbound) {
+                            shard.outbound = null;
+                            shard.subscribed.clear();
+                        }
+                    }
+                });
     }
 
-    private void processWsMessage(String message) {
-        log.debug("Received WebSocket message: {}", message);
+    private void close(Shard shard) {
+        shards.remove(shard.id);
+        shard.connection.dispose();
+        log.info("Closed WebSocket connection {}, no topics left", shard.id);
+    }
+
+    // Bybit takes at most ARGS_PER_REQUEST topics per subscribe/unsubscribe op
+    private void emit(Sinks.Many<String> outbound, String op, List<String> topicList) {
+        for (int from = 0; from < topicList.size(); from += ARGS_PER_REQUEST) {
+            List<String> args = topicList.subList(from, Math.min(from + ARGS_PER_REQUEST, topicList.size()));
+            outbound.tryEmitNext(String.format("{\"op\": \"%s\", \"args\": %s}", op, toJsonArray(args)));
+        }
+    }
+
+    private void processMessage(Shard shard, DataBuffer payload) {
         try {
-            if (message.contains("\"topic\":\"ticker.")) {
-                BybitWebSocketTickerResponse response = objectMapper.readValue(message,
-                        BybitWebSocketTickerResponse.class);
-                if (response.getData() != null) {
-                    TickerUpdate update = mapToDomain(response);
-                    tickerCache.put(update.getSymbol(), update);
-                    tickerSink.tryEmitNext(update);
+            int length = payload.readableByteCount();
+            if (shard.scratch.length < length) {
+                shard.scratch = new byte[Math.max(length, shard.scratch.length * 2)];
+            }
+            payload.read(shard.scratch, 0, length);
+
+            BybitTickerFrame frame = shard.tickerDecoder.decode(shard.scratch, 0, length);
+            if (frame != null) {
+                TickerUpdate update = mapToDomain(frame);
+                tickerCache.put(update.getSymbol(), update);
+                AtomicLong receivedAt = streamTickAt.get(update.getSymbol());
+                if (receivedAt == null) {
+                    receivedAt = streamTickAt.computeIfAbsent(update.getSymbol(), symbol -> new AtomicLong());
                 }
+                receivedAt.set(System.currentTimeMillis());
+                tickerHub.publish(update);
+                return;
+            }
+
+            BybitOrderBookFrame book = shard.orderBookDecoder.decode(shard.scratch, 0, length);
+            if (book != null && orderBookService.apply(book) == OrderBook.Result.GAP) {
+                resync(shard, book.getSymbol());
             }
         } catch (Exception e) {
-            log.error("Error processing message: {}", message, e);
+            log.error("Error processing WebSocket message: {}", e.getMessage());
         }
     }
 
-    private TickerUpdate mapToDomain(BybitWebSocketTickerResponse response) {
-        var data = response.getData();
+    /**
+     * Resubscribes an order book topic after a missed update; Bybit answers a
+     * subscribe with a fresh snapshot.
+     */
+    private void resync(Shard shard, String symbol) {
+        List<String> topic = List.of(orderBookTopic(symbol));
+        synchronized (shard) {
+            if (shard.outbound != null) {
+                emit(shard.outbound, "unsubscribe", topic);
+                emit(shard.outbound, "subscribe", topic);
+            }
+        }
+    }
+
+    private TickerUpdate mapToDomain(BybitTickerFrame frame) {
+        String symbol = frame.getSymbol();
+        int priceScale = priceScaleOf(symbol, Math.max(frame.getLastPriceScale(),
+                Math.max(frame.getHighPrice24hScale(), frame.getLowPrice24hScale())));
+
         return TickerUpdate.builder()
-                .symbol(data.getSymbol())
-                .lastPrice(new BigDecimal(data.getLastPrice()))
-                .highPrice24h(new BigDecimal(data.getHighPrice24h()))
-                .lowPrice24h(new BigDecimal(data.getLowPrice24h()))
-                .volume24h(new BigDecimal(data.getVolume24h()))
-                .timestamp(Instant.ofEpochMilli(response.getTimestamp()))
+                .symbol(symbol)
+                .priceScale(priceScale)
+                .lastPriceUnits(FixedPoint.rescale(frame.getLastPrice(), frame.getLastPriceScale(), priceScale,
+                        RoundingMode.HALF_UP))
+                .highPrice24hUnits(FixedPoint.rescale(frame.getHighPrice24h(), frame.getHighPrice24hScale(),
+                        priceScale, RoundingMode.HALF_UP))
+                .lowPrice24hUnits(FixedPoint.rescale(frame.getLowPrice24h(), frame.getLowPrice24hScale(),
+                        priceScale, RoundingMode.HALF_UP))
+                .volumeScale(frame.getVolume24hScale())
+                .volume24hUnits(frame.getVolume24h())
+                .timestampMillis(frame.getTimestamp())
                 .build();
     }
 
+    /**
+     * Prices are carried at the symbol's tick precision when it is known, so every
+     * tick of a symbol shares one scale; otherwise the precision seen on the wire
+     * is kept.
+     */
+    private int priceScaleOf(String symbol, int observedScale) {
+        SymbolPrecision precision = symbolDetailsService.getPrecision(ExchangeType.BYBIT, symbol);
+        return precision != null ? precision.getTickScale() : observedScale;
+    }
+
     private String toJsonArray(List<String> list) {
         try {
             return objectMapper.writeValueAsString(list);
@@ -224,7 +435,34 @@ public class MarketDataService {
         return tickerCache.get(symbol);
     }
 
-    public Flux<TickerUpdate> getTickerStream() {
-        return tickerSink.asFlux();
+    /**
+     * Ticker updates for one internal subscriber, queued and dropped
+     * independently of the other subscribers; see {@link TickerHub}.
+     *
+     * @param symbols Symbols to receive; empty for all symbols
+     */
+    public Flux<TickerUpdate> getTickerStream(String subscriber, TickerHub.Overflow overflow, int capacity,
+            Collection<String> symbols) {
+        return tickerHub.subscribe(subscriber, overflow, capacity, symbols);
+    }
+
+    /**
+     * One WebSocket connection of the public stream.
+     */
+    static final class Shard {
+        private final int id;
+        // Payload bytes and decoders; confined to the connection's receive thread
+        private byte[] scratch = new byte[4096];
+        private final BybitTickerDecoder tickerDecoder = new BybitTickerDecoder();
+        private final BybitOrderBookDecoder orderBookDecoder = new BybitOrderBookDecoder();
+        private Disposable connection;
+        // Ops for the live session; null while disconnected. Guarded by the shard
+        private Sinks.Many<String> outbound;
+        // Topics the live session was sent a subscribe for. Guarded by the shard
+        private final Set<String> subscribed = new HashSet<>();
+
+        Shard(int id) {
+            this.id = id;
+        }
     }
 }
@@ -1,11 +1,13 @@
 package com.cryptobot.service;
 
-import com.cryptobot.adapter.ExchangeAdapter;
 import com.cryptobot.adapter.ExchangeAdapterFactory;
+import com.cryptobot.adapter.ExchangeType;
 import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.BatchOrderResult;
 import com.cryptobot.domain.model.Order;
-import com.cryptobot.domain.model.SymbolDetails;
+import com.cryptobot.domain.model.SymbolPrecision;
 import com.cryptobot.domain.vo.OrderStatus;
+import com.cryptobot.repository.JdbcExecutor;
 import com.cryptobot.repository.OrderRepository;
 import com.cryptobot.repository.entity.OrderEntity;
 import com.cryptobot.service.mapper.OrderMapper;
@@ -13,13 +15,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,6 +38,7 @@ public class OrderService {
     private final ExchangeAdapterFactory adapterFactory;
     private final SymbolDetailsService symbolDetailsService;
     private final CopyTradingService copyTradingService;
+    private final JdbcExecutor jdbcExecutor;
 
     public OrderService(
             OrderRepository orderRepository,
@@ -38,27 +46,51 @@ public class OrderService {
             ApiKeyService apiKeyService,
             ExchangeAdapterFactory adapterFactory,
             SymbolDetailsService symbolDetailsService,
-            @Lazy CopyTradingService copyTradingService) {
+            @Lazy CopyTradingService copyTradingService,
+            JdbcExecutor jdbcExecutor) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
         this.apiKeyService = apiKeyService;
         this.adapterFactory = adapterFactory;
         this.symbolDetailsService = symbolDetailsService;
         this.copyTradingService = copyTradingService;
+        this.jdbcExecutor = jdbcExecutor;
     }
 
-    @Transactional
+    /**
+     * Places an order on the exchange and stores it. Key lookups and the
+     * insert run on the JDBC scheduler; the exchange call does not hold a
+     * connection or transaction.
+     */
     public Mono<Order> placeOrder(Long userId, Order orderRequest) {
-        ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, orderRequest.getExchangeType());
-        ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(apiKeyModel);
-        ExchangeAdapter adapter = adapterFactory.getAdapter(orderRequest.getExchangeType());
+        return jdbcExecutor.read(() -> {
+            ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, orderRequest.getExchangeType());
+            ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(apiKeyModel);
+            SymbolPrecision precision = symbolDetailsService.getPrecision(orderRequest.getExchangeType(),
+                    orderRequest.getSymbol());
+            prepare(userId, orderRequest, apiKeyModel, precision);
+            return new Prepared(apiKeyModel, credentials);
+        }).flatMap(prepared -> submit(prepared.apiKey(), prepared.credentials(), orderRequest));
+    }
 
-        // 1. Validate against symbol details
-        SymbolDetails details = symbolDetailsService.getDetails(orderRequest.getExchangeType(),
-                orderRequest.getSymbol());
+    /**
+     * Places an order of the key's user with a key, credentials and symbol
+     * precision the caller already resolved, as the copy-trading fan-out does
+     * once for a whole burst of mirrored orders. A validation failure is
+     * signalled as an error.
+     */
+    public Mono<Order> placePreparedOrder(ApiKey apiKeyModel, ApiKeyService.Credentials credentials, Order order,
+            SymbolPrecision precision) {
+        return Mono.fromCallable(() -> {
+            prepare(apiKeyModel.getUserId(), order, apiKeyModel, precision);
+            return order;
+        }).flatMap(prepared -> submit(apiKeyModel, credentials, prepared));
+    }
 
-        if (details != null) {
-            validateAndNormalizeOrder(orderRequest, details);
+    private void prepare(Long userId, Order orderRequest, ApiKey apiKeyModel, SymbolPrecision precision) {
+        // 1. Validate against symbol precision
+        if (precision != null) {
+            validateAndNormalizeOrder(orderRequest, precision);
         }
 
         // 2. Prepare domain model with required IDs
@@ -66,72 +98,225 @@ public class OrderService {
         orderRequest.setApiKeyId(apiKeyModel.getId());
         orderRequest.setStatus(OrderStatus.NEW);
         orderRequest.setCreatedAt(LocalDateTime.now());
+    }
 
-        return adapter.placeOrder(credentials.apiKey(), credentials.apiSecret(), orderRequest)
-                .flatMap(placedOrder -> {
+    private Mono<Order> submit(ApiKey apiKeyModel, ApiKeyService.Credentials credentials, Order orderRequest) {
+        return adapterFactory.getAdapter(orderRequest.getExchangeType())
+                .placeOrder(credentials.apiKey(), credentials.apiSecret(), orderRequest)
+                .flatMap(placedOrder -> jdbcExecutor.write(() -> {
                     // Update API key usage
                     apiKeyService.markAsUsed(apiKeyModel.getId());
 
                     // Save to database
                     OrderEntity entity = orderMapper.toEntity(placedOrder);
-                    Order result = orderMapper.toDomain(orderRepository.save(entity));
-
-                    // 3. Mirror trade to followers (async)
-                    copyTradingService.mirrorTrade(result);
-
-                    return Mono.just(result);
-                })
+                    return orderMapper.toDomain(orderRepository.save(entity));
+                }))
+                // 3. Mirror trade to followers (async)
+                .doOnNext(copyTradingService::mirrorTrade)
                 .doOnError(e -> log.error("Failed to place order: {}", e.getMessage()));
     }
 
-    @Transactional
     public Mono<Order> cancelOrder(Long userId, Long orderId) {
-        OrderEntity entity = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderStatusException("Order not found: " + orderId));
-
-        if (entity.getUserId() != userId) {
-            throw new OrderStatusException("Unauthorized access to order");
-        }
+        return jdbcExecutor.read(() -> {
+            OrderEntity entity = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new OrderStatusException("Order not found: " + orderId));
 
-        Order domainOrder = orderMapper.toDomain(entity);
-        if (!domainOrder.isCancellable()) {
-            throw new OrderStatusException("Order is in terminal state and cannot be cancelled");
-        }
+            if (entity.getUserId() != userId) {
+                throw new OrderStatusException("Unauthorized access to order");
+            }
 
-        ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, entity.getExchangeType());
-        ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(apiKeyModel);
-        ExchangeAdapter adapter = adapterFactory.getAdapter(entity.getExchangeType());
+            Order domainOrder = orderMapper.toDomain(entity);
+            if (!domainOrder.isCancellable()) {
+                throw new OrderStatusException("Order is in terminal state and cannot be cancelled");
+            }
 
-        return adapter.cancelOrder(credentials.apiKey(), credentials.apiSecret(), domainOrder)
-                .flatMap(cancelledOrder -> {
+            ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, entity.getExchangeType());
+            return new Cancellation(entity, domainOrder, apiKeyService.getDecryptedCredentials(apiKeyModel));
+        }).flatMap(cancellation -> adapterFactory.getAdapter(cancellation.entity().getExchangeType())
+                .cancelOrder(cancellation.credentials().apiKey(), cancellation.credentials().apiSecret(),
+                        cancellation.order())
+                .flatMap(cancelledOrder -> jdbcExecutor.write(() -> {
+                    OrderEntity entity = cancellation.entity();
                     entity.setStatus(OrderStatus.CANCELLED);
                     entity.setUpdatedAt(LocalDateTime.now());
-                    return Mono.just(orderMapper.toDomain(orderRepository.save(entity)));
-                });
+                    return orderMapper.toDomain(orderRepository.save(entity));
+                })));
+    }
+
+    /**
+     * Places several orders of one exchange in as few exchange requests as
+     * the adapter can pack them into. Orders failing validation are reported
+     * without being sent, and one rejected order does not fail the others.
+     * The placed orders are stored in one transaction and mirrored to
+     * followers like single placements.
+     *
+     * @return One result per order, in request order
+     */
+    public Mono<List<BatchOrderResult>> placeOrders(Long userId, List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        ExchangeType exchangeType = orders.get(0).getExchangeType();
+        if (orders.stream().anyMatch(order -> order.getExchangeType() != exchangeType)) {
+            return Mono.error(new IllegalArgumentException("All orders of a batch must target one exchange"));
+        }
+        BatchOrderResult[] results = new BatchOrderResult[orders.size()];
+        List<Integer> sent = new ArrayList<>();
+
+        return jdbcExecutor.read(() -> {
+            ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, exchangeType);
+            ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(apiKeyModel);
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                try {
+                    prepare(userId, order, apiKeyModel,
+                            symbolDetailsService.getPrecision(exchangeType, order.getSymbol()));
+                    sent.add(i);
+                } catch (IllegalArgumentException e) {
+                    results[i] = BatchOrderResult.failure(i, order, "VALIDATION_ERROR", e.getMessage());
+                }
+            }
+            return new Prepared(apiKeyModel, credentials);
+        }).flatMap(prepared -> {
+            if (sent.isEmpty()) {
+                return Mono.just(List.<BatchOrderResult>of());
+            }
+            List<Order> toSend = sent.stream().map(orders::get).collect(Collectors.toList());
+            return adapterFactory.getAdapter(exchangeType)
+                    .placeOrders(prepared.credentials().apiKey(), prepared.credentials().apiSecret(), toSend)
+                    .flatMap(placed -> jdbcExecutor.write(() -> {
+                        apiKeyService.markAsUsed(prepared.apiKey().getId());
+                        List<OrderEntity> entities = placed.stream()
+                                .filter(BatchOrderResult::isSuccess)
+                                .map(result -> orderMapper.toEntity(result.getOrder()))
+                                .collect(Collectors.toList());
+                        Iterator<OrderEntity> stored = orderRepository.saveAll(entities).iterator();
+                        for (BatchOrderResult result : placed) {
+                            if (result.isSuccess()) {
+                                result.setOrder(orderMapper.toDomain(stored.next()));
+                            }
+                        }
+                        return placed;
+                    }));
+        }).map(placed -> {
+            for (BatchOrderResult result : placed) {
+                int index = sent.get(result.getIndex());
+                result.setIndex(index);
+                results[index] = result;
+                if (result.isSuccess()) {
+                    copyTradingService.mirrorTrade(result.getOrder());
+                }
+            }
+            return Arrays.asList(results);
+        }).doOnError(e -> log.error("Failed to place order batch: {}", e.getMessage()));
+    }
+
+    /**
+     * Cancels several orders, grouped per exchange into as few exchange
+     * requests as the adapter can pack them into. Orders that are unknown,
+     * belong to another user or are already terminal are reported without
+     * being sent. The cancelled orders are updated in one transaction.
+     *
+     * @return One result per order id, in request order
+     */
+    public Mono<List<BatchOrderResult>> cancelOrders(Long userId, List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        BatchOrderResult[] results = new BatchOrderResult[orderIds.size()];
+
+        return jdbcExecutor.read(() -> {
+            Map<Long, OrderEntity> entities = orderRepository.findAllById(orderIds).stream()
+                    .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+            Map<ExchangeType, List<Integer>> byExchange = new EnumMap<>(ExchangeType.class);
+            for (int i = 0; i < orderIds.size(); i++) {
+                OrderEntity entity = entities.get(orderIds.get(i));
+                Order requested = entity != null ? orderMapper.toDomain(entity)
+                        : Order.builder().id(orderIds.get(i)).build();
+                if (entity == null) {
+                    results[i] = BatchOrderResult.failure(i, requested, "NOT_FOUND", "Order not found");
+                } else if (!userId.equals(entity.getUserId())) {
+                    results[i] = BatchOrderResult.failure(i, requested, "UNAUTHORIZED",
+                            "Unauthorized access to order");
+                } else if (!requested.isCancellable()) {
+                    results[i] = BatchOrderResult.failure(i, requested, "NOT_CANCELLABLE",
+                            "Order is in terminal state and cannot be cancelled");
+                } else {
+                    results[i] = BatchOrderResult.success(i, requested);
+                    byExchange.computeIfAbsent(entity.getExchangeType(), type -> new ArrayList<>()).add(i);
+                }
+            }
+            List<CancelGroup> groups = new ArrayList<>();
+            byExchange.forEach((exchangeType, indexes) -> {
+                ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, exchangeType);
+                groups.add(new CancelGroup(exchangeType, indexes, apiKeyService.getDecryptedCredentials(apiKeyModel)));
+            });
+            return groups;
+        }).flatMapMany(Flux::fromIterable)
+                .concatMap(group -> {
+                    List<Order> toCancel = group.indexes().stream()
+                            .map(i -> results[i].getOrder())
+                            .collect(Collectors.toList());
+                    return adapterFactory.getAdapter(group.exchangeType())
+                            .cancelOrders(group.credentials().apiKey(), group.credentials().apiSecret(), toCancel)
+                            .flatMapIterable(cancelled -> {
+                                for (BatchOrderResult result : cancelled) {
+                                    int index = group.indexes().get(result.getIndex());
+                                    if (!result.isSuccess()) {
+                                        result.setOrder(results[index].getOrder());
+                                    }
+                                    result.setIndex(index);
+                                    results[index] = result;
+                                }
+                                return cancelled;
+                            });
+                })
+                .filter(BatchOrderResult::isSuccess)
+                .collectList()
+                .flatMap(cancelled -> cancelled.isEmpty() ? Mono.just(List.<BatchOrderResult>of())
+                        : jdbcExecutor.write(() -> {
+                            LocalDateTime now = LocalDateTime.now();
+                            Map<Long, OrderEntity> byId = orderRepository.findAllById(cancelled.stream()
+                                    .map(result -> orderIds.get(result.getIndex()))
+                                    .collect(Collectors.toList())).stream()
+                                    .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+                            List<OrderEntity> entities = new ArrayList<>(cancelled.size());
+                            for (BatchOrderResult result : cancelled) {
+                                OrderEntity entity = byId.get(orderIds.get(result.getIndex()));
+                                entity.setStatus(OrderStatus.CANCELLED);
+                                entity.setUpdatedAt(now);
+                                entities.add(entity);
+                                result.setOrder(orderMapper.toDomain(entity));
+                            }
+                            orderRepository.saveAll(entities);
+                            return cancelled;
+                        }))
+                .map(cancelled -> Arrays.asList(results))
+                .doOnError(e -> log.error("Failed to cancel order batch: {}", e.getMessage()));
     }
 
-    private void validateAndNormalizeOrder(Order order, SymbolDetails details) {
+    /**
+     * Validates and normalizes an order in fixed-point units. The quantity is
+     * truncated to the base precision first and the limits are checked against
+     * the quantity that will actually be sent.
+     */
+    private void validateAndNormalizeOrder(Order order, SymbolPrecision precision) {
+        long quantity = precision.quantityToUnits(order.getQuantity(), RoundingMode.DOWN);
+
         // Validate Min/Max Qty
-        if (order.getQuantity().compareTo(details.getMinQuantity()) < 0) {
-            throw new IllegalArgumentException("Quantity too small. Minimum is " + details.getMinQuantity());
+        if (quantity < precision.getMinQuantityUnits()) {
+            throw new IllegalArgumentException("Quantity too small. Minimum is " + precision.getMinQuantity());
         }
-        if (details.getMaxQuantity() != null && order.getQuantity().compareTo(details.getMaxQuantity()) > 0) {
-            throw new IllegalArgumentException("Quantity too large. Maximum is " + details.getMaxQuantity());
+        if (quantity > precision.getMaxQuantityUnits()) {
+            throw new IllegalArgumentException("Quantity too large. Maximum is " + precision.getMaxQuantity());
         }
 
         // Normalize precision
-        order.setQuantity(order.getQuantity().setScale(details.getBasePrecision(), RoundingMode.DOWN));
+        order.setQuantity(precision.quantityToBigDecimal(quantity));
 
         if (order.isLimitOrder() && order.getPrice() != null) {
-            order.setPrice(order.getPrice().setScale(details.getQuotePrecision(), RoundingMode.HALF_UP));
-
-            // Validate against tick size (simplified: just rounding to tick size)
-            if (details.getTickSize() != null && details.getTickSize().compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal roundedPrice = order.getPrice()
-                        .divide(details.getTickSize(), 0, RoundingMode.HALF_UP)
-                        .multiply(details.getTickSize());
-                order.setPrice(roundedPrice);
-            }
+            // Round to quote precision, then to the tick size
+            order.setPrice(precision.priceToBigDecimal(precision.normalizePrice(order.getPrice())));
         }
     }
 
@@ -147,6 +332,16 @@ public class OrderService {
                 .orElseThrow(() -> new OrderStatusException("Order not found: " + orderId));
     }
 
+    private record Prepared(ApiKey apiKey, ApiKeyService.Credentials credentials) {
+    }
+
+    private record CancelGroup(ExchangeType exchangeType, List<Integer> indexes,
+            ApiKeyService.Credentials credentials) {
+    }
+
+    private record Cancellation(OrderEntity entity, Order order, ApiKeyService.Credentials credentials) {
+    }
+
     private static class OrderStatusException extends RuntimeException {
         public OrderStatusException(String message) {
             super(message);
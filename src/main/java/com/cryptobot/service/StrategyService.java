@@ -1,6 +1,7 @@
 package com.cryptobot.service;
 
 import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyMetrics;
 import com.cryptobot.domain.model.StrategyStatus;
 import com.cryptobot.repository.StrategyRepository;
 import com.cryptobot.repository.entity.StrategyEntity;
@@ -61,6 +62,13 @@ public class StrategyService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Execution metrics of a running strategy, or null when it is not active
+     */
+    public StrategyMetrics getMetrics(Long strategyId) {
+        return strategyExecutor.getMetrics(strategyId);
+    }
+
     public Strategy getStrategy(Long strategyId) {
         return strategyRepository.findById(strategyId)
                 .map(strategyMapper::toDomain)
@@ -0,0 +1,126 @@
+package com.cryptobot.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reference-counted topics of the public stream (tickers, order books) and
+ * their placement on WebSocket connections.
+ * <p>
+ * Each holder (a strategy, a streaming client, the configured topics) holds a
+ * set of topics; a topic stays subscribed while any holder holds it. A newly
+ * needed topic goes to the lowest shard with room, so shards fill up before a
+ * new connection is opened, and a topic stays on its shard until released.
+ * Every change returns the subscribe/unsubscribe ops it needs per shard.
+ * <p>
+ * Not tied to any session; {@link MarketDataService} applies the ops.
+ */
+final class StreamTopics {
+
+    static final String TICKER_PREFIX = "ticker.";
+    static final String ORDER_BOOK_PREFIX = "orderbook.";
+
+    /**
+     * Topics to subscribe or unsubscribe on one shard.
+     */
+    record ShardOp(int shard, boolean subscribe, List<String> topics) {
+    }
+
+    private final int topicsPerShard;
+
+    private final Map<String, Set<String>> holders = new HashMap<>();
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    private final Map<String, Integer> shardOf = new HashMap<>();
+    private final List<Set<String>> shards = new ArrayList<>();
+
+    StreamTopics(int topicsPerShard) {
+        if (topicsPerShard <= 0) {
+            throw new IllegalArgumentException("Topics per connection must be positive");
+        }
+        this.topicsPerShard = topicsPerShard;
+    }
+
+    /**
+     * Sets the topics a holder needs, replacing what it held before.
+     */
+    synchronized List<ShardOp> hold(String holder, Collection<String> topics) {
+        Set<String> held = new LinkedHashSet<>(topics);
+        Set<String> previous = held.isEmpty() ? holders.remove(holder) : holders.put(holder, held);
+        if (previous == null) {
+            previous = Set.of();
+        }
+
+        Map<Integer, List<String>> subscribe = new LinkedHashMap<>();
+        Map<Integer, List<String>> unsubscribe = new LinkedHashMap<>();
+        // Releases first, so the slots they free can take this holder's new topics
+        for (String topic : previous) {
+            if (!held.contains(topic) && refCounts.merge(topic, -1, Integer::sum) == 0) {
+                refCounts.remove(topic);
+                int shard = shardOf.remove(topic);
+                shards.get(shard).remove(topic);
+                unsubscribe.computeIfAbsent(shard, s -> new ArrayList<>()).add(topic);
+            }
+        }
+        for (String topic : held) {
+            if (!previous.contains(topic) && refCounts.merge(topic, 1, Integer::sum) == 1) {
+                int shard = place(topic);
+                subscribe.computeIfAbsent(shard, s -> new ArrayList<>()).add(topic);
+            }
+        }
+
+        List<ShardOp> ops = new ArrayList<>();
+        unsubscribe.forEach((shard, list) -> ops.add(new ShardOp(shard, false, list)));
+        subscribe.forEach((shard, list) -> ops.add(new ShardOp(shard, true, list)));
+        return ops;
+    }
+
+    synchronized List<ShardOp> release(String holder) {
+        return hold(holder, List.of());
+    }
+
+    private int place(String topic) {
+        int shard = 0;
+        while (shard < shards.size() && shards.get(shard).size() >= topicsPerShard) {
+            shard++;
+        }
+        if (shard == shards.size()) {
+            shards.add(new LinkedHashSet<>());
+        }
+        shards.get(shard).add(topic);
+        shardOf.put(topic, shard);
+        return shard;
+    }
+
+    /**
+     * Topics a shard's connection should be subscribed to, as sent on (re)connect.
+     */
+    synchronized List<String> topicsOf(int shard) {
+        if (shard >= shards.size()) {
+            return List.of();
+        }
+        return List.copyOf(shards.get(shard));
+    }
+
+    /**
+     * Symbols of the held topics with the given prefix, e.g. {@link #TICKER_PREFIX}.
+     */
+    synchronized Set<String> symbols(String prefix) {
+        Set<String> symbols = new LinkedHashSet<>();
+        for (String topic : refCounts.keySet()) {
+            if (topic.startsWith(prefix)) {
+                symbols.add(topic.substring(topic.lastIndexOf('.') + 1));
+            }
+        }
+        return symbols;
+    }
+
+    synchronized int refCount(String topic) {
+        return refCounts.getOrDefault(topic, 0);
+    }
+}
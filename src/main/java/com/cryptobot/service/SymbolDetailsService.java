@@ -4,6 +4,7 @@ import com.cryptobot.adapter.ExchangeAdapter;
 import com.cryptobot.adapter.ExchangeAdapterFactory;
 import com.cryptobot.adapter.ExchangeType;
 import com.cryptobot.domain.model.SymbolDetails;
+import com.cryptobot.domain.model.SymbolPrecision;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -32,6 +33,9 @@ public class SymbolDetailsService {
     // Cache: ExchangeType -> Map<Symbol, SymbolDetails>
     private final Map<ExchangeType, Map<String, SymbolDetails>> cache = new ConcurrentHashMap<>();
 
+    // Cache: ExchangeType -> Map<Symbol, SymbolPrecision> (fixed-point view used on the hot path)
+    private final Map<ExchangeType, Map<String, SymbolPrecision>> precisionCache = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
         refreshCache();
@@ -52,6 +56,7 @@ public class SymbolDetailsService {
                             Map<String, SymbolDetails> symbolMap = details.stream()
                                     .collect(Collectors.toMap(SymbolDetails::getSymbol, Function.identity()));
                             cache.put(type, symbolMap);
+                            precisionCache.put(type, buildPrecisions(details));
                             log.info("Cached {} symbols for {}", symbolMap.size(), type);
                         })
                         .subscribe(null, error -> log.error("Failed to refresh symbol cache for {}: {}", type,
@@ -66,4 +71,24 @@ public class SymbolDetailsService {
         Map<String, SymbolDetails> symbolMap = cache.getOrDefault(exchangeType, Collections.emptyMap());
         return symbolMap.get(symbol);
     }
+
+    /**
+     * Get the fixed-point precision of a symbol, or null if the symbol is unknown.
+     */
+    public SymbolPrecision getPrecision(ExchangeType exchangeType, String symbol) {
+        Map<String, SymbolPrecision> symbolMap = precisionCache.getOrDefault(exchangeType, Collections.emptyMap());
+        return symbolMap.get(symbol);
+    }
+
+    private Map<String, SymbolPrecision> buildPrecisions(List<SymbolDetails> details) {
+        Map<String, SymbolPrecision> precisions = new ConcurrentHashMap<>();
+        for (SymbolDetails detail : details) {
+            try {
+                precisions.put(detail.getSymbol(), SymbolPrecision.of(detail));
+            } catch (ArithmeticException e) {
+                log.warn("Skipping fixed-point precision for {}: {}", detail.getSymbol(), e.getMessage());
+            }
+        }
+        return precisions;
+    }
 }
@@ -0,0 +1,239 @@
+package com.cryptobot.service;
+
+import com.cryptobot.domain.model.TickerSubscriberMetrics;
+import com.cryptobot.domain.model.TickerUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans ticker updates out to internal subscribers.
+ * <p>
+ * Every subscriber gets its own bounded queue, drained as fast as it
+ * requests, and an {@link Overflow} policy for when it falls behind, so a
+ * slow subscriber only loses its own updates. A subscriber may ask for a set
+ * of symbols; a tick is routed only to the subscribers of its symbol and to
+ * those that asked for all symbols. Updates offered to, delivered to and
+ * dropped for each subscriber are counted in {@link #metrics()}.
+ * <p>
+ * Publishing never waits: it runs on the market data receive thread, which
+ * also decodes order books, so a full queue always gives up an update.
+ */
+@Slf4j
+@Component
+public class TickerHub {
+
+    /**
+     * What a full subscriber queue does with a new update.
+     */
+    public enum Overflow {
+        // Keep the latest update per symbol: a newer tick replaces a queued one of
+        // its symbol, and a new symbol evicts the oldest queued symbol
+        CONFLATE_LATEST,
+        // Evict the oldest queued update
+        DROP_OLDEST
+    }
+
+    private final List<Subscriber> allSymbols = new CopyOnWriteArrayList<>();
+    private final Map<String, List<Subscriber>> bySymbol = new ConcurrentHashMap<>();
+
+    /**
+     * Routes an update to its subscribers. Never blocks.
+     */
+    public void publish(TickerUpdate update) {
+        for (Subscriber subscriber : allSymbols) {
+            subscriber.offer(update);
+        }
+        List<Subscriber> subscribers = bySymbol.get(update.getSymbol());
+        if (subscribers != null) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(update);
+            }
+        }
+    }
+
+    /**
+     * Stream of updates for one subscriber. Each subscription registers its own
+     * queue, which is removed again on cancel.
+     *
+     * @param name     Subscriber name reported in the metrics
+     * @param capacity Updates queued before the overflow policy applies
+     * @param symbols  Symbols to receive; empty for all symbols
+     */
+    public Flux<TickerUpdate> subscribe(String name, Overflow overflow, int capacity, Collection<String> symbols) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Subscriber capacity must be positive");
+        }
+        Set<String> filter = Set.copyOf(symbols);
+        return Flux.create(sink -> {
+            Subscriber subscriber = new Subscriber(name, overflow, capacity, filter, sink);
+            sink.onRequest(n -> subscriber.drain());
+            sink.onDispose(() -> remove(subscriber));
+            add(subscriber);
+        });
+    }
+
+    private void add(Subscriber subscriber) {
+        if (subscriber.symbols.isEmpty()) {
+            allSymbols.add(subscriber);
+            return;
+        }
+        for (String symbol : subscriber.symbols) {
+            bySymbol.computeIfAbsent(symbol, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        allSymbols.remove(subscriber);
+        for (String symbol : subscriber.symbols) {
+            bySymbol.computeIfPresent(symbol, (s, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+        subscriber.close();
+    }
+
+    public List<TickerSubscriberMetrics> metrics() {
+        List<TickerSubscriberMetrics> metrics = new ArrayList<>();
+        allSymbols.forEach(subscriber -> metrics.add(subscriber.metrics()));
+        bySymbol.values().stream()
+                .flatMap(List::stream)
+                .distinct()
+                .forEach(subscriber -> metrics.add(subscriber.metrics()));
+        return metrics;
+    }
+
+    /**
+     * One subscription's queue. Offers and polls hold the subscriber's lock;
+     * delivery happens outside it, in a work-in-progress loop run by whichever
+     * thread offered or requested, so delivery is serialized without the
+     * publisher waiting on a slow subscriber's downstream.
+     */
+    private final class Subscriber {
+        private final String name;
+        private final Overflow overflow;
+        private final int capacity;
+        private final Set<String> symbols;
+        private final FluxSink<TickerUpdate> sink;
+
+        // CONFLATE_LATEST keys the queue by symbol, DROP_OLDEST keeps every update
+        private final LinkedHashMap<String, TickerUpdate> latest = new LinkedHashMap<>();
+        private final ArrayDeque<TickerUpdate> queue = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private boolean closed;
+
+        private final LongAdder emitted = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        private Subscriber(String name, Overflow overflow, int capacity, Set<String> symbols,
+                FluxSink<TickerUpdate> sink) {
+            this.name = name;
+            this.overflow = overflow;
+            this.capacity = capacity;
+            this.symbols = symbols;
+            this.sink = sink;
+        }
+
+        void offer(TickerUpdate update) {
+            emitted.increment();
+            if (!enqueue(update)) {
+                dropped.increment();
+            }
+            drain();
+        }
+
+        private synchronized boolean enqueue(TickerUpdate update) {
+            if (closed) {
+                return false;
+            }
+            switch (overflow) {
+                case CONFLATE_LATEST -> {
+                    boolean full = !latest.containsKey(update.getSymbol()) && latest.size() >= capacity;
+                    if (full) {
+                        Iterator<TickerUpdate> eldest = latest.values().iterator();
+                        eldest.next();
+                        eldest.remove();
+                    }
+                    // Replacing keeps the symbol's place in line
+                    return latest.put(update.getSymbol(), update) == null && !full;
+                }
+                default -> {
+                    boolean full = queue.size() >= capacity;
+                    if (full) {
+                        queue.pollFirst();
+                    }
+                    queue.addLast(update);
+                    return !full;
+                }
+            }
+        }
+
+        private synchronized TickerUpdate poll() {
+            if (overflow == Overflow.CONFLATE_LATEST) {
+                Iterator<TickerUpdate> eldest = latest.values().iterator();
+                if (!eldest.hasNext()) {
+                    return null;
+                }
+                TickerUpdate update = eldest.next();
+                eldest.remove();
+                return update;
+            }
+            return queue.pollFirst();
+        }
+
+        private synchronized int size() {
+            return overflow == Overflow.CONFLATE_LATEST ? latest.size() : queue.size();
+        }
+
+        private synchronized void close() {
+            closed = true;
+            latest.clear();
+            queue.clear();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (sink.requestedFromDownstream() > 0 && !sink.isCancelled()) {
+                    TickerUpdate update = poll();
+                    if (update == null) {
+                        break;
+                    }
+                    sink.next(update);
+                    delivered.increment();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        TickerSubscriberMetrics metrics() {
+            return TickerSubscriberMetrics.builder()
+                    .name(name)
+                    .overflow(overflow.name())
+                    .capacity(capacity)
+                    .symbols(symbols)
+                    .queued(size())
+                    .emitted(emitted.sum())
+                    .delivered(delivered.sum())
+                    .dropped(dropped.sum())
+                    .build();
+        }
+    }
+}
@@ -6,16 +6,30 @@ import com.cryptobot.adapter.ExchangeType;
 import com.cryptobot.domain.model.ApiKey;
 import com.cryptobot.domain.model.Trade;
 import com.cryptobot.domain.vo.Symbol;
+import com.cryptobot.repository.ExecutionWatermarkRepository;
+import com.cryptobot.repository.JdbcExecutor;
+import com.cryptobot.repository.OrderRepository;
 import com.cryptobot.repository.TradeRepository;
+import com.cryptobot.repository.entity.ExecutionWatermarkEntity;
+import com.cryptobot.repository.entity.OrderEntity;
 import com.cryptobot.repository.entity.TradeEntity;
 import com.cryptobot.service.mapper.TradeMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,30 +40,142 @@ public class TradeService {
     private final TradeMapper tradeMapper;
     private final ApiKeyService apiKeyService;
     private final ExchangeAdapterFactory adapterFactory;
+    private final JdbcExecutor jdbcExecutor;
+    private final OrderRepository orderRepository;
+    private final ExecutionWatermarkRepository watermarkRepository;
 
-    @Transactional
-    public Mono<List<Trade>> syncTradeHistory(Long userId, ExchangeType exchangeType, String symbolValue, int limit) {
-        ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, exchangeType);
-        ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(apiKeyModel);
+    @Value("${app.sync.executions.initial-lookback-days:7}")
+    private int initialLookbackDays = 7;
+
+    @Value("${app.sync.executions.batch-size:500}")
+    private int batchSize = 500;
+
+    // How long an execution of an unknown order may still belong to an order being stored
+    @Value("${app.sync.executions.unknown-order-grace-ms:300000}")
+    private long unknownOrderGraceMillis = 300_000;
+
+    /**
+     * Stores the executions of a symbol made since the last sync of the
+     * active API key and returns the ones that were new. The first sync looks
+     * back {@code app.sync.executions.initial-lookback-days}.
+     * <p>
+     * Executions are written in batches of
+     * {@code app.sync.executions.batch-size}: one query resolves the local
+     * order ids of a batch, one query finds its executions that are already
+     * stored, and one JDBC batch inserts the rest. The watermark moves to the
+     * newest execution time only after every batch is stored, so a failed sync
+     * is retried from the same point; the boundary execution is fetched again
+     * and ignored.
+     * <p>
+     * Executions of orders not placed through this application are skipped.
+     * An unknown order younger than
+     * {@code app.sync.executions.unknown-order-grace-ms} may still be on its
+     * way into the database, so the watermark stops just before its earliest
+     * such execution and the next sync fetches it again.
+     */
+    public Mono<List<Trade>> syncTradeHistory(Long userId, ExchangeType exchangeType, String symbolValue) {
         ExchangeAdapter adapter = adapterFactory.getAdapter(exchangeType);
         Symbol symbol = new Symbol(symbolValue);
 
-        return adapter.getExecutionHistory(credentials.apiKey(), credentials.apiSecret(), symbol, limit)
-                .map(trade -> {
-                    TradeEntity entity = tradeMapper.toEntity(trade);
-                    entity.setUserId(userId);
-
-                    // Prevent duplicates using unique constraint in DB
-                    try {
-                        return tradeRepository.save(entity);
-                    } catch (Exception e) {
-                        log.debug("Trade already exists: {}", trade.getExchangeTradeId());
-                        return null;
-                    }
+        return jdbcExecutor.read(() -> {
+                    ApiKey apiKeyModel = apiKeyService.getActiveKey(userId, exchangeType);
+                    long since = watermarkRepository.findByApiKeyIdAndSymbol(apiKeyModel.getId(), symbol.getValue())
+                            .map(ExecutionWatermarkEntity::getLastExecTime)
+                            .orElseGet(() -> System.currentTimeMillis()
+                                    - Duration.ofDays(initialLookbackDays).toMillis());
+                    return new SyncStart(apiKeyModel, since);
                 })
-                .filter(java.util.Objects::nonNull)
-                .map(tradeMapper::toDomain)
-                .collectList();
+                .flatMap(start -> {
+                    ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(start.apiKey());
+                    AtomicLong newest = new AtomicLong(start.since());
+                    // Earliest execution left for a later sync
+                    AtomicLong deferred = new AtomicLong(Long.MAX_VALUE);
+                    return adapter.getExecutionsSince(credentials.apiKey(), credentials.apiSecret(), symbol,
+                                    start.since())
+                            .doOnNext(trade -> {
+                                if (trade.getExecutedAt() != null) {
+                                    newest.accumulateAndGet(epochMillis(trade.getExecutedAt()), Math::max);
+                                }
+                            })
+                            .buffer(batchSize)
+                            .concatMap(batch -> jdbcExecutor.write(() -> store(userId, start.apiKey(), batch,
+                                    deferred)))
+                            .flatMapIterable(stored -> stored)
+                            .collectList()
+                            .flatMap(stored -> {
+                                long watermark = Math.min(newest.get(), deferred.get() - 1);
+                                return watermark > start.since()
+                                        ? jdbcExecutor.run(() -> advanceWatermark(start.apiKey().getId(),
+                                                symbol.getValue(), watermark)).thenReturn(stored)
+                                        : Mono.just(stored);
+                            });
+                });
+    }
+
+    private List<Trade> store(Long userId, ApiKey apiKeyModel, List<Trade> batch, AtomicLong deferred) {
+        Set<String> exchangeOrderIds = batch.stream()
+                .map(Trade::getExchangeOrderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Long> orderIds = orderRepository
+                .findByApiKeyIdAndExchangeOrderIdIn(apiKeyModel.getId(), exchangeOrderIds).stream()
+                .collect(Collectors.toMap(OrderEntity::getExchangeOrderId, OrderEntity::getId, (a, b) -> a));
+        // Batched rewrites report SUCCESS_NO_INFO for every row, skipped or not, so
+        // the rows that are new are told apart by the ids already stored
+        Set<String> known = new HashSet<>(tradeRepository.findStoredExchangeTradeIds(apiKeyModel.getExchangeType(),
+                batch.stream().map(Trade::getExchangeTradeId).collect(Collectors.toSet())));
+
+        long graceStart = System.currentTimeMillis() - unknownOrderGraceMillis;
+        List<TradeEntity> entities = new ArrayList<>(batch.size());
+        for (Trade trade : batch) {
+            Long orderId = orderIds.get(trade.getExchangeOrderId());
+            if (orderId == null) {
+                if (trade.getExecutedAt() != null && epochMillis(trade.getExecutedAt()) >= graceStart) {
+                    // A fill can arrive before the placement has stored its order
+                    log.debug("Deferring execution {} of order {} not stored yet", trade.getExchangeTradeId(),
+                            trade.getExchangeOrderId());
+                    deferred.accumulateAndGet(epochMillis(trade.getExecutedAt()), Math::min);
+                } else {
+                    log.debug("Skipping execution {} of unknown order {}", trade.getExchangeTradeId(),
+                            trade.getExchangeOrderId());
+                }
+                continue;
+            }
+            if (!known.add(trade.getExchangeTradeId())) {
+                continue;
+            }
+            TradeEntity entity = tradeMapper.toEntity(trade);
+            entity.setOrderId(orderId);
+            entity.setUserId(userId);
+            entities.add(entity);
+        }
+
+        // Still ignores conflicts, in case a concurrent sync stored one of them meanwhile
+        tradeRepository.insertIgnoringDuplicates(entities);
+        List<Trade> stored = new ArrayList<>(entities.size());
+        for (TradeEntity entity : entities) {
+            stored.add(tradeMapper.toDomain(entity));
+        }
+        return stored;
+    }
+
+    private void advanceWatermark(Long apiKeyId, String symbol, long lastExecTime) {
+        ExecutionWatermarkEntity watermark = watermarkRepository.findByApiKeyIdAndSymbol(apiKeyId, symbol)
+                .orElseGet(() -> ExecutionWatermarkEntity.builder()
+                        .apiKeyId(apiKeyId)
+                        .symbol(symbol)
+                        .build());
+        if (watermark.getLastExecTime() == null || watermark.getLastExecTime() < lastExecTime) {
+            watermark.setLastExecTime(lastExecTime);
+            watermarkRepository.save(watermark);
+        }
+    }
+
+    private static long epochMillis(LocalDateTime executedAt) {
+        return executedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record SyncStart(ApiKey apiKey, long since) {
     }
 
     public List<Trade> getTrades(Long userId) {
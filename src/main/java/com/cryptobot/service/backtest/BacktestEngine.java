@@ -0,0 +1,322 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.BacktestResult;
+import com.cryptobot.domain.model.BacktestTrade;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyStatus;
+import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.OrderType;
+import com.cryptobot.service.strategy.CompiledStrategy;
+import com.cryptobot.service.strategy.TradingStrategy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays a {@link CandleSeries} through a {@link TradingStrategy} and
+ * simulates the resulting fills against a cash and spot position account.
+ * <p>
+ * Each candle becomes synthetic {@link TickerUpdate}s (see
+ * {@link BacktestSettings.TickMode}) evaluated by the same compiled strategy
+ * the live executor would run. Price-driven strategies see every tick;
+ * scheduled strategies are evaluated at a candle's close once the simulated
+ * time reaches their next run. Market orders fill at the tick price moved
+ * against the order by the configured slippage, limit orders rest until a
+ * tick crosses their price and fill at it. Fills are instant, so the live
+ * in-flight guard has nothing to do here; the strategy learns each order's
+ * result before its next evaluation.
+ * <p>
+ * Accounting runs on doubles: a backtest reports approximate PnL and must
+ * replay millions of candles in seconds.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BacktestEngine {
+
+    private static final double PRICE_FACTOR = Math.pow(10, CandleSeries.PRICE_SCALE);
+    private static final int VOLUME_SCALE = 2;
+
+    // Simulated strategies get negative ids so per-id state never collides with live strategies
+    private static final AtomicLong SIMULATION_IDS = new AtomicLong();
+
+    private final Map<String, TradingStrategy<?>> strategyRegistry;
+
+    /**
+     * Runs a backtest of the strategy's type and parameters over the series.
+     * The given strategy is not modified.
+     *
+     * @throws IllegalArgumentException if the series is empty, the strategy
+     *                                  type is unknown or its parameters are
+     *                                  invalid
+     */
+    public BacktestResult run(Strategy strategy, CandleSeries series, BacktestSettings settings) {
+        if (series.size() == 0) {
+            throw new IllegalArgumentException("No candles to backtest");
+        }
+        TradingStrategy<?> logic = strategy.getType() != null ? strategyRegistry.get(strategy.getType().name()) : null;
+        if (logic == null) {
+            throw new IllegalArgumentException("No implementation found for strategy type: " + strategy.getType());
+        }
+
+        Strategy simulated = Strategy.builder()
+                .id(-SIMULATION_IDS.incrementAndGet())
+                .name(strategy.getName() != null ? strategy.getName() : "backtest")
+                .type(strategy.getType())
+                .status(StrategyStatus.ACTIVE)
+                .symbol(series.getSymbol())
+                .parameters(strategy.getParameters())
+                .build();
+        CompiledStrategy<?> compiled;
+        try {
+            compiled = CompiledStrategy.compile(simulated, logic);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid parameters for strategy " + simulated.getName() + ": "
+                    + e.getMessage(), e);
+        }
+
+        long start = System.nanoTime();
+        Simulation simulation = new Simulation(compiled, series, settings);
+        try {
+            simulation.replay();
+        } finally {
+            compiled.deactivate();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.debug("Backtest of {} on {} {} candles of {} finished in {} ms: {} trades", simulated.getType(),
+                series.size(), series.getInterval(), series.getSymbol(), elapsedMillis, simulation.tradeCount);
+        return simulation.result(elapsedMillis);
+    }
+
+    public BacktestResult run(Strategy strategy, CandleSeries series) {
+        return run(strategy, series, BacktestSettings.defaults());
+    }
+
+    private static final class Simulation {
+        private final CompiledStrategy<?> compiled;
+        private final Strategy strategy;
+        private final CandleSeries series;
+        private final BacktestSettings settings;
+        private final boolean scheduled;
+
+        private final double initialCapital;
+        private final double feeRate;
+        private final double slippage;
+
+        private double cash;
+        private double position;
+        private double averageCost;
+        private double fees;
+        private double peakEquity;
+        private double maxDrawdown;
+        private double maxDrawdownPct;
+        private long tradeCount;
+        private long rejectedOrders;
+        private long nextRunAt;
+        private final List<BacktestTrade> trades = new ArrayList<>();
+        private final List<Order> restingOrders = new ArrayList<>();
+
+        private long candleHigh;
+        private long candleLow;
+        private double candleVolume;
+
+        Simulation(CompiledStrategy<?> compiled, CandleSeries series, BacktestSettings settings) {
+            this.compiled = compiled;
+            this.strategy = compiled.getStrategy();
+            this.series = series;
+            this.settings = settings;
+            this.scheduled = compiled.isScheduled();
+            this.initialCapital = settings.getInitialCapital().doubleValue();
+            this.feeRate = settings.getFeeRate().doubleValue();
+            this.slippage = settings.getSlippageBps().doubleValue() / 10_000;
+            this.cash = initialCapital;
+            this.peakEquity = initialCapital;
+            this.nextRunAt = scheduled ? compiled.nextRunAt().toEpochMilli() : Long.MAX_VALUE;
+        }
+
+        void replay() {
+            long step = series.intervalMillis();
+            boolean ohlc = settings.getTickMode() == BacktestSettings.TickMode.OHLC;
+            for (int i = 0; i < series.size(); i++) {
+                long openTime = series.openTime(i);
+                long open = series.open(i);
+                long close = series.close(i);
+                candleHigh = series.high(i);
+                candleLow = series.low(i);
+                candleVolume = series.volume(i);
+
+                if (ohlc) {
+                    // A green candle most likely dipped before it rallied, a red one the reverse
+                    boolean up = close >= open;
+                    tick(open, openTime, false);
+                    tick(up ? candleLow : candleHigh, openTime + step / 3, false);
+                    tick(up ? candleHigh : candleLow, openTime + 2 * step / 3, false);
+                }
+                tick(close, openTime + step - 1, true);
+                markToMarket(close);
+            }
+        }
+
+        private void tick(long price, long time, boolean candleClose) {
+            if (!restingOrders.isEmpty()) {
+                fillRestingOrders(price, time);
+            }
+            if (scheduled && (!candleClose || time < nextRunAt)) {
+                return;
+            }
+            TickerUpdate ticker = TickerUpdate.builder()
+                    .symbol(series.getSymbol())
+                    .priceScale(CandleSeries.PRICE_SCALE)
+                    .lastPriceUnits(price)
+                    .highPrice24hUnits(candleHigh)
+                    .lowPrice24hUnits(candleLow)
+                    .volumeScale(VOLUME_SCALE)
+                    .volume24hUnits(Math.round(candleVolume * 100))
+                    .timestampMillis(time)
+                    .build();
+            Optional<Order> order = compiled.evaluate(ticker);
+            if (order.isPresent()) {
+                // Like the live executor, a triggered order marks the run whatever its outcome
+                strategy.setLastRunAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault()));
+                compiled.orderResult(order.get(), submit(order.get(), price, time));
+            }
+            if (scheduled) {
+                nextRunAt = Math.max(compiled.nextRunAt().toEpochMilli(), time + 1);
+            }
+        }
+
+        // Whether the order was placed: a market order that filled or a limit order now resting
+        private boolean submit(Order order, long price, long time) {
+            if (order.getQuantity() == null || order.getQuantity().signum() <= 0 || order.getSide() == null) {
+                rejectedOrders++;
+                return false;
+            }
+            if (order.getOrderType() == OrderType.LIMIT && order.getPrice() != null) {
+                restingOrders.add(order);
+                fillRestingOrders(price, time);
+                return true;
+            }
+            double fillPrice = price / PRICE_FACTOR;
+            fillPrice *= order.getSide() == OrderSide.BUY ? 1 + slippage : 1 - slippage;
+            return fill(order.getSide(), fillPrice, order.getQuantity().doubleValue(), time);
+        }
+
+        private void fillRestingOrders(long price, long time) {
+            double last = price / PRICE_FACTOR;
+            Iterator<Order> iterator = restingOrders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                double limit = order.getPrice().doubleValue();
+                boolean crossed = order.getSide() == OrderSide.BUY ? last <= limit : last >= limit;
+                if (crossed) {
+                    iterator.remove();
+                    fill(order.getSide(), limit, order.getQuantity().doubleValue(), time);
+                }
+            }
+        }
+
+        private boolean fill(OrderSide side, double price, double quantity, long time) {
+            double notional = price * quantity;
+            double fee = notional * feeRate;
+            double realizedPnl = 0;
+            if (side == OrderSide.BUY) {
+                if (notional + fee > cash) {
+                    rejectedOrders++;
+                    return false;
+                }
+                cash -= notional + fee;
+                averageCost = (position * averageCost + notional) / (position + quantity);
+                position += quantity;
+            } else {
+                // Spot only: no shorting, and selling more than is held is rejected
+                if (quantity > position * (1 + 1e-9)) {
+                    rejectedOrders++;
+                    return false;
+                }
+                quantity = Math.min(quantity, position);
+                notional = price * quantity;
+                fee = notional * feeRate;
+                cash += notional - fee;
+                realizedPnl = (price - averageCost) * quantity;
+                position -= quantity;
+                if (position <= 0) {
+                    position = 0;
+                    averageCost = 0;
+                }
+            }
+            fees += fee;
+            tradeCount++;
+            if (trades.size() < settings.getMaxTrades()) {
+                trades.add(BacktestTrade.builder()
+                        .time(Instant.ofEpochMilli(time))
+                        .side(side)
+                        .price(decimal(price))
+                        .quantity(decimal(quantity))
+                        .fee(decimal(fee))
+                        .realizedPnl(decimal(realizedPnl))
+                        .build());
+            }
+            return true;
+        }
+
+        private void markToMarket(long close) {
+            double equity = cash + position * (close / PRICE_FACTOR);
+            if (equity > peakEquity) {
+                peakEquity = equity;
+            } else if (peakEquity - equity > maxDrawdown) {
+                maxDrawdown = peakEquity - equity;
+                maxDrawdownPct = maxDrawdown / peakEquity * 100;
+            }
+        }
+
+        BacktestResult result(long elapsedMillis) {
+            int last = series.size() - 1;
+            double finalEquity = cash + position * (series.close(last) / PRICE_FACTOR);
+            double netProfit = finalEquity - initialCapital;
+            return BacktestResult.builder()
+                    .symbol(series.getSymbol())
+                    .interval(series.getInterval())
+                    .strategyType(strategy.getType())
+                    .candles(series.size())
+                    .from(Instant.ofEpochMilli(series.openTime(0)))
+                    .to(Instant.ofEpochMilli(series.openTime(last) + series.intervalMillis()))
+                    .initialCapital(settings.getInitialCapital())
+                    .finalEquity(decimal(finalEquity))
+                    .netProfit(decimal(netProfit))
+                    .returnPct(percent(initialCapital > 0 ? netProfit / initialCapital * 100 : 0))
+                    .maxDrawdown(decimal(maxDrawdown))
+                    .maxDrawdownPct(percent(maxDrawdownPct))
+                    .totalFees(decimal(fees))
+                    .finalPosition(decimal(position))
+                    .tradeCount(tradeCount)
+                    .rejectedOrders(rejectedOrders)
+                    .trades(trades)
+                    .tradesTruncated(tradeCount > trades.size())
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        }
+
+        private static BigDecimal decimal(double value) {
+            return BigDecimal.valueOf(value).setScale(CandleSeries.PRICE_SCALE, RoundingMode.HALF_UP);
+        }
+
+        private static BigDecimal percent(double value) {
+            return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+        }
+    }
+}
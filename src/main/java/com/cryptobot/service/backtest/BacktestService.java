@@ -0,0 +1,58 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.BacktestResult;
+import com.cryptobot.domain.model.OptimizationResult;
+import com.cryptobot.domain.model.Strategy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+
+/**
+ * Entry point for backtests and parameter sweeps: loads the candle history
+ * and replays it off the event loop (a bounded elastic thread for a single
+ * backtest, the optimizer's fork/join pool for a sweep).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BacktestService {
+
+    private final CandleSeriesLoader candleSeriesLoader;
+    private final BacktestEngine backtestEngine;
+    private final StrategyOptimizer strategyOptimizer;
+
+    /**
+     * Bybit kline history in {@code [from, to]}.
+     */
+    public Mono<CandleSeries> fetchHistory(String symbol, String interval, Instant from, Instant to) {
+        return candleSeriesLoader.fetch(symbol, interval, from.toEpochMilli(), to.toEpochMilli());
+    }
+
+    /**
+     * A CSV file in the backtest data directory.
+     */
+    public Mono<CandleSeries> loadFile(String dataFile, String symbol, String interval) {
+        return Mono.fromCallable(() -> candleSeriesLoader.load(dataFile, symbol, interval))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<BacktestResult> backtest(Strategy strategy, Mono<CandleSeries> series, BacktestSettings settings) {
+        return series
+                .publishOn(Schedulers.boundedElastic())
+                .map(candles -> backtestEngine.run(strategy, candles, settings))
+                .doOnNext(result -> log.info("Backtest of {} on {} {} candles of {} finished in {} ms: {} trades",
+                        result.getStrategyType(), result.getCandles(), result.getInterval(), result.getSymbol(),
+                        result.getElapsedMillis(), result.getTradeCount()));
+    }
+
+    public Mono<OptimizationResult> optimize(Strategy strategy, Mono<CandleSeries> series, ParameterSpace space,
+            OptimizationSettings settings) {
+        return series
+                .publishOn(Schedulers.boundedElastic())
+                .map(candles -> strategyOptimizer.optimize(strategy, candles, space, settings));
+    }
+}
@@ -0,0 +1,47 @@
+package com.cryptobot.service.backtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Simulation parameters of a backtest
+ */
+@Value
+@Builder(toBuilder = true)
+public class BacktestSettings {
+
+    /**
+     * How each candle is turned into ticks.
+     */
+    public enum TickMode {
+        // One tick per candle at the close
+        CLOSE,
+        // Open, low and high in the order the candle most likely traded them, then close
+        OHLC
+    }
+
+    // Starting cash in quote currency
+    @Builder.Default
+    BigDecimal initialCapital = new BigDecimal("10000");
+
+    // Fee charged on the notional of every fill (0.001 = 0.1%, Bybit spot taker)
+    @Builder.Default
+    BigDecimal feeRate = new BigDecimal("0.001");
+
+    // Adverse price move applied to market fills, in basis points
+    @Builder.Default
+    BigDecimal slippageBps = BigDecimal.ZERO;
+
+    @Builder.Default
+    TickMode tickMode = TickMode.OHLC;
+
+    // Number of trades listed in the result; all trades are still accounted for
+    @Builder.Default
+    int maxTrades = 10_000;
+
+    public static BacktestSettings defaults() {
+        return builder().build();
+    }
+}
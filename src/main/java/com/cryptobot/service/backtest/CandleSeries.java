@@ -0,0 +1,215 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.Candle;
+import com.cryptobot.domain.vo.FixedPoint;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column-oriented OHLCV series for backtesting.
+ * <p>
+ * Open times and fixed-point prices (units of {@code 10^-8}) are held in
+ * primitive arrays so that years of one-minute candles fit in a few tens of
+ * megabytes and can be replayed without touching {@link BigDecimal}. Candles
+ * are ordered by open time with duplicates removed.
+ */
+public final class CandleSeries {
+
+    public static final int PRICE_SCALE = 8;
+
+    private final String symbol;
+    private final String interval;
+    private final long[] openTime;
+    private final long[] open;
+    private final long[] high;
+    private final long[] low;
+    private final long[] close;
+    private final double[] volume;
+    private final int size;
+
+    private CandleSeries(Builder builder) {
+        this.symbol = builder.symbol;
+        this.interval = builder.interval;
+        this.size = builder.size;
+        this.openTime = Arrays.copyOf(builder.openTime, size);
+        this.open = Arrays.copyOf(builder.open, size);
+        this.high = Arrays.copyOf(builder.high, size);
+        this.low = Arrays.copyOf(builder.low, size);
+        this.close = Arrays.copyOf(builder.close, size);
+        this.volume = Arrays.copyOf(builder.volume, size);
+    }
+
+    public static CandleSeries of(String symbol, String interval, List<Candle> candles) {
+        Builder builder = builder(symbol, interval);
+        candles.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static Builder builder(String symbol, String interval) {
+        return new Builder(symbol, interval);
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getInterval() {
+        return interval;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Candle duration for a Bybit interval ({@code 1}..{@code 720} minutes,
+     * {@code D}, {@code W}, {@code M}); for anything else it is inferred from
+     * the spacing of the first two candles.
+     */
+    public long intervalMillis() {
+        long inferred = size > 1 ? openTime[1] - openTime[0] : 60_000L;
+        if (interval == null || interval.isEmpty()) {
+            return inferred;
+        }
+        return switch (interval) {
+            case "D" -> 86_400_000L;
+            case "W" -> 7 * 86_400_000L;
+            case "M" -> 30 * 86_400_000L;
+            default -> interval.chars().allMatch(Character::isDigit) ? Long.parseLong(interval) * 60_000L : inferred;
+        };
+    }
+
+    public long openTime(int index) {
+        return openTime[index];
+    }
+
+    public long open(int index) {
+        return open[index];
+    }
+
+    public long high(int index) {
+        return high[index];
+    }
+
+    public long low(int index) {
+        return low[index];
+    }
+
+    public long close(int index) {
+        return close[index];
+    }
+
+    public double volume(int index) {
+        return volume[index];
+    }
+
+    /**
+     * Accumulates candles in any order; {@link #build()} sorts them by open
+     * time and keeps the last candle seen for a duplicate open time.
+     */
+    public static final class Builder {
+        private final String symbol;
+        private final String interval;
+        private long[] openTime = new long[1024];
+        private long[] open = new long[1024];
+        private long[] high = new long[1024];
+        private long[] low = new long[1024];
+        private long[] close = new long[1024];
+        private double[] volume = new double[1024];
+        private int size;
+        private boolean sorted = true;
+
+        private Builder(String symbol, String interval) {
+            this.symbol = symbol;
+            this.interval = interval;
+        }
+
+        public Builder add(Candle candle) {
+            return add(candle.getOpenTime(), candle.getOpen(), candle.getHigh(), candle.getLow(), candle.getClose(),
+                    candle.getVolume());
+        }
+
+        public Builder add(long time, BigDecimal o, BigDecimal h, BigDecimal l, BigDecimal c, BigDecimal v) {
+            return add(time, units(o), units(h), units(l), units(c), v != null ? v.doubleValue() : 0);
+        }
+
+        public Builder add(long time, long o, long h, long l, long c, double v) {
+            if (size == openTime.length) {
+                int capacity = size * 2;
+                openTime = Arrays.copyOf(openTime, capacity);
+                open = Arrays.copyOf(open, capacity);
+                high = Arrays.copyOf(high, capacity);
+                low = Arrays.copyOf(low, capacity);
+                close = Arrays.copyOf(close, capacity);
+                volume = Arrays.copyOf(volume, capacity);
+            }
+            if (size > 0 && time <= openTime[size - 1]) {
+                sorted = false;
+            }
+            openTime[size] = time;
+            open[size] = o;
+            high[size] = h;
+            low[size] = l;
+            close[size] = c;
+            volume[size] = v;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public CandleSeries build() {
+            if (!sorted) {
+                sortAndDeduplicate();
+            }
+            return new CandleSeries(this);
+        }
+
+        private void sortAndDeduplicate() {
+            // Stable sort of row indexes by open time, then keep the last row per open time
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(openTime[a], openTime[b]));
+
+            long[] t = new long[size];
+            long[] o = new long[size];
+            long[] h = new long[size];
+            long[] l = new long[size];
+            long[] c = new long[size];
+            double[] v = new double[size];
+            int n = 0;
+            for (int k = 0; k < size; k++) {
+                int i = order[k];
+                if (n > 0 && t[n - 1] == openTime[i]) {
+                    n--;
+                }
+                t[n] = openTime[i];
+                o[n] = open[i];
+                h[n] = high[i];
+                l[n] = low[i];
+                c[n] = close[i];
+                v[n] = volume[i];
+                n++;
+            }
+            openTime = t;
+            open = o;
+            high = h;
+            low = l;
+            close = c;
+            volume = v;
+            size = n;
+            sorted = true;
+        }
+
+        private static long units(BigDecimal price) {
+            return FixedPoint.toUnits(price, PRICE_SCALE, RoundingMode.HALF_UP);
+        }
+    }
+}
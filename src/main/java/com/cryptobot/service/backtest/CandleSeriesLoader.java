@@ -0,0 +1,132 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.adapter.bybit.BybitAdapter;
+import com.cryptobot.domain.model.Candle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads candle history for backtests, either from Bybit (paging past the
+ * 1000-candle limit of a single kline request) or from a local CSV file.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CandleSeriesLoader {
+
+    static final int PAGE_SIZE = 1000;
+
+    private final BybitAdapter bybitAdapter;
+
+    @Value("${backtest.max-candles:5000000}")
+    private int maxCandles = 5_000_000;
+
+    @Value("${backtest.data-dir:data/candles}")
+    private String dataDir = "data/candles";
+
+    /**
+     * Fetches all candles with an open time in {@code [from, to]}, walking
+     * backwards from {@code to} one page at a time.
+     */
+    public Mono<CandleSeries> fetch(String symbol, String interval, long from, long to) {
+        if (from > to) {
+            return Mono.error(new IllegalArgumentException("'from' must not be after 'to'"));
+        }
+        CandleSeries.Builder builder = CandleSeries.builder(symbol, interval);
+        return fetchPage(builder, symbol, interval, from, to)
+                .then(Mono.fromCallable(() -> {
+                    log.info("Fetched {} {} candles for {} backtest", builder.size(), interval, symbol);
+                    return builder.build();
+                }));
+    }
+
+    private Mono<Void> fetchPage(CandleSeries.Builder builder, String symbol, String interval, long from, long end) {
+        return bybitAdapter.getHistoricalCandles(symbol, interval, from, end, PAGE_SIZE)
+                .flatMap(page -> {
+                    long oldest = Long.MAX_VALUE;
+                    for (Candle candle : page) {
+                        oldest = Math.min(oldest, candle.getOpenTime());
+                        if (candle.getOpenTime() >= from && candle.getOpenTime() <= end) {
+                            builder.add(candle);
+                        }
+                    }
+                    if (builder.size() > maxCandles) {
+                        return Mono.error(new IllegalArgumentException(
+                                "Backtest window exceeds " + maxCandles + " candles"));
+                    }
+                    if (page.size() < PAGE_SIZE || oldest <= from || oldest == Long.MAX_VALUE) {
+                        return Mono.empty();
+                    }
+                    return fetchPage(builder, symbol, interval, from, oldest - 1);
+                });
+    }
+
+    /**
+     * Reads a CSV file of {@code openTime,open,high,low,close[,volume]} rows with
+     * open time in epoch millis. Lines that do not start with a digit (headers,
+     * comments) are skipped.
+     *
+     * @param name File name relative to {@code backtest.data-dir}
+     */
+    public CandleSeries load(String name, String symbol, String interval) {
+        Path root = Path.of(dataDir).toAbsolutePath().normalize();
+        Path file = root.resolve(name).normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("Data file must be inside the backtest data directory");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Data file not found: " + name);
+        }
+        return read(file, symbol, interval);
+    }
+
+    /**
+     * Reads a CSV file from an arbitrary path (programmatic use).
+     */
+    public CandleSeries read(Path file, String symbol, String interval) {
+        CandleSeries.Builder builder = CandleSeries.builder(symbol, interval);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty() || !Character.isDigit(line.charAt(0))) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length < 5) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " of " + file.getFileName()
+                            + " has fewer than 5 columns");
+                }
+                try {
+                    builder.add(Long.parseLong(columns[0].trim()),
+                            new BigDecimal(columns[1].trim()),
+                            new BigDecimal(columns[2].trim()),
+                            new BigDecimal(columns[3].trim()),
+                            new BigDecimal(columns[4].trim()),
+                            columns.length > 5 ? new BigDecimal(columns[5].trim()) : null);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " of " + file.getFileName()
+                            + " is not a valid candle: " + line);
+                }
+                if (builder.size() > maxCandles) {
+                    throw new IllegalArgumentException("Data file exceeds " + maxCandles + " candles");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read candle file " + file, e);
+        }
+        return builder.build();
+    }
+}
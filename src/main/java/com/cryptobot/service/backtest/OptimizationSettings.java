@@ -0,0 +1,32 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.OptimizationObjective;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * How a parameter sweep picks, runs and ranks its backtests
+ */
+@Value
+@Builder
+public class OptimizationSettings {
+
+    @Builder.Default
+    OptimizationObjective objective = OptimizationObjective.NET_PROFIT;
+
+    // Random combinations to try; 0 (or at least the space size) runs the full grid
+    @Builder.Default
+    int samples = 0;
+
+    // Seed of the random search, so a sweep can be repeated
+    @Builder.Default
+    long seed = 42;
+
+    // Best runs kept in the result
+    @Builder.Default
+    int top = 20;
+
+    // Simulation settings shared by every run
+    @Builder.Default
+    BacktestSettings backtest = BacktestSettings.defaults();
+}
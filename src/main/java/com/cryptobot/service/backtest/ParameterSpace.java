@@ -0,0 +1,137 @@
+package com.cryptobot.service.backtest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Cartesian grid of candidate values for some strategy parameters, on top of
+ * a set of fixed base parameters.
+ * <p>
+ * Combinations are never materialized: a run index is decoded into one value
+ * per parameter as a mixed-radix number, so a sweep can hand out index ranges
+ * to workers and random search is sampling indexes.
+ */
+public final class ParameterSpace {
+
+    private final Map<String, Object> base;
+    private final String[] names;
+    private final Object[][] values;
+    private final long size;
+
+    private ParameterSpace(Map<String, Object> base, Map<String, List<Object>> candidates) {
+        this.base = base != null ? Map.copyOf(base) : Map.of();
+        this.names = candidates.keySet().toArray(new String[0]);
+        this.values = new Object[names.length][];
+        long combinations = 1;
+        for (int i = 0; i < names.length; i++) {
+            List<Object> options = candidates.get(names[i]);
+            if (options == null || options.isEmpty()) {
+                throw new IllegalArgumentException("No values given for parameter '" + names[i] + "'");
+            }
+            values[i] = options.toArray();
+            try {
+                combinations = Math.multiplyExact(combinations, values[i].length);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Parameter space is too large");
+            }
+        }
+        this.size = combinations;
+    }
+
+    /**
+     * @param base       Parameters shared by every run
+     * @param candidates Values to try per parameter, overriding {@code base}
+     */
+    public static ParameterSpace of(Map<String, Object> base, Map<String, List<Object>> candidates) {
+        return new ParameterSpace(base, new LinkedHashMap<>(candidates));
+    }
+
+    /**
+     * Evenly stepped values {@code from, from + step, ..., <= to}.
+     */
+    public static List<Object> range(BigDecimal from, BigDecimal to, BigDecimal step) {
+        if (step == null || step.signum() <= 0) {
+            throw new IllegalArgumentException("Range step must be positive");
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range 'from' must not be above 'to'");
+        }
+        BigDecimal count = to.subtract(from).divideToIntegralValue(step);
+        if (count.compareTo(BigDecimal.valueOf(100_000)) > 0) {
+            throw new IllegalArgumentException("Range has too many steps: " + count);
+        }
+        List<Object> values = new ArrayList<>();
+        for (BigDecimal value = from; value.compareTo(to) <= 0; value = value.add(step)) {
+            values.add(value.toPlainString());
+        }
+        return values;
+    }
+
+    /**
+     * Number of combinations.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Parameters of the combination at {@code index} in {@code [0, size)}.
+     */
+    public Map<String, Object> combination(long index) {
+        Map<String, Object> parameters = new HashMap<>(base);
+        long remainder = index;
+        for (int i = names.length - 1; i >= 0; i--) {
+            int radix = values[i].length;
+            parameters.put(names[i], values[i][(int) (remainder % radix)]);
+            remainder /= radix;
+        }
+        return parameters;
+    }
+
+    /**
+     * Run indexes of a sweep: every combination, or {@code samples} distinct
+     * random ones when that is fewer.
+     */
+    public long[] indexes(int samples, long seed) {
+        if (samples <= 0 || samples >= size) {
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Parameter space is too large for a full grid, use samples");
+            }
+            long[] all = new long[(int) size];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        if (size <= 4L * samples) {
+            // Dense: partial Fisher-Yates over all indexes
+            long[] all = new long[(int) size];
+            Arrays.setAll(all, i -> i);
+            for (int i = 0; i < samples; i++) {
+                int j = i + random.nextInt(all.length - i);
+                long swap = all[i];
+                all[i] = all[j];
+                all[j] = swap;
+            }
+            return Arrays.copyOf(all, samples);
+        }
+        // Sparse: draw with rejection of repeats
+        Set<Long> drawn = new HashSet<>();
+        long[] picked = new long[samples];
+        int n = 0;
+        while (n < samples) {
+            long index = random.nextLong(size);
+            if (drawn.add(index)) {
+                picked[n++] = index;
+            }
+        }
+        return picked;
+    }
+}
@@ -0,0 +1,194 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.BacktestResult;
+import com.cryptobot.domain.model.OptimizationResult;
+import com.cryptobot.domain.model.OptimizationRun;
+import com.cryptobot.domain.model.Strategy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parameter sweep over backtests: runs every combination of a
+ * {@link ParameterSpace} (or a random sample of it) on a fork/join pool and
+ * ranks the runs by an {@link com.cryptobot.domain.model.OptimizationObjective}.
+ * <p>
+ * All runs replay the same {@link CandleSeries}; it is immutable, so workers
+ * read its arrays directly and nothing is copied per run. Each run writes its
+ * outcome to its own slot of a results array, so workers share no mutable
+ * state and the sweep scales with the number of cores.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StrategyOptimizer {
+
+    private final BacktestEngine backtestEngine;
+
+    // Number of sweep threads; 0 means one per available core
+    @Value("${backtest.optimizer.parallelism:0}")
+    private int parallelism;
+
+    @Value("${backtest.optimizer.max-runs:100000}")
+    private int maxRuns = 100_000;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void start() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("backtest-worker-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        log.info("Backtest optimizer started: {} threads", threads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Backtests the strategy type with every sampled parameter combination.
+     *
+     * @param strategy Strategy type to optimize; its own parameters are ignored
+     *                 in favour of the space
+     * @throws IllegalArgumentException if the series is empty or the sweep
+     *                                  exceeds {@code backtest.optimizer.max-runs}
+     */
+    public OptimizationResult optimize(Strategy strategy, CandleSeries series, ParameterSpace space,
+            OptimizationSettings settings) {
+        if (series.size() == 0) {
+            throw new IllegalArgumentException("No candles to backtest");
+        }
+        int requested = settings.getSamples() > 0 && settings.getSamples() < space.size()
+                ? settings.getSamples()
+                : (int) Math.min(space.size(), Integer.MAX_VALUE);
+        if (requested > maxRuns) {
+            throw new IllegalArgumentException("Sweep of " + requested + " runs exceeds the limit of " + maxRuns
+                    + ", use samples to search randomly");
+        }
+
+        long start = System.nanoTime();
+        long[] indexes = space.indexes(settings.getSamples(), settings.getSeed());
+        // Trades are not listed per run; the best runs can be replayed individually
+        BacktestSettings runSettings = settings.getBacktest().toBuilder().maxTrades(0).build();
+        Scored[] runs = new Scored[indexes.length];
+        Sweep sweep = new Sweep(strategy, series, space, runSettings, settings, indexes, runs);
+        pool.invoke(new SweepTask(sweep, 0, indexes.length));
+
+        List<Scored> ranked = new ArrayList<>(runs.length);
+        for (Scored run : runs) {
+            if (run != null) {
+                ranked.add(run);
+            }
+        }
+        ranked.sort(Comparator.comparingDouble((Scored run) -> run.score).reversed());
+
+        List<OptimizationRun> top = new ArrayList<>();
+        for (int i = 0; i < Math.min(settings.getTop(), ranked.size()); i++) {
+            top.add(ranked.get(i).toRun(i + 1));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Optimized {} on {} {} candles of {}: {} runs in {} ms on {} threads", strategy.getType(),
+                series.size(), series.getInterval(), series.getSymbol(), indexes.length, elapsedMillis,
+                pool.getParallelism());
+
+        return OptimizationResult.builder()
+                .symbol(series.getSymbol())
+                .interval(series.getInterval())
+                .strategyType(strategy.getType())
+                .candles(series.size())
+                .objective(settings.getObjective())
+                .combinations(space.size())
+                .runs(indexes.length)
+                .invalidRuns(indexes.length - ranked.size())
+                .parallelism(pool.getParallelism())
+                .elapsedMillis(elapsedMillis)
+                .top(top)
+                .build();
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    // Inputs shared read-only by all tasks of a sweep; each task writes only its own slots of runs
+    private record Sweep(Strategy strategy, CandleSeries series, ParameterSpace space, BacktestSettings runSettings,
+            OptimizationSettings settings, long[] indexes, Scored[] runs) {
+    }
+
+    private final class SweepTask extends RecursiveAction {
+        private final Sweep sweep;
+        private final int from;
+        private final int to;
+
+        SweepTask(Sweep sweep, int from, int to) {
+            this.sweep = sweep;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            // A single backtest is milliseconds of work, so split down to one run per task
+            if (to - from == 1) {
+                sweep.runs()[from] = run(sweep.indexes()[from]);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SweepTask(sweep, from, middle), new SweepTask(sweep, middle, to));
+        }
+
+        private Scored run(long index) {
+            Map<String, Object> parameters = sweep.space().combination(index);
+            Strategy candidate = Strategy.builder()
+                    .name(sweep.strategy().getName())
+                    .type(sweep.strategy().getType())
+                    .symbol(sweep.series().getSymbol())
+                    .parameters(parameters)
+                    .build();
+            try {
+                BacktestResult result = backtestEngine.run(candidate, sweep.series(), sweep.runSettings());
+                return new Scored(parameters, sweep.settings().getObjective().score(result), result);
+            } catch (IllegalArgumentException e) {
+                log.debug("Skipping invalid combination {}: {}", parameters, e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    private record Scored(Map<String, Object> parameters, double score, BacktestResult result) {
+
+        OptimizationRun toRun(int rank) {
+            return OptimizationRun.builder()
+                    .rank(rank)
+                    .parameters(parameters)
+                    .score(score)
+                    .netProfit(result.getNetProfit())
+                    .returnPct(result.getReturnPct())
+                    .maxDrawdownPct(result.getMaxDrawdownPct())
+                    .totalFees(result.getTotalFees())
+                    .tradeCount(result.getTradeCount())
+                    .rejectedOrders(result.getRejectedOrders())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.cryptobot.service.orderbook;
+
+import com.cryptobot.adapter.bybit.BybitOrderBookFrame;
+import com.cryptobot.domain.model.OrderBookLevel;
+import com.cryptobot.domain.model.OrderBookSnapshot;
+import com.cryptobot.domain.vo.FixedPoint;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Local L2 book of one symbol, kept from the order book stream.
+ * <p>
+ * Each side is a price ladder in two primitive arrays sorted best first (bids
+ * descending, asks ascending), prices at {@code priceScale} and sizes at
+ * {@code sizeScale}. A level update is a binary search plus a shift of the
+ * levels behind it, cheap at stream depths of a few hundred; the best price is
+ * index 0, so the top of book is O(1) and the top {@code k} levels O(k).
+ * <p>
+ * Deltas must carry consecutive update ids. A missing id marks the book out
+ * of sync and it ignores deltas until the next snapshot, which the caller
+ * requests by resubscribing. One thread applies messages; readers take an
+ * optimistic read and retry under the read lock when a write overlapped.
+ */
+public final class OrderBook {
+
+    /**
+     * Outcome of applying one message.
+     */
+    public enum Result {
+        APPLIED,
+        // Duplicate or stale delta, or a delta while waiting for a snapshot
+        IGNORED,
+        // A delta skipped an update id; the book is out of sync until the next snapshot
+        GAP
+    }
+
+    private final String symbol;
+    private final int priceScale;
+    private final int sizeScale;
+
+    private final StampedLock lock = new StampedLock();
+    private final Side bids = new Side(true);
+    private final Side asks = new Side(false);
+    private long updateId;
+    private long seq;
+    private long timestampMillis;
+    private boolean synced;
+
+    private final LongAdder gaps = new LongAdder();
+
+    public OrderBook(String symbol, int priceScale, int sizeScale) {
+        this.symbol = symbol;
+        this.priceScale = priceScale;
+        this.sizeScale = sizeScale;
+    }
+
+    public Result apply(BybitOrderBookFrame frame) {
+        long stamp = lock.writeLock();
+        try {
+            if (frame.isSnapshot()) {
+                bids.clear();
+                asks.clear();
+            } else if (!synced || frame.getUpdateId() <= updateId) {
+                return Result.IGNORED;
+            } else if (frame.getUpdateId() != updateId + 1) {
+                synced = false;
+                gaps.increment();
+                return Result.GAP;
+            }
+            apply(bids, frame.getBids());
+            apply(asks, frame.getAsks());
+            updateId = frame.getUpdateId();
+            seq = frame.getSeq();
+            timestampMillis = frame.getTimestamp();
+            synced = true;
+            return Result.APPLIED;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Marks the book out of sync so that deltas are ignored until the next snapshot.
+     *
+     * @return false if it already was
+     */
+    public boolean invalidate() {
+        long stamp = lock.writeLock();
+        try {
+            boolean wasSynced = synced;
+            synced = false;
+            return wasSynced;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void apply(Side side, BybitOrderBookFrame.Levels levels) {
+        for (int i = 0; i < levels.count(); i++) {
+            long price = FixedPoint.rescale(levels.price(i), levels.priceScale(i), priceScale, RoundingMode.HALF_UP);
+            long size = FixedPoint.rescale(levels.size(i), levels.sizeScale(i), sizeScale, RoundingMode.HALF_UP);
+            side.set(price, size);
+        }
+    }
+
+    /**
+     * Best bid in units of {@code 10^-priceScale}, or 0 if there are no bids.
+     */
+    public long bestBid() {
+        return best(bids);
+    }
+
+    /**
+     * Best ask in units of {@code 10^-priceScale}, or 0 if there are no asks.
+     */
+    public long bestAsk() {
+        return best(asks);
+    }
+
+    private long best(Side side) {
+        long stamp = lock.tryOptimisticRead();
+        long price = side.count > 0 ? side.prices[0] : 0L;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                price = side.count > 0 ? side.prices[0] : 0L;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return price;
+    }
+
+    /**
+     * Copies the best {@code prices.length} bid levels into the given arrays.
+     *
+     * @return the number of levels copied
+     */
+    public int bids(long[] prices, long[] sizes) {
+        return copy(bids, prices, sizes);
+    }
+
+    /**
+     * Copies the best {@code prices.length} ask levels into the given arrays.
+     *
+     * @return the number of levels copied
+     */
+    public int asks(long[] prices, long[] sizes) {
+        return copy(asks, prices, sizes);
+    }
+
+    private int copy(Side side, long[] prices, long[] sizes) {
+        long stamp = lock.readLock();
+        try {
+            int n = Math.min(Math.min(prices.length, sizes.length), side.count);
+            System.arraycopy(side.prices, 0, prices, 0, n);
+            System.arraycopy(side.sizes, 0, sizes, 0, n);
+            return n;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * The top {@code depth} levels of both sides as decimals, for the REST edge.
+     */
+    public OrderBookSnapshot snapshot(int depth) {
+        long stamp = lock.readLock();
+        try {
+            return OrderBookSnapshot.builder()
+                    .symbol(symbol)
+                    .updateId(updateId)
+                    .seq(seq)
+                    .timestampMillis(timestampMillis)
+                    .synced(synced)
+                    .bids(levels(bids, depth))
+                    .asks(levels(asks, depth))
+                    .build();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private List<OrderBookLevel> levels(Side side, int depth) {
+        int n = Math.min(depth, side.count);
+        List<OrderBookLevel> levels = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            levels.add(new OrderBookLevel(FixedPoint.toBigDecimal(side.prices[i], priceScale),
+                    FixedPoint.toBigDecimal(side.sizes[i], sizeScale)));
+        }
+        return levels;
+    }
+
+    public boolean isSynced() {
+        long stamp = lock.readLock();
+        try {
+            return synced;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public int getPriceScale() {
+        return priceScale;
+    }
+
+    public int getSizeScale() {
+        return sizeScale;
+    }
+
+    public long getGaps() {
+        return gaps.sum();
+    }
+
+    /**
+     * One side of the ladder, best price first. Only touched under the book's lock.
+     */
+    private static final class Side {
+        private final boolean descending;
+        private long[] prices = new long[64];
+        private long[] sizes = new long[64];
+        private int count;
+
+        private Side(boolean descending) {
+            this.descending = descending;
+        }
+
+        void clear() {
+            count = 0;
+        }
+
+        /**
+         * Sets the size at a price; size zero removes the level.
+         */
+        void set(long price, long size) {
+            int index = indexOf(price);
+            if (index >= 0) {
+                if (size == 0) {
+                    System.arraycopy(prices, index + 1, prices, index, count - index - 1);
+                    System.arraycopy(sizes, index + 1, sizes, index, count - index - 1);
+                    count--;
+                } else {
+                    sizes[index] = size;
+                }
+                return;
+            }
+            if (size == 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (count == prices.length) {
+                prices = Arrays.copyOf(prices, count * 2);
+                sizes = Arrays.copyOf(sizes, count * 2);
+            }
+            System.arraycopy(prices, insertAt, prices, insertAt + 1, count - insertAt);
+            System.arraycopy(sizes, insertAt, sizes, insertAt + 1, count - insertAt);
+            prices[insertAt] = price;
+            sizes[insertAt] = size;
+            count++;
+        }
+
+        // Binary search in ladder order; -(insertion point) - 1 when absent, like Arrays.binarySearch
+        private int indexOf(long price) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long current = prices[mid];
+                if (current == price) {
+                    return mid;
+                }
+                if (descending ? current > price : current < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.cryptobot.service.orderbook;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.adapter.bybit.BybitOrderBookFrame;
+import com.cryptobot.domain.model.OrderBookSnapshot;
+import com.cryptobot.domain.model.SymbolPrecision;
+import com.cryptobot.service.SymbolDetailsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local order books of the subscribed symbols, kept from the public order
+ * book stream by {@link com.cryptobot.service.MarketDataService}.
+ * <p>
+ * Strategies read the top of book and depth straight from {@link #getBook};
+ * the REST edge takes decimal snapshots.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderBookService {
+
+    // Scale used for a symbol whose precision is not known yet
+    private static final int DEFAULT_SCALE = 8;
+
+    private final SymbolDetailsService symbolDetailsService;
+
+    private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+    // Symbols whose book was built before their precision was known
+    private final Set<String> provisional = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Applies one order book message. A book is created by the first snapshot
+     * of its symbol; deltas before it are ignored.
+     * <p>
+     * A book created before the symbol's precision was loaded uses
+     * {@link #DEFAULT_SCALE}, which can merge distinct levels of symbols priced
+     * finer than that. Once the precision is known, such a book asks for a
+     * resync (reported as {@link OrderBook.Result#GAP}) and is rebuilt at the
+     * real scales from the next snapshot.
+     */
+    public OrderBook.Result apply(BybitOrderBookFrame frame) {
+        String symbol = frame.getSymbol();
+        OrderBook book = books.get(symbol);
+        if (book == null || provisional.contains(symbol)) {
+            SymbolPrecision precision = symbolDetailsService.getPrecision(ExchangeType.BYBIT, symbol);
+            if (book != null && precision == null) {
+                return apply(book, frame);
+            }
+            if (!frame.isSnapshot()) {
+                if (book == null) {
+                    return OrderBook.Result.IGNORED;
+                }
+                return book.invalidate() ? OrderBook.Result.GAP : OrderBook.Result.IGNORED;
+            }
+            if (book != null) {
+                log.info("Rebuilding order book {} at tick scale {}", symbol, precision.getTickScale());
+            }
+            // Published only once it holds the snapshot
+            book = newBook(symbol, precision);
+            OrderBook.Result result = book.apply(frame);
+            books.put(symbol, book);
+            return result;
+        }
+        return apply(book, frame);
+    }
+
+    private OrderBook.Result apply(OrderBook book, BybitOrderBookFrame frame) {
+        OrderBook.Result result = book.apply(frame);
+        if (result == OrderBook.Result.GAP) {
+            log.warn("Order book {} missed updates before {}, waiting for a new snapshot", frame.getSymbol(),
+                    frame.getUpdateId());
+        }
+        return result;
+    }
+
+    private OrderBook newBook(String symbol, SymbolPrecision precision) {
+        if (precision == null) {
+            provisional.add(symbol);
+            return new OrderBook(symbol, DEFAULT_SCALE, DEFAULT_SCALE);
+        }
+        provisional.remove(symbol);
+        return new OrderBook(symbol, precision.getTickScale(), precision.getQuantityScale());
+    }
+
+    /**
+     * The live book of a symbol, or null if none has been received. A book is
+     * replaced when it is rebuilt at the symbol's precision, so look it up per
+     * use rather than keeping it.
+     */
+    public OrderBook getBook(String symbol) {
+        return books.get(symbol.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * The top {@code depth} levels of a symbol's book, or null if none has been received.
+     */
+    public OrderBookSnapshot getSnapshot(String symbol, int depth) {
+        OrderBook book = getBook(symbol);
+        return book != null ? book.snapshot(depth) : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.cryptobot.service.strategy;
+
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.TickerUpdate;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An active strategy bound to its logic and the typed configuration compiled
+ * from its parameters at activation.
+ *
+ * @param <C> Configuration type of the strategy logic
+ */
+public final class CompiledStrategy<C> {
+
+    private final Strategy strategy;
+    private final TradingStrategy<C> logic;
+    private final C config;
+
+    public CompiledStrategy(Strategy strategy, TradingStrategy<C> logic, C config) {
+        this.strategy = strategy;
+        this.logic = logic;
+        this.config = config;
+    }
+
+    /**
+     * Compiles the strategy's parameters with the given logic.
+     *
+     * @throws IllegalArgumentException if the parameters are invalid
+     */
+    public static <C> CompiledStrategy<C> compile(Strategy strategy, TradingStrategy<C> logic) {
+        Map<String, Object> parameters = strategy.getParameters() != null ? strategy.getParameters() : Map.of();
+        return new CompiledStrategy<>(strategy, logic, logic.compile(parameters));
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public C getConfig() {
+        return config;
+    }
+
+    public Optional<Order> evaluate(TickerUpdate ticker) {
+        return logic.evaluate(strategy, config, ticker);
+    }
+
+    public void orderResult(Order order, boolean placed) {
+        logic.onOrderResult(strategy, order, placed);
+    }
+
+    public void deactivate() {
+        logic.onDeactivated(strategy);
+    }
+
+    public boolean isScheduled() {
+        return logic instanceof ScheduledStrategy;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Instant nextRunAt() {
+        return ((ScheduledStrategy<C>) logic).nextRunAt(strategy, config);
+    }
+}
@@ -0,0 +1,54 @@
+package com.cryptobot.service.strategy;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free state machine for the order a strategy has in flight.
+ * <p>
+ * {@code IDLE -> PENDING -> ACKED | FAILED}, and from either outcome back to
+ * {@code PENDING} for the next order. Only one caller can win the transition
+ * to {@code PENDING}, so a strategy never has two orders on the wire at once.
+ */
+public final class InFlightGuard {
+
+    public enum State {
+        IDLE,
+        PENDING,
+        ACKED,
+        FAILED
+    }
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.IDLE);
+
+    /**
+     * Claims the guard for a new order.
+     *
+     * @return false if an order is already pending
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        return current != State.PENDING && state.compareAndSet(current, State.PENDING);
+    }
+
+    /**
+     * Records the exchange acknowledgement of the pending order.
+     */
+    public boolean ack() {
+        return state.compareAndSet(State.PENDING, State.ACKED);
+    }
+
+    /**
+     * Records that the pending order was not placed.
+     */
+    public boolean fail() {
+        return state.compareAndSet(State.PENDING, State.FAILED);
+    }
+
+    public boolean isPending() {
+        return state.get() == State.PENDING;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,26 @@
+package com.cryptobot.service.strategy;
+
+import com.cryptobot.domain.model.Strategy;
+
+import java.time.Instant;
+
+/**
+ * Marker for strategy logic driven by time rather than by price moves.
+ * <p>
+ * Such strategies are not dispatched market ticks. The executor keeps their
+ * next run on a timer and, when it is due, evaluates them once against the
+ * latest cached ticker.
+ *
+ * @param <C> Configuration type of the strategy logic
+ */
+public interface ScheduledStrategy<C> {
+    /**
+     * Computes when the strategy should run next.
+     *
+     * @param strategy The current persistent state and configuration of the
+     *                 strategy
+     * @param config   The compiled configuration
+     * @return The next due time; a time in the past means run as soon as possible
+     */
+    Instant nextRunAt(Strategy strategy, C config);
+}
@@ -0,0 +1,157 @@
+package com.cryptobot.service.strategy;
+
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyMetrics;
+import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.service.metrics.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Single-strategy mailbox drained by a shared worker pool.
+ * <p>
+ * The mailbox holds at most one tick: a newer tick replaces one that has not
+ * been evaluated yet, so a slow strategy always sees the latest price instead
+ * of falling behind. At most one worker runs a given actor at a time, which
+ * preserves per-strategy ordering, and each run evaluates a single tick before
+ * yielding the worker so that busy strategies cannot starve the others.
+ * <p>
+ * While an order triggered by the strategy is still in flight, evaluation is
+ * suppressed so that ticks arriving before the exchange acknowledges it cannot
+ * trigger duplicates.
+ */
+@Slf4j
+public final class StrategyActor implements Runnable {
+
+    private final Executor workers;
+    private final BiConsumer<StrategyActor, TickerUpdate> handler;
+
+    private final AtomicReference<TickerUpdate> mailbox = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile CompiledStrategy<?> compiled;
+    private volatile boolean closed;
+    private final InFlightGuard inFlight = new InFlightGuard();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LatencyHistogram evaluateLatency = new LatencyHistogram();
+
+    public StrategyActor(CompiledStrategy<?> compiled, Executor workers,
+            BiConsumer<StrategyActor, TickerUpdate> handler) {
+        this.compiled = compiled;
+        this.workers = workers;
+        this.handler = handler;
+    }
+
+    /**
+     * Delivers a tick; called from the market data thread and never blocks.
+     */
+    public void offer(TickerUpdate ticker) {
+        if (closed) {
+            return;
+        }
+        received.increment();
+        if (mailbox.getAndSet(ticker) != null) {
+            conflated.increment();
+        }
+        schedule();
+    }
+
+    @Override
+    public void run() {
+        try {
+            TickerUpdate ticker = mailbox.getAndSet(null);
+            if (ticker != null && !closed) {
+                evaluate(ticker);
+            }
+        } finally {
+            scheduled.set(false);
+            if (mailbox.get() != null) {
+                schedule();
+            }
+        }
+    }
+
+    private void evaluate(TickerUpdate ticker) {
+        if (inFlight.isPending()) {
+            suppressed.increment();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            handler.accept(this, ticker);
+        } catch (Exception e) {
+            failures.increment();
+            log.error("Error evaluating strategy {}: {}", getStrategy().getId(), e.getMessage());
+        } finally {
+            evaluations.increment();
+            evaluateLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    private void schedule() {
+        if (!closed && scheduled.compareAndSet(false, true)) {
+            try {
+                workers.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Pool is shutting down
+                scheduled.set(false);
+            }
+        }
+    }
+
+    public Strategy getStrategy() {
+        return compiled.getStrategy();
+    }
+
+    public CompiledStrategy<?> getCompiled() {
+        return compiled;
+    }
+
+    public InFlightGuard getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Swaps in a new configuration; takes effect from the next evaluation.
+     */
+    public void setCompiled(CompiledStrategy<?> compiled) {
+        this.compiled = compiled;
+    }
+
+    /**
+     * Stops evaluating; a tick already being evaluated is allowed to finish.
+     */
+    public void close() {
+        closed = true;
+        mailbox.set(null);
+    }
+
+    public StrategyMetrics metrics() {
+        Strategy current = compiled.getStrategy();
+        return StrategyMetrics.builder()
+                .strategyId(current.getId())
+                .symbol(current.getSymbol())
+                .queueDepth(mailbox.get() != null ? 1 : 0)
+                .ticksReceived(received.sum())
+                .ticksConflated(conflated.sum())
+                .evaluations(evaluations.sum())
+                .failures(failures.sum())
+                .suppressedEvaluations(suppressed.sum())
+                .orderState(inFlight.getState().name())
+                .evaluateLatencyP50Micros(TimeUnit.NANOSECONDS.toMicros(evaluateLatency.getPercentileNanos(50)))
+                .evaluateLatencyP99Micros(TimeUnit.NANOSECONDS.toMicros(evaluateLatency.getPercentileNanos(99)))
+                .evaluateLatencyMaxMicros(TimeUnit.NANOSECONDS.toMicros(evaluateLatency.getMaxNanos()))
+                .build();
+    }
+}
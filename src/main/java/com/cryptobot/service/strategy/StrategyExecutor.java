@@ -2,28 +2,45 @@ package com.cryptobot.service.strategy;
 
 import com.cryptobot.domain.model.Order;
 import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyMetrics;
 import com.cryptobot.domain.model.StrategyStatus;
 import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.repository.JdbcExecutor;
 import com.cryptobot.repository.StrategyRepository;
 import com.cryptobot.repository.entity.StrategyEntity;
 import com.cryptobot.service.MarketDataService;
 import com.cryptobot.service.OrderService;
+import com.cryptobot.service.TickerHub;
 import com.cryptobot.service.mapper.StrategyMapper;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * High-performance execution engine for automated strategies.
  * Listens to market data and dispatches updates to active strategy logic.
+ * <p>
+ * Each active strategy is a {@link StrategyActor} with a conflating mailbox;
+ * the market data thread only posts ticks, evaluation and order placement run
+ * on a fixed worker pool so a slow strategy cannot stall the feed.
+ * <p>
+ * Time-driven strategies ({@link ScheduledStrategy}) receive no ticks; their
+ * next run sits on a {@link TimingWheel} and, when due, they are evaluated
+ * against the cached ticker. The wheel is rebuilt from {@code lastRunAt} on
+ * startup.
  */
 @Slf4j
 @Service
@@ -33,17 +50,34 @@ public class StrategyExecutor {
     private final MarketDataService marketDataService;
     private final StrategyRepository strategyRepository;
     private final OrderService orderService;
-    private final Map<String, TradingStrategy> strategyRegistry;
+    private final Map<String, TradingStrategy<?>> strategyRegistry;
     private final StrategyMapper strategyMapper;
+    private final JdbcExecutor jdbcExecutor;
 
-    // Map of active strategies in memory (id -> Strategy)
-    private final Map<Long, Strategy> activeStrategies = new ConcurrentHashMap<>();
+    // Number of evaluation threads; 0 means one per available core
+    @Value("${strategy.executor.workers:0}")
+    private int workerCount;
 
+    // Re-check delay for a due scheduled strategy that did not run (no cached price, order failed)
+    private static final long SCHEDULE_RETRY_MILLIS = 60_000;
+    private static final long TIMER_TICK_MILLIS = 1_000;
+    // Distinct symbols held while the executor is behind; one pending tick per symbol
+    private static final int TICKER_QUEUE_CAPACITY = 1_024;
+
+    // Active strategies in memory: price-driven ones indexed by the symbol they watch,
+    // time-driven ones by id with their next run on the timer
+    private final SymbolIndex<StrategyActor> activeStrategies = new SymbolIndex<>();
+    private final Map<Long, StrategyActor> scheduledStrategies = new ConcurrentHashMap<>();
+
+    private ExecutorService workers;
+    private TimingWheel<Long> timer;
     private Disposable marketStreamSubscription;
 
     @PostConstruct
     public void start() {
         log.info("Initializing Strategy Execution Engine...");
+        startWorkers();
+        startTimer();
         loadActiveStrategies();
         subscribeToMarketData();
     }
@@ -53,73 +87,231 @@ public class StrategyExecutor {
         if (marketStreamSubscription != null) {
             marketStreamSubscription.dispose();
         }
+        if (timer != null) {
+            timer.close();
+        }
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    private void startWorkers() {
+        int threads = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        // Queue is bounded in practice: an actor is enqueued at most once at a time
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "strategy-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Strategy workers started: {}", threads);
+    }
+
+    private void startTimer() {
+        timer = new TimingWheel<>(TIMER_TICK_MILLIS, System.currentTimeMillis(), this::onTimerExpired);
+        timer.start("strategy-timer");
     }
 
     private void loadActiveStrategies() {
         strategyRepository.findByStatus(StrategyStatus.ACTIVE).forEach(entity -> {
             log.info("Loading active strategy: {} [{}]", entity.getName(), entity.getType());
-            activeStrategies.put(entity.getId(), strategyMapper.toDomain(entity));
+            try {
+                register(strategyMapper.toDomain(entity));
+            } catch (IllegalArgumentException e) {
+                log.error("Strategy {} has an invalid configuration, marking as FAILED: {}", entity.getId(),
+                        e.getMessage());
+                entity.setStatus(StrategyStatus.FAILED);
+                strategyRepository.save(entity);
+            }
         });
     }
 
     private void subscribeToMarketData() {
-        marketStreamSubscription = marketDataService.getTickerStream()
+        // All symbols, since strategies come and go at runtime; the actors conflate per strategy
+        // and offering to them never blocks, so the queue only fills if delivery stalls
+        marketStreamSubscription = marketDataService.getTickerStream("strategy-executor",
+                        TickerHub.Overflow.CONFLATE_LATEST, TICKER_QUEUE_CAPACITY, List.of())
                 .subscribe(this::onPriceUpdate);
     }
 
     private void onPriceUpdate(TickerUpdate ticker) {
-        // Dispatch to all active strategies watching this symbol
-        activeStrategies.values().stream()
-                .filter(s -> s.getSymbol().equalsIgnoreCase(ticker.getSymbol()))
-                .forEach(s -> evaluateStrategy(s, ticker));
+        // Post to the mailboxes of the strategies watching this symbol
+        activeStrategies.forEach(ticker.getSymbol(), actor -> actor.offer(ticker));
     }
 
-    private void evaluateStrategy(Strategy strategy, TickerUpdate ticker) {
-        try {
-            TradingStrategy logic = strategyRegistry.get(strategy.getType().name());
-            if (logic == null) {
-                log.error("No implementation found for strategy type: {}", strategy.getType());
-                return;
-            }
+    // Runs on the timer thread: only hands the cached price to the strategy's mailbox
+    private void onTimerExpired(Long strategyId) {
+        StrategyActor actor = scheduledStrategies.get(strategyId);
+        if (actor == null) {
+            return;
+        }
+        CompiledStrategy<?> compiled = actor.getCompiled();
+        Strategy strategy = compiled.getStrategy();
+
+        // Fallback in case this run places no order; a triggered order reschedules from its new lastRunAt
+        long retryAt = System.currentTimeMillis() + SCHEDULE_RETRY_MILLIS;
+        timer.schedule(strategyId, Math.max(compiled.nextRunAt().toEpochMilli(), retryAt));
 
-            logic.evaluate(strategy, ticker).ifPresent(order -> {
-                executeOrder(strategy, order);
-            });
-        } catch (Exception e) {
-            log.error("Error evaluating strategy {}: {}", strategy.getId(), e.getMessage());
+        TickerUpdate ticker = marketDataService.getTicker(SymbolIndex.normalize(strategy.getSymbol()));
+        if (ticker == null) {
+            log.warn("No cached price for {}, scheduled strategy {} will retry", strategy.getSymbol(), strategyId);
+            return;
         }
+        actor.offer(ticker);
+    }
+
+    // Runs on a worker thread, never concurrently for the same strategy
+    private void evaluateStrategy(StrategyActor actor, TickerUpdate ticker) {
+        CompiledStrategy<?> compiled = actor.getCompiled();
+        compiled.evaluate(ticker).ifPresent(order -> {
+            executeOrder(actor, compiled, order);
+        });
     }
 
-    private void executeOrder(Strategy strategy, Order order) {
+    private void executeOrder(StrategyActor actor, CompiledStrategy<?> compiled, Order order) {
+        Strategy strategy = compiled.getStrategy();
+        InFlightGuard inFlight = actor.getInFlight();
+        if (!inFlight.tryAcquire()) {
+            log.warn("Strategy [{}] already has an order in flight, dropping: {}", strategy.getName(), order);
+            compiled.orderResult(order, false);
+            return;
+        }
         log.info("Order triggered by Strategy [{}]: {}", strategy.getName(), order);
 
         // Ensure the order has correctly mapped exchange context
         order.setUserId(strategy.getUserId());
         order.setApiKeyId(strategy.getApiKeyId());
 
-        orderService.placeOrder(order.getUserId(), order)
-                .doOnSuccess(placed -> {
-                    strategy.setLastRunAt(LocalDateTime.now());
-                    updateStrategyState(strategy);
+        // Optimistically mark the run before the round trip; rolled back if the order fails
+        LocalDateTime previousRun = strategy.getLastRunAt();
+        strategy.setLastRunAt(LocalDateTime.now());
+        if (compiled.isScheduled()) {
+            rescheduleIfActive(strategy.getId(), compiled.nextRunAt().toEpochMilli());
+        }
+
+        Mono.defer(() -> orderService.placeOrder(order.getUserId(), order))
+                .then(Mono.just(true))
+                .onErrorResume(e -> {
+                    log.error("Order for Strategy [{}] failed, run will be retried: {}", strategy.getName(),
+                            e.getMessage());
+                    strategy.setLastRunAt(previousRun);
+                    inFlight.fail();
+                    compiled.orderResult(order, false);
+                    if (compiled.isScheduled()) {
+                        rescheduleIfActive(strategy.getId(), System.currentTimeMillis() + SCHEDULE_RETRY_MILLIS);
+                    }
+                    return Mono.just(false);
+                })
+                .filter(placed -> placed)
+                // The order stands from here on; only placement errors above count as a failed order
+                .flatMap(placed -> {
+                    inFlight.ack();
+                    compiled.orderResult(order, true);
+                    return updateStrategyState(strategy);
                 })
                 .subscribe();
     }
 
-    private void updateStrategyState(Strategy strategy) {
+    private void rescheduleIfActive(Long strategyId, long atMillis) {
+        if (scheduledStrategies.containsKey(strategyId)) {
+            timer.schedule(strategyId, atMillis);
+        }
+    }
+
+    private Mono<Void> updateStrategyState(Strategy strategy) {
         // Sync back to DB
-        strategyRepository.findById(strategy.getId()).ifPresent(entity -> {
-            entity.setLastRunAt(strategy.getLastRunAt());
-            strategyRepository.save(entity);
-        });
+        LocalDateTime lastRunAt = strategy.getLastRunAt();
+        return jdbcExecutor.run(() -> strategyRepository.findById(strategy.getId()).ifPresent(entity -> {
+                    entity.setLastRunAt(lastRunAt);
+                    strategyRepository.save(entity);
+                }))
+                .onErrorResume(e -> {
+                    log.error("Could not store the last run of Strategy [{}]: {}", strategy.getName(),
+                            e.getMessage());
+                    return Mono.empty();
+                });
     }
 
+    /**
+     * Starts executing a strategy, replacing its previous configuration if it
+     * was already running.
+     *
+     * @throws IllegalArgumentException if the strategy type is unknown or its
+     *                                  parameters are invalid
+     */
     public void activateStrategy(Strategy strategy) {
-        activeStrategies.put(strategy.getId(), strategy);
+        register(strategy);
         log.info("Strategy activated: {}", strategy.getName());
     }
 
-    public void deactivateStrategy(Long strategyId) {
-        activeStrategies.remove(strategyId);
+    public synchronized void deactivateStrategy(Long strategyId) {
+        StrategyActor actor = activeStrategies.remove(strategyId);
+        if (actor == null) {
+            actor = scheduledStrategies.remove(strategyId);
+            timer.cancel(strategyId);
+        }
+        if (actor != null) {
+            actor.close();
+            actor.getCompiled().deactivate();
+        }
+        marketDataService.unsubscribe(tickerHolder(strategyId));
         log.info("Strategy deactivated: {}", strategyId);
     }
+
+    /**
+     * Returns execution metrics for an active strategy, or null if it is not
+     * running.
+     */
+    public StrategyMetrics getMetrics(Long strategyId) {
+        StrategyActor actor = activeStrategies.get(strategyId);
+        if (actor == null) {
+            actor = scheduledStrategies.get(strategyId);
+        }
+        return actor != null ? actor.metrics() : null;
+    }
+
+    private synchronized void register(Strategy strategy) {
+        CompiledStrategy<?> compiled = compile(strategy);
+
+        // Re-activation keeps the existing actor so its ordering and metrics carry over
+        Long id = strategy.getId();
+        StrategyActor actor = activeStrategies.get(id);
+        if (actor == null) {
+            actor = scheduledStrategies.get(id);
+        }
+        if (actor != null) {
+            actor.setCompiled(compiled);
+        } else {
+            actor = new StrategyActor(compiled, workers, this::evaluateStrategy);
+        }
+
+        // Scheduled strategies read the cached ticker, so they need the symbol's ticks too
+        marketDataService.subscribe(tickerHolder(id), List.of(strategy.getSymbol()));
+        if (compiled.isScheduled()) {
+            activeStrategies.remove(id);
+            scheduledStrategies.put(id, actor);
+            timer.schedule(id, compiled.nextRunAt().toEpochMilli());
+        } else {
+            scheduledStrategies.remove(id);
+            timer.cancel(id);
+            activeStrategies.put(id, strategy.getSymbol(), actor);
+        }
+    }
+
+    private static String tickerHolder(Long strategyId) {
+        return "strategy:" + strategyId;
+    }
+
+    private CompiledStrategy<?> compile(Strategy strategy) {
+        TradingStrategy<?> logic = strategy.getType() != null ? strategyRegistry.get(strategy.getType().name()) : null;
+        if (logic == null) {
+            throw new IllegalArgumentException("No implementation found for strategy type: " + strategy.getType());
+        }
+        try {
+            return CompiledStrategy.compile(strategy, logic);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid parameters for strategy " + strategy.getName() + ": "
+                    + e.getMessage(), e);
+        }
+    }
 }
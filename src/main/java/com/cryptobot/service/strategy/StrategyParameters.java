@@ -0,0 +1,44 @@
+package com.cryptobot.service.strategy;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Helpers for binding raw JSON strategy parameters in
+ * {@link TradingStrategy#compile}. Every failure is an
+ * {@link IllegalArgumentException} naming the offending parameter.
+ */
+public final class StrategyParameters {
+
+    private StrategyParameters() {
+    }
+
+    public static BigDecimal decimal(Map<String, Object> parameters, String name, String defaultValue) {
+        Object value = parameters.getOrDefault(name, defaultValue);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter '" + name + "'");
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter '" + name + "' is not a number: " + value);
+        }
+    }
+
+    public static BigDecimal positiveDecimal(Map<String, Object> parameters, String name, String defaultValue) {
+        BigDecimal value = decimal(parameters, name, defaultValue);
+        if (value.signum() <= 0) {
+            throw new IllegalArgumentException("Parameter '" + name + "' must be positive: " + value);
+        }
+        return value;
+    }
+
+    public static long positiveLong(Map<String, Object> parameters, String name, String defaultValue) {
+        BigDecimal value = positiveDecimal(parameters, name, defaultValue);
+        try {
+            return value.longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Parameter '" + name + "' must be a whole number: " + value);
+        }
+    }
+}
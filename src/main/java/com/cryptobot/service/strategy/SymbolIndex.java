@@ -0,0 +1,126 @@
+package com.cryptobot.service.strategy;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Symbol to subscriber index used to dispatch market updates.
+ * <p>
+ * Each symbol maps to an immutable array that is replaced on every change, so
+ * the dispatch path is a single hash lookup followed by an array walk with no
+ * locking or allocation. Mutations (activation/deactivation) are rare and are
+ * serialized on the index itself. Symbols are normalized to upper case once,
+ * when a subscriber is added.
+ *
+ * @param <V> subscriber type
+ */
+public final class SymbolIndex<V> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final Map<String, Object[]> bySymbol = new ConcurrentHashMap<>();
+
+    // Guarded by this; only touched on mutation
+    private final Map<Long, Entry<V>> byId = new HashMap<>();
+
+    private volatile int size;
+
+    /**
+     * Adds or replaces the subscriber registered under {@code id}, moving it to
+     * the new symbol if it changed.
+     */
+    public synchronized void put(Long id, String symbol, V value) {
+        String normalized = normalize(symbol);
+        Entry<V> previous = byId.put(id, new Entry<>(normalized, value));
+        if (previous != null) {
+            bySymbol.computeIfPresent(previous.symbol(), (s, current) -> without(current, previous.value()));
+        }
+        bySymbol.merge(normalized, new Object[] { value }, SymbolIndex::concat);
+        size = byId.size();
+    }
+
+    /**
+     * Removes the subscriber registered under {@code id}.
+     *
+     * @return the removed subscriber, or null if none was registered
+     */
+    public synchronized V remove(Long id) {
+        Entry<V> previous = byId.remove(id);
+        if (previous == null) {
+            return null;
+        }
+        bySymbol.computeIfPresent(previous.symbol(), (s, current) -> without(current, previous.value()));
+        size = byId.size();
+        return previous.value();
+    }
+
+    public synchronized V get(Long id) {
+        Entry<V> entry = byId.get(id);
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * Invokes {@code action} for every subscriber of {@code symbol}. Sees a
+     * consistent snapshot of the subscribers at the time of the call.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(String symbol, Consumer<? super V> action) {
+        Object[] subscribers = bySymbol.getOrDefault(normalize(symbol), EMPTY);
+        for (Object subscriber : subscribers) {
+            action.accept((V) subscriber);
+        }
+    }
+
+    public int subscriberCount(String symbol) {
+        return bySymbol.getOrDefault(normalize(symbol), EMPTY).length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Upper-cases a symbol; returns the same instance when it is already
+     * normalized, which is the case for exchange-supplied symbols.
+     */
+    static String normalize(String symbol) {
+        return symbol.toUpperCase(Locale.ROOT);
+    }
+
+    private static Object[] concat(Object[] current, Object[] added) {
+        Object[] result = new Object[current.length + added.length];
+        System.arraycopy(current, 0, result, 0, current.length);
+        System.arraycopy(added, 0, result, current.length, added.length);
+        return result;
+    }
+
+    /**
+     * Returns a copy of {@code current} without {@code value}, or null (which
+     * drops the symbol) when nothing remains.
+     */
+    private static Object[] without(Object[] current, Object value) {
+        int index = -1;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == value) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return current;
+        }
+        if (current.length == 1) {
+            return null;
+        }
+        Object[] result = new Object[current.length - 1];
+        System.arraycopy(current, 0, result, 0, index);
+        System.arraycopy(current, index + 1, result, index, current.length - index - 1);
+        return result;
+    }
+
+    private record Entry<V>(String symbol, V value) {
+    }
+}
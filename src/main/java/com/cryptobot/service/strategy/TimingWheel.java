@@ -0,0 +1,230 @@
+package com.cryptobot.service.strategy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel keyed by an id, with one pending deadline per key.
+ * <p>
+ * Level 0 has one slot per tick; each higher level has slots that span a full
+ * rotation of the level below, so a deadline months away costs the same to
+ * insert as one a second away and is cascaded down only a few times before it
+ * fires. Expired keys are handed to the callback on the timer thread, which
+ * must therefore only do non-blocking work.
+ * <p>
+ * {@link #schedule} and {@link #cancel} may be called from any thread; the
+ * wheel itself is confined to the timer thread, which picks up new deadlines
+ * on its next tick.
+ *
+ * @param <K> key type
+ */
+@Slf4j
+public final class TimingWheel<K> implements AutoCloseable {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final Consumer<K> onExpire;
+
+    private final Map<K, Timeout<K>> live = new ConcurrentHashMap<>();
+    private final Queue<Timeout<K>> incoming = new ConcurrentLinkedQueue<>();
+
+    // Confined to the timer thread
+    private final List<Queue<Timeout<K>>[]> levels = new ArrayList<>(LEVELS);
+    private final List<Timeout<K>> overflow = new ArrayList<>();
+    private long currentTick;
+
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis, Consumer<K> onExpire) {
+        this.tickMillis = tickMillis;
+        this.onExpire = onExpire;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            Queue<Timeout<K>>[] slots = new Queue[SLOTS];
+            for (int i = 0; i < SLOTS; i++) {
+                slots[i] = new ArrayDeque<>();
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Starts the timer thread, which advances the wheel against the wall clock.
+     */
+    public void start(String threadName) {
+        running = true;
+        thread = new Thread(this::runLoop, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    /**
+     * Sets the deadline for {@code key}, replacing any pending one. Deadlines
+     * in the past fire on the next tick.
+     */
+    public void schedule(K key, long deadlineMillis) {
+        Timeout<K> timeout = new Timeout<>(key, ceilDiv(deadlineMillis, tickMillis));
+        Timeout<K> previous = live.put(key, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        incoming.add(timeout);
+    }
+
+    public void cancel(K key) {
+        Timeout<K> previous = live.remove(key);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+    }
+
+    public boolean isScheduled(K key) {
+        return live.containsKey(key);
+    }
+
+    public int size() {
+        return live.size();
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                advanceTo(System.currentTimeMillis());
+                long sleep = tickMillis - System.currentTimeMillis() % tickMillis;
+                TimeUnit.MILLISECONDS.sleep(sleep);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Timing wheel tick failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Fires everything due up to {@code nowMillis}. Called by the timer thread;
+     * exposed to drive the wheel deterministically.
+     */
+    void advanceTo(long nowMillis) {
+        drainIncoming();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            expire(levels.get(0)[slotIndex(currentTick, 0)]);
+        }
+    }
+
+    private void drainIncoming() {
+        Timeout<K> timeout;
+        while ((timeout = incoming.poll()) != null) {
+            if (!timeout.cancelled) {
+                // Anything already due fires on the next tick
+                timeout.deadlineTick = Math.max(timeout.deadlineTick, currentTick + 1);
+                place(timeout);
+            }
+        }
+    }
+
+    /**
+     * When the lower digits of the tick counter roll over to zero, the current
+     * slot of each level above is redistributed, highest level first so entries
+     * can fall through several levels in one tick.
+     */
+    private void cascade() {
+        if ((currentTick & spanMask(LEVELS)) == 0 && !overflow.isEmpty()) {
+            List<Timeout<K>> pending = new ArrayList<>(overflow);
+            overflow.clear();
+            pending.forEach(this::place);
+        }
+        int highest = 0;
+        while (highest + 1 < LEVELS && (currentTick & spanMask(highest + 1)) == 0) {
+            highest++;
+        }
+        for (int level = highest; level >= 1; level--) {
+            Queue<Timeout<K>> slot = levels.get(level)[slotIndex(currentTick, level)];
+            List<Timeout<K>> pending = new ArrayList<>(slot);
+            slot.clear();
+            pending.forEach(this::place);
+        }
+    }
+
+    /**
+     * Puts a timeout on the lowest level whose current rotation contains its
+     * deadline, or into the overflow list if it is beyond the top level.
+     */
+    private void place(Timeout<K> timeout) {
+        if (timeout.cancelled) {
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = (level + 1) * SLOT_BITS;
+            if ((timeout.deadlineTick >>> shift) == (currentTick >>> shift)) {
+                levels.get(level)[slotIndex(timeout.deadlineTick, level)].add(timeout);
+                return;
+            }
+        }
+        overflow.add(timeout);
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (level * SLOT_BITS)) & SLOT_MASK);
+    }
+
+    private static long spanMask(int levels) {
+        return (1L << (levels * SLOT_BITS)) - 1;
+    }
+
+    private void expire(Queue<Timeout<K>> slot) {
+        Timeout<K> timeout;
+        while ((timeout = slot.poll()) != null) {
+            if (timeout.cancelled || !live.remove(timeout.key, timeout)) {
+                continue;
+            }
+            try {
+                onExpire.accept(timeout.key);
+            } catch (Exception e) {
+                log.error("Timer callback failed for {}: {}", timeout.key, e.getMessage());
+            }
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private static final class Timeout<K> {
+        final K key;
+        long deadlineTick;
+        volatile boolean cancelled;
+
+        Timeout(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -4,19 +4,54 @@ import com.cryptobot.domain.model.Order;
 import com.cryptobot.domain.model.Strategy;
 import com.cryptobot.domain.model.TickerUpdate;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Interface for automated trading strategy logic.
+ *
+ * @param <C> Immutable, typed configuration bound from the strategy's parameters
  */
-public interface TradingStrategy {
+public interface TradingStrategy<C> {
+    /**
+     * Validates and binds the raw strategy parameters once, when the strategy is
+     * activated.
+     *
+     * @param parameters The JSON parameters stored with the strategy (never null)
+     * @return The typed configuration passed to every evaluation
+     * @throws IllegalArgumentException if the parameters are missing or invalid
+     */
+    C compile(Map<String, Object> parameters);
+
     /**
      * Evaluates a market update to determine if any action should be taken.
      * 
      * @param strategy The current persistent state and configuration of the
      *                 strategy
+     * @param config   The configuration produced by {@link #compile}
      * @param ticker   The latest market data
      * @return An Optional Order if the strategy triggers a trade
      */
-    Optional<Order> evaluate(Strategy strategy, TickerUpdate ticker);
+    Optional<Order> evaluate(Strategy strategy, C config, TickerUpdate ticker);
+
+    /**
+     * Reports what became of an order returned by {@link #evaluate}: placed,
+     * or not placed because the exchange rejected it, the request failed or
+     * another order of the strategy was still in flight. Called exactly once
+     * per order, possibly on a different thread than {@link #evaluate}.
+     *
+     * @param strategy The strategy that triggered the order
+     * @param order    The order instance returned by {@link #evaluate}
+     * @param placed   Whether the order was placed
+     */
+    default void onOrderResult(Strategy strategy, Order order, boolean placed) {
+    }
+
+    /**
+     * Releases any runtime state kept for a strategy once it stops executing.
+     *
+     * @param strategy The strategy being deactivated
+     */
+    default void onDeactivated(Strategy strategy) {
+    }
 }
@@ -1,40 +1,83 @@
 package com.cryptobot.service.strategy.impl;
 
+import com.cryptobot.adapter.ExchangeType;
 import com.cryptobot.domain.model.Order;
 import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.SymbolPrecision;
 import com.cryptobot.domain.model.TickerUpdate;
 import com.cryptobot.domain.vo.*;
+import com.cryptobot.service.SymbolDetailsService;
+import com.cryptobot.service.strategy.ScheduledStrategy;
+import com.cryptobot.service.strategy.StrategyParameters;
 import com.cryptobot.service.strategy.TradingStrategy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.ZoneId;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Concrete implementation of Dollar Cost Averaging strategy.
- * Triggers a BUY order at fixed intervals.
+ * Triggers a BUY order at fixed intervals; driven by the executor's timer
+ * rather than by ticks. The quantity is truncated to the symbol's quantity
+ * precision, or to 8 decimals while the symbol details are not known.
  */
 @Slf4j
 @Component("DCA")
-public class DcaStrategy implements TradingStrategy {
+@RequiredArgsConstructor
+public class DcaStrategy implements TradingStrategy<DcaStrategy.Config>, ScheduledStrategy<DcaStrategy.Config> {
+
+    private static final int QUANTITY_SCALE = 8;
+
+    private final SymbolDetailsService symbolDetailsService;
+
+    /**
+     * Bound DCA parameters; the order amount is kept in units of
+     * {@code 10^-8} USDT.
+     */
+    public record Config(BigDecimal amountUsdt, long amountUnits, Duration interval) {
+    }
 
     @Override
-    public Optional<Order> evaluate(Strategy strategy, TickerUpdate ticker) {
-        if (!shouldRun(strategy)) {
-            return Optional.empty();
+    public Config compile(Map<String, Object> parameters) {
+        BigDecimal amountUsdt = StrategyParameters.positiveDecimal(parameters, "amountUsdt", "10");
+        long intervalMinutes = StrategyParameters.positiveLong(parameters, "intervalMinutes", "1440");
+        long amountUnits;
+        try {
+            amountUnits = FixedPoint.toUnits(amountUsdt, QUANTITY_SCALE, RoundingMode.DOWN);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Parameter 'amountUsdt' is too large: " + amountUsdt);
         }
+        return new Config(amountUsdt, amountUnits, Duration.ofMinutes(intervalMinutes));
+    }
 
-        // Extract parameters
-        BigDecimal amountUsdt = new BigDecimal(strategy.getParameters().getOrDefault("amountUsdt", "10").toString());
+    @Override
+    public Optional<Order> evaluate(Strategy strategy, Config config, TickerUpdate ticker) {
+        if (!shouldRun(strategy, config)) {
+            return Optional.empty();
+        }
 
-        // Calculate quantity based on current price
-        BigDecimal quantity = amountUsdt.divide(ticker.getLastPrice(), 8, BigDecimal.ROUND_DOWN);
+        // Calculate quantity based on current price (fixed-point, truncated to the symbol's quantity step)
+        SymbolPrecision precision = symbolDetailsService.getPrecision(ExchangeType.BYBIT, strategy.getSymbol());
+        int quantityScale = precision != null ? precision.getQuantityScale() : QUANTITY_SCALE;
+        long quantityUnits = FixedPoint.divide(config.amountUnits(), QUANTITY_SCALE, ticker.getLastPriceUnits(),
+                ticker.getPriceScale(), quantityScale, RoundingMode.DOWN);
+        if (quantityUnits == 0) {
+            log.warn("DCA Strategy [{}] amount {} USDT buys less than one {} quantity step, skipping run",
+                    strategy.getName(), config.amountUsdt(), strategy.getSymbol());
+            return Optional.empty();
+        }
+        BigDecimal quantity = FixedPoint.toBigDecimal(quantityUnits, quantityScale);
 
-        log.info("DCA Strategy [{}] triggered for {}. Order amount: {} USDT ({} units)",
-                strategy.getName(), strategy.getSymbol(), amountUsdt, quantity);
+        log.debug("DCA Strategy [{}] triggered for {}. Order amount: {} USDT ({} units)",
+                strategy.getName(), strategy.getSymbol(), config.amountUsdt(), quantity);
 
         return Optional.of(Order.builder()
                 .exchangeType(strategy.getApiKeyId() != null ? null : null) // Will be filled by executor
@@ -45,14 +88,17 @@ public class DcaStrategy implements TradingStrategy {
                 .build());
     }
 
-    private boolean shouldRun(Strategy strategy) {
+    @Override
+    public Instant nextRunAt(Strategy strategy, Config config) {
         LocalDateTime lastRun = strategy.getLastRunAt();
         if (lastRun == null) {
-            return true;
+            return Instant.EPOCH;
         }
+        return lastRun.plus(config.interval()).atZone(ZoneId.systemDefault()).toInstant();
+    }
 
-        long intervalMinutes = Long
-                .parseLong(strategy.getParameters().getOrDefault("intervalMinutes", "1440").toString());
-        return ChronoUnit.MINUTES.between(lastRun, LocalDateTime.now()) >= intervalMinutes;
+    // Guards against a stale timer firing right after a run; only reached when due
+    private boolean shouldRun(Strategy strategy, Config config) {
+        return !Instant.now().isBefore(nextRunAt(strategy, config));
     }
 }
@@ -0,0 +1,277 @@
+package com.cryptobot.service.strategy.impl;
+
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.domain.vo.FixedPoint;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.OrderType;
+import com.cryptobot.service.strategy.StrategyParameters;
+import com.cryptobot.service.strategy.TradingStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spot grid trading: buys one step of inventory each time the price falls
+ * through a grid level and sells it when the price rises through the next
+ * level up.
+ * <p>
+ * Levels are a sorted {@code long[]} of fixed-point prices, so finding the
+ * levels crossed since the previous tick is two binary searches plus the
+ * crossed levels themselves. Which levels hold inventory is tracked in a bit
+ * set per strategy. All levels crossed by one tick are combined into a single
+ * market order; its levels are held back from further crossings until the
+ * executor reports the order's result, and only change hands if it was placed.
+ * <p>
+ * Fill state is kept in memory only: after a restart or reconfiguration the
+ * grid starts out holding nothing.
+ */
+@Slf4j
+@Component("GRID")
+public class GridStrategy implements TradingStrategy<GridStrategy.Config> {
+
+    static final int PRICE_SCALE = 8;
+    private static final int MAX_LEVELS = 10_000;
+
+    /**
+     * Bound grid parameters; {@code levels} are ascending prices in units of
+     * {@code 10^-8}.
+     */
+    public record Config(long[] levels, BigDecimal quantityPerLevel) {
+    }
+
+    // Runtime fill state per strategy id; evaluated by that strategy's actor, but order
+    // results may arrive on other threads
+    private final Map<Long, GridState> states = new ConcurrentHashMap<>();
+
+    @Override
+    public Config compile(Map<String, Object> parameters) {
+        BigDecimal lower = StrategyParameters.positiveDecimal(parameters, "lowerPrice", null);
+        BigDecimal upper = StrategyParameters.positiveDecimal(parameters, "upperPrice", null);
+        long count = StrategyParameters.positiveLong(parameters, "levels", "10");
+        BigDecimal quantity = StrategyParameters.positiveDecimal(parameters, "quantityPerLevel", null);
+
+        if (upper.compareTo(lower) <= 0) {
+            throw new IllegalArgumentException("Parameter 'upperPrice' must be above 'lowerPrice'");
+        }
+        if (count < 2 || count > MAX_LEVELS) {
+            throw new IllegalArgumentException("Parameter 'levels' must be between 2 and " + MAX_LEVELS);
+        }
+
+        long[] levels = new long[(int) count];
+        try {
+            long lowerUnits = FixedPoint.toUnits(lower, PRICE_SCALE, RoundingMode.HALF_UP);
+            long upperUnits = FixedPoint.toUnits(upper, PRICE_SCALE, RoundingMode.HALF_UP);
+            if (lowerUnits <= 0 || upperUnits <= lowerUnits) {
+                throw new IllegalArgumentException("Grid prices must differ at " + PRICE_SCALE + " decimal places");
+            }
+            for (int i = 0; i < levels.length; i++) {
+                levels[i] = lowerUnits + FixedPoint.divide(
+                        Math.multiplyExact(Math.subtractExact(upperUnits, lowerUnits), (long) i), count - 1,
+                        RoundingMode.HALF_UP);
+                if (i > 0 && levels[i] <= levels[i - 1]) {
+                    throw new IllegalArgumentException("Grid levels are too dense for the price range");
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Grid price range is too large");
+        }
+        return new Config(levels, quantity);
+    }
+
+    @Override
+    public Optional<Order> evaluate(Strategy strategy, Config config, TickerUpdate ticker) {
+        GridState state = states.get(strategy.getId());
+        if (state == null || state.config != config) {
+            // First tick after (re)activation only establishes the reference price
+            state = new GridState(config);
+            states.put(strategy.getId(), state);
+        }
+
+        long price = FixedPoint.rescale(ticker.getLastPriceUnits(), ticker.getPriceScale(), PRICE_SCALE,
+                RoundingMode.HALF_UP);
+        GridState.Crossing crossing = state.advance(price);
+        if (crossing == null) {
+            return Optional.empty();
+        }
+
+        BigDecimal quantity = config.quantityPerLevel().multiply(BigDecimal.valueOf(crossing.levels().length));
+        log.debug("GRID Strategy [{}] crossed {} level(s) on {} at {}: {} {}",
+                strategy.getName(), crossing.levels().length, strategy.getSymbol(),
+                FixedPoint.toBigDecimal(price, PRICE_SCALE), crossing.side(), quantity);
+
+        Order order = Order.builder()
+                .symbol(strategy.getSymbol())
+                .side(crossing.side())
+                .orderType(OrderType.MARKET)
+                .quantity(quantity)
+                .build();
+        state.track(order, crossing);
+        return Optional.of(order);
+    }
+
+    @Override
+    public void onOrderResult(Strategy strategy, Order order, boolean placed) {
+        GridState state = states.get(strategy.getId());
+        if (state != null) {
+            // Unknown to a state rebuilt since the order was emitted; its levels start over anyway
+            state.complete(order, placed);
+        }
+    }
+
+    @Override
+    public void onDeactivated(Strategy strategy) {
+        states.remove(strategy.getId());
+    }
+
+    /**
+     * Last seen price, which levels currently hold inventory bought there and
+     * which have an order in flight.
+     * <p>
+     * Synchronized because the executor reports order results from whichever
+     * thread completed the order; evaluations of one strategy never overlap.
+     */
+    static final class GridState {
+
+        /**
+         * The levels whose inventory one order buys or sells.
+         */
+        record Crossing(OrderSide side, int[] levels) {
+        }
+
+        private final Config config;
+        private final long[] levels;
+        private final long[] holding;
+        // Levels in an order whose result is not known yet; no crossing takes them again meanwhile
+        private final long[] pending;
+        private final int[] crossed;
+        private final Map<Order, Crossing> inFlight = new IdentityHashMap<>();
+        private long lastPrice = -1;
+
+        GridState(Config config) {
+            this.config = config;
+            this.levels = config.levels();
+            this.holding = new long[(levels.length + 63) >>> 6];
+            this.pending = new long[holding.length];
+            this.crossed = new int[levels.length];
+        }
+
+        /**
+         * Moves to {@code price} and marks every level crossed since the last
+         * price as pending. Fill state changes only in {@link #complete}.
+         *
+         * @return the resulting order side and levels, or null if nothing
+         *         needs to trade
+         */
+        synchronized Crossing advance(long price) {
+            long previous = lastPrice;
+            lastPrice = price;
+            if (previous < 0 || price == previous) {
+                return null;
+            }
+
+            int count = 0;
+            if (price < previous) {
+                // Levels in [price, previous) were crossed downward: buy there, except at the top level
+                int from = lowerBound(price);
+                int to = Math.min(lowerBound(previous), levels.length - 1);
+                for (int i = from; i < to; i++) {
+                    if (!isSet(holding, i) && !isSet(pending, i)) {
+                        set(pending, i, true);
+                        crossed[count++] = i;
+                    }
+                }
+                return count > 0 ? new Crossing(OrderSide.BUY, Arrays.copyOf(crossed, count)) : null;
+            }
+
+            // Levels in (previous, price] were crossed upward: sell what was bought one level below
+            int from = Math.max(upperBound(previous), 1);
+            int to = upperBound(price);
+            for (int i = from; i < to; i++) {
+                if (isSet(holding, i - 1) && !isSet(pending, i - 1)) {
+                    set(pending, i - 1, true);
+                    crossed[count++] = i - 1;
+                }
+            }
+            return count > 0 ? new Crossing(OrderSide.SELL, Arrays.copyOf(crossed, count)) : null;
+        }
+
+        /**
+         * Settles a crossing: its levels change hands if the order was placed
+         * and are released unchanged otherwise.
+         */
+        synchronized void complete(Crossing crossing, boolean placed) {
+            for (int level : crossing.levels()) {
+                set(pending, level, false);
+                if (placed) {
+                    set(holding, level, crossing.side() == OrderSide.BUY);
+                }
+            }
+        }
+
+        synchronized void track(Order order, Crossing crossing) {
+            inFlight.put(order, crossing);
+        }
+
+        synchronized void complete(Order order, boolean placed) {
+            Crossing crossing = inFlight.remove(order);
+            if (crossing != null) {
+                complete(crossing, placed);
+            }
+        }
+
+        synchronized boolean isHolding(int level) {
+            return isSet(holding, level);
+        }
+
+        private static boolean isSet(long[] bits, int level) {
+            return (bits[level >>> 6] & (1L << level)) != 0;
+        }
+
+        private static void set(long[] bits, int level, boolean value) {
+            if (value) {
+                bits[level >>> 6] |= 1L << level;
+            } else {
+                bits[level >>> 6] &= ~(1L << level);
+            }
+        }
+
+        // First index whose level is >= price
+        private int lowerBound(long price) {
+            int low = 0;
+            int high = levels.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (levels[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // First index whose level is > price
+        private int upperBound(long price) {
+            int low = 0;
+            int high = levels.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (levels[mid] <= price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
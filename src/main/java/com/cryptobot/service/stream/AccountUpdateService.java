@@ -0,0 +1,110 @@
+package com.cryptobot.service.stream;
+
+import com.cryptobot.domain.model.AccountUpdate;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.Balance;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Trade;
+import com.cryptobot.repository.BalanceRepository;
+import com.cryptobot.repository.OrderRepository;
+import com.cryptobot.repository.TradeRepository;
+import com.cryptobot.repository.entity.BalanceEntity;
+import com.cryptobot.repository.entity.OrderEntity;
+import com.cryptobot.repository.entity.TradeEntity;
+import com.cryptobot.service.mapper.BalanceMapper;
+import com.cryptobot.service.mapper.TradeMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Applies private stream events of one account to the {@code orders},
+ * {@code trades} and {@code balances} tables.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountUpdateService {
+
+    private final OrderRepository orderRepository;
+    private final TradeRepository tradeRepository;
+    private final BalanceRepository balanceRepository;
+    private final TradeMapper tradeMapper;
+    private final BalanceMapper balanceMapper;
+
+    @Transactional
+    public void apply(ApiKey apiKey, AccountUpdate update) {
+        switch (update.getType()) {
+            case ORDER -> update.getOrders().forEach(order -> applyOrder(apiKey, order));
+            case EXECUTION -> update.getExecutions().forEach(trade -> applyExecution(apiKey, trade));
+            case WALLET -> applyBalances(apiKey, update.getBalances());
+            default -> {
+            }
+        }
+    }
+
+    private void applyOrder(ApiKey apiKey, Order update) {
+        Optional<OrderEntity> existing = findOwnOrder(apiKey, update.getExchangeOrderId());
+        if (existing.isEmpty()) {
+            // Often a push that beat the placement's insert; reconciliation polls the order until confirmed
+            log.debug("Ignoring stream update for unknown order {}", update.getExchangeOrderId());
+            return;
+        }
+        OrderEntity entity = existing.get();
+        // Pushes can arrive out of order; never let an older state overwrite a newer one
+        if (entity.getExchangeUpdatedAt() != null && update.getExchangeUpdatedAt() != null
+                && update.getExchangeUpdatedAt().isBefore(entity.getExchangeUpdatedAt())) {
+            return;
+        }
+        entity.setStatus(update.getStatus());
+        entity.setFilledQuantity(update.getFilledQuantity());
+        entity.setAveragePrice(update.getAveragePrice());
+        entity.setUpdatedAt(LocalDateTime.now());
+        entity.setExchangeUpdatedAt(update.getExchangeUpdatedAt());
+        orderRepository.save(entity);
+    }
+
+    private void applyExecution(ApiKey apiKey, Trade trade) {
+        if (tradeRepository.existsByExchangeTypeAndExchangeTradeId(apiKey.getExchangeType(),
+                trade.getExchangeTradeId())) {
+            return;
+        }
+        Optional<OrderEntity> order = findOwnOrder(apiKey, trade.getExchangeOrderId());
+        if (order.isEmpty()) {
+            log.debug("Ignoring execution {} of unknown order {}", trade.getExchangeTradeId(),
+                    trade.getExchangeOrderId());
+            return;
+        }
+        TradeEntity entity = tradeMapper.toEntity(trade);
+        entity.setOrderId(order.get().getId());
+        entity.setUserId(apiKey.getUserId());
+        entity.setExchangeType(apiKey.getExchangeType());
+        tradeRepository.save(entity);
+    }
+
+    private void applyBalances(ApiKey apiKey, List<Balance> balances) {
+        List<BalanceEntity> entities = balances.stream()
+                .map(balance -> {
+                    BalanceEntity entity = balanceMapper.toEntity(balance);
+                    entity.setUserId(apiKey.getUserId());
+                    entity.setApiKeyId(apiKey.getId());
+                    entity.setExchangeType(apiKey.getExchangeType());
+                    return entity;
+                })
+                .toList();
+        balanceRepository.upsertBalances(apiKey.getUserId(), apiKey.getId(), entities);
+    }
+
+    private Optional<OrderEntity> findOwnOrder(ApiKey apiKey, String exchangeOrderId) {
+        if (exchangeOrderId == null) {
+            return Optional.empty();
+        }
+        return orderRepository.findByExchangeOrderId(exchangeOrderId)
+                .filter(entity -> apiKey.getUserId().equals(entity.getUserId()));
+    }
+}
@@ -0,0 +1,169 @@
+package com.cryptobot.service.stream;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.adapter.bybit.BybitPrivateStreamClient;
+import com.cryptobot.domain.model.AccountUpdate;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.repository.ApiKeyRepository;
+import com.cryptobot.service.ApiKeyService;
+import com.cryptobot.service.mapper.ApiKeyMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one authenticated private stream open per active Bybit API key and
+ * writes the order, execution and wallet events it receives to the database.
+ * <p>
+ * All sessions share the WebSocket client's event loop; events of one key are
+ * applied in order on a bounded elastic thread. The set of sessions follows
+ * the active API keys on every refresh. Orders of a key whose stream is up
+ * are kept current by the stream, so {@link com.cryptobot.service.task.OrderSyncTask}
+ * only polls the ones that may have missed an event (see
+ * {@link #needsReconciliation}).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrivateStreamManager {
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyMapper apiKeyMapper;
+    private final ApiKeyService apiKeyService;
+    private final BybitPrivateStreamClient streamClient;
+    private final AccountUpdateService accountUpdateService;
+
+    @Value("${bybit.private-stream.enabled:true}")
+    private boolean enabled = true;
+
+    // How long an order whose exchange state no event has confirmed yet is still polled
+    @Value("${bybit.private-stream.unconfirmed-grace-ms:300000}")
+    private long unconfirmedGraceMillis = 300_000;
+
+    private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Opens streams for newly active keys and closes those of keys that were
+     * deactivated or removed.
+     */
+    @Scheduled(fixedDelayString = "${bybit.private-stream.refresh-ms:30000}")
+    public void refreshSessions() {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, ApiKey> activeKeys = apiKeyRepository.findByExchangeTypeAndActiveTrue(ExchangeType.BYBIT).stream()
+                .map(apiKeyMapper::toDomain)
+                .collect(Collectors.toMap(ApiKey::getId, key -> key));
+
+        Set<Long> stale = sessions.keySet().stream()
+                .filter(id -> !activeKeys.containsKey(id))
+                .collect(Collectors.toSet());
+        stale.forEach(id -> {
+            close(id);
+            apiKeyService.invalidateCache(id);
+        });
+
+        activeKeys.values().stream()
+                .filter(key -> !sessions.containsKey(key.getId()))
+                .forEach(this::open);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Set.copyOf(sessions.keySet()).forEach(this::close);
+    }
+
+    /**
+     * Whether an open order of this key may be out of date: the key has no
+     * live stream, the order was last written before the stream could be
+     * trusted (it connected, or an event of it failed to apply, after that),
+     * or no event has confirmed the order's exchange state yet and it was
+     * written less than {@code bybit.private-stream.unconfirmed-grace-ms} ago.
+     * The last case covers pushes that arrive before the placement has stored
+     * the order: they are dropped as unknown, and the row written afterwards
+     * would otherwise look current.
+     */
+    public boolean needsReconciliation(Long apiKeyId, LocalDateTime lastUpdatedAt,
+            LocalDateTime exchangeUpdatedAt) {
+        Session session = apiKeyId != null ? sessions.get(apiKeyId) : null;
+        LocalDateTime trustedSince = session != null ? session.trustedSince : null;
+        if (trustedSince == null || lastUpdatedAt == null || lastUpdatedAt.isBefore(trustedSince)) {
+            return true;
+        }
+        return exchangeUpdatedAt == null
+                && lastUpdatedAt.plusNanos(unconfirmedGraceMillis * 1_000_000L).isAfter(LocalDateTime.now());
+    }
+
+    public boolean isStreaming(Long apiKeyId) {
+        Session session = sessions.get(apiKeyId);
+        return session != null && session.trustedSince != null;
+    }
+
+    private void open(ApiKey apiKey) {
+        ApiKeyService.Credentials credentials;
+        try {
+            credentials = apiKeyService.getDecryptedCredentials(apiKey);
+        } catch (RuntimeException e) {
+            log.error("Cannot open private stream for API key {}: {}", apiKey.getId(), e.getMessage());
+            return;
+        }
+        Session session = new Session();
+        sessions.put(apiKey.getId(), session);
+        log.info("Opening private stream for user {} (API key {})", apiKey.getUserId(), apiKey.getId());
+
+        session.subscription = streamClient.connect(credentials.apiKey(), credentials.apiSecret())
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(update -> onUpdate(apiKey, session, update))
+                .doOnError(e -> session.trustedSince = null)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofMinutes(1))
+                        .doBeforeRetry(signal -> log.warn("Private stream for API key {} lost ({}), reconnecting "
+                                + "(attempt {})", apiKey.getId(), signal.failure().getMessage(),
+                                signal.totalRetries() + 1)))
+                .subscribe(null, e -> log.error("Private stream for API key {} stopped: {}", apiKey.getId(),
+                        e.getMessage()));
+    }
+
+    private void onUpdate(ApiKey apiKey, Session session, AccountUpdate update) {
+        if (update.getType() == AccountUpdate.Type.CONNECTED) {
+            session.trustedSince = LocalDateTime.now();
+            return;
+        }
+        try {
+            accountUpdateService.apply(apiKey, update);
+        } catch (RuntimeException e) {
+            // The event is lost, so orders written before now are polled again until rewritten
+            session.trustedSince = LocalDateTime.now();
+            log.error("Failed to apply {} update for API key {}: {}", update.getType(), apiKey.getId(),
+                    e.getMessage());
+        }
+    }
+
+    private void close(Long apiKeyId) {
+        Session session = sessions.remove(apiKeyId);
+        if (session != null && session.subscription != null) {
+            session.subscription.dispose();
+            log.info("Closed private stream for API key {}", apiKeyId);
+        }
+    }
+
+    private static final class Session {
+        private volatile Disposable subscription;
+        // Since when the stream has delivered every event: set on connect and after an event
+        // failed to apply; null while disconnected
+        private volatile LocalDateTime trustedSince;
+    }
+}
@@ -4,23 +4,43 @@ import com.cryptobot.adapter.ExchangeAdapter;
 import com.cryptobot.adapter.ExchangeAdapterFactory;
 import com.cryptobot.domain.model.ApiKey;
 import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.vo.OrderStatus;
 import com.cryptobot.domain.vo.Symbol;
 import com.cryptobot.repository.OrderRepository;
 import com.cryptobot.repository.entity.OrderEntity;
 import com.cryptobot.service.ApiKeyService;
-import com.cryptobot.service.mapper.OrderMapper;
+import com.cryptobot.service.stream.PrivateStreamManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.LocalDateTime;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Background task to synchronize the status of open orders with the exchange.
+ * <p>
+ * Order updates normally arrive over the private stream; this task only
+ * reconciles open orders the stream may have missed, so it makes no REST
+ * calls while every stream is up. Orders are grouped by API key and symbol:
+ * each key is decrypted once and each symbol costs one bulk open-order
+ * request, so the cost follows the number of accounts rather than orders.
+ * Only orders missing from the open list (filled or cancelled since the last
+ * run) are looked up one by one. Orders found unchanged are stamped as
+ * confirmed, so the next run leaves them to the stream again.
  */
 @Slf4j
 @Component
@@ -28,64 +48,179 @@ import java.util.List;
 public class OrderSyncTask {
 
     private final OrderRepository orderRepository;
-    private final OrderMapper orderMapper;
     private final ApiKeyService apiKeyService;
     private final ExchangeAdapterFactory adapterFactory;
+    private final PrivateStreamManager privateStreamManager;
+
+    @Value("${app.sync.order-page-size:500}")
+    private int pageSize = 500;
+
+    @Value("${app.sync.key-concurrency:4}")
+    private int keyConcurrency = 4;
+
+    private final AtomicBoolean running = new AtomicBoolean();
 
     /**
      * Runs every minute to sync non-terminal orders.
      */
     @Scheduled(fixedRateString = "${app.sync.order-interval-ms:60000}")
     public void syncOpenOrders() {
+        // Skip the tick if the previous reconciliation is still in flight
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
         log.debug("Starting background order synchronization...");
+        reconcile()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        updated -> log.debug("Order reconciliation updated {} orders", updated),
+                        error -> log.error("Unhandled error during background order sync: {}", error.getMessage()));
+    }
 
-        // Fetch all orders from DB that are not in a terminal state
-        List<OrderEntity> openOrderEntities = orderRepository.findAll().stream()
-                .filter(entity -> {
-                    Order domain = orderMapper.toDomain(entity);
-                    return !domain.isTerminal();
-                })
-                .toList();
-
-        if (openOrderEntities.isEmpty()) {
-            return;
+    /**
+     * Reconciles all open orders not kept current by a private stream.
+     *
+     * @return Number of orders written back
+     */
+    Mono<Integer> reconcile() {
+        Map<Long, List<OrderEntity>> ordersByKey = loadOrdersToReconcile();
+        if (ordersByKey.isEmpty()) {
+            return Mono.just(0);
         }
+        log.info("Reconciling {} open orders across {} API keys",
+                ordersByKey.values().stream().mapToInt(List::size).sum(), ordersByKey.size());
 
-        log.info("Found {} open orders to synchronize", openOrderEntities.size());
+        Map<Long, ApiKey> apiKeys = apiKeyService.getActiveKeys(ordersByKey.keySet()).stream()
+                .collect(Collectors.toMap(ApiKey::getId, Function.identity()));
 
-        Flux.fromIterable(openOrderEntities)
-                .flatMap(this::syncOrder)
-                .subscribe(
-                        syncedOrder -> log.debug("Synced order: {}", syncedOrder.getExchangeOrderId()),
-                        error -> log.error("Unhandled error during background order sync: {}", error.getMessage()));
+        return Flux.fromIterable(ordersByKey.entrySet())
+                .flatMap(entry -> {
+                    ApiKey apiKey = apiKeys.get(entry.getKey());
+                    if (apiKey == null) {
+                        log.warn("Skipping {} open orders of inactive API key {}", entry.getValue().size(),
+                                entry.getKey());
+                        return Mono.just(0);
+                    }
+                    return reconcileKey(apiKey, entry.getValue());
+                }, keyConcurrency)
+                .reduce(0, Integer::sum);
+    }
+
+    /**
+     * Pages through non-terminal orders by id, keeping those that need
+     * reconciliation grouped by API key.
+     */
+    private Map<Long, List<OrderEntity>> loadOrdersToReconcile() {
+        Map<Long, List<OrderEntity>> ordersByKey = new LinkedHashMap<>();
+        long afterId = 0;
+        List<OrderEntity> page;
+        do {
+            page = orderRepository.findByStatusInAndIdGreaterThanOrderByIdAsc(OrderStatus.open(), afterId,
+                    PageRequest.ofSize(pageSize));
+            for (OrderEntity entity : page) {
+                afterId = entity.getId();
+                if (entity.getExchangeOrderId() != null
+                        && privateStreamManager.needsReconciliation(entity.getApiKeyId(), entity.getUpdatedAt(),
+                                entity.getExchangeUpdatedAt())) {
+                    ordersByKey.computeIfAbsent(entity.getApiKeyId(), id -> new ArrayList<>()).add(entity);
+                }
+            }
+        } while (page.size() == pageSize);
+        return ordersByKey;
     }
 
-    private Mono<Order> syncOrder(OrderEntity entity) {
+    private Mono<Integer> reconcileKey(ApiKey apiKey, List<OrderEntity> orders) {
+        ApiKeyService.Credentials credentials;
+        ExchangeAdapter adapter;
         try {
-            ApiKey apiKey = apiKeyService.getActiveKey(entity.getUserId(), entity.getExchangeType());
-            ApiKeyService.Credentials credentials = apiKeyService.getDecryptedCredentials(apiKey);
-            ExchangeAdapter adapter = adapterFactory.getAdapter(entity.getExchangeType());
-
-            return adapter.getOrder(credentials.apiKey(), credentials.apiSecret(),
-                    entity.getExchangeOrderId(), new Symbol(entity.getSymbol()))
-                    .flatMap(updatedOrder -> {
-                        // Update entity with new status and details
-                        entity.setStatus(updatedOrder.getStatus());
-                        entity.setFilledQuantity(updatedOrder.getFilledQuantity());
-                        entity.setAveragePrice(updatedOrder.getAveragePrice());
-                        entity.setUpdatedAt(LocalDateTime.now());
-                        entity.setExchangeUpdatedAt(updatedOrder.getExchangeUpdatedAt());
-
-                        orderRepository.save(entity);
-                        return Mono.just(updatedOrder);
-                    })
-                    .onErrorResume(e -> {
-                        log.warn("Could not sync order {}: {}", entity.getExchangeOrderId(), e.getMessage());
-                        return Mono.empty();
-                    });
+            credentials = apiKeyService.getDecryptedCredentials(apiKey);
+            adapter = adapterFactory.getAdapter(apiKey.getExchangeType());
         } catch (Exception e) {
-            log.error("Fatal error syncing order {}: {}", entity.getId(), e.getMessage());
-            return Mono.empty();
+            log.error("Fatal error syncing orders of API key {}: {}", apiKey.getId(), e.getMessage());
+            return Mono.just(0);
+        }
+
+        Map<String, List<OrderEntity>> bySymbol = orders.stream()
+                .collect(Collectors.groupingBy(OrderEntity::getSymbol, LinkedHashMap::new, Collectors.toList()));
+
+        return Flux.fromIterable(bySymbol.entrySet())
+                .concatMap(entry -> reconcileSymbol(adapter, credentials, entry.getKey(), entry.getValue()))
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .map(polled -> {
+                    List<OrderEntity> changed = new ArrayList<>();
+                    List<OrderEntity> confirmed = new ArrayList<>();
+                    for (Polled order : polled) {
+                        (order.changed() ? changed : confirmed).add(order.entity());
+                    }
+                    orderRepository.batchConfirmExchangeState(confirmed);
+                    return orderRepository.batchUpdateExchangeState(changed);
+                })
+                .onErrorResume(e -> {
+                    log.warn("Could not sync orders of API key {}: {}", apiKey.getId(), e.getMessage());
+                    return Mono.just(0);
+                });
+    }
+
+    /**
+     * Emits the orders of one symbol whose exchange state could be read,
+     * updated in place.
+     */
+    private Flux<Polled> reconcileSymbol(ExchangeAdapter adapter, ApiKeyService.Credentials credentials,
+            String symbol, List<OrderEntity> orders) {
+        return adapter.getOpenOrders(credentials.apiKey(), credentials.apiSecret(), new Symbol(symbol))
+                .collectMap(Order::getExchangeOrderId)
+                .flatMapMany(open -> Flux.fromIterable(orders)
+                        .concatMap(entity -> {
+                            Order listed = open.get(entity.getExchangeOrderId());
+                            Mono<Order> current = listed != null
+                                    ? Mono.just(listed)
+                                    // No longer open: fetch its final state
+                                    : adapter.getOrder(credentials.apiKey(), credentials.apiSecret(),
+                                            entity.getExchangeOrderId(), new Symbol(symbol))
+                                            .onErrorResume(e -> {
+                                                log.warn("Could not sync order {}: {}", entity.getExchangeOrderId(),
+                                                        e.getMessage());
+                                                return Mono.empty();
+                                            });
+                            return current.map(order -> new Polled(entity, apply(entity, order)));
+                        }))
+                .onErrorResume(e -> {
+                    log.warn("Could not list open {} orders: {}", symbol, e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    /**
+     * Copies the exchange state onto the entity; an unchanged order only takes
+     * the exchange update time, if there is one.
+     *
+     * @return Whether anything changed
+     */
+    private static boolean apply(OrderEntity entity, Order order) {
+        boolean changed = entity.getStatus() != order.getStatus()
+                || !sameAmount(entity.getFilledQuantity(), order.getFilledQuantity())
+                || !sameAmount(entity.getAveragePrice(), order.getAveragePrice());
+        if (!changed) {
+            if (order.getExchangeUpdatedAt() != null) {
+                entity.setExchangeUpdatedAt(order.getExchangeUpdatedAt());
+            }
+            return false;
+        }
+        entity.setStatus(order.getStatus());
+        entity.setFilledQuantity(order.getFilledQuantity());
+        entity.setAveragePrice(order.getAveragePrice());
+        entity.setExchangeUpdatedAt(order.getExchangeUpdatedAt());
+        return true;
+    }
+
+    private record Polled(OrderEntity entity, boolean changed) {
+    }
+
+    private static boolean sameAmount(BigDecimal stored, BigDecimal current) {
+        if (stored == null || current == null) {
+            return Objects.equals(stored, current);
         }
+        return stored.compareTo(current) == 0;
     }
 }
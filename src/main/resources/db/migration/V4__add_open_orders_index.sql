@@ -0,0 +1,2 @@
+-- Partial index for reconciliation, which pages through working orders by id
+CREATE INDEX idx_orders_open ON orders(id) WHERE status IN ('NEW', 'PARTIALLY_FILLED');
@@ -0,0 +1,13 @@
+-- Newest execution time already synced per API key and symbol, so execution
+-- history sync only downloads what is new
+CREATE TABLE execution_sync_watermarks (
+    id BIGSERIAL PRIMARY KEY,
+    api_key_id BIGINT NOT NULL REFERENCES api_keys(id) ON DELETE CASCADE,
+    symbol VARCHAR(20) NOT NULL,
+    last_exec_time BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE(api_key_id, symbol)
+);
+
+-- Links executions to local orders by exchange order id within one key
+CREATE INDEX idx_orders_api_key_exchange_order_id ON orders(api_key_id, exchange_order_id);
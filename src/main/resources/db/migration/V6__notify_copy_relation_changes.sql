@@ -0,0 +1,19 @@
+-- Publish the lead user of every committed copy relation change so that
+-- each node can reload that lead's followers in its in-memory graph
+CREATE OR REPLACE FUNCTION notify_copy_relation_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('copy_relations_changed', OLD.lead_user_id::text);
+        RETURN OLD;
+    END IF;
+    IF TG_OP = 'UPDATE' AND OLD.lead_user_id <> NEW.lead_user_id THEN
+        PERFORM pg_notify('copy_relations_changed', OLD.lead_user_id::text);
+    END IF;
+    PERFORM pg_notify('copy_relations_changed', NEW.lead_user_id::text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER copy_relations_notify
+    AFTER INSERT OR UPDATE OR DELETE ON copy_relations
+    FOR EACH ROW EXECUTE FUNCTION notify_copy_relation_change();
@@ -0,0 +1,94 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.WebClientRegistry;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Trade;
+import com.cryptobot.domain.vo.Symbol;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BybitAdapterTest {
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private DisposableServer server;
+    private BybitAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        // Serves two pages per listing: the first names a cursor, the second ends the listing
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes
+                        .get("/v5/order/realtime", (request, response) -> {
+                            requests.add(request.uri());
+                            boolean second = request.uri().contains("cursor=page-2");
+                            return response.sendString(Mono.just(page(second ? "" : "page-2",
+                                    "{\"orderId\":\"" + (second ? "o-2" : "o-1") + "\",\"symbol\":\"BTCUSDT\","
+                                            + "\"side\":\"Buy\",\"orderType\":\"Limit\",\"orderStatus\":\"New\"}")));
+                        })
+                        .get("/v5/execution/list", (request, response) -> {
+                            requests.add(request.uri());
+                            boolean second = request.uri().contains("cursor=page-2");
+                            return response.sendString(Mono.just(page(second ? "" : "page-2",
+                                    "{\"symbol\":\"BTCUSDT\",\"execId\":\"" + (second ? "e-2" : "e-1") + "\","
+                                            + "\"orderId\":\"o-1\",\"side\":\"Buy\",\"execPrice\":\"30000\","
+                                            + "\"execQty\":\"0.1\",\"execFee\":\"0.0001\",\"feeCurrency\":\"BTC\","
+                                            + "\"execTime\":\"" + System.currentTimeMillis() + "\"}")));
+                        }))
+                .bindNow();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        adapter = new BybitAdapter(new WebClientRegistry(WebClient.builder()), objectMapper,
+                new BybitResponseReader(objectMapper), new BybitRateLimiter(100, 5000), new BybitSignatureGenerator());
+        ReflectionTestUtils.setField(adapter, "baseUrl", "http://localhost:" + server.port());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void testOpenOrdersFollowTheNextPageCursor() {
+        List<Order> orders = adapter.getOpenOrders("key", "secret", Symbol.of("BTCUSDT"))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of("o-1", "o-2"), orders.stream().map(Order::getExchangeOrderId).toList());
+        assertEquals(2, requests.size());
+        assertFalse(requests.get(0).contains("cursor="));
+        assertTrue(requests.get(1).contains("cursor=page-2"));
+    }
+
+    @Test
+    void testExecutionsFollowTheNextPageCursorWithinAWindow() {
+        List<Trade> trades = adapter.getExecutionsSince("key", "secret", Symbol.of("BTCUSDT"),
+                        System.currentTimeMillis() - Duration.ofHours(1).toMillis())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of("e-1", "e-2"), trades.stream().map(Trade::getExchangeTradeId).toList());
+        assertEquals(2, requests.size());
+        assertFalse(requests.get(0).contains("cursor="));
+        assertTrue(requests.get(1).contains("cursor=page-2"));
+    }
+
+    private static String page(String nextPageCursor, String item) {
+        return "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"spot\",\"nextPageCursor\":\""
+                + nextPageCursor + "\",\"list\":[" + item + "]},\"retExtInfo\":{},\"time\":1}";
+    }
+}
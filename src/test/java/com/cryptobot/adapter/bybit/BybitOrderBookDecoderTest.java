@@ -0,0 +1,61 @@
+package com.cryptobot.adapter.bybit;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BybitOrderBookDecoderTest {
+
+    private final BybitOrderBookDecoder decoder = new BybitOrderBookDecoder();
+
+    @Test
+    void testDecodesSnapshotLevels() {
+        String message = "{\"topic\":\"orderbook.50.BTCUSDT\",\"ts\":1672304484978,\"type\":\"snapshot\"," +
+                "\"data\":{\"s\":\"BTCUSDT\",\"b\":[[\"16493.50\",\"0.006\"],[\"16493.00\",\"0.100\"]]," +
+                "\"a\":[[\"16611.00\",\"0.029\"]],\"u\":18521288,\"seq\":7961638724},\"cts\":1672304484976}";
+
+        BybitOrderBookFrame frame = decode(message);
+
+        assertNotNull(frame);
+        assertEquals("BTCUSDT", frame.getSymbol());
+        assertTrue(frame.isSnapshot());
+        assertEquals(18521288L, frame.getUpdateId());
+        assertEquals(7961638724L, frame.getSeq());
+        assertEquals(1672304484978L, frame.getTimestamp());
+        assertEquals(2, frame.getBids().count());
+        assertEquals(1649300L, frame.getBids().price(1));
+        assertEquals(2, frame.getBids().priceScale(1));
+        assertEquals(100L, frame.getBids().size(1));
+        assertEquals(3, frame.getBids().sizeScale(1));
+        assertEquals(1, frame.getAsks().count());
+        assertEquals(29L, frame.getAsks().size(0));
+    }
+
+    @Test
+    void testDeltaReusesTheFrameAndIgnoresOtherTopics() {
+        decode("{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1,\"data\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":[[\"1\",\"1\"],[\"2\",\"1\"]],\"a\":[],\"u\":1,\"seq\":1}}");
+
+        BybitOrderBookFrame frame = decode("{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"delta\",\"ts\":2," +
+                "\"data\":{\"s\":\"BTCUSDT\",\"b\":[[\"2\",\"0\"]],\"a\":[],\"u\":2,\"seq\":3}}");
+
+        assertFalse(frame.isSnapshot());
+        assertEquals(1, frame.getBids().count());
+        assertEquals(0L, frame.getBids().size(0));
+        assertNull(decode("{\"topic\":\"ticker.BTCUSDT\",\"ts\":1,\"data\":{\"symbol\":\"BTCUSDT\"}}"));
+        assertNull(decode("{\"success\":true,\"ret_msg\":\"subscribe\",\"op\":\"subscribe\"}"));
+    }
+
+    @Test
+    void testRejectsMalformedLevels() {
+        assertThrows(IllegalArgumentException.class, () -> decode("{\"topic\":\"orderbook.1.BTCUSDT\"," +
+                "\"data\":{\"s\":\"BTCUSDT\",\"b\":[[\"1\" \"2\"]]}}"));
+    }
+
+    private BybitOrderBookFrame decode(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        return decoder.decode(bytes, 0, bytes.length);
+    }
+}
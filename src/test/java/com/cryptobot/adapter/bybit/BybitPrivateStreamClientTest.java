@@ -0,0 +1,110 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.domain.exception.ExchangeException;
+import com.cryptobot.domain.model.AccountUpdate;
+import com.cryptobot.domain.model.Balance;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Trade;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BybitPrivateStreamClientTest {
+
+    private static final String API_KEY = "stream-key";
+    private static final String API_SECRET = "stream-secret";
+
+    private FakeBybitPrivateServer server;
+    private BybitPrivateStreamClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new FakeBybitPrivateServer(API_KEY, API_SECRET);
+        client = new BybitPrivateStreamClient(new ReactorNettyWebSocketClient(), new ObjectMapper(),
+                new BybitSignatureGenerator());
+        ReflectionTestUtils.setField(client, "privateUrl", server.url());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testStreamsOrderExecutionAndWalletUpdates() {
+        StepVerifier.create(client.connect(API_KEY, API_SECRET))
+                .assertNext(update -> assertEquals(AccountUpdate.Type.CONNECTED, update.getType()))
+                .then(() -> server.push("{\"topic\":\"order\",\"creationTime\":1700000000100,\"data\":[{"
+                        + "\"category\":\"spot\",\"orderId\":\"o-1\",\"symbol\":\"BTCUSDT\",\"side\":\"Buy\","
+                        + "\"orderType\":\"Limit\",\"price\":\"30000\",\"qty\":\"0.5\",\"orderStatus\":\"PartiallyFilled\","
+                        + "\"cumExecQty\":\"0.2\",\"avgPrice\":\"30000\",\"createdTime\":\"1700000000000\","
+                        + "\"updatedTime\":\"1700000000100\"},{\"category\":\"linear\",\"orderId\":\"o-2\","
+                        + "\"symbol\":\"BTCUSDT\",\"side\":\"Sell\",\"orderType\":\"Market\",\"qty\":\"1\","
+                        + "\"orderStatus\":\"Filled\"}]}"))
+                .assertNext(update -> {
+                    assertEquals(AccountUpdate.Type.ORDER, update.getType());
+                    assertEquals(1, update.getOrders().size(), "non-spot orders are dropped");
+                    Order order = update.getOrders().get(0);
+                    assertEquals("o-1", order.getExchangeOrderId());
+                    assertEquals(OrderStatus.PARTIALLY_FILLED, order.getStatus());
+                    assertEquals(0, new BigDecimal("0.2").compareTo(order.getFilledQuantity()));
+                    assertNotNull(order.getExchangeUpdatedAt());
+                })
+                .then(() -> server.push("{\"topic\":\"execution\",\"data\":[{\"category\":\"spot\","
+                        + "\"symbol\":\"BTCUSDT\",\"execId\":\"e-1\",\"orderId\":\"o-1\",\"side\":\"Buy\","
+                        + "\"execPrice\":\"30000\",\"execQty\":\"0.2\",\"execFee\":\"0.0002\","
+                        + "\"feeCurrency\":\"BTC\",\"execTime\":\"1700000000100\"}]}"))
+                .assertNext(update -> {
+                    assertEquals(AccountUpdate.Type.EXECUTION, update.getType());
+                    Trade trade = update.getExecutions().get(0);
+                    assertEquals("e-1", trade.getExchangeTradeId());
+                    assertEquals("o-1", trade.getExchangeOrderId());
+                    assertEquals(OrderSide.BUY, trade.getSide());
+                    assertEquals("BTC", trade.getCommissionAsset());
+                })
+                .then(() -> server.push("{\"topic\":\"wallet\",\"data\":[{\"accountType\":\"UNIFIED\","
+                        + "\"coin\":[{\"coin\":\"USDT\",\"walletBalance\":\"1000\",\"locked\":\"250\",\"free\":\"\"}]}]}"))
+                .assertNext(update -> {
+                    assertEquals(AccountUpdate.Type.WALLET, update.getType());
+                    Balance balance = update.getBalances().get(0);
+                    assertEquals("USDT", balance.getAsset());
+                    assertEquals(0, new BigDecimal("750").compareTo(balance.getFreeBalance()));
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+
+        assertEquals(BybitPrivateStreamClient.TOPICS, server.getSubscribedTopics());
+    }
+
+    @Test
+    void testInvalidSignatureFailsTheStream() {
+        StepVerifier.create(client.connect(API_KEY, "wrong-secret"))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(ExchangeException.class, error);
+                    assertTrue(error.getMessage().contains("authentication failed"));
+                })
+                .verify(Duration.ofSeconds(10));
+
+        assertTrue(server.getSubscribedTopics().isEmpty());
+    }
+
+    @Test
+    void testServerCloseErrorsTheStream() {
+        StepVerifier.create(client.connect(API_KEY, API_SECRET))
+                .assertNext(update -> assertEquals(AccountUpdate.Type.CONNECTED, update.getType()))
+                .then(server::disconnectAll)
+                .expectError()
+                .verify(Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,126 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.bybit.BybitRateLimiter.Priority;
+import com.cryptobot.domain.exception.ExchangeException;
+import com.cryptobot.domain.model.RateLimitMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BybitRateLimiterTest {
+
+    @Test
+    void testCancelsAreServedBeforePlacementsBeforeReads() {
+        BybitRateLimiter limiter = new BybitRateLimiter(2, 5000);
+        // Use up the burst so that the next requests have to queue
+        for (int i = 0; i < 2; i++) {
+            limiter.acquire("key", "/v5/order/realtime", Priority.READ).block(Duration.ofSeconds(1));
+        }
+
+        List<Priority> order = Collections.synchronizedList(new ArrayList<>());
+        Mono.when(
+                limiter.acquire("key", "/v5/order/realtime", Priority.READ)
+                        .doOnSuccess(v -> order.add(Priority.READ)),
+                limiter.acquire("key", "/v5/order/create", Priority.PLACE)
+                        .doOnSuccess(v -> order.add(Priority.PLACE)),
+                limiter.acquire("key", "/v5/order/cancel", Priority.CANCEL)
+                        .doOnSuccess(v -> order.add(Priority.CANCEL)))
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(Priority.CANCEL, Priority.PLACE, Priority.READ), order);
+        RateLimitMetrics.Lane reads = lane(limiter.metrics(), Priority.READ);
+        assertEquals(3, reads.getGranted());
+        assertTrue(reads.getQueueDelayMaxMicros() > 0);
+    }
+
+    @Test
+    void testKeysHaveIndependentBuckets() {
+        BybitRateLimiter limiter = new BybitRateLimiter(1, 200);
+        limiter.acquire("a", "/v5/order/create", Priority.PLACE).block(Duration.ofSeconds(1));
+
+        StepVerifier.create(limiter.acquire("b", "/v5/order/create", Priority.PLACE))
+                .expectComplete()
+                .verify(Duration.ofMillis(100));
+    }
+
+    @Test
+    void testLearnedEndpointLimitHoldsOnlyThatEndpoint() {
+        BybitRateLimiter limiter = new BybitRateLimiter(100, 5000);
+        limiter.acquire("key", "/v5/order/create", Priority.PLACE).block(Duration.ofSeconds(1));
+        long reset = System.currentTimeMillis() + 300;
+        limiter.onResponse("key", "/v5/order/create", Priority.PLACE, headers(10, 0, reset), false);
+
+        // Another endpoint is not held up by the exhausted one
+        StepVerifier.create(limiter.acquire("key", "/v5/order/cancel", Priority.CANCEL))
+                .expectComplete()
+                .verify(Duration.ofMillis(100));
+
+        long start = System.currentTimeMillis();
+        limiter.acquire("key", "/v5/order/create", Priority.PLACE).block(Duration.ofSeconds(2));
+        assertTrue(System.currentTimeMillis() >= reset - 20, "placement must wait for the window reset");
+        assertTrue(System.currentTimeMillis() - start < 1500);
+        assertEquals(1, limiter.metrics().getLearnedEndpoints());
+    }
+
+    @Test
+    void testRateLimitRejectionIsCountedAndEmptiesTheBucket() {
+        BybitRateLimiter limiter = new BybitRateLimiter(100, 5000);
+        limiter.acquire("key", "/v5/account/wallet-balance", Priority.READ).block(Duration.ofSeconds(1));
+        long reset = System.currentTimeMillis() + 250;
+        limiter.onResponse("key", "/v5/account/wallet-balance", Priority.READ, headers(10, 3, reset), true);
+
+        long start = System.currentTimeMillis();
+        limiter.acquire("key", "/v5/account/wallet-balance", Priority.READ).block(Duration.ofSeconds(2));
+
+        assertTrue(System.currentTimeMillis() - start >= 150);
+        assertEquals(1, lane(limiter.metrics(), Priority.READ).getRejections());
+    }
+
+    @Test
+    void testRequestsFailAfterTheMaximumWait() {
+        BybitRateLimiter limiter = new BybitRateLimiter(1, 100);
+        limiter.acquire("key", "/v5/order/create", Priority.PLACE).block(Duration.ofSeconds(1));
+
+        StepVerifier.create(limiter.acquire("key", "/v5/order/create", Priority.PLACE))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(ExchangeException.class, error);
+                    assertEquals("RATE_LIMIT_QUEUE_TIMEOUT", ((ExchangeException) error).getErrorCode());
+                })
+                .verify(Duration.ofSeconds(2));
+
+        RateLimitMetrics.Lane places = lane(limiter.metrics(), Priority.PLACE);
+        assertEquals(1, places.getQueueTimeouts());
+        assertEquals(0, places.getQueued());
+    }
+
+    @Test
+    void testRecognisesRateLimitErrorCodes() {
+        assertTrue(BybitRateLimiter.isRateLimitError("10006"));
+        assertTrue(BybitRateLimiter.isRateLimitError("10018"));
+        assertFalse(BybitRateLimiter.isRateLimitError("0"));
+        assertFalse(BybitRateLimiter.isRateLimitError(null));
+    }
+
+    private static HttpHeaders headers(long limit, long status, long reset) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(BybitRateLimiter.LIMIT_HEADER, String.valueOf(limit));
+        headers.set(BybitRateLimiter.LIMIT_STATUS_HEADER, String.valueOf(status));
+        headers.set(BybitRateLimiter.LIMIT_RESET_HEADER, String.valueOf(reset));
+        return headers;
+    }
+
+    private static RateLimitMetrics.Lane lane(RateLimitMetrics metrics, Priority priority) {
+        return metrics.getLanes().stream()
+                .filter(lane -> lane.getPriority().equals(priority.name()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,77 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.bybit.dto.BybitBatchExtInfo;
+import com.cryptobot.adapter.bybit.dto.BybitBatchOrderResult;
+import com.cryptobot.adapter.bybit.dto.BybitKlineResult;
+import com.cryptobot.adapter.bybit.dto.BybitOrderListResult;
+import com.cryptobot.adapter.bybit.dto.BybitResponse;
+import com.cryptobot.domain.model.BatchOrderResult;
+import com.cryptobot.domain.model.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BybitResponseReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BybitResponseReader reader = new BybitResponseReader(objectMapper);
+
+    @Test
+    void testDecodesTypedResultFromBytes() throws Exception {
+        String json = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"spot\",\"nextPageCursor\":\"abc\","
+                + "\"list\":[{\"orderId\":\"1\",\"symbol\":\"BTCUSDT\",\"orderStatus\":\"New\",\"extra\":true}]},"
+                + "\"retExtInfo\":{},\"time\":1700000000000}";
+
+        BybitResponse<BybitOrderListResult> response = reader.read(json.getBytes(StandardCharsets.UTF_8),
+                BybitOrderListResult.class);
+
+        assertEquals(0, response.getRetCode());
+        assertEquals("abc", response.getResult().getNextCursor());
+        assertEquals("BTCUSDT", response.getResult().getList().get(0).getSymbol());
+        assertEquals(1700000000000L, response.getTime());
+    }
+
+    @Test
+    void testDecodesErrorResponseWithoutResult() throws Exception {
+        String json = "{\"retCode\":10006,\"retMsg\":\"Too many visits!\",\"result\":{},\"time\":1}";
+
+        BybitResponse<BybitKlineResult> response = reader.read(json.getBytes(StandardCharsets.UTF_8),
+                BybitKlineResult.class);
+
+        assertEquals(10006, response.getRetCode());
+        assertNull(response.getResult().getList());
+    }
+
+    @Test
+    void testMapsBatchItemsToTheirOrders() throws Exception {
+        String json = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"list\":["
+                + "{\"category\":\"spot\",\"symbol\":\"BTCUSDT\",\"orderId\":\"1\",\"orderLinkId\":\"\"},"
+                + "{\"category\":\"spot\",\"symbol\":\"ETHUSDT\",\"orderId\":\"\",\"orderLinkId\":\"\"}]},"
+                + "\"retExtInfo\":{\"list\":[{\"code\":0,\"msg\":\"OK\"},"
+                + "{\"code\":170131,\"msg\":\"Insufficient balance.\"}]},\"time\":1}";
+        List<Order> chunk = List.of(Order.builder().symbol("BTCUSDT").build(),
+                Order.builder().symbol("ETHUSDT").build());
+
+        BybitResponse<BybitBatchOrderResult> response = reader.read(json.getBytes(StandardCharsets.UTF_8),
+                BybitBatchOrderResult.class);
+        List<BatchOrderResult> results = BybitMapper.toBatchResults(response.getResult(),
+                objectMapper.convertValue(response.getRetExtInfo(), BybitBatchExtInfo.class), chunk, 10, false);
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(10, results.get(0).getIndex());
+        assertEquals("1", results.get(0).getOrder().getExchangeOrderId());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(11, results.get(1).getIndex());
+        assertEquals("170131", results.get(1).getErrorCode());
+        assertSame(chunk.get(1), results.get(1).getOrder());
+    }
+
+    @Test
+    void testRejectsUnregisteredResultType() {
+        assertThrows(IllegalArgumentException.class, () -> reader.read(new byte[0], String.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.WebClientRegistry;
+import com.cryptobot.adapter.bybit.dto.BybitOrderListResult;
+import com.cryptobot.adapter.bybit.dto.BybitResponse;
+import com.cryptobot.config.WebClientConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of a Bybit REST call against a local server returning a page of
+ * 50 open orders.
+ * <p>
+ * {@code legacy} builds a {@link WebClient} per call, reads the body into a
+ * {@code String} and binds it with a freshly constructed generic type;
+ * {@code registry} uses the shared client and the precomputed reader on the
+ * raw bytes. Sample mode reports p99; run with {@code -prof gc} for
+ * allocation per call.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BybitRestClientBenchmark {
+
+    private static final String PATH = "/v5/order/realtime?category=spot&symbol=BTCUSDT&limit=50";
+
+    private DisposableServer server;
+    private String baseUrl;
+    private ObjectMapper objectMapper;
+    private WebClient.Builder webClientBuilder;
+    private WebClientRegistry webClients;
+    private BybitResponseReader responseReader;
+
+    @Setup
+    public void setUp() {
+        byte[] body = openOrdersPage(50).getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/v5/order/realtime", (request, response) -> response
+                        .header("Content-Type", "application/json")
+                        .sendByteArray(Mono.just(body))))
+                .bindNow();
+        baseUrl = "http://127.0.0.1:" + server.port();
+
+        WebClientConfig config = new WebClientConfig();
+        objectMapper = config.objectMapper();
+        webClientBuilder = config.webClientBuilder(objectMapper, HttpClient.create());
+        webClients = new WebClientRegistry(webClientBuilder);
+        responseReader = new BybitResponseReader(objectMapper);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public BybitResponse<BybitOrderListResult> legacy() {
+        return webClientBuilder.build()
+                .get()
+                .uri(baseUrl + PATH)
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(response -> {
+                    try {
+                        return objectMapper.<BybitResponse<BybitOrderListResult>>readValue(response,
+                                objectMapper.getTypeFactory().constructParametricType(
+                                        BybitResponse.class, BybitOrderListResult.class));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .block();
+    }
+
+    @Benchmark
+    public BybitResponse<BybitOrderListResult> registry() {
+        return webClients.forBaseUrl(baseUrl)
+                .get()
+                .uri(PATH)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(body -> {
+                    try {
+                        return responseReader.read(body, BybitOrderListResult.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .block();
+    }
+
+    private static String openOrdersPage(int orders) {
+        StringBuilder json = new StringBuilder("{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"spot\","
+                + "\"nextPageCursor\":\"\",\"list\":[");
+        for (int i = 0; i < orders; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"orderId\":\"").append(1_000_000 + i)
+                    .append("\",\"orderLinkId\":\"\",\"symbol\":\"BTCUSDT\",\"price\":\"43125.5\",\"qty\":\"0.015\","
+                            + "\"side\":\"Buy\",\"orderStatus\":\"New\",\"avgPrice\":\"0\",\"cumExecQty\":\"0\","
+                            + "\"cumExecValue\":\"0\",\"cumExecFee\":\"0\",\"orderType\":\"Limit\","
+                            + "\"timeInForce\":\"GTC\",\"createdTime\":\"1700000000000\","
+                            + "\"updatedTime\":\"1700000000000\",\"isLeverage\":\"0\",\"positionIdx\":0}");
+        }
+        return json.append("]},\"retExtInfo\":{},\"time\":1700000000000}").toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BybitRestClientBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
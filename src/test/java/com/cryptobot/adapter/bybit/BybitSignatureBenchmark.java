@@ -0,0 +1,145 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.security.CredentialCache;
+import com.cryptobot.security.HmacSigner;
+import com.cryptobot.security.impl.AesEncryptionService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Signature generation and signed-request preparation (credential lookup,
+ * query string, signature) before and after credential/signer caching.
+ * <p>
+ * The {@code legacy*} benchmarks reproduce the previous per-request path:
+ * two AES-GCM decrypts with {@code Cipher.getInstance}, {@code Mac.getInstance}
+ * plus a new key spec per signature and hex encoding with
+ * {@code String.format}. Run with {@code -prof gc} for allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BybitSignatureBenchmark {
+
+    private static final String API_KEY = "Xas8d7f98as7df98as7df";
+    private static final String API_SECRET = "cM5dPJ5egEDnnMosmzjmzNRpqwVSaNAGfRd3";
+    private static final String RECV_WINDOW = "5000";
+
+    private final Map<String, Object> params = Map.of(
+            "category", "spot",
+            "symbol", "BTCUSDT",
+            "openOnly", "0",
+            "limit", "50");
+
+    private AesEncryptionService encryptionService;
+    private SecretKey masterKey;
+    private ApiKey apiKey;
+    private CredentialCache credentialCache;
+    private BybitSignatureGenerator cachedGenerator;
+    private HmacSigner signer;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        byte[] key = new byte[32];
+        String masterKeyBase64 = Base64.getEncoder().encodeToString(key);
+        encryptionService = new AesEncryptionService();
+        ReflectionTestUtils.setField(encryptionService, "masterKeyBase64", masterKeyBase64);
+        encryptionService.init();
+        masterKey = new SecretKeySpec(key, "AES");
+
+        apiKey = ApiKey.builder()
+                .id(1L)
+                .userId(1L)
+                .exchangeType(ExchangeType.BYBIT)
+                .apiKeyEncrypted(encryptionService.encrypt(API_KEY))
+                .apiSecretEncrypted(encryptionService.encrypt(API_SECRET))
+                .active(true)
+                .build();
+        credentialCache = new CredentialCache();
+        cachedGenerator = new BybitSignatureGenerator(credentialCache);
+        signer = new HmacSigner(API_SECRET);
+        payload = queryString();
+    }
+
+    @Benchmark
+    public String legacySignature() throws Exception {
+        return legacySign(System.currentTimeMillis() + API_KEY + RECV_WINDOW + payload, API_SECRET);
+    }
+
+    @Benchmark
+    public String cachedSignerSignature() {
+        return signer.sign(System.currentTimeMillis() + API_KEY + RECV_WINDOW + payload);
+    }
+
+    @Benchmark
+    public String legacyRequestPreparation() throws Exception {
+        String key = legacyDecrypt(apiKey.getApiKeyEncrypted());
+        String secret = legacyDecrypt(apiKey.getApiSecretEncrypted());
+        return legacySign(System.currentTimeMillis() + key + RECV_WINDOW + queryString(), secret);
+    }
+
+    @Benchmark
+    public String cachedRequestPreparation() {
+        CredentialCache.CachedCredentials credentials = credentialCache.get(apiKey,
+                () -> CredentialCache.CachedCredentials.of(
+                        encryptionService.decrypt(apiKey.getApiKeyEncrypted()),
+                        encryptionService.decrypt(apiKey.getApiSecretEncrypted())));
+        return cachedGenerator.generate(credentials.apiSecret(), String.valueOf(System.currentTimeMillis()),
+                credentials.apiKey(), RECV_WINDOW, queryString());
+    }
+
+    private String queryString() {
+        return new TreeMap<>(params).entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining("&"));
+    }
+
+    private String legacyDecrypt(String encryptedText) throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encryptedText));
+        byte[] iv = new byte[12];
+        buffer.get(iv);
+        byte[] cipherText = new byte[buffer.remaining()];
+        buffer.get(cipherText);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, masterKey, new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+    }
+
+    private static String legacySign(String payload, String secret) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        StringBuilder result = new StringBuilder();
+        for (byte b : mac.doFinal(payload.getBytes(StandardCharsets.UTF_8))) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BybitSignatureBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -1,5 +1,8 @@
 package com.cryptobot.adapter.bybit;
 
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.security.CredentialCache;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,4 +28,22 @@ class BybitSignatureGeneratorTest {
         String signature2 = generator.generate(apiSecret, timestamp, apiKey, recvWindow, payload);
         assertEquals(signature, signature2);
     }
+
+    @Test
+    void testCachedSignerMatchesOneOffSignature() {
+        String apiSecret = "897fs8d9f7sd9fsd8f9s7d9fsd";
+        String apiKey = "Xas8d7f98as7df98as7df";
+        CredentialCache cache = new CredentialCache();
+        cache.get(ApiKey.builder().id(1L).userId(1L).exchangeType(ExchangeType.BYBIT)
+                .apiKeyEncrypted("k").apiSecretEncrypted("s").build(),
+                () -> CredentialCache.CachedCredentials.of(apiKey, apiSecret));
+        BybitSignatureGenerator cached = new BybitSignatureGenerator(cache);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(generator.generate(apiSecret, "1653815024000", apiKey, "5000", "category=spot&limit=" + i),
+                    cached.generate(apiSecret, "1653815024000", apiKey, "5000", "category=spot&limit=" + i));
+        }
+        assertEquals(generator.generateWebSocketAuth(apiSecret, 1653815024000L),
+                cached.generateWebSocketAuth(apiSecret, 1653815024000L));
+    }
 }
@@ -0,0 +1,122 @@
+package com.cryptobot.adapter.bybit;
+
+import com.cryptobot.adapter.bybit.dto.BybitWebSocketTickerResponse;
+import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.domain.vo.FixedPoint;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the data-binding ticker path against the streaming decoder on
+ * recorded Bybit frames (including pong frames that must be skipped).
+ * <p>
+ * Reports messages per second; run with {@code -prof gc} and read
+ * {@code gc.alloc.rate.norm} for bytes allocated per message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BybitTickerDecoderBenchmark {
+
+    private byte[][] frames;
+    private int cursor;
+
+    private ObjectMapper objectMapper;
+    private BybitTickerDecoder decoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/bybit/ws-ticker-frames.jsonl")) {
+            String[] lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            frames = new byte[lines.length][];
+            for (int i = 0; i < lines.length; i++) {
+                frames[i] = lines[i].getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        // The DTO is not annotated to ignore unknown fields and live frames carry extras (cs, usdIndexPrice)
+        objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        decoder = new BybitTickerDecoder();
+    }
+
+    private byte[] nextFrame() {
+        byte[] frame = frames[cursor];
+        cursor = cursor + 1 == frames.length ? 0 : cursor + 1;
+        return frame;
+    }
+
+    @Benchmark
+    public void dataBinding(Blackhole bh) throws IOException {
+        String message = new String(nextFrame(), StandardCharsets.UTF_8);
+        if (message.contains("\"topic\":\"ticker.")) {
+            BybitWebSocketTickerResponse response = objectMapper.readValue(message,
+                    BybitWebSocketTickerResponse.class);
+            var data = response.getData();
+            BigDecimal lastPrice = new BigDecimal(data.getLastPrice());
+            BigDecimal highPrice = new BigDecimal(data.getHighPrice24h());
+            BigDecimal lowPrice = new BigDecimal(data.getLowPrice24h());
+            BigDecimal volume = new BigDecimal(data.getVolume24h());
+            int priceScale = Math.max(lastPrice.scale(), Math.max(highPrice.scale(), lowPrice.scale()));
+            bh.consume(TickerUpdate.builder()
+                    .symbol(data.getSymbol())
+                    .priceScale(priceScale)
+                    .lastPriceUnits(FixedPoint.toUnits(lastPrice, priceScale, RoundingMode.HALF_UP))
+                    .highPrice24hUnits(FixedPoint.toUnits(highPrice, priceScale, RoundingMode.HALF_UP))
+                    .lowPrice24hUnits(FixedPoint.toUnits(lowPrice, priceScale, RoundingMode.HALF_UP))
+                    .volumeScale(volume.scale())
+                    .volume24hUnits(volume.unscaledValue().longValueExact())
+                    .timestampMillis(response.getTimestamp())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void streamingDecoderFrameOnly(Blackhole bh) {
+        byte[] bytes = nextFrame();
+        bh.consume(decoder.decode(bytes, 0, bytes.length));
+    }
+
+    @Benchmark
+    public void streamingDecoder(Blackhole bh) {
+        byte[] bytes = nextFrame();
+        BybitTickerFrame frame = decoder.decode(bytes, 0, bytes.length);
+        if (frame != null) {
+            int priceScale = Math.max(frame.getLastPriceScale(),
+                    Math.max(frame.getHighPrice24hScale(), frame.getLowPrice24hScale()));
+            bh.consume(TickerUpdate.builder()
+                    .symbol(frame.getSymbol())
+                    .priceScale(priceScale)
+                    .lastPriceUnits(FixedPoint.rescale(frame.getLastPrice(), frame.getLastPriceScale(), priceScale,
+                            RoundingMode.HALF_UP))
+                    .highPrice24hUnits(FixedPoint.rescale(frame.getHighPrice24h(), frame.getHighPrice24hScale(),
+                            priceScale, RoundingMode.HALF_UP))
+                    .lowPrice24hUnits(FixedPoint.rescale(frame.getLowPrice24h(), frame.getLowPrice24hScale(),
+                            priceScale, RoundingMode.HALF_UP))
+                    .volumeScale(frame.getVolume24hScale())
+                    .volume24hUnits(frame.getVolume24h())
+                    .timestampMillis(frame.getTimestamp())
+                    .build());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BybitTickerDecoderBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
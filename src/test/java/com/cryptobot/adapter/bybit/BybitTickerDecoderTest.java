@@ -0,0 +1,97 @@
+package com.cryptobot.adapter.bybit;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BybitTickerDecoderTest {
+
+    private final BybitTickerDecoder decoder = new BybitTickerDecoder();
+
+    @Test
+    void testDecodesTickerFields() {
+        String message = "{\"topic\":\"ticker.BTCUSDT\",\"ts\":1673853746003,\"type\":\"snapshot\",\"cs\":2588407389," +
+                "\"data\":{\"symbol\":\"BTCUSDT\",\"lastPrice\":\"21109.77\",\"highPrice24h\":\"21426.99\"," +
+                "\"lowPrice24h\":\"20575\",\"prevPrice24h\":\"20704.93\",\"volume24h\":\"6780.866843\"," +
+                "\"turnover24h\":\"141946527.22907118\",\"price24hPcnt\":\"0.0196\"}}";
+
+        BybitTickerFrame frame = decode(message);
+
+        assertNotNull(frame);
+        assertEquals("BTCUSDT", frame.getSymbol());
+        assertEquals(1673853746003L, frame.getTimestamp());
+        assertEquals(new BigDecimal("21109.77"), frame.lastPriceAsBigDecimal());
+        assertEquals(new BigDecimal("21426.99"), frame.highPrice24hAsBigDecimal());
+        assertEquals(new BigDecimal("20575"), frame.lowPrice24hAsBigDecimal());
+        assertEquals(new BigDecimal("6780.866843"), frame.volume24hAsBigDecimal());
+    }
+
+    @Test
+    void testIgnoresNonTickerTopicsAndControlFrames() {
+        assertNull(decode("{\"success\":true,\"ret_msg\":\"pong\",\"conn_id\":\"x\",\"op\":\"ping\"}"));
+        assertNull(decode("{\"topic\":\"orderbook.1.BTCUSDT\",\"ts\":1,\"data\":{\"s\":\"BTCUSDT\"}}"));
+    }
+
+    @Test
+    void testReusesSymbolInstances() {
+        String message = "{\"topic\":\"ticker.ETHUSDT\",\"ts\":1,\"data\":{\"symbol\":\"ETHUSDT\",\"lastPrice\":\"1\"}}";
+
+        String first = decode(message).getSymbol();
+        String second = decode(message).getSymbol();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void testTruncatesFractionDigitsBeyondLongPrecision() {
+        String message = "{\"topic\":\"ticker.SHIBUSDT\",\"ts\":1,\"data\":{\"symbol\":\"SHIBUSDT\"," +
+                "\"lastPrice\":\"0.00000912\",\"volume24h\":\"12345678901234.123456789\"}}";
+
+        BybitTickerFrame frame = decode(message);
+
+        assertEquals(new BigDecimal("0.00000912"), frame.lastPriceAsBigDecimal());
+        assertEquals(new BigDecimal("12345678901234.1234"), frame.volume24hAsBigDecimal());
+    }
+
+    @Test
+    void testDecodesEveryTickerOfARestSnapshot() {
+        String response = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"spot\",\"list\":[" +
+                "{\"symbol\":\"BTCUSDT\",\"bid1Price\":\"21109.7\",\"lastPrice\":\"21109.77\"," +
+                "\"highPrice24h\":\"21426.99\",\"lowPrice24h\":\"20575\",\"volume24h\":\"6780.86\"}," +
+                "{\"symbol\":\"ETHUSDT\",\"lastPrice\":\"1550.1\",\"highPrice24h\":\"1600\"," +
+                "\"lowPrice24h\":\"1500\",\"volume24h\":\"100\"}]},\"retExtInfo\":{},\"time\":1673853746003}";
+        List<String> symbols = new ArrayList<>();
+        List<BigDecimal> lastPrices = new ArrayList<>();
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+
+        int count = decoder.decodeSnapshot(bytes, 0, bytes.length, 42L, frame -> {
+            symbols.add(frame.getSymbol());
+            lastPrices.add(frame.lastPriceAsBigDecimal());
+            assertEquals(42L, frame.getTimestamp());
+        });
+
+        assertEquals(2, count);
+        assertEquals(List.of("BTCUSDT", "ETHUSDT"), symbols);
+        assertEquals(List.of(new BigDecimal("21109.77"), new BigDecimal("1550.1")), lastPrices);
+    }
+
+    @Test
+    void testRestSnapshotErrorIsRaised() {
+        byte[] bytes = "{\"retCode\":10006,\"retMsg\":\"Too many visits!\",\"result\":{},\"time\":1}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> decoder.decodeSnapshot(bytes, 0, bytes.length, 0L, frame -> fail("No tickers expected")));
+        assertTrue(error.getMessage().contains("10006"));
+    }
+
+    private BybitTickerFrame decode(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        return decoder.decode(bytes, 0, bytes.length);
+    }
+}
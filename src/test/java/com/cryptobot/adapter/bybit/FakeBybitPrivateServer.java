@@ -0,0 +1,113 @@
+package com.cryptobot.adapter.bybit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for Bybit's private WebSocket endpoint.
+ * <p>
+ * Verifies the {@code auth} signature against the configured credentials,
+ * acknowledges {@code subscribe} and {@code ping}, and forwards frames passed
+ * to {@link #push(String)} to subscribed sessions.
+ */
+public class FakeBybitPrivateServer implements AutoCloseable {
+
+    public static final String PATH = "/v5/private";
+
+    private final String apiKey;
+    private final String apiSecret;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BybitSignatureGenerator signatureGenerator = new BybitSignatureGenerator();
+    private final Sinks.Many<String> pushes = Sinks.many().multicast().onBackpressureBuffer();
+    private final Sinks.Many<Boolean> disconnects = Sinks.many().multicast().directBestEffort();
+    private final List<String> subscribedTopics = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final DisposableServer server;
+
+    public FakeBybitPrivateServer(String apiKey, String apiSecret) {
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes.ws(PATH, (in, out) -> {
+                    connections.incrementAndGet();
+                    Sinks.Many<String> replies = Sinks.many().unicast().onBackpressureBuffer();
+                    Sinks.Empty<Void> subscribed = Sinks.empty();
+                    Sinks.Empty<Void> closed = Sinks.empty();
+                    in.receive().asString()
+                            .doOnNext(frame -> reply(frame, replies, subscribed))
+                            .doFinally(signal -> closed.tryEmitEmpty())
+                            .subscribe();
+                    return out.sendString(Flux.merge(replies.asFlux(),
+                                    subscribed.asMono().thenMany(pushes.asFlux()))
+                            .takeUntilOther(Flux.merge(closed.asMono(), disconnects.asFlux())));
+                }))
+                .bindNow();
+    }
+
+    public String url() {
+        return "ws://localhost:" + server.port() + PATH;
+    }
+
+    public void push(String frame) {
+        pushes.tryEmitNext(frame);
+    }
+
+    /**
+     * Closes all open sessions from the server side.
+     */
+    public void disconnectAll() {
+        disconnects.tryEmitNext(true);
+    }
+
+    public List<String> getSubscribedTopics() {
+        return subscribedTopics;
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private void reply(String frame, Sinks.Many<String> replies, Sinks.Empty<Void> subscribed) {
+        JsonNode request;
+        try {
+            request = objectMapper.readTree(frame);
+        } catch (IOException e) {
+            return;
+        }
+        switch (request.path("op").asText()) {
+            case "auth" -> {
+                JsonNode args = request.path("args");
+                long expires = args.path(1).asLong();
+                boolean valid = apiKey.equals(args.path(0).asText())
+                        && expires > System.currentTimeMillis()
+                        && signatureGenerator.generateWebSocketAuth(apiSecret, expires).equals(args.path(2).asText());
+                replies.tryEmitNext("{\"success\":" + valid + ",\"ret_msg\":\"" + (valid ? "" : "Invalid signature")
+                        + "\",\"op\":\"auth\",\"conn_id\":\"fake\"}");
+            }
+            case "subscribe" -> {
+                request.path("args").forEach(topic -> subscribedTopics.add(topic.asText()));
+                replies.tryEmitNext("{\"success\":true,\"ret_msg\":\"\",\"op\":\"subscribe\",\"conn_id\":\"fake\"}");
+                subscribed.tryEmitEmpty();
+            }
+            case "ping" -> replies.tryEmitNext("{\"op\":\"pong\",\"conn_id\":\"fake\"}");
+            default -> {
+            }
+        }
+    }
+}
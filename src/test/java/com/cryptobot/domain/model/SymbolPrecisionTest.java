@@ -0,0 +1,72 @@
+package com.cryptobot.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolPrecisionTest {
+
+    private final SymbolDetails btcusdt = SymbolDetails.builder()
+            .symbol("BTCUSDT")
+            .basePrecision(6)
+            .quotePrecision(8)
+            .minQuantity(new BigDecimal("0.000048"))
+            .maxQuantity(new BigDecimal("71.73956243"))
+            .tickSize(new BigDecimal("0.01"))
+            .build();
+
+    @Test
+    void testPrecomputedUnits() {
+        SymbolPrecision precision = SymbolPrecision.of(btcusdt);
+
+        assertEquals(6, precision.getQuantityScale());
+        assertEquals(2, precision.getTickScale());
+        assertEquals(8, precision.getPriceScale());
+        assertEquals(1_000_000L, precision.getTickSizeUnits());
+        assertEquals(48L, precision.getMinQuantityUnits());
+        assertEquals(71_739_562L, precision.getMaxQuantityUnits());
+    }
+
+    @Test
+    void testPriceNormalizationMatchesBigDecimalAlgorithm() {
+        SymbolPrecision precision = SymbolPrecision.of(btcusdt);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal price = BigDecimal.valueOf(Math.abs(random.nextLong() % 1_000_000_000_000L),
+                    2 + random.nextInt(9));
+
+            // Reference: the BigDecimal normalization previously done in OrderService
+            BigDecimal expected = price.setScale(btcusdt.getQuotePrecision(), RoundingMode.HALF_UP)
+                    .divide(btcusdt.getTickSize(), 0, RoundingMode.HALF_UP)
+                    .multiply(btcusdt.getTickSize());
+
+            BigDecimal actual = precision.priceToBigDecimal(precision.normalizePrice(price));
+
+            assertEquals(0, expected.compareTo(actual), () -> "price " + price);
+            assertEquals(expected.scale(), actual.scale(), () -> "scale for price " + price);
+        }
+    }
+
+    @Test
+    void testTickerUnitsNormalizeLikeDecimals() {
+        SymbolPrecision precision = SymbolPrecision.of(btcusdt);
+
+        assertEquals(precision.normalizePrice(new BigDecimal("43120.555")),
+                precision.normalizePrice(43_120_555L, 3));
+    }
+
+    @Test
+    void testQuantityTruncation() {
+        SymbolPrecision precision = SymbolPrecision.of(btcusdt);
+
+        long units = precision.quantityToUnits(new BigDecimal("0.12345678"), RoundingMode.DOWN);
+
+        assertEquals(123_456L, units);
+        assertEquals(new BigDecimal("0.123456"), precision.quantityToBigDecimal(units));
+    }
+}
@@ -0,0 +1,108 @@
+package com.cryptobot.domain.vo;
+
+import com.cryptobot.domain.model.SymbolDetails;
+import com.cryptobot.domain.model.SymbolPrecision;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the BigDecimal tick-to-order arithmetic (DCA quantity sizing plus
+ * exchange price/quantity normalization) against the scaled-long equivalent.
+ * <p>
+ * Run with {@code -prof gc} and read {@code gc.alloc.rate.norm} for bytes
+ * allocated per order.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FixedPointBenchmark {
+
+    private static final int PRICES = 1024;
+
+    private SymbolDetails details;
+    private SymbolPrecision precision;
+    private BigDecimal amountUsdt;
+    private long amountUnits;
+
+    private BigDecimal[] prices;
+    private long[] priceUnits;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        details = SymbolDetails.builder()
+                .symbol("BTCUSDT")
+                .basePrecision(6)
+                .quotePrecision(8)
+                .minQuantity(new BigDecimal("0.000048"))
+                .maxQuantity(new BigDecimal("71.73956243"))
+                .tickSize(new BigDecimal("0.01"))
+                .build();
+        precision = SymbolPrecision.of(details);
+        amountUsdt = new BigDecimal("250.00");
+        amountUnits = FixedPoint.toUnits(amountUsdt, 8, RoundingMode.DOWN);
+
+        Random random = new Random(1);
+        prices = new BigDecimal[PRICES];
+        priceUnits = new long[PRICES];
+        for (int i = 0; i < PRICES; i++) {
+            priceUnits[i] = 4_000_000 + random.nextInt(500_000);
+            prices[i] = BigDecimal.valueOf(priceUnits[i], 2);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole bh) {
+        BigDecimal price = prices[next()];
+
+        BigDecimal quantity = amountUsdt.divide(price, 8, RoundingMode.DOWN);
+        quantity = quantity.setScale(details.getBasePrecision(), RoundingMode.DOWN);
+        boolean valid = quantity.compareTo(details.getMinQuantity()) >= 0
+                && quantity.compareTo(details.getMaxQuantity()) <= 0;
+        BigDecimal limitPrice = price.setScale(details.getQuotePrecision(), RoundingMode.HALF_UP)
+                .divide(details.getTickSize(), 0, RoundingMode.HALF_UP)
+                .multiply(details.getTickSize());
+
+        bh.consume(valid);
+        bh.consume(quantity);
+        bh.consume(limitPrice);
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole bh) {
+        int i = next();
+
+        long quantity = FixedPoint.divide(amountUnits, 8, priceUnits[i], 2, 8, RoundingMode.DOWN);
+        quantity = FixedPoint.rescale(quantity, 8, precision.getQuantityScale(), RoundingMode.DOWN);
+        boolean valid = quantity >= precision.getMinQuantityUnits() && quantity <= precision.getMaxQuantityUnits();
+        long limitPrice = precision.normalizePrice(priceUnits[i], 2);
+
+        bh.consume(valid);
+        bh.consume(quantity);
+        bh.consume(limitPrice);
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = (cursor + 1) & (PRICES - 1);
+        return i;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FixedPointBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
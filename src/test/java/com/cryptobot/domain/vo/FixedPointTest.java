@@ -0,0 +1,112 @@
+package com.cryptobot.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointTest {
+
+    private static final RoundingMode[] MODES = {
+            RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+            RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+    };
+
+    private final Random random = new Random(42);
+
+    @Test
+    void testDivideMatchesBigDecimalForAllRoundingModes() {
+        for (int i = 0; i < 20_000; i++) {
+            long dividend = random.nextLong() % 1_000_000_000_000L;
+            long divisor = random.nextInt(2_000_000) - 1_000_000;
+            if (divisor == 0) {
+                continue;
+            }
+            for (RoundingMode mode : MODES) {
+                long expected = BigDecimal.valueOf(dividend)
+                        .divide(BigDecimal.valueOf(divisor), 0, mode).longValueExact();
+                assertEquals(expected, FixedPoint.divide(dividend, divisor, mode),
+                        () -> dividend + " / " + divisor + " " + mode);
+            }
+        }
+    }
+
+    @Test
+    void testScaledDivideMatchesBigDecimalIncludingOverflowFallback() {
+        for (int i = 0; i < 20_000; i++) {
+            long a = Math.abs(random.nextLong() % 100_000_000_000L);
+            int aScale = random.nextInt(9);
+            long b = 1 + Math.abs(random.nextLong() % 10_000_000_000L);
+            int bScale = random.nextInt(9);
+            int resultScale = random.nextInt(11);
+            RoundingMode mode = MODES[random.nextInt(MODES.length)];
+
+            BigDecimal expected = BigDecimal.valueOf(a, aScale)
+                    .divide(BigDecimal.valueOf(b, bScale), resultScale, mode);
+            if (expected.unscaledValue().bitLength() > 63) {
+                assertThrows(ArithmeticException.class,
+                        () -> FixedPoint.divide(a, aScale, b, bScale, resultScale, mode));
+                continue;
+            }
+            long actual = FixedPoint.divide(a, aScale, b, bScale, resultScale, mode);
+
+            assertEquals(0, expected.compareTo(FixedPoint.toBigDecimal(actual, resultScale)),
+                    () -> a + "e-" + aScale + " / " + b + "e-" + bScale + " @" + resultScale + " " + mode);
+        }
+    }
+
+    @Test
+    void testScaledMultiplyMatchesBigDecimalIncludingOverflowFallback() {
+        for (int i = 0; i < 20_000; i++) {
+            long a = random.nextLong() % 10_000_000_000_000L;
+            int aScale = random.nextInt(9);
+            long b = random.nextLong() % 1_000_000_000L;
+            int bScale = random.nextInt(9);
+            int resultScale = random.nextInt(9);
+            RoundingMode mode = MODES[random.nextInt(MODES.length)];
+
+            BigDecimal expected = BigDecimal.valueOf(a, aScale).multiply(BigDecimal.valueOf(b, bScale))
+                    .setScale(resultScale, mode);
+            if (expected.unscaledValue().bitLength() > 63) {
+                assertThrows(ArithmeticException.class,
+                        () -> FixedPoint.multiply(a, aScale, b, bScale, resultScale, mode));
+                continue;
+            }
+            long actual = FixedPoint.multiply(a, aScale, b, bScale, resultScale, mode);
+
+            assertEquals(expected.unscaledValue().longValueExact(), actual);
+        }
+    }
+
+    @Test
+    void testRescaleAndCompare() {
+        assertEquals(4_500_050_000_000L, FixedPoint.rescale(4_500_050L, 2, 8, RoundingMode.UNNECESSARY));
+        assertEquals(4_500_050L, FixedPoint.rescale(4_500_050_000_000L, 8, 2, RoundingMode.UNNECESSARY));
+        assertEquals(45_001L, FixedPoint.rescale(4_500_050L, 2, 0, RoundingMode.HALF_UP));
+        assertEquals(45_000L, FixedPoint.rescale(4_500_050L, 2, 0, RoundingMode.HALF_EVEN));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.rescale(1L, 2, 0, RoundingMode.UNNECESSARY));
+
+        assertEquals(0, FixedPoint.compare(4_500_050L, 2, 45_000_500L, 3));
+        assertTrue(FixedPoint.compare(1L, 8, 1L, 0) < 0);
+        assertTrue(FixedPoint.compare(Long.MAX_VALUE, 0, 1L, 18) > 0);
+    }
+
+    @Test
+    void testRoundToStep() {
+        assertEquals(4_500_000L, FixedPoint.roundToStep(4_500_049L, 100L, RoundingMode.HALF_UP));
+        assertEquals(4_500_100L, FixedPoint.roundToStep(4_500_050L, 100L, RoundingMode.HALF_UP));
+        assertEquals(4_500_000L, FixedPoint.roundToStep(4_500_099L, 100L, RoundingMode.DOWN));
+    }
+
+    @Test
+    void testToUnitsRoundTrip() {
+        BigDecimal value = new BigDecimal("43120.5531");
+
+        assertEquals(431_205_531L, FixedPoint.toUnits(value, 4, RoundingMode.UNNECESSARY));
+        assertEquals(4_312_055L, FixedPoint.toUnits(value, 2, RoundingMode.HALF_UP));
+        assertEquals(value, FixedPoint.toBigDecimal(431_205_531L, 4));
+    }
+}
@@ -0,0 +1,152 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.repository.entity.BalanceEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of storing a wallet snapshot of 10/100/1000 assets, of which
+ * {@code changedPercent} changed since the last refresh.
+ * <p>
+ * {@code perRow} issues the statements of the previous JPA path (a SELECT
+ * by asset, then an INSERT or UPDATE per asset); {@code bulk} runs
+ * {@link BalanceRepositoryImpl#upsertBalances}. Needs a migrated PostgreSQL
+ * database, by default the one from {@code docker-compose.yml}; override with
+ * {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.user} and
+ * {@code -Dbenchmark.jdbc.password}. A throwaway user and API key are created
+ * for the run and deleted afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BalanceRefreshBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int assets;
+
+    @Param({ "0", "10", "100" })
+    private int changedPercent;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private BalanceRepositoryImpl repository;
+    private long userId;
+    private long apiKeyId;
+    private List<BalanceEntity> snapshot;
+    private long round;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5433/cryptobot_db"));
+        dataSource.setUsername(System.getProperty("benchmark.jdbc.user", "cryptobot"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc.password", "cryptobot123"));
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new BalanceRepositoryImpl(jdbcTemplate);
+
+        String name = "bench-" + UUID.randomUUID();
+        userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, username) VALUES (?, ?) RETURNING id", Long.class,
+                name + "@example.com", name.substring(0, 40));
+        apiKeyId = jdbcTemplate.queryForObject("""
+                INSERT INTO api_keys (user_id, exchange_type, api_key_encrypted, api_secret_encrypted)
+                VALUES (?, 'BYBIT', 'x', 'x') RETURNING id
+                """, Long.class, userId);
+
+        snapshot = new ArrayList<>(assets);
+        for (int i = 0; i < assets; i++) {
+            snapshot.add(BalanceEntity.builder()
+                    .userId(userId)
+                    .apiKeyId(apiKeyId)
+                    .exchangeType(ExchangeType.BYBIT)
+                    .asset("COIN" + i)
+                    .freeBalance(BigDecimal.ONE)
+                    .lockedBalance(BigDecimal.ZERO)
+                    .totalBalance(BigDecimal.ONE)
+                    .build());
+        }
+        repository.upsertBalances(userId, apiKeyId, snapshot);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        dataSource.close();
+    }
+
+    /**
+     * Moves {@code changedPercent} of the assets to a new amount.
+     */
+    private void nextSnapshot() {
+        round++;
+        int changed = assets * changedPercent / 100;
+        for (int i = 0; i < changed; i++) {
+            BalanceEntity balance = snapshot.get(i);
+            BigDecimal amount = BigDecimal.valueOf(round, 2);
+            balance.setFreeBalance(amount);
+            balance.setTotalBalance(amount);
+        }
+    }
+
+    @Benchmark
+    public int perRow() {
+        nextSnapshot();
+        int written = 0;
+        for (BalanceEntity balance : snapshot) {
+            // One transaction per save, as the repository proxy opened them
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM balances WHERE user_id = ? AND api_key_id = ? AND asset = ?", Long.class,
+                    userId, apiKeyId, balance.getAsset());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            if (ids.isEmpty()) {
+                written += jdbcTemplate.update("""
+                        INSERT INTO balances (user_id, api_key_id, exchange_type, asset, free_balance,
+                                              locked_balance, total_balance, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """, userId, apiKeyId, "BYBIT", balance.getAsset(), balance.getFreeBalance(),
+                        balance.getLockedBalance(), balance.getTotalBalance(), now);
+            } else {
+                written += jdbcTemplate.update("""
+                        UPDATE balances SET api_key_id = ?, asset = ?, exchange_type = ?, free_balance = ?,
+                               locked_balance = ?, total_balance = ?, updated_at = ?, user_id = ?
+                         WHERE id = ?
+                        """, apiKeyId, balance.getAsset(), "BYBIT", balance.getFreeBalance(),
+                        balance.getLockedBalance(), balance.getTotalBalance(), now, userId, ids.get(0));
+            }
+        }
+        return written;
+    }
+
+    @Benchmark
+    public List<BalanceEntity> bulk() {
+        nextSnapshot();
+        return transactionTemplate.execute(status -> repository.upsertBalances(userId, apiKeyId, snapshot));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BalanceRefreshBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
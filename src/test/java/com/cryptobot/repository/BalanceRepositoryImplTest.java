@@ -0,0 +1,117 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.repository.entity.BalanceEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceRepositoryImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testUnchangedSnapshotIsNotWritten() {
+        stored(List.of(row(1L, "USDT", "750.00000000"), row(2L, "BTC", "0.10000000")));
+
+        List<BalanceEntity> merged = new BalanceRepositoryImpl(jdbcTemplate).upsertBalances(1L, 7L,
+                List.of(balance("USDT", "750"), balance("BTC", "0.1")));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertEquals(List.of(1L, 2L), merged.stream().map(BalanceEntity::getId).toList());
+    }
+
+    @Test
+    void testOnlyChangedAssetsAreBatchedAndMergedInPlace() {
+        stored(List.of(row(1L, "USDT", "750.00000000"), row(2L, "BTC", "0.10000000")));
+
+        List<BalanceEntity> merged = new BalanceRepositoryImpl(jdbcTemplate).upsertBalances(1L, 7L,
+                List.of(balance("USDT", "700"), balance("BTC", "0.1")));
+
+        List<Object[]> rows = batchedRows();
+        assertEquals(1, rows.size());
+        assertEquals("USDT", rows.get(0)[3]);
+        assertEquals(0, new BigDecimal("700").compareTo((BigDecimal) rows.get(0)[4]));
+        // Updates reuse the rows already read; the key is not read back
+        verify(jdbcTemplate, times(1)).query(anyString(), ArgumentMatchers.<RowMapper<BalanceEntity>>any(), eq(1L),
+                eq(7L));
+        assertEquals(0, new BigDecimal("700").compareTo(merged.get(0).getFreeBalance()));
+        assertEquals(1L, merged.get(0).getId());
+    }
+
+    @Test
+    void testNewAssetsAreReadBackForTheirIds() {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<BalanceEntity>>any(), eq(1L), eq(7L)))
+                .thenReturn(List.of(row(1L, "USDT", "750.00000000")))
+                .thenReturn(List.of(row(1L, "USDT", "750.00000000"), row(9L, "SOL", "3.00000000")));
+
+        List<BalanceEntity> merged = new BalanceRepositoryImpl(jdbcTemplate).upsertBalances(1L, 7L,
+                List.of(balance("SOL", "3"), balance("USDT", "750")));
+
+        assertEquals(1, batchedRows().size());
+        assertEquals(List.of(9L, 1L), merged.stream().map(BalanceEntity::getId).toList());
+    }
+
+    @Test
+    void testAmountsBeyondTheColumnScaleDoNotLookChanged() {
+        stored(List.of(row(1L, "BTC", "0.12345679")));
+
+        new BalanceRepositoryImpl(jdbcTemplate).upsertBalances(1L, 7L, List.of(balance("BTC", "0.123456789")));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stored(List<BalanceEntity> rows) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L), eq(7L))).thenReturn(rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> batchedRows() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT (user_id, api_key_id, asset) DO UPDATE"),
+                rows.capture());
+        return rows.getValue();
+    }
+
+    private static BalanceEntity row(Long id, String asset, String amount) {
+        return BalanceEntity.builder()
+                .id(id)
+                .userId(1L)
+                .apiKeyId(7L)
+                .exchangeType(ExchangeType.BYBIT)
+                .asset(asset)
+                .freeBalance(new BigDecimal(amount))
+                .lockedBalance(new BigDecimal("0.00000000"))
+                .totalBalance(new BigDecimal(amount))
+                .updatedAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+
+    private static BalanceEntity balance(String asset, String amount) {
+        return BalanceEntity.builder()
+                .userId(1L)
+                .apiKeyId(7L)
+                .exchangeType(ExchangeType.BYBIT)
+                .asset(asset)
+                .freeBalance(new BigDecimal(amount))
+                .lockedBalance(BigDecimal.ZERO)
+                .totalBalance(new BigDecimal(amount))
+                .build();
+    }
+}
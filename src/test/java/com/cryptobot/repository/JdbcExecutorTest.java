@@ -0,0 +1,87 @@
+package com.cryptobot.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class JdbcExecutorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final JdbcExecutor jdbcExecutor = new JdbcExecutor(transactionManager, 2, 100);
+
+    @AfterEach
+    void tearDown() {
+        jdbcExecutor.shutdown();
+    }
+
+    @Test
+    void testBlockingOnANonBlockingThreadFailsTheTest() {
+        // Guards the guard: the detector must be installed for the other tests to mean anything
+        StepVerifier.create(Mono.fromCallable(() -> {
+                    Thread.sleep(1);
+                    return "blocked";
+                }).subscribeOn(Schedulers.parallel()))
+                .expectError(BlockingOperationError.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testBlockingWorkIsMovedOffTheCallingThread() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        StepVerifier.create(Mono.just(1)
+                        .publishOn(Schedulers.parallel())
+                        .flatMap(value -> jdbcExecutor.read(() -> {
+                            try {
+                                Thread.sleep(1);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return Thread.currentThread().getName();
+                        })))
+                .assertNext(thread -> assertTrue(thread.startsWith("jdbc"), thread))
+                .verifyComplete();
+
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void testWriteRollsBackWhenTheWorkFails() {
+        TransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+
+        StepVerifier.create(jdbcExecutor.write(() -> {
+                    throw new IllegalStateException("constraint violated");
+                }))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+
+        verify(transactionManager).rollback(status);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void testNullResultCompletesEmpty() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        StepVerifier.create(jdbcExecutor.run(() -> {
+                }))
+                .verifyComplete();
+
+        verify(transactionManager).commit(any());
+    }
+}
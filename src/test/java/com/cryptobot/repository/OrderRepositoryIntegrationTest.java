@@ -0,0 +1,116 @@
+package com.cryptobot.repository;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.OrderStatus;
+import com.cryptobot.domain.vo.OrderType;
+import com.cryptobot.repository.entity.OrderEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderRepositoryIntegrationTest {
+
+    private static final LocalDateTime EXCHANGE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void testTimedStateIsWrittenUnlessTheStoredOneIsNewer() {
+        OrderEntity order = store(EXCHANGE_TIME);
+
+        assertEquals(0, orderRepository.batchUpdateExchangeState(
+                List.of(state(order, OrderStatus.FILLED, EXCHANGE_TIME.minusSeconds(1)))));
+        assertEquals(OrderStatus.NEW, reload(order).getStatus());
+
+        assertEquals(1, orderRepository.batchUpdateExchangeState(
+                List.of(state(order, OrderStatus.FILLED, EXCHANGE_TIME.plusSeconds(1)))));
+        OrderEntity written = reload(order);
+        assertEquals(OrderStatus.FILLED, written.getStatus());
+        assertEquals(0, new BigDecimal("0.5").compareTo(written.getFilledQuantity()));
+        assertEquals(EXCHANGE_TIME.plusSeconds(1), written.getExchangeUpdatedAt());
+    }
+
+    @Test
+    void testUntimedStateIsWrittenAndKeepsTheStoredTime() {
+        OrderEntity unconfirmed = store(null);
+        OrderEntity confirmed = store(EXCHANGE_TIME);
+
+        assertEquals(2, orderRepository.batchUpdateExchangeState(List.of(
+                state(unconfirmed, OrderStatus.PARTIALLY_FILLED, null),
+                state(confirmed, OrderStatus.PARTIALLY_FILLED, null))));
+
+        assertEquals(OrderStatus.PARTIALLY_FILLED, reload(unconfirmed).getStatus());
+        assertNull(reload(unconfirmed).getExchangeUpdatedAt());
+        assertEquals(OrderStatus.PARTIALLY_FILLED, reload(confirmed).getStatus());
+        assertEquals(EXCHANGE_TIME, reload(confirmed).getExchangeUpdatedAt());
+    }
+
+    @Test
+    void testConfirmationStampsTheRowWithoutTouchingItsState() {
+        OrderEntity unconfirmed = store(null);
+        OrderEntity newer = store(EXCHANGE_TIME.plusSeconds(1));
+        LocalDateTime updatedAt = reload(unconfirmed).getUpdatedAt();
+
+        assertEquals(1, orderRepository.batchConfirmExchangeState(List.of(
+                state(unconfirmed, OrderStatus.FILLED, EXCHANGE_TIME),
+                state(newer, OrderStatus.FILLED, EXCHANGE_TIME))));
+
+        OrderEntity confirmed = reload(unconfirmed);
+        assertEquals(OrderStatus.NEW, confirmed.getStatus());
+        assertEquals(EXCHANGE_TIME, confirmed.getExchangeUpdatedAt());
+        assertFalse(confirmed.getUpdatedAt().isBefore(updatedAt));
+        assertEquals(EXCHANGE_TIME.plusSeconds(1), reload(newer).getExchangeUpdatedAt());
+
+        assertEquals(1, orderRepository.batchConfirmExchangeState(List.of(state(newer, OrderStatus.FILLED, null))));
+        assertEquals(OrderStatus.NEW, reload(newer).getStatus());
+    }
+
+    private OrderEntity store(LocalDateTime exchangeUpdatedAt) {
+        return entityManager.persistAndFlush(OrderEntity.builder()
+                .userId(1L)
+                .apiKeyId(7L)
+                .exchangeType(ExchangeType.BYBIT)
+                .exchangeOrderId("o-" + System.nanoTime())
+                .symbol("BTCUSDT")
+                .orderType(OrderType.LIMIT)
+                .side(OrderSide.BUY)
+                .quantity(BigDecimal.ONE)
+                .price(new BigDecimal("30000"))
+                .status(OrderStatus.NEW)
+                .filledQuantity(BigDecimal.ZERO)
+                .exchangeUpdatedAt(exchangeUpdatedAt)
+                .build());
+    }
+
+    private static OrderEntity state(OrderEntity order, OrderStatus status, LocalDateTime exchangeUpdatedAt) {
+        return OrderEntity.builder()
+                .id(order.getId())
+                .status(status)
+                .filledQuantity(new BigDecimal("0.5"))
+                .averagePrice(new BigDecimal("30000"))
+                .exchangeUpdatedAt(exchangeUpdatedAt)
+                .build();
+    }
+
+    private OrderEntity reload(OrderEntity order) {
+        entityManager.clear();
+        return orderRepository.findById(order.getId()).orElseThrow();
+    }
+}
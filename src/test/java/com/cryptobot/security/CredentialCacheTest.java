@@ -0,0 +1,102 @@
+package com.cryptobot.security;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.ApiKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CredentialCacheTest {
+
+    private CredentialCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new CredentialCache();
+    }
+
+    @Test
+    void testDecryptsOncePerKey() {
+        ApiKey apiKey = apiKey(1L, "enc-key", "enc-secret");
+
+        CredentialCache.CachedCredentials first = cache.get(apiKey, () -> load("key-1", "secret-1"));
+        CredentialCache.CachedCredentials second = cache.get(apiKey, () -> load("key-1", "secret-1"));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertSame(first.signer(), cache.signer("key-1", "secret-1"));
+        assertNull(cache.signer("key-1", "another-secret"));
+    }
+
+    @Test
+    void testChangedKeyIsReloadedAndOldSignerDestroyed() {
+        CredentialCache.CachedCredentials old = cache.get(apiKey(1L, "enc-key", "enc-secret"),
+                () -> load("key-1", "secret-1"));
+
+        CredentialCache.CachedCredentials rotated = cache.get(apiKey(1L, "enc-key", "enc-secret-2"),
+                () -> load("key-1", "secret-2"));
+
+        assertEquals(2, loads.get());
+        assertEquals("secret-2", rotated.apiSecret());
+        assertThrows(IllegalStateException.class, () -> old.signer().sign("payload"));
+        assertNull(cache.signer("key-1", "secret-1"));
+    }
+
+    @Test
+    void testInvalidateDropsCredentialsAndActiveKey() {
+        ApiKey apiKey = apiKey(1L, "enc-key", "enc-secret");
+        CredentialCache.CachedCredentials cached = cache.get(apiKey, () -> load("key-1", "secret-1"));
+        cache.putActiveKey(apiKey);
+
+        cache.invalidate(1L);
+
+        assertNull(cache.getActiveKey(7L, ExchangeType.BYBIT));
+        assertNull(cache.signer("key-1", "secret-1"));
+        assertThrows(IllegalStateException.class, () -> cached.signer().sign("payload"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testEntriesExpire() {
+        ReflectionTestUtils.setField(cache, "ttlMillis", -1L);
+        ApiKey apiKey = apiKey(1L, "enc-key", "enc-secret");
+        cache.get(apiKey, () -> load("key-1", "secret-1"));
+        cache.putActiveKey(apiKey);
+
+        assertNull(cache.signer("key-1", "secret-1"));
+        assertNull(cache.getActiveKey(7L, ExchangeType.BYBIT));
+        cache.evictExpired();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        for (long id = 1; id <= 3; id++) {
+            cache.get(apiKey(id, "enc-key-" + id, "enc-secret"), () -> load("key", "secret"));
+        }
+
+        assertEquals(2, cache.size());
+    }
+
+    private CredentialCache.CachedCredentials load(String key, String secret) {
+        loads.incrementAndGet();
+        return CredentialCache.CachedCredentials.of(key, secret);
+    }
+
+    private static ApiKey apiKey(Long id, String encryptedKey, String encryptedSecret) {
+        return ApiKey.builder()
+                .id(id)
+                .userId(7L)
+                .exchangeType(ExchangeType.BYBIT)
+                .apiKeyEncrypted(encryptedKey)
+                .apiSecretEncrypted(encryptedSecret)
+                .active(true)
+                .build();
+    }
+}
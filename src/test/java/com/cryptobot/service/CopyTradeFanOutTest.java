@@ -0,0 +1,155 @@
+package com.cryptobot.service;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.CopyTradingMetrics;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.OrderType;
+import com.cryptobot.repository.JdbcExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CopyTradeFanOutTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final ApiKeyService apiKeyService = mock(ApiKeyService.class);
+    private final SymbolDetailsService symbolDetailsService = mock(SymbolDetailsService.class);
+    private final JdbcExecutor jdbcExecutor = new JdbcExecutor(Schedulers.immediate(),
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void testFollowersAreResolvedOnceAndOrdersScaled() {
+        CopyTradeFanOut fanOut = fanOut(16, 100, 10);
+        keys(2L, 3L);
+        List<Order> placed = new ArrayList<>();
+        when(orderService.placePreparedOrder(any(), any(), any(), any())).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(2);
+            placed.add(order);
+            order.setUserId(invocation.<ApiKey>getArgument(0).getUserId());
+            return Mono.just(order);
+        });
+
+        fanOut.submit(leadOrder(1L), followers(new long[] { 2L, 3L, 4L }, "0.5", "2", "1"));
+
+        verify(apiKeyService, times(1)).getActiveKeysByUser(List.of(2L, 3L, 4L), ExchangeType.BYBIT);
+        verify(symbolDetailsService, times(1)).getPrecision(ExchangeType.BYBIT, "BTCUSDT");
+        assertEquals(2, placed.size());
+        assertEquals(0, new BigDecimal("0.5").compareTo(placed.get(0).getQuantity()));
+        assertEquals(0, new BigDecimal("2").compareTo(placed.get(1).getQuantity()));
+        assertEquals("BTCUSDT", placed.get(0).getSymbol());
+
+        CopyTradingMetrics metrics = fanOut.metrics();
+        assertEquals(2, metrics.getMirrored());
+        // Follower 4 has no active key
+        assertEquals(1, metrics.getMissingKeys());
+        assertEquals(0, metrics.getInFlight());
+    }
+
+    @Test
+    void testInFlightOrdersAreCappedAndBurstsTakeTurns() {
+        CopyTradeFanOut fanOut = fanOut(1, 100, 10);
+        keys(2L, 3L, 4L, 9L);
+        List<Long> started = new ArrayList<>();
+        List<Sinks.One<Order>> pending = new ArrayList<>();
+        when(orderService.placePreparedOrder(any(), any(), any(), any())).thenAnswer(invocation -> {
+            started.add(invocation.<ApiKey>getArgument(0).getUserId());
+            Sinks.One<Order> sink = Sinks.one();
+            pending.add(sink);
+            return sink.asMono();
+        });
+
+        fanOut.submit(leadOrder(1L), followers(new long[] { 2L, 3L, 4L }, "1", "1", "1"));
+        fanOut.submit(leadOrder(8L), followers(new long[] { 9L }, "1"));
+
+        assertEquals(List.of(2L), started);
+        assertEquals(1, fanOut.metrics().getInFlight());
+        pending.get(0).tryEmitValue(Order.builder().userId(2L).build());
+        // The second lead's only follower goes before the rest of the first burst
+        assertEquals(List.of(2L, 9L), started);
+        pending.get(1).tryEmitValue(Order.builder().userId(9L).build());
+        pending.get(2).tryEmitValue(Order.builder().userId(3L).build());
+        pending.get(3).tryEmitValue(Order.builder().userId(4L).build());
+        assertEquals(List.of(2L, 9L, 3L, 4L), started);
+        assertEquals(4, fanOut.metrics().getMirrored());
+    }
+
+    @Test
+    void testFollowerOverItsRateIsSkipped() {
+        CopyTradeFanOut fanOut = fanOut(16, 0.001, 1);
+        keys(2L);
+        when(orderService.placePreparedOrder(any(), any(), any(), any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(2)));
+
+        fanOut.submit(leadOrder(1L), followers(new long[] { 2L }, "1"));
+        fanOut.submit(leadOrder(1L), followers(new long[] { 2L }, "1"));
+
+        verify(orderService, times(1)).placePreparedOrder(any(), any(), any(), any());
+        assertEquals(1, fanOut.metrics().getThrottled());
+    }
+
+    @Test
+    void testFailedMirrorReleasesItsSlot() {
+        CopyTradeFanOut fanOut = fanOut(1, 100, 10);
+        keys(2L, 3L);
+        when(orderService.placePreparedOrder(any(), any(), any(), any())).thenAnswer(invocation ->
+                invocation.<ApiKey>getArgument(0).getUserId() == 2L
+                        ? Mono.error(new IllegalArgumentException("Quantity too small"))
+                        : Mono.just(invocation.getArgument(2)));
+
+        fanOut.submit(leadOrder(1L), followers(new long[] { 2L, 3L }, "1", "1"));
+
+        CopyTradingMetrics metrics = fanOut.metrics();
+        assertEquals(1, metrics.getFailed());
+        assertEquals(1, metrics.getMirrored());
+        assertEquals(0, metrics.getInFlight());
+    }
+
+    private CopyTradeFanOut fanOut(int concurrency, double followerOrdersPerSecond, int followerBurst) {
+        return new CopyTradeFanOut(orderService, apiKeyService, symbolDetailsService, jdbcExecutor, concurrency,
+                followerOrdersPerSecond, followerBurst);
+    }
+
+    private void keys(Long... userIds) {
+        Map<Long, ApiKey> keys = new HashMap<>();
+        for (Long userId : userIds) {
+            ApiKey key = ApiKey.builder().id(100 + userId).userId(userId).exchangeType(ExchangeType.BYBIT).build();
+            keys.put(userId, key);
+            when(apiKeyService.getDecryptedCredentials(key))
+                    .thenReturn(new ApiKeyService.Credentials("key-" + userId, "secret-" + userId));
+        }
+        when(apiKeyService.getActiveKeysByUser(anyCollection(), eq(ExchangeType.BYBIT))).thenReturn(keys);
+    }
+
+    private static Order leadOrder(Long userId) {
+        return Order.builder()
+                .userId(userId)
+                .exchangeType(ExchangeType.BYBIT)
+                .symbol("BTCUSDT")
+                .side(OrderSide.BUY)
+                .orderType(OrderType.MARKET)
+                .quantity(new BigDecimal("1.0"))
+                .build();
+    }
+
+    private static FollowerGraph.Followers followers(long[] userIds, String... scaleFactors) {
+        BigDecimal[] scales = new BigDecimal[scaleFactors.length];
+        for (int i = 0; i < scaleFactors.length; i++) {
+            scales[i] = new BigDecimal(scaleFactors[i]);
+        }
+        return new FollowerGraph.Followers(userIds, scales);
+    }
+}
@@ -3,7 +3,6 @@ package com.cryptobot.service;
 import com.cryptobot.domain.model.*;
 import com.cryptobot.domain.vo.OrderSide;
 import com.cryptobot.domain.vo.OrderType;
-import com.cryptobot.domain.vo.Symbol;
 import com.cryptobot.repository.CopyRelationRepository;
 import com.cryptobot.repository.entity.CopyRelationEntity;
 import com.cryptobot.service.mapper.CopyRelationMapper;
@@ -13,13 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.util.Optional;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +27,9 @@ class CopyTradingServiceTest {
         @Mock
         private CopyRelationMapper copyRelationMapper;
         @Mock
-        private OrderService orderService;
+        private CopyTradeFanOut fanOut;
+        @Mock
+        private FollowerGraph followerGraph;
 
         @InjectMocks
         private CopyTradingService copyTradingService;
@@ -51,47 +50,48 @@ class CopyTradingServiceTest {
         }
 
         @Test
-        void testMirrorTradeGeneratesScaledOrders() {
+        void testMirrorTradeHandsFollowersToTheFanOut() {
                 // Arrange
-                CopyRelationEntity entity = new CopyRelationEntity();
-                entity.setFollowerUserId(followerUserId);
-                entity.setLeadUserId(leadUserId);
-                entity.setScaleFactor(new BigDecimal("0.5"));
-                entity.setStatus(CopyTradingStatus.ACTIVE);
+                FollowerGraph.Followers followers = new FollowerGraph.Followers(
+                                new long[] { followerUserId }, new BigDecimal[] { new BigDecimal("0.5") });
+                when(followerGraph.followersOf(leadUserId)).thenReturn(followers);
 
-                CopyRelation domain = CopyRelation.builder()
-                                .followerUserId(followerUserId)
-                                .leadUserId(leadUserId)
-                                .scaleFactor(new BigDecimal("0.5"))
-                                .status(CopyTradingStatus.ACTIVE)
-                                .build();
+                // Act
+                copyTradingService.mirrorTrade(leadOrder);
 
-                when(copyRelationRepository.findByLeadUserIdAndStatus(leadUserId, CopyTradingStatus.ACTIVE))
-                                .thenReturn(List.of(entity));
-                when(copyRelationMapper.toDomain(entity)).thenReturn(domain);
+                // Assert
+                verify(fanOut).submit(leadOrder, followers);
+                verifyNoInteractions(copyRelationRepository);
+        }
 
-                when(orderService.placeOrder(eq(followerUserId), any(Order.class)))
-                                .thenReturn(Mono.just(Order.builder().userId(followerUserId).build()));
+        @Test
+        void testMirrorTradeNoFollowers() {
+                // Arrange
+                when(followerGraph.followersOf(leadUserId)).thenReturn(FollowerGraph.Followers.NONE);
 
                 // Act
                 copyTradingService.mirrorTrade(leadOrder);
 
                 // Assert
-                verify(orderService).placeOrder(eq(followerUserId),
-                                argThat(order -> order.getQuantity().compareTo(new BigDecimal("0.5")) == 0 &&
-                                                order.getSymbol().equals(new Symbol("BTCUSDT"))));
+                verifyNoInteractions(fanOut);
         }
 
         @Test
-        void testMirrorTradeNoFollowers() {
+        void testStatusChangeReloadsTheLeadsFollowers() {
                 // Arrange
-                when(copyRelationRepository.findByLeadUserIdAndStatus(leadUserId, CopyTradingStatus.ACTIVE))
-                                .thenReturn(List.of());
+                CopyRelationEntity entity = new CopyRelationEntity();
+                entity.setFollowerUserId(followerUserId);
+                entity.setLeadUserId(leadUserId);
+                entity.setStatus(CopyTradingStatus.ACTIVE);
+                when(copyRelationRepository.findByLeadUserIdAndFollowerUserId(leadUserId, followerUserId))
+                                .thenReturn(Optional.of(entity));
+                when(copyRelationRepository.save(entity)).thenReturn(entity);
 
                 // Act
-                copyTradingService.mirrorTrade(leadOrder);
+                copyTradingService.updateStatus(leadUserId, followerUserId, CopyTradingStatus.PAUSED);
 
                 // Assert
-                verifyNoInteractions(orderService);
+                assertEquals(CopyTradingStatus.PAUSED, entity.getStatus());
+                verify(followerGraph).reload(leadUserId);
         }
 }
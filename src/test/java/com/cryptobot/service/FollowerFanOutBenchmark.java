@@ -0,0 +1,130 @@
+package com.cryptobot.service;
+
+import com.cryptobot.domain.model.CopyRelation;
+import com.cryptobot.domain.model.CopyTradingStatus;
+import com.cryptobot.repository.CopyRelationRepository;
+import com.cryptobot.repository.entity.CopyRelationEntity;
+import com.cryptobot.service.mapper.CopyRelationMapper;
+import org.h2.jdbcx.JdbcDataSource;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cost of resolving a lead's followers and their scaled quantities for one
+ * lead order, for leads with 100 and 10k followers.
+ * <p>
+ * {@code queryAndMap} reproduces the previous path: an indexed query of
+ * {@code copy_relations} (in-memory H2, so network and PostgreSQL planning
+ * are not counted and the real gap is wider), an entity per row and a
+ * mapping to {@link CopyRelation}. {@code graph} reads the
+ * {@link FollowerGraph} entry. Run with {@code -prof gc} for allocation per
+ * order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FollowerFanOutBenchmark {
+
+    private static final long LEAD = 1L;
+    private static final BigDecimal LEAD_QUANTITY = new BigDecimal("0.25");
+
+    private static final String SELECT_ACTIVE_FOLLOWERS = """
+            SELECT id, lead_user_id, follower_user_id, scale_factor, status, created_at, updated_at
+              FROM copy_relations
+             WHERE lead_user_id = ? AND status = 'ACTIVE'
+            """;
+
+    private static final RowMapper<CopyRelationEntity> ROW_MAPPER = (rs, rowNum) -> {
+        CopyRelationEntity entity = new CopyRelationEntity();
+        entity.setId(rs.getLong("id"));
+        entity.setLeadUserId(rs.getLong("lead_user_id"));
+        entity.setFollowerUserId(rs.getLong("follower_user_id"));
+        entity.setScaleFactor(rs.getBigDecimal("scale_factor"));
+        entity.setStatus(CopyTradingStatus.valueOf(rs.getString("status")));
+        entity.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        entity.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+        return entity;
+    };
+
+    @Param({ "100", "10000" })
+    private int followers;
+
+    private JdbcTemplate jdbcTemplate;
+    private final CopyRelationMapper mapper = Mappers.getMapper(CopyRelationMapper.class);
+    private FollowerGraph graph;
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:fanout" + followers + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS copy_relations");
+        jdbcTemplate.execute("""
+                CREATE TABLE copy_relations (
+                    id BIGSERIAL PRIMARY KEY,
+                    lead_user_id BIGINT NOT NULL,
+                    follower_user_id BIGINT NOT NULL,
+                    scale_factor DECIMAL(10, 4) NOT NULL DEFAULT 1.0,
+                    status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE',
+                    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    CONSTRAINT unique_relation UNIQUE (lead_user_id, follower_user_id)
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_copy_relations_lead ON copy_relations(lead_user_id)");
+        List<Object[]> rows = new ArrayList<>(followers);
+        for (int i = 0; i < followers; i++) {
+            rows.add(new Object[] { LEAD, 1_000L + i, BigDecimal.valueOf(1 + i % 20, 1) });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO copy_relations (lead_user_id, follower_user_id, scale_factor) VALUES (?, ?, ?)", rows);
+
+        CopyRelationRepository repository = mock(CopyRelationRepository.class);
+        when(repository.findByStatus(CopyTradingStatus.ACTIVE))
+                .thenReturn(jdbcTemplate.query(SELECT_ACTIVE_FOLLOWERS, ROW_MAPPER, LEAD));
+        graph = new FollowerGraph(repository);
+        graph.reloadAll();
+    }
+
+    @Benchmark
+    public void queryAndMap(Blackhole blackhole) {
+        for (CopyRelationEntity entity : jdbcTemplate.query(SELECT_ACTIVE_FOLLOWERS, ROW_MAPPER, LEAD)) {
+            CopyRelation relation = mapper.toDomain(entity);
+            blackhole.consume(relation.getFollowerUserId());
+            blackhole.consume(LEAD_QUANTITY.multiply(relation.getScaleFactor()));
+        }
+    }
+
+    @Benchmark
+    public void graph(Blackhole blackhole) {
+        FollowerGraph.Followers entry = graph.followersOf(LEAD);
+        for (int i = 0; i < entry.size(); i++) {
+            blackhole.consume(entry.userIds()[i]);
+            blackhole.consume(LEAD_QUANTITY.multiply(entry.scaleFactors()[i]));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FollowerFanOutBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
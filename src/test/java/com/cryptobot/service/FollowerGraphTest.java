@@ -0,0 +1,89 @@
+package com.cryptobot.service;
+
+import com.cryptobot.domain.model.CopyTradingStatus;
+import com.cryptobot.repository.CopyRelationRepository;
+import com.cryptobot.repository.entity.CopyRelationEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowerGraphTest {
+
+    @Mock
+    private CopyRelationRepository copyRelationRepository;
+
+    @InjectMocks
+    private FollowerGraph followerGraph;
+
+    @Test
+    void testLoadGroupsActiveRelationsByLead() {
+        when(copyRelationRepository.findByStatus(CopyTradingStatus.ACTIVE))
+                .thenReturn(List.of(relation(1L, 10L, "0.5"), relation(2L, 20L, "1"), relation(1L, 11L, "2")));
+
+        followerGraph.reloadAll();
+
+        FollowerGraph.Followers followers = followerGraph.followersOf(1L);
+        assertArrayEquals(new long[] { 10L, 11L }, followers.userIds());
+        assertEquals(new BigDecimal("0.5"), followers.scaleFactors()[0]);
+        assertEquals(new BigDecimal("2"), followers.scaleFactors()[1]);
+        assertEquals(1, followerGraph.followersOf(2L).size());
+        assertTrue(followerGraph.followersOf(3L).isEmpty());
+    }
+
+    @Test
+    void testReloadReplacesOneLead() {
+        when(copyRelationRepository.findByStatus(CopyTradingStatus.ACTIVE))
+                .thenReturn(List.of(relation(1L, 10L, "1"), relation(2L, 20L, "1")));
+        followerGraph.reloadAll();
+        when(copyRelationRepository.findByLeadUserIdAndStatus(1L, CopyTradingStatus.ACTIVE))
+                .thenReturn(List.of(relation(1L, 10L, "1"), relation(1L, 12L, "3")));
+
+        followerGraph.reload(1L);
+
+        assertArrayEquals(new long[] { 10L, 12L }, followerGraph.followersOf(1L).userIds());
+        assertArrayEquals(new long[] { 20L }, followerGraph.followersOf(2L).userIds());
+    }
+
+    @Test
+    void testLeadWithoutActiveFollowersIsDropped() {
+        when(copyRelationRepository.findByStatus(CopyTradingStatus.ACTIVE))
+                .thenReturn(List.of(relation(1L, 10L, "1")));
+        followerGraph.reloadAll();
+        when(copyRelationRepository.findByLeadUserIdAndStatus(1L, CopyTradingStatus.ACTIVE)).thenReturn(List.of());
+
+        followerGraph.reload(1L);
+
+        assertSame(FollowerGraph.Followers.NONE, followerGraph.followersOf(1L));
+    }
+
+    @Test
+    void testFullReloadForgetsRemovedLeads() {
+        when(copyRelationRepository.findByStatus(CopyTradingStatus.ACTIVE))
+                .thenReturn(List.of(relation(1L, 10L, "1")))
+                .thenReturn(List.of(relation(2L, 20L, "1")));
+
+        followerGraph.reloadAll();
+        followerGraph.reloadAll();
+
+        assertTrue(followerGraph.followersOf(1L).isEmpty());
+        assertFalse(followerGraph.followersOf(2L).isEmpty());
+    }
+
+    private static CopyRelationEntity relation(Long leadUserId, Long followerUserId, String scaleFactor) {
+        CopyRelationEntity entity = new CopyRelationEntity();
+        entity.setLeadUserId(leadUserId);
+        entity.setFollowerUserId(followerUserId);
+        entity.setScaleFactor(new BigDecimal(scaleFactor));
+        entity.setStatus(CopyTradingStatus.ACTIVE);
+        return entity;
+    }
+}
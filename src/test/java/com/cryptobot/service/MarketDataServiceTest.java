@@ -1,27 +1,36 @@
 package com.cryptobot.service;
 
-import com.cryptobot.adapter.bybit.dto.BybitWebSocketTickerResponse;
+import com.cryptobot.adapter.WebClientRegistry;
+import com.cryptobot.domain.model.OrderBookSnapshot;
 import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.service.orderbook.OrderBookService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import org.springframework.web.reactive.socket.client.WebSocketClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -37,13 +46,22 @@ class MarketDataServiceTest {
     private WebSocketSession webSocketSession;
 
     @Mock
-    private WebClient.Builder webClientBuilder;
+    private WebClientRegistry webClients;
+
+    @Mock
+    private SymbolDetailsService symbolDetailsService;
 
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    private final MarketDataService.Shard shard = new MarketDataService.Shard(0);
+
+    private OrderBookService orderBookService;
+
     @BeforeEach
     void setUp() {
-        marketDataService = new MarketDataService(objectMapper, webSocketClient, webClientBuilder);
+        orderBookService = new OrderBookService(symbolDetailsService);
+        marketDataService = new MarketDataService(objectMapper, webSocketClient, webClients, symbolDetailsService,
+                new TickerHub(), orderBookService);
         ReflectionTestUtils.setField(marketDataService, "wsUrl", "ws://localhost:8080");
         ReflectionTestUtils.setField(marketDataService, "topics", List.of("ticker.BTCUSDT"));
     }
@@ -67,7 +85,7 @@ class MarketDataServiceTest {
                 "}";
 
         // Act - Invoke private method via reflection or make it package-private
-        ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", message);
+        ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", shard, payload(message));
 
         // Assert
         TickerUpdate ticker = marketDataService.getTicker("BTCUSDT");
@@ -82,14 +100,114 @@ class MarketDataServiceTest {
         String message = "{\"topic\":\"ticker.BTCUSDT\",\"ts\":1672531200000,\"data\":{\"symbol\":\"BTCUSDT\",\"lastPrice\":\"45000.50\",\"highPrice24h\":\"46000\",\"lowPrice24h\":\"44000\",\"volume24h\":\"100\"}}";
 
         // Act & Assert
-        Flux<TickerUpdate> stream = marketDataService.getTickerStream();
+        Flux<TickerUpdate> stream = marketDataService.getTickerStream("test", TickerHub.Overflow.DROP_OLDEST, 16,
+                List.of("BTCUSDT"));
 
         // Use a background thread to process the message so the stream can catch it
         StepVerifier.create(stream)
-                .then(() -> ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", message))
+                .then(() -> ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", shard, payload(message)))
                 .expectNextMatches(update -> update.getSymbol().equals("BTCUSDT")
                         && update.getLastPrice().equals(new BigDecimal("45000.50")))
                 .thenCancel()
                 .verify();
     }
+
+    @Test
+    void testNonTickerMessageIsIgnored() {
+        String pong = "{\"success\":true,\"ret_msg\":\"pong\",\"conn_id\":\"abc\",\"op\":\"ping\"}";
+
+        ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", shard, payload(pong));
+
+        assertNull(marketDataService.getTicker("BTCUSDT"));
+    }
+
+    @Test
+    void testSnapshotWarmsEverySymbolButKeepsFresherStreamTicks() {
+        String tick = "{\"topic\":\"ticker.BTCUSDT\",\"ts\":1,\"data\":{\"symbol\":\"BTCUSDT\",\"lastPrice\":\"45000.50\"}}";
+        ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", shard, payload(tick));
+        String snapshot = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"spot\",\"list\":[" +
+                "{\"symbol\":\"BTCUSDT\",\"lastPrice\":\"44000\",\"highPrice24h\":\"46000\",\"lowPrice24h\":\"43000\",\"volume24h\":\"1\"}," +
+                "{\"symbol\":\"DOGEUSDT\",\"lastPrice\":\"0.0712\",\"highPrice24h\":\"0.08\",\"lowPrice24h\":\"0.07\",\"volume24h\":\"5\"}]}," +
+                "\"time\":1}";
+
+        Integer applied = ReflectionTestUtils.invokeMethod(marketDataService, "processSnapshot",
+                (Object) snapshot.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(1, applied);
+        assertEquals(new BigDecimal("45000.50"), marketDataService.getTicker("BTCUSDT").getLastPrice());
+        assertEquals(new BigDecimal("0.0712"), marketDataService.getTicker("DOGEUSDT").getLastPrice());
+    }
+
+    @Test
+    void testSymbolsBeyondAConnectionsLimitOpenAnotherConnection() {
+        ReflectionTestUtils.setField(marketDataService, "streamTopics", new StreamTopics(2));
+        when(webSocketClient.execute(any(URI.class), any())).thenReturn(Mono.never());
+
+        marketDataService.subscribe("strategy:1", List.of("btcusdt", "ETHUSDT"));
+        marketDataService.subscribe("strategy:2", List.of("BTCUSDT"));
+        verify(webSocketClient, times(1)).execute(any(URI.class), any());
+
+        marketDataService.subscribe("strategy:3", List.of("SOLUSDT"));
+        verify(webSocketClient, times(2)).execute(any(URI.class), any());
+
+        // SOLUSDT was the only topic of the second connection
+        marketDataService.unsubscribe("strategy:3");
+        assertEquals(1, ((Map<?, ?>) ReflectionTestUtils.getField(marketDataService, "shards")).size());
+    }
+
+    @Test
+    void testOrderBookGapResubscribesForASnapshot() {
+        Sinks.Many<String> outbound = Sinks.many().unicast().onBackpressureBuffer();
+        ReflectionTestUtils.setField(shard, "outbound", outbound);
+        String snapshot = "{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"snapshot\",\"ts\":1,\"data\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":[[\"45000.1\",\"1.5\"]],\"a\":[[\"45000.2\",\"0.5\"]],\"u\":10,\"seq\":100}}";
+        String delta = "{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"delta\",\"ts\":2,\"data\":{\"s\":\"BTCUSDT\"," +
+                "\"b\":[[\"45000.1\",\"0\"]],\"a\":[],\"u\":11,\"seq\":101}}";
+        String skipped = delta.replace("\"u\":11", "\"u\":13");
+
+        ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", shard, payload(snapshot));
+        ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", shard, payload(delta));
+        ReflectionTestUtils.invokeMethod(marketDataService, "processMessage", shard, payload(skipped));
+
+        OrderBookSnapshot book = orderBookService.getSnapshot("BTCUSDT", 10);
+        assertEquals(11, book.getUpdateId());
+        assertEquals(0, book.getBids().size());
+        assertEquals(new BigDecimal("45000.20000000"), book.getAsks().get(0).getPrice());
+        assertFalse(book.isSynced());
+        StepVerifier.create(outbound.asFlux().take(2))
+                .expectNext("{\"op\": \"unsubscribe\", \"args\": [\"orderbook.50.BTCUSDT\"]}")
+                .expectNext("{\"op\": \"subscribe\", \"args\": [\"orderbook.50.BTCUSDT\"]}")
+                .verifyComplete();
+    }
+
+    @Test
+    void testSessionUpAfterATopicIsPlacedDoesNotSubscribeItTwice() {
+        StreamTopics streamTopics = new StreamTopics(100);
+        ReflectionTestUtils.setField(marketDataService, "streamTopics", streamTopics);
+        @SuppressWarnings("unchecked")
+        Map<Integer, MarketDataService.Shard> shards =
+                (Map<Integer, MarketDataService.Shard>) ReflectionTestUtils.getField(marketDataService, "shards");
+        shards.put(0, shard);
+        when(webSocketSession.getId()).thenReturn("session-1");
+        when(webSocketSession.send(any())).thenReturn(Mono.never());
+        when(webSocketSession.receive()).thenReturn(Flux.never());
+
+        // The topic is placed, then the connection comes up before the op is applied
+        List<StreamTopics.ShardOp> ops = streamTopics.hold("ticker/strategy:1", List.of("ticker.BTCUSDT"));
+        ReflectionTestUtils.invokeMethod(marketDataService, "run", shard, webSocketSession);
+        ReflectionTestUtils.invokeMethod(marketDataService, "apply", ops);
+        ReflectionTestUtils.invokeMethod(marketDataService, "apply",
+                streamTopics.hold("ticker/strategy:1", List.of("ticker.BTCUSDT", "ticker.ETHUSDT")));
+
+        @SuppressWarnings("unchecked")
+        Sinks.Many<String> outbound = (Sinks.Many<String>) ReflectionTestUtils.getField(shard, "outbound");
+        StepVerifier.create(outbound.asFlux().take(Duration.ofMillis(200)))
+                .expectNext("{\"op\": \"subscribe\", \"args\": [\"ticker.BTCUSDT\"]}")
+                .expectNext("{\"op\": \"subscribe\", \"args\": [\"ticker.ETHUSDT\"]}")
+                .verifyComplete();
+    }
+
+    private DataBuffer payload(String message) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(message.getBytes(StandardCharsets.UTF_8));
+    }
 }
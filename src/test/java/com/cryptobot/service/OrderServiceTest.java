@@ -4,11 +4,15 @@ import com.cryptobot.adapter.ExchangeAdapter;
 import com.cryptobot.adapter.ExchangeAdapterFactory;
 import com.cryptobot.adapter.ExchangeType;
 import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.BatchOrderResult;
 import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.SymbolDetails;
+import com.cryptobot.domain.model.SymbolPrecision;
 import com.cryptobot.domain.vo.OrderSide;
 import com.cryptobot.domain.vo.OrderStatus;
 import com.cryptobot.domain.vo.OrderType;
 import com.cryptobot.domain.vo.Symbol;
+import com.cryptobot.repository.JdbcExecutor;
 import com.cryptobot.repository.OrderRepository;
 import com.cryptobot.repository.entity.OrderEntity;
 import com.cryptobot.service.mapper.OrderMapper;
@@ -17,13 +21,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -44,6 +53,9 @@ class OrderServiceTest {
         private SymbolDetailsService symbolDetailsService;
         @Mock
         private CopyTradingService copyTradingService;
+        @Spy
+        private JdbcExecutor jdbcExecutor = new JdbcExecutor(Schedulers.boundedElastic(),
+                        mock(PlatformTransactionManager.class));
 
         @InjectMocks
         private OrderService orderService;
@@ -102,4 +114,126 @@ class OrderServiceTest {
                 verify(apiKeyService).markAsUsed(apiKey.getId());
                 verify(orderRepository).save(any(OrderEntity.class));
         }
+
+        @Test
+        void testOrderIsStoredOffTheThreadThatCompletesTheExchangeCall() {
+                when(apiKeyService.getActiveKey(userId, ExchangeType.BYBIT)).thenReturn(apiKey);
+                when(apiKeyService.getDecryptedCredentials(apiKey))
+                                .thenReturn(new ApiKeyService.Credentials("plain-key", "plain-secret"));
+                when(adapterFactory.getAdapter(ExchangeType.BYBIT)).thenReturn(exchangeAdapter);
+
+                Order placedOrder = Order.builder().exchangeOrderId("order-123").status(OrderStatus.NEW).build();
+                // Complete on a non-blocking thread, like a WebClient response on the Netty event loop
+                when(exchangeAdapter.placeOrder(anyString(), anyString(), any(Order.class)))
+                                .thenReturn(Mono.just(placedOrder).publishOn(Schedulers.parallel()));
+
+                OrderEntity orderEntity = new OrderEntity();
+                when(orderMapper.toEntity(any(Order.class))).thenReturn(orderEntity);
+                when(orderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> {
+                        // Stands in for a JDBC round trip; BlockHound fails the test on a non-blocking thread
+                        Thread.sleep(1);
+                        return orderEntity;
+                });
+                when(orderMapper.toDomain(any(OrderEntity.class))).thenReturn(placedOrder);
+
+                StepVerifier.create(orderService.placeOrder(userId, orderRequest))
+                                .expectNext(placedOrder)
+                                .verifyComplete();
+        }
+
+        @Test
+        void testBatchPlacementReportsEachOrderInRequestOrder() {
+                when(apiKeyService.getActiveKey(userId, ExchangeType.BYBIT)).thenReturn(apiKey);
+                when(apiKeyService.getDecryptedCredentials(apiKey))
+                                .thenReturn(new ApiKeyService.Credentials("plain-key", "plain-secret"));
+                when(symbolDetailsService.getPrecision(ExchangeType.BYBIT, "BTCUSDT"))
+                                .thenReturn(SymbolPrecision.of(SymbolDetails.builder()
+                                                .symbol("BTCUSDT")
+                                                .basePrecision(6)
+                                                .quotePrecision(8)
+                                                .minQuantity(new BigDecimal("0.0001"))
+                                                .tickSize(new BigDecimal("0.01"))
+                                                .build()));
+                when(adapterFactory.getAdapter(ExchangeType.BYBIT)).thenReturn(exchangeAdapter);
+
+                Order tooSmall = order("0.00001");
+                Order rejected = order("0.002");
+                Order placed = order("0.003");
+                // Only the two valid orders are sent; the exchange indexes them within what it got
+                when(exchangeAdapter.placeOrders(eq("plain-key"), eq("plain-secret"), eq(List.of(rejected, placed))))
+                                .thenReturn(Mono.just(List.of(
+                                                BatchOrderResult.failure(0, rejected, "170131", "Insufficient balance."),
+                                                BatchOrderResult.success(1, placed))));
+                OrderEntity entity = new OrderEntity();
+                when(orderMapper.toEntity(placed)).thenReturn(entity);
+                when(orderRepository.saveAll(List.of(entity))).thenReturn(List.of(entity));
+                Order stored = Order.builder().id(7L).build();
+                when(orderMapper.toDomain(entity)).thenReturn(stored);
+
+                StepVerifier.create(orderService.placeOrders(userId, List.of(tooSmall, rejected, placed)))
+                                .assertNext(results -> {
+                                        assertEquals(3, results.size());
+                                        assertEquals("VALIDATION_ERROR", results.get(0).getErrorCode());
+                                        assertEquals(1, results.get(1).getIndex());
+                                        assertEquals("170131", results.get(1).getErrorCode());
+                                        assertEquals(2, results.get(2).getIndex());
+                                        assertSame(stored, results.get(2).getOrder());
+                                })
+                                .verifyComplete();
+
+                verify(apiKeyService, times(1)).markAsUsed(apiKey.getId());
+                verify(copyTradingService, times(1)).mirrorTrade(stored);
+        }
+
+        @Test
+        void testBatchCancelSkipsOrdersThatCannotBeCancelled() {
+                OrderEntity open = orderEntity(1L, userId);
+                OrderEntity foreign = orderEntity(2L, 2L);
+                when(orderRepository.findAllById(any())).thenReturn(List.of(open, foreign));
+                when(orderMapper.toDomain(any(OrderEntity.class))).thenAnswer(invocation -> {
+                        OrderEntity entity = invocation.getArgument(0);
+                        return Order.builder().id(entity.getId()).userId(entity.getUserId())
+                                        .exchangeType(entity.getExchangeType()).status(entity.getStatus()).build();
+                });
+                when(apiKeyService.getActiveKey(userId, ExchangeType.BYBIT)).thenReturn(apiKey);
+                when(apiKeyService.getDecryptedCredentials(apiKey))
+                                .thenReturn(new ApiKeyService.Credentials("plain-key", "plain-secret"));
+                when(adapterFactory.getAdapter(ExchangeType.BYBIT)).thenReturn(exchangeAdapter);
+                when(exchangeAdapter.cancelOrders(anyString(), anyString(), any())).thenAnswer(invocation -> {
+                        List<Order> orders = invocation.getArgument(2);
+                        assertEquals(1, orders.size());
+                        return Mono.just(List.of(BatchOrderResult.success(0, orders.get(0))));
+                });
+
+                StepVerifier.create(orderService.cancelOrders(userId, List.of(1L, 2L, 3L)))
+                                .assertNext(results -> {
+                                        assertTrue(results.get(0).isSuccess());
+                                        assertEquals(OrderStatus.CANCELLED, results.get(0).getOrder().getStatus());
+                                        assertEquals("UNAUTHORIZED", results.get(1).getErrorCode());
+                                        assertEquals("NOT_FOUND", results.get(2).getErrorCode());
+                                })
+                                .verifyComplete();
+
+                assertEquals(OrderStatus.CANCELLED, open.getStatus());
+                verify(orderRepository).saveAll(List.of(open));
+        }
+
+        private static Order order(String quantity) {
+                return Order.builder()
+                                .exchangeType(ExchangeType.BYBIT)
+                                .symbol("BTCUSDT")
+                                .orderType(OrderType.MARKET)
+                                .side(OrderSide.BUY)
+                                .quantity(new BigDecimal(quantity))
+                                .build();
+        }
+
+        private static OrderEntity orderEntity(Long id, Long owner) {
+                OrderEntity entity = new OrderEntity();
+                entity.setId(id);
+                entity.setUserId(owner);
+                entity.setExchangeType(ExchangeType.BYBIT);
+                entity.setStatus(OrderStatus.NEW);
+                return entity;
+        }
 }
@@ -0,0 +1,50 @@
+package com.cryptobot.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamTopicsTest {
+
+    private final StreamTopics topics = new StreamTopics(2);
+
+    @Test
+    void testTopicIsSubscribedOnceAndReleasedByItsLastHolder() {
+        assertEquals(List.of(new StreamTopics.ShardOp(0, true, List.of("ticker.BTCUSDT"))),
+                topics.hold("strategy:1", List.of("ticker.BTCUSDT")));
+        assertTrue(topics.hold("client:a", List.of("ticker.BTCUSDT")).isEmpty());
+        assertEquals(2, topics.refCount("ticker.BTCUSDT"));
+
+        assertTrue(topics.release("strategy:1").isEmpty());
+        assertEquals(List.of(new StreamTopics.ShardOp(0, false, List.of("ticker.BTCUSDT"))),
+                topics.release("client:a"));
+        assertTrue(topics.symbols(StreamTopics.TICKER_PREFIX).isEmpty());
+    }
+
+    @Test
+    void testShardsFillBeforeANewOneIsUsed() {
+        topics.hold("config", List.of("ticker.BTCUSDT", "orderbook.50.BTCUSDT"));
+
+        List<StreamTopics.ShardOp> ops = topics.hold("strategy:1", List.of("ticker.SOLUSDT"));
+
+        assertEquals(List.of(new StreamTopics.ShardOp(1, true, List.of("ticker.SOLUSDT"))), ops);
+        assertEquals(List.of("ticker.BTCUSDT", "orderbook.50.BTCUSDT"), topics.topicsOf(0));
+        assertEquals(List.of("ticker.SOLUSDT"), topics.topicsOf(1));
+        assertEquals(Set.of("BTCUSDT"), topics.symbols(StreamTopics.ORDER_BOOK_PREFIX));
+    }
+
+    @Test
+    void testReplacingAHoldersTopicsOnlyTouchesTheDifference() {
+        topics.hold("strategy:1", List.of("ticker.BTCUSDT", "ticker.ETHUSDT"));
+
+        List<StreamTopics.ShardOp> ops = topics.hold("strategy:1", List.of("ticker.ETHUSDT", "ticker.XRPUSDT"));
+
+        // The freed slot on shard 0 is reused
+        assertEquals(List.of(new StreamTopics.ShardOp(0, false, List.of("ticker.BTCUSDT")),
+                new StreamTopics.ShardOp(0, true, List.of("ticker.XRPUSDT"))), ops);
+        assertEquals(Set.of("ETHUSDT", "XRPUSDT"), topics.symbols(StreamTopics.TICKER_PREFIX));
+    }
+}
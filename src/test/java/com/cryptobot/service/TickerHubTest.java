@@ -0,0 +1,125 @@
+package com.cryptobot.service;
+
+import com.cryptobot.domain.model.TickerSubscriberMetrics;
+import com.cryptobot.domain.model.TickerUpdate;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickerHubTest {
+
+    private final TickerHub hub = new TickerHub();
+
+    @Test
+    void testTicksAreRoutedOnlyToSubscribersOfTheirSymbol() {
+        List<TickerUpdate> btc = new ArrayList<>();
+        List<TickerUpdate> all = new ArrayList<>();
+        Disposable btcSubscription = hub.subscribe("btc", TickerHub.Overflow.DROP_OLDEST, 8, List.of("BTCUSDT"))
+                .subscribe(btc::add);
+        Disposable allSubscription = hub.subscribe("all", TickerHub.Overflow.DROP_OLDEST, 8, List.of())
+                .subscribe(all::add);
+
+        hub.publish(tick("BTCUSDT", 1));
+        hub.publish(tick("ETHUSDT", 2));
+
+        assertEquals(List.of(1L), btc.stream().map(TickerUpdate::getLastPriceUnits).toList());
+        assertEquals(2, all.size());
+        TickerSubscriberMetrics metrics = metricsOf("btc");
+        assertEquals(1, metrics.getEmitted());
+        assertEquals(1, metrics.getDelivered());
+        btcSubscription.dispose();
+        allSubscription.dispose();
+        assertTrue(hub.metrics().isEmpty());
+    }
+
+    @Test
+    void testConflationKeepsTheLatestTickPerSymbol() {
+        Flux<TickerUpdate> stream = hub.subscribe("slow", TickerHub.Overflow.CONFLATE_LATEST, 2, List.of());
+
+        StepVerifier.create(stream, 0)
+                .then(() -> {
+                    hub.publish(tick("BTCUSDT", 1));
+                    hub.publish(tick("ETHUSDT", 2));
+                    hub.publish(tick("BTCUSDT", 3));
+                    // BTCUSDT kept its place when replaced, so a third symbol evicts it
+                    hub.publish(tick("SOLUSDT", 4));
+                })
+                .thenRequest(2)
+                .expectNextMatches(update -> update.getLastPriceUnits() == 2)
+                .expectNextMatches(update -> update.getLastPriceUnits() == 4)
+                .then(() -> {
+                    TickerSubscriberMetrics metrics = metricsOf("slow");
+                    assertEquals(4, metrics.getEmitted());
+                    assertEquals(2, metrics.getDelivered());
+                    assertEquals(2, metrics.getDropped());
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void testDropOldestKeepsTheNewestUpdates() {
+        Flux<TickerUpdate> stream = hub.subscribe("slow", TickerHub.Overflow.DROP_OLDEST, 2, List.of());
+
+        StepVerifier.create(stream, 0)
+                .then(() -> {
+                    for (int i = 1; i <= 5; i++) {
+                        hub.publish(tick("BTCUSDT", i));
+                    }
+                })
+                .thenRequest(5)
+                .expectNextMatches(update -> update.getLastPriceUnits() == 4)
+                .expectNextMatches(update -> update.getLastPriceUnits() == 5)
+                .then(() -> assertEquals(3, metricsOf("slow").getDropped()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void testPublishingToFullSubscribersNeverWaits() {
+        Disposable conflating = hub.subscribe("conflating", TickerHub.Overflow.CONFLATE_LATEST, 1, List.of())
+                .subscribe(update -> { }, error -> { }, () -> { }, subscription -> { });
+        Disposable dropping = hub.subscribe("dropping", TickerHub.Overflow.DROP_OLDEST, 1, List.of())
+                .subscribe(update -> { }, error -> { }, () -> { }, subscription -> { });
+
+        // Neither subscriber requests; BlockHound fails a wait on the non-blocking thread
+        StepVerifier.create(Mono.fromRunnable(() -> {
+                            for (int i = 1; i <= 100; i++) {
+                                hub.publish(tick("SYM" + (i % 3), i));
+                            }
+                        })
+                        .subscribeOn(Schedulers.parallel()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertEquals(99, metricsOf("dropping").getDropped());
+        assertEquals(1, metricsOf("conflating").getQueued());
+        conflating.dispose();
+        dropping.dispose();
+    }
+
+    private TickerSubscriberMetrics metricsOf(String name) {
+        return hub.metrics().stream()
+                .filter(metrics -> metrics.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static TickerUpdate tick(String symbol, long lastPriceUnits) {
+        return TickerUpdate.builder()
+                .symbol(symbol)
+                .priceScale(2)
+                .lastPriceUnits(lastPriceUnits)
+                .timestampMillis(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.cryptobot.service;
+
+import com.cryptobot.adapter.ExchangeAdapter;
+import com.cryptobot.adapter.ExchangeAdapterFactory;
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.Trade;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.Symbol;
+import com.cryptobot.repository.ExecutionWatermarkRepository;
+import com.cryptobot.repository.JdbcExecutor;
+import com.cryptobot.repository.OrderRepository;
+import com.cryptobot.repository.TradeRepository;
+import com.cryptobot.repository.entity.ExecutionWatermarkEntity;
+import com.cryptobot.repository.entity.OrderEntity;
+import com.cryptobot.repository.entity.TradeEntity;
+import com.cryptobot.service.mapper.TradeMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TradeServiceTest {
+
+    private static final long WATERMARK = 1_700_000_000_000L;
+
+    @Mock
+    private TradeRepository tradeRepository;
+    @Spy
+    private TradeMapper tradeMapper = Mappers.getMapper(TradeMapper.class);
+    @Mock
+    private ApiKeyService apiKeyService;
+    @Mock
+    private ExchangeAdapterFactory adapterFactory;
+    @Mock
+    private ExchangeAdapter exchangeAdapter;
+    @Spy
+    private JdbcExecutor jdbcExecutor = new JdbcExecutor(Schedulers.immediate(),
+            mock(PlatformTransactionManager.class));
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private ExecutionWatermarkRepository watermarkRepository;
+
+    @InjectMocks
+    private TradeService tradeService;
+
+    private final ApiKey apiKey = ApiKey.builder()
+            .id(100L)
+            .userId(1L)
+            .exchangeType(ExchangeType.BYBIT)
+            .active(true)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(adapterFactory.getAdapter(ExchangeType.BYBIT)).thenReturn(exchangeAdapter);
+        when(apiKeyService.getActiveKey(1L, ExchangeType.BYBIT)).thenReturn(apiKey);
+        when(apiKeyService.getDecryptedCredentials(apiKey))
+                .thenReturn(new ApiKeyService.Credentials("plain-key", "plain-secret"));
+    }
+
+    @Test
+    void testSyncResumesFromTheWatermarkAndAdvancesIt() {
+        ExecutionWatermarkEntity watermark = ExecutionWatermarkEntity.builder()
+                .id(5L).apiKeyId(100L).symbol("BTCUSDT").lastExecTime(WATERMARK).build();
+        when(watermarkRepository.findByApiKeyIdAndSymbol(100L, "BTCUSDT")).thenReturn(Optional.of(watermark));
+        when(exchangeAdapter.getExecutionsSince("plain-key", "plain-secret", new Symbol("BTCUSDT"), WATERMARK))
+                .thenReturn(Flux.just(execution("e1", "o1", WATERMARK + 10), execution("e2", "o2", WATERMARK + 20)));
+        when(orderRepository.findByApiKeyIdAndExchangeOrderIdIn(eq(100L), anyCollection()))
+                .thenReturn(List.of(order(11L, "o1"), order(12L, "o2")));
+        when(tradeRepository.insertIgnoringDuplicates(anyList())).thenReturn(new int[] { 1, 1 });
+
+        StepVerifier.create(tradeService.syncTradeHistory(1L, ExchangeType.BYBIT, "BTCUSDT"))
+                .assertNext(trades -> {
+                    assertEquals(List.of("e1", "e2"), trades.stream().map(Trade::getExchangeTradeId).toList());
+                    assertEquals(List.of(11L, 12L), trades.stream().map(Trade::getOrderId).toList());
+                })
+                .verifyComplete();
+
+        assertEquals(WATERMARK + 20, watermark.getLastExecTime());
+        verify(watermarkRepository).save(watermark);
+    }
+
+    @Test
+    void testFirstSyncLooksBackAndSkipsUnknownOrdersAndStoredExecutions() {
+        when(watermarkRepository.findByApiKeyIdAndSymbol(100L, "BTCUSDT")).thenReturn(Optional.empty());
+        long lookback = System.currentTimeMillis() - Duration.ofDays(7).toMillis();
+        when(exchangeAdapter.getExecutionsSince(eq("plain-key"), eq("plain-secret"), eq(new Symbol("BTCUSDT")),
+                longThat(since -> Math.abs(since - lookback) < 60_000)))
+                .thenReturn(Flux.just(execution("e1", "o1", lookback + 10), execution("e2", "manual", lookback + 20),
+                        execution("e3", "o1", lookback + 30)));
+        when(orderRepository.findByApiKeyIdAndExchangeOrderIdIn(eq(100L), anyCollection()))
+                .thenReturn(List.of(order(11L, "o1")));
+        // e1 was stored by an earlier sync; rewritten batches report SUCCESS_NO_INFO either way
+        when(tradeRepository.findStoredExchangeTradeIds(eq(ExchangeType.BYBIT), anyCollection()))
+                .thenReturn(Set.of("e1"));
+        when(tradeRepository.insertIgnoringDuplicates(anyList())).thenReturn(new int[] { -2 });
+
+        StepVerifier.create(tradeService.syncTradeHistory(1L, ExchangeType.BYBIT, "BTCUSDT"))
+                .assertNext(trades -> assertEquals(List.of("e3"),
+                        trades.stream().map(Trade::getExchangeTradeId).toList()))
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TradeEntity>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(tradeRepository).insertIgnoringDuplicates(inserted.capture());
+        assertEquals(List.of("e3"), inserted.getValue().stream().map(TradeEntity::getExchangeTradeId).toList());
+
+        ArgumentCaptor<ExecutionWatermarkEntity> saved = ArgumentCaptor.forClass(ExecutionWatermarkEntity.class);
+        verify(watermarkRepository).save(saved.capture());
+        assertEquals(100L, saved.getValue().getApiKeyId());
+        assertEquals(lookback + 30, saved.getValue().getLastExecTime());
+    }
+
+    @Test
+    void testExecutionsAreStoredInBatchesWithOneOrderLookupEach() {
+        ReflectionTestUtils.setField(tradeService, "batchSize", 2);
+        when(watermarkRepository.findByApiKeyIdAndSymbol(100L, "BTCUSDT")).thenReturn(Optional.empty());
+        when(exchangeAdapter.getExecutionsSince(anyString(), anyString(), any(), anyLong()))
+                .thenReturn(Flux.just(execution("e1", "o1", WATERMARK), execution("e2", "o1", WATERMARK + 1),
+                        execution("e3", "o1", WATERMARK + 2)));
+        when(orderRepository.findByApiKeyIdAndExchangeOrderIdIn(eq(100L), anyCollection()))
+                .thenReturn(List.of(order(11L, "o1")));
+        when(tradeRepository.insertIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> {
+                    int[] counts = new int[invocation.<List<TradeEntity>>getArgument(0).size()];
+                    Arrays.fill(counts, -2);
+                    return counts;
+                });
+
+        StepVerifier.create(tradeService.syncTradeHistory(1L, ExchangeType.BYBIT, "BTCUSDT"))
+                .assertNext(trades -> assertEquals(3, trades.size()))
+                .verifyComplete();
+
+        verify(orderRepository, times(2)).findByApiKeyIdAndExchangeOrderIdIn(eq(100L), anyCollection());
+        verify(tradeRepository, times(2)).insertIgnoringDuplicates(anyList());
+    }
+
+    @Test
+    void testWatermarkStopsBeforeARecentExecutionOfAnOrderNotStoredYet() {
+        long now = System.currentTimeMillis();
+        ExecutionWatermarkEntity watermark = ExecutionWatermarkEntity.builder()
+                .id(5L).apiKeyId(100L).symbol("BTCUSDT").lastExecTime(now - 60_000).build();
+        when(watermarkRepository.findByApiKeyIdAndSymbol(100L, "BTCUSDT")).thenReturn(Optional.of(watermark));
+        Trade untimed = execution("e3", "o1", now);
+        untimed.setExecutedAt(null);
+        when(exchangeAdapter.getExecutionsSince(anyString(), anyString(), any(), eq(now - 60_000)))
+                .thenReturn(Flux.just(execution("e1", "o1", now - 30_000), execution("e2", "o-new", now - 20_000),
+                        untimed, execution("e4", "o1", now - 10_000)));
+        when(orderRepository.findByApiKeyIdAndExchangeOrderIdIn(eq(100L), anyCollection()))
+                .thenReturn(List.of(order(11L, "o1")));
+
+        StepVerifier.create(tradeService.syncTradeHistory(1L, ExchangeType.BYBIT, "BTCUSDT"))
+                .assertNext(trades -> assertEquals(List.of("e1", "e3", "e4"),
+                        trades.stream().map(Trade::getExchangeTradeId).toList()))
+                .verifyComplete();
+
+        // The fill of o-new is fetched again once its order is stored
+        assertEquals(now - 20_001, watermark.getLastExecTime());
+    }
+
+    @Test
+    void testNothingNewLeavesTheWatermarkAlone() {
+        ExecutionWatermarkEntity watermark = ExecutionWatermarkEntity.builder()
+                .id(5L).apiKeyId(100L).symbol("BTCUSDT").lastExecTime(WATERMARK).build();
+        when(watermarkRepository.findByApiKeyIdAndSymbol(100L, "BTCUSDT")).thenReturn(Optional.of(watermark));
+        when(exchangeAdapter.getExecutionsSince(anyString(), anyString(), any(), eq(WATERMARK)))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(tradeService.syncTradeHistory(1L, ExchangeType.BYBIT, "BTCUSDT"))
+                .assertNext(trades -> assertTrue(trades.isEmpty()))
+                .verifyComplete();
+
+        verifyNoInteractions(tradeRepository, orderRepository);
+        verify(watermarkRepository, never()).save(any());
+    }
+
+    private static Trade execution(String execId, String exchangeOrderId, long execTime) {
+        return Trade.builder()
+                .exchangeType(ExchangeType.BYBIT)
+                .exchangeTradeId(execId)
+                .exchangeOrderId(exchangeOrderId)
+                .symbol("BTCUSDT")
+                .side(OrderSide.BUY)
+                .quantity(new BigDecimal("0.001"))
+                .price(new BigDecimal("40000"))
+                .commission(BigDecimal.ZERO)
+                .executedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(execTime), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private static OrderEntity order(Long id, String exchangeOrderId) {
+        OrderEntity order = new OrderEntity();
+        order.setId(id);
+        order.setExchangeOrderId(exchangeOrderId);
+        return order;
+    }
+}
@@ -0,0 +1,86 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.BacktestResult;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyType;
+import com.cryptobot.service.SymbolDetailsService;
+import com.cryptobot.service.strategy.impl.DcaStrategy;
+import com.cryptobot.service.strategy.impl.GridStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Wall time of a full backtest over synthetic one-minute candles (a random
+ * walk around 30000), four ticks per candle.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BacktestEngineBenchmark {
+
+    private static final long MINUTES_PER_YEAR = 365L * 24 * 60;
+
+    @Param({ "1", "3" })
+    public int years;
+
+    private CandleSeries series;
+    private BacktestEngine engine;
+    private Strategy grid;
+    private Strategy dca;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        CandleSeries.Builder builder = CandleSeries.builder("BTCUSDT", "1");
+        long price = 30_000_00000000L;
+        long start = 1_577_836_800_000L;
+        for (long i = 0; i < years * MINUTES_PER_YEAR; i++) {
+            long open = price;
+            long close = Math.max(1_000_00000000L, open + (long) (random.nextGaussian() * 15_00000000L));
+            long high = Math.max(open, close) + (long) (random.nextDouble() * 5_00000000L);
+            long low = Math.min(open, close) - (long) (random.nextDouble() * 5_00000000L);
+            builder.add(start + i * 60_000L, open, high, low, close, 10);
+            price = close;
+        }
+        series = builder.build();
+
+        engine = new BacktestEngine(Map.of("DCA", new DcaStrategy(mock(SymbolDetailsService.class)),
+                "GRID", new GridStrategy()));
+        grid = Strategy.builder()
+                .type(StrategyType.GRID)
+                .parameters(Map.of("lowerPrice", "20000", "upperPrice", "40000", "levels", 200,
+                        "quantityPerLevel", "0.001"))
+                .build();
+        dca = Strategy.builder()
+                .type(StrategyType.DCA)
+                .parameters(Map.of("amountUsdt", "10", "intervalMinutes", 60))
+                .build();
+    }
+
+    @Benchmark
+    public BacktestResult gridOhlc() {
+        return engine.run(grid, series);
+    }
+
+    @Benchmark
+    public BacktestResult dcaHourly() {
+        return engine.run(dca, series);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BacktestEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
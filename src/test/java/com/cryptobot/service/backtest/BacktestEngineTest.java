@@ -0,0 +1,157 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.BacktestResult;
+import com.cryptobot.domain.model.BacktestTrade;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyType;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.service.SymbolDetailsService;
+import com.cryptobot.service.strategy.impl.DcaStrategy;
+import com.cryptobot.service.strategy.impl.GridStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class BacktestEngineTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final long START = 1_672_531_200_000L; // 2023-01-01T00:00:00Z
+
+    private final BacktestEngine engine = new BacktestEngine(Map.of(
+            "DCA", new DcaStrategy(mock(SymbolDetailsService.class)),
+            "GRID", new GridStrategy()));
+
+    private final Strategy dca = Strategy.builder()
+            .type(StrategyType.DCA)
+            .symbol("BTCUSDT")
+            .parameters(Map.of("amountUsdt", "10", "intervalMinutes", 1440))
+            .build();
+
+    private final Strategy grid = Strategy.builder()
+            .type(StrategyType.GRID)
+            .symbol("BTCUSDT")
+            .parameters(Map.of("lowerPrice", "100", "upperPrice", "200", "levels", 11, "quantityPerLevel", "0.5"))
+            .build();
+
+    private final BacktestSettings closeOnly = BacktestSettings.builder()
+            .feeRate(BigDecimal.ZERO)
+            .tickMode(BacktestSettings.TickMode.CLOSE)
+            .build();
+
+    @Test
+    void testScheduledStrategyRunsOncePerIntervalOfSimulatedTime() {
+        CandleSeries series = flatDailySeries(10, "100");
+
+        BacktestResult result = engine.run(dca, series, BacktestSettings.builder()
+                .tickMode(BacktestSettings.TickMode.CLOSE)
+                .build());
+
+        assertEquals(10, result.getCandles());
+        assertEquals(10, result.getTradeCount());
+        assertEquals(0, new BigDecimal("1").compareTo(result.getFinalPosition()));
+        // 0.1% fee on 10 x 10 USDT
+        assertEquals(0, new BigDecimal("0.1").compareTo(result.getTotalFees()));
+        assertEquals(0, new BigDecimal("-0.1").compareTo(result.getNetProfit()));
+        assertEquals(0, result.getRejectedOrders());
+    }
+
+    @Test
+    void testGridRoundTripRealizesProfit() {
+        CandleSeries series = dailySeries("155", "128", "162");
+
+        BacktestResult result = engine.run(grid, series, closeOnly);
+
+        assertEquals(2, result.getTradeCount());
+        BacktestTrade buy = result.getTrades().get(0);
+        BacktestTrade sell = result.getTrades().get(1);
+        assertEquals(OrderSide.BUY, buy.getSide());
+        assertEquals(0, new BigDecimal("1.5").compareTo(buy.getQuantity()));
+        assertEquals(OrderSide.SELL, sell.getSide());
+        // 1.5 x (162 - 128)
+        assertEquals(0, new BigDecimal("51").compareTo(sell.getRealizedPnl()));
+        assertEquals(0, new BigDecimal("51").compareTo(result.getNetProfit()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(result.getFinalPosition()));
+    }
+
+    @Test
+    void testOhlcTicksReplayIntraCandleSwing() {
+        // Green candle: open 155, dips to 128, rallies to 162, closes 161
+        CandleSeries series = CandleSeries.builder("BTCUSDT", "D")
+                .add(START, new BigDecimal("155"), new BigDecimal("162"), new BigDecimal("128"),
+                        new BigDecimal("161"), BigDecimal.ONE)
+                .build();
+
+        BacktestResult ohlc = engine.run(grid, series, BacktestSettings.builder().feeRate(BigDecimal.ZERO).build());
+        BacktestResult close = engine.run(grid, series, closeOnly);
+
+        assertEquals(2, ohlc.getTradeCount(), "bought on the dip, sold on the rally");
+        assertEquals(0, new BigDecimal("51").compareTo(ohlc.getNetProfit()));
+        assertEquals(0, close.getTradeCount(), "close alone only sets the reference price");
+    }
+
+    @Test
+    void testSlippageAndRejectionsWhenCashRunsOut() {
+        CandleSeries series = flatDailySeries(5, "100");
+
+        BacktestResult result = engine.run(dca, series, BacktestSettings.builder()
+                .initialCapital(new BigDecimal("25"))
+                .feeRate(BigDecimal.ZERO)
+                .slippageBps(new BigDecimal("10"))
+                .tickMode(BacktestSettings.TickMode.CLOSE)
+                .build());
+
+        assertEquals(2, result.getTradeCount());
+        assertEquals(3, result.getRejectedOrders());
+        // Buys fill 10 bps above the close
+        assertEquals(0, new BigDecimal("100.1").compareTo(result.getTrades().get(0).getPrice()));
+    }
+
+    @Test
+    void testDrawdownTracksPeakToTroughEquity() {
+        CandleSeries series = dailySeries("155", "128", "100", "162");
+
+        BacktestResult result = engine.run(grid, series, closeOnly);
+
+        // Bought 1.5 at 128 and 1.5 more at 100 (levels 120..100); 3 held marked at 100 vs 128
+        assertTrue(result.getMaxDrawdown().compareTo(new BigDecimal("42")) == 0,
+                "drawdown was " + result.getMaxDrawdown());
+        assertTrue(result.getMaxDrawdownPct().signum() > 0);
+    }
+
+    @Test
+    void testRejectsEmptySeriesAndUnknownStrategy() {
+        CandleSeries empty = CandleSeries.builder("BTCUSDT", "1").build();
+        assertThrows(IllegalArgumentException.class, () -> engine.run(dca, empty));
+
+        Strategy invalid = Strategy.builder().type(StrategyType.GRID).parameters(Map.of()).build();
+        assertThrows(IllegalArgumentException.class, () -> engine.run(invalid, flatDailySeries(2, "100")));
+    }
+
+    @Test
+    void testDoesNotModifyTheGivenStrategy() {
+        engine.run(dca, flatDailySeries(3, "100"));
+
+        assertNull(dca.getLastRunAt());
+        assertNull(dca.getId());
+    }
+
+    private static CandleSeries flatDailySeries(int days, String price) {
+        String[] closes = new String[days];
+        Arrays.fill(closes, price);
+        return dailySeries(closes);
+    }
+
+    private static CandleSeries dailySeries(String... closes) {
+        CandleSeries.Builder builder = CandleSeries.builder("BTCUSDT", "D");
+        for (int i = 0; i < closes.length; i++) {
+            BigDecimal close = new BigDecimal(closes[i]);
+            builder.add(START + i * DAY, close, close, close, close, BigDecimal.ONE);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.adapter.bybit.BybitAdapter;
+import com.cryptobot.domain.model.Candle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandleSeriesLoaderTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Mock
+    private BybitAdapter bybitAdapter;
+
+    @InjectMocks
+    private CandleSeriesLoader loader;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void testFetchPagesBackwardsPastTheKlineLimit() {
+        long from = 0;
+        long to = 2_499 * MINUTE;
+        // Bybit returns the newest candles at or before 'end', newest first
+        when(bybitAdapter.getHistoricalCandles(eq("BTCUSDT"), eq("1"), eq(from), anyLong(),
+                eq(CandleSeriesLoader.PAGE_SIZE)))
+                .thenAnswer(invocation -> {
+                    long end = invocation.getArgument(3);
+                    List<Candle> page = new ArrayList<>();
+                    for (long t = end / MINUTE * MINUTE; t >= from && page.size() < CandleSeriesLoader.PAGE_SIZE;
+                            t -= MINUTE) {
+                        page.add(candle(t, "100"));
+                    }
+                    return Mono.just(page);
+                });
+
+        CandleSeries series = loader.fetch("BTCUSDT", "1", from, to).block();
+
+        assertNotNull(series);
+        assertEquals(2_500, series.size());
+        assertEquals(0, series.openTime(0));
+        assertEquals(to, series.openTime(series.size() - 1));
+        verify(bybitAdapter).getHistoricalCandles("BTCUSDT", "1", from, to, CandleSeriesLoader.PAGE_SIZE);
+        verify(bybitAdapter).getHistoricalCandles("BTCUSDT", "1", from, 1_500 * MINUTE - 1,
+                CandleSeriesLoader.PAGE_SIZE);
+        verify(bybitAdapter).getHistoricalCandles("BTCUSDT", "1", from, 500 * MINUTE - 1,
+                CandleSeriesLoader.PAGE_SIZE);
+    }
+
+    @Test
+    void testReadsCsvSkippingHeadersAndSortingRows() throws IOException {
+        Path file = dataDir.resolve("btc.csv");
+        Files.writeString(file, String.join("\n",
+                "openTime,open,high,low,close,volume",
+                "120000,101,103,100,102,5",
+                "60000,100,101,99,101,4",
+                "# duplicate row, the later one wins",
+                "120000,101,104,100,103",
+                ""));
+
+        CandleSeries series = loader.read(file, "BTCUSDT", "1");
+
+        assertEquals(2, series.size());
+        assertEquals(60_000, series.openTime(0));
+        assertEquals(103_00000000L, series.close(1));
+        assertEquals(104_00000000L, series.high(1));
+        assertEquals(60_000, series.intervalMillis());
+    }
+
+    @Test
+    void testRejectsMalformedRowsAndPathsOutsideDataDir() throws IOException {
+        Path file = dataDir.resolve("bad.csv");
+        Files.writeString(file, "60000,100,101\n");
+
+        assertThrows(IllegalArgumentException.class, () -> loader.read(file, "BTCUSDT", "1"));
+        assertThrows(IllegalArgumentException.class, () -> loader.load("../../etc/passwd", "BTCUSDT", "1"));
+    }
+
+    private static Candle candle(long openTime, String price) {
+        BigDecimal value = new BigDecimal(price);
+        return Candle.builder().openTime(openTime).open(value).high(value).low(value).close(value)
+                .volume(BigDecimal.ONE).build();
+    }
+}
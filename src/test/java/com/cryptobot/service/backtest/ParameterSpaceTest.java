@@ -0,0 +1,58 @@
+package com.cryptobot.service.backtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParameterSpaceTest {
+
+    private final ParameterSpace space = ParameterSpace.of(
+            Map.of("amountUsdt", "10", "intervalMinutes", "1440"),
+            Map.of("intervalMinutes", List.of(60, 240, 1440), "amountUsdt", List.of("5", "10")));
+
+    @Test
+    void testEnumeratesEveryCombinationOverBaseParameters() {
+        assertEquals(6, space.size());
+
+        Set<Map<String, Object>> combinations = new HashSet<>();
+        for (long i = 0; i < space.size(); i++) {
+            combinations.add(space.combination(i));
+        }
+        assertEquals(6, combinations.size());
+        assertTrue(combinations.contains(Map.of("amountUsdt", "5", "intervalMinutes", 240)));
+    }
+
+    @Test
+    void testRangeIsInclusiveAndStepped() {
+        assertEquals(List.of("60", "120", "180"), ParameterSpace.range(
+                new BigDecimal("60"), new BigDecimal("200"), new BigDecimal("60")));
+        assertThrows(IllegalArgumentException.class, () -> ParameterSpace.range(
+                BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> ParameterSpace.of(Map.of(), Map.of("levels", List.of())));
+    }
+
+    @Test
+    void testRandomSamplesAreDistinctReproducibleIndexes() {
+        ParameterSpace large = ParameterSpace.of(Map.of(), Map.of(
+                "a", ParameterSpace.range(BigDecimal.ONE, new BigDecimal("1000"), BigDecimal.ONE),
+                "b", ParameterSpace.range(BigDecimal.ONE, new BigDecimal("1000"), BigDecimal.ONE)));
+
+        long[] sparse = large.indexes(500, 7);
+        assertEquals(500, Arrays.stream(sparse).distinct().count());
+        assertTrue(Arrays.stream(sparse).allMatch(i -> i >= 0 && i < large.size()));
+        assertArrayEquals(sparse, large.indexes(500, 7));
+
+        long[] dense = space.indexes(4, 7);
+        assertEquals(4, Arrays.stream(dense).distinct().count());
+
+        assertEquals(6, space.indexes(0, 7).length, "0 samples is the full grid");
+        assertEquals(6, space.indexes(100, 7).length);
+    }
+}
@@ -0,0 +1,86 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.OptimizationResult;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyType;
+import com.cryptobot.service.SymbolDetailsService;
+import com.cryptobot.service.strategy.impl.DcaStrategy;
+import com.cryptobot.service.strategy.impl.GridStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Wall time of a 64-run grid sweep over 90 days of one-minute candles by
+ * optimizer parallelism. Near-linear scaling shows as the time halving with
+ * each doubling of threads, up to the number of physical cores.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class StrategyOptimizerBenchmark {
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    private CandleSeries series;
+    private StrategyOptimizer optimizer;
+    private ParameterSpace space;
+    private Strategy grid;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        CandleSeries.Builder builder = CandleSeries.builder("BTCUSDT", "1");
+        long price = 30_000_00000000L;
+        for (long i = 0; i < 90L * 24 * 60; i++) {
+            long open = price;
+            long close = Math.max(1_000_00000000L, open + (long) (random.nextGaussian() * 15_00000000L));
+            builder.add(1_672_531_200_000L + i * 60_000L, open, Math.max(open, close), Math.min(open, close), close,
+                    10);
+            price = close;
+        }
+        series = builder.build();
+
+        optimizer = new StrategyOptimizer(new BacktestEngine(Map.of(
+                "DCA", new DcaStrategy(mock(SymbolDetailsService.class)),
+                "GRID", new GridStrategy())));
+        ReflectionTestUtils.setField(optimizer, "parallelism", threads);
+        optimizer.start();
+
+        space = ParameterSpace.of(
+                Map.of("lowerPrice", "25000", "upperPrice", "35000", "quantityPerLevel", "0.001"),
+                Map.of("levels", List.of(10, 20, 40, 80, 120, 160, 200, 400),
+                        "lowerPrice", List.of("20000", "22000", "24000", "26000", "27000", "28000", "29000",
+                                "29500")));
+        grid = Strategy.builder().type(StrategyType.GRID).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        optimizer.stop();
+    }
+
+    @Benchmark
+    public OptimizationResult sweep() {
+        return optimizer.optimize(grid, series, space, OptimizationSettings.builder().build());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StrategyOptimizerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.cryptobot.service.backtest;
+
+import com.cryptobot.domain.model.OptimizationObjective;
+import com.cryptobot.domain.model.OptimizationResult;
+import com.cryptobot.domain.model.OptimizationRun;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyType;
+import com.cryptobot.service.SymbolDetailsService;
+import com.cryptobot.service.strategy.impl.DcaStrategy;
+import com.cryptobot.service.strategy.impl.GridStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class StrategyOptimizerTest {
+
+    private static final long START = 1_672_531_200_000L;
+
+    private final BacktestEngine engine = new BacktestEngine(Map.of(
+            "DCA", new DcaStrategy(mock(SymbolDetailsService.class)),
+            "GRID", new GridStrategy()));
+    private final StrategyOptimizer optimizer = new StrategyOptimizer(engine);
+
+    private final Strategy grid = Strategy.builder().type(StrategyType.GRID).build();
+
+    // Oscillates between 100 and 200 every hour
+    private CandleSeries series;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(optimizer, "parallelism", 4);
+        optimizer.start();
+
+        CandleSeries.Builder builder = CandleSeries.builder("BTCUSDT", "60");
+        for (int i = 0; i < 200; i++) {
+            BigDecimal close = new BigDecimal(i % 2 == 0 ? "200" : "100");
+            builder.add(START + i * 3_600_000L, close, close, close, close, BigDecimal.ONE);
+        }
+        series = builder.build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        optimizer.stop();
+    }
+
+    @Test
+    void testRanksEveryCombinationByObjective() {
+        ParameterSpace space = ParameterSpace.of(
+                Map.of("lowerPrice", "100", "upperPrice", "200", "quantityPerLevel", "0.1"),
+                Map.of("levels", List.of(2, 3, 6, 11)));
+
+        OptimizationResult result = optimizer.optimize(grid, series, space, OptimizationSettings.builder()
+                .backtest(BacktestSettings.builder()
+                        .feeRate(BigDecimal.ZERO)
+                        .tickMode(BacktestSettings.TickMode.CLOSE)
+                        .build())
+                .build());
+
+        assertEquals(4, result.getRuns());
+        assertEquals(0, result.getInvalidRuns());
+        assertEquals(4, result.getParallelism());
+        List<OptimizationRun> top = result.getTop();
+        assertEquals(4, top.size());
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getScore() >= top.get(i).getScore());
+            assertEquals(i + 1, top.get(i).getRank());
+        }
+        // More levels sell more inventory per swing
+        assertEquals(11, top.get(0).getParameters().get("levels"));
+    }
+
+    @Test
+    void testSkipsInvalidCombinationsAndSamplesRandomly() {
+        ParameterSpace space = ParameterSpace.of(
+                Map.of("lowerPrice", "150", "quantityPerLevel", "0.1"),
+                Map.of("upperPrice", List.of("100", "200", "250"), "levels", List.of(2, 5, 10, 20)));
+
+        OptimizationResult result = optimizer.optimize(grid, series, space, OptimizationSettings.builder()
+                .objective(OptimizationObjective.MIN_DRAWDOWN)
+                .samples(8)
+                .top(3)
+                .build());
+
+        assertEquals(12, result.getCombinations());
+        assertEquals(8, result.getRuns());
+        assertTrue(result.getInvalidRuns() > 0, "upperPrice 100 is below lowerPrice");
+        assertEquals(3, result.getTop().size());
+        assertTrue(result.getTop().stream().noneMatch(run -> "100".equals(run.getParameters().get("upperPrice"))));
+    }
+
+    @Test
+    void testRejectsSweepsAboveTheRunLimit() {
+        ReflectionTestUtils.setField(optimizer, "maxRuns", 2);
+        ParameterSpace space = ParameterSpace.of(Map.of(), Map.of("levels", List.of(2, 3, 4)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> optimizer.optimize(grid, series, space, OptimizationSettings.builder().build()));
+    }
+}
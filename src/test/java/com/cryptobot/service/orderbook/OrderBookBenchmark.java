@@ -0,0 +1,119 @@
+package com.cryptobot.service.orderbook;
+
+import com.cryptobot.adapter.bybit.BybitOrderBookDecoder;
+import com.cryptobot.adapter.bybit.BybitOrderBookFrame;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delta application throughput on a recorded {@code orderbook.50.BTCUSDT}
+ * stream: one snapshot followed by consecutive deltas, replayed in a loop
+ * (the snapshot resets the book on every pass).
+ * <p>
+ * Compares a tree-of-BigDecimal book fed from a Jackson tree against the
+ * streaming decoder feeding the primitive ladder of {@link OrderBook}; each
+ * message also reads the top of book. Run with {@code -prof gc} and read
+ * {@code gc.alloc.rate.norm} for bytes allocated per message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderBookBenchmark {
+
+    private byte[][] frames;
+    private int cursor;
+
+    private ObjectMapper objectMapper;
+    private NavigableMap<BigDecimal, BigDecimal> treeBids;
+    private NavigableMap<BigDecimal, BigDecimal> treeAsks;
+
+    private BybitOrderBookDecoder decoder;
+    private OrderBook book;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/bybit/ws-orderbook-frames.jsonl")) {
+            String[] lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            frames = new byte[lines.length][];
+            for (int i = 0; i < lines.length; i++) {
+                frames[i] = lines[i].getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        objectMapper = new ObjectMapper();
+        treeBids = new TreeMap<>(Comparator.reverseOrder());
+        treeAsks = new TreeMap<>();
+        decoder = new BybitOrderBookDecoder();
+        book = new OrderBook("BTCUSDT", 2, 6);
+    }
+
+    private byte[] nextFrame() {
+        byte[] frame = frames[cursor];
+        cursor = cursor + 1 == frames.length ? 0 : cursor + 1;
+        return frame;
+    }
+
+    @Benchmark
+    public void treeMapBook(Blackhole bh) throws IOException {
+        JsonNode message = objectMapper.readTree(nextFrame());
+        JsonNode data = message.get("data");
+        if ("snapshot".equals(message.get("type").asText())) {
+            treeBids.clear();
+            treeAsks.clear();
+        }
+        applyTree(treeBids, data.get("b"));
+        applyTree(treeAsks, data.get("a"));
+        bh.consume(treeBids.isEmpty() ? null : treeBids.firstKey());
+        bh.consume(treeAsks.isEmpty() ? null : treeAsks.firstKey());
+    }
+
+    private static void applyTree(NavigableMap<BigDecimal, BigDecimal> side, JsonNode levels) {
+        for (JsonNode level : levels) {
+            BigDecimal price = new BigDecimal(level.get(0).asText());
+            BigDecimal size = new BigDecimal(level.get(1).asText());
+            if (size.signum() == 0) {
+                side.remove(price);
+            } else {
+                side.put(price, size);
+            }
+        }
+    }
+
+    @Benchmark
+    public void streamingDecoderFrameOnly(Blackhole bh) {
+        byte[] bytes = nextFrame();
+        bh.consume(decoder.decode(bytes, 0, bytes.length));
+    }
+
+    @Benchmark
+    public void primitiveLadder(Blackhole bh) {
+        byte[] bytes = nextFrame();
+        BybitOrderBookFrame frame = decoder.decode(bytes, 0, bytes.length);
+        bh.consume(book.apply(frame));
+        bh.consume(book.bestBid());
+        bh.consume(book.bestAsk());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderBookBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
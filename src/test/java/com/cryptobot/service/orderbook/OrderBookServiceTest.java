@@ -0,0 +1,58 @@
+package com.cryptobot.service.orderbook;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.adapter.bybit.BybitOrderBookDecoder;
+import com.cryptobot.adapter.bybit.BybitOrderBookFrame;
+import com.cryptobot.domain.model.SymbolPrecision;
+import com.cryptobot.service.SymbolDetailsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBookServiceTest {
+
+    private static final String BIDS = "[[\"0.0000123452\",\"100\"],[\"0.0000123451\",\"200\"]]";
+
+    @Mock
+    private SymbolDetailsService symbolDetailsService;
+
+    private final BybitOrderBookDecoder decoder = new BybitOrderBookDecoder();
+
+    @Test
+    void testBookBuiltBeforeThePrecisionIsRebuiltFromTheNextSnapshot() {
+        OrderBookService service = new OrderBookService(symbolDetailsService);
+        when(symbolDetailsService.getPrecision(ExchangeType.BYBIT, "SHIBUSDT"))
+                .thenReturn(null)
+                .thenReturn(new SymbolPrecision("SHIBUSDT", 0, 10, 10, 10, 1L, 1L, Long.MAX_VALUE));
+
+        // At the default scale both levels round to the same price
+        assertEquals(OrderBook.Result.APPLIED, service.apply(frame("snapshot", 1, BIDS)));
+        assertEquals(1, service.getSnapshot("SHIBUSDT", 10).getBids().size());
+
+        assertEquals(OrderBook.Result.GAP, service.apply(frame("delta", 2, "[]")));
+        assertEquals(OrderBook.Result.IGNORED, service.apply(frame("delta", 3, "[]")));
+
+        assertEquals(OrderBook.Result.APPLIED, service.apply(frame("snapshot", 5, BIDS)));
+        OrderBook book = service.getBook("SHIBUSDT");
+        assertEquals(10, book.getPriceScale());
+        assertEquals(2, service.getSnapshot("SHIBUSDT", 10).getBids().size());
+        assertEquals(OrderBook.Result.APPLIED, service.apply(frame("delta", 6, "[[\"0.0000123451\",\"0\"]]")));
+        assertEquals(123452L, book.bestBid());
+        // A book at the real precision looks it up no more
+        verify(symbolDetailsService, times(4)).getPrecision(ExchangeType.BYBIT, "SHIBUSDT");
+    }
+
+    private BybitOrderBookFrame frame(String type, long updateId, String bids) {
+        byte[] bytes = ("{\"topic\":\"orderbook.50.SHIBUSDT\",\"type\":\"" + type + "\",\"ts\":1,\"data\":{" +
+                "\"s\":\"SHIBUSDT\",\"b\":" + bids + ",\"a\":[],\"u\":" + updateId + ",\"seq\":" + updateId +
+                "}}").getBytes(StandardCharsets.UTF_8);
+        return decoder.decode(bytes, 0, bytes.length);
+    }
+}
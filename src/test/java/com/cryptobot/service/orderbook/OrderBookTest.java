@@ -0,0 +1,73 @@
+package com.cryptobot.service.orderbook;
+
+import com.cryptobot.adapter.bybit.BybitOrderBookDecoder;
+import com.cryptobot.adapter.bybit.BybitOrderBookFrame;
+import com.cryptobot.domain.model.OrderBookSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderBookTest {
+
+    private final BybitOrderBookDecoder decoder = new BybitOrderBookDecoder();
+    private final OrderBook book = new OrderBook("BTCUSDT", 2, 3);
+
+    @Test
+    void testSnapshotBuildsSortedLadders() {
+        assertEquals(OrderBook.Result.APPLIED, book.apply(frame("snapshot", 10,
+                "[[\"100.5\",\"1\"],[\"101\",\"2\"],[\"99\",\"3\"]]", "[[\"102\",\"1\"],[\"101.50\",\"0.5\"]]")));
+
+        assertEquals(10100L, book.bestBid());
+        assertEquals(10150L, book.bestAsk());
+        long[] prices = new long[5];
+        long[] sizes = new long[5];
+        assertEquals(3, book.bids(prices, sizes));
+        assertArrayEquals(new long[]{10100L, 10050L, 9900L}, Arrays.copyOf(prices, 3));
+        assertArrayEquals(new long[]{2000L, 1000L, 3000L}, Arrays.copyOf(sizes, 3));
+        assertTrue(book.isSynced());
+    }
+
+    @Test
+    void testDeltaUpsertsAndDeletesLevels() {
+        book.apply(frame("snapshot", 10, "[[\"101\",\"2\"],[\"100\",\"1\"]]", "[[\"102\",\"1\"]]"));
+
+        assertEquals(OrderBook.Result.APPLIED, book.apply(frame("delta", 11,
+                "[[\"101\",\"0\"],[\"100\",\"4\"],[\"100.5\",\"1\"]]", "[[\"101.9\",\"2\"],[\"105\",\"0\"]]")));
+
+        OrderBookSnapshot snapshot = book.snapshot(1);
+        assertEquals(11, snapshot.getUpdateId());
+        assertEquals(1, snapshot.getBids().size());
+        assertEquals(new BigDecimal("100.50"), snapshot.getBids().get(0).getPrice());
+        assertEquals(new BigDecimal("101.90"), snapshot.getAsks().get(0).getPrice());
+        assertEquals(new BigDecimal("2.000"), snapshot.getAsks().get(0).getSize());
+        assertEquals(2, book.snapshot(10).getBids().size());
+    }
+
+    @Test
+    void testMissedUpdateWaitsForTheNextSnapshot() {
+        book.apply(frame("snapshot", 10, "[[\"100\",\"1\"]]", "[[\"102\",\"1\"]]"));
+
+        assertEquals(OrderBook.Result.IGNORED, book.apply(frame("delta", 10, "[[\"100\",\"0\"]]", "[]")));
+        assertEquals(OrderBook.Result.GAP, book.apply(frame("delta", 12, "[[\"100\",\"0\"]]", "[]")));
+        assertFalse(book.isSynced());
+        assertEquals(OrderBook.Result.IGNORED, book.apply(frame("delta", 13, "[[\"100\",\"0\"]]", "[]")));
+        assertEquals(10000L, book.bestBid());
+        assertEquals(1, book.getGaps());
+
+        assertEquals(OrderBook.Result.APPLIED, book.apply(frame("snapshot", 1, "[[\"99\",\"1\"]]", "[]")));
+        assertEquals(9900L, book.bestBid());
+        assertEquals(0L, book.bestAsk());
+        assertTrue(book.isSynced());
+    }
+
+    private BybitOrderBookFrame frame(String type, long updateId, String bids, String asks) {
+        byte[] bytes = ("{\"topic\":\"orderbook.50.BTCUSDT\",\"type\":\"" + type + "\",\"ts\":1,\"data\":{" +
+                "\"s\":\"BTCUSDT\",\"b\":" + bids + ",\"a\":" + asks + ",\"u\":" + updateId + ",\"seq\":" + updateId +
+                "}}").getBytes(StandardCharsets.UTF_8);
+        return decoder.decode(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,58 @@
+package com.cryptobot.service.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InFlightGuardTest {
+
+    private final InFlightGuard guard = new InFlightGuard();
+
+    @Test
+    void testTransitions() {
+        assertEquals(InFlightGuard.State.IDLE, guard.getState());
+
+        assertTrue(guard.tryAcquire());
+        assertTrue(guard.isPending());
+        assertFalse(guard.tryAcquire());
+
+        assertTrue(guard.ack());
+        assertEquals(InFlightGuard.State.ACKED, guard.getState());
+        assertFalse(guard.fail(), "outcome is only recorded for a pending order");
+
+        assertTrue(guard.tryAcquire());
+        assertTrue(guard.fail());
+        assertEquals(InFlightGuard.State.FAILED, guard.getState());
+        assertTrue(guard.tryAcquire());
+    }
+
+    @Test
+    void testOnlyOneConcurrentAcquireWins() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (guard.tryAcquire()) {
+                    winners.incrementAndGet();
+                }
+            });
+        }
+
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, winners.get());
+    }
+}
@@ -0,0 +1,162 @@
+package com.cryptobot.service.strategy;
+
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyMetrics;
+import com.cryptobot.domain.model.TickerUpdate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyActorTest {
+
+    private final CompiledStrategy<Void> strategy = new CompiledStrategy<>(
+            Strategy.builder().id(1L).symbol("BTCUSDT").build(), null, null);
+
+    // Runs scheduled actors only when the test drains it
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+
+    @Test
+    void testConflatesToLatestTick() {
+        List<Long> seen = new ArrayList<>();
+        StrategyActor actor = new StrategyActor(strategy, pending::add,
+                (s, ticker) -> seen.add(ticker.getLastPriceUnits()));
+
+        actor.offer(ticker(100));
+        actor.offer(ticker(101));
+        actor.offer(ticker(102));
+
+        assertEquals(1, pending.size(), "actor is scheduled once while pending");
+        assertEquals(1, actor.metrics().getQueueDepth());
+
+        drain();
+
+        assertEquals(List.of(102L), seen);
+        StrategyMetrics metrics = actor.metrics();
+        assertEquals(3, metrics.getTicksReceived());
+        assertEquals(2, metrics.getTicksConflated());
+        assertEquals(1, metrics.getEvaluations());
+        assertEquals(0, metrics.getQueueDepth());
+    }
+
+    @Test
+    void testTickArrivingDuringEvaluationIsProcessedNext() {
+        List<Long> seen = new ArrayList<>();
+        StrategyActor[] self = new StrategyActor[1];
+        self[0] = new StrategyActor(strategy, pending::add, (s, ticker) -> {
+            seen.add(ticker.getLastPriceUnits());
+            if (ticker.getLastPriceUnits() == 100) {
+                self[0].offer(ticker(200));
+            }
+        });
+
+        self[0].offer(ticker(100));
+        drain();
+
+        assertEquals(List.of(100L, 200L), seen);
+    }
+
+    @Test
+    void testFailuresAreCountedAndDoNotStopTheActor() {
+        StrategyActor actor = new StrategyActor(strategy, pending::add, (s, ticker) -> {
+            throw new IllegalStateException("boom");
+        });
+
+        actor.offer(ticker(100));
+        drain();
+        actor.offer(ticker(101));
+        drain();
+
+        assertEquals(2, actor.metrics().getEvaluations());
+        assertEquals(2, actor.metrics().getFailures());
+    }
+
+    @Test
+    void testSuppressesEvaluationWhileOrderInFlight() {
+        List<Long> seen = new ArrayList<>();
+        StrategyActor actor = new StrategyActor(strategy, pending::add,
+                (s, ticker) -> seen.add(ticker.getLastPriceUnits()));
+
+        assertTrue(actor.getInFlight().tryAcquire());
+        actor.offer(ticker(100));
+        drain();
+        actor.offer(ticker(101));
+        drain();
+
+        assertTrue(seen.isEmpty());
+        assertEquals(2, actor.metrics().getSuppressedEvaluations());
+        assertEquals("PENDING", actor.metrics().getOrderState());
+
+        actor.getInFlight().ack();
+        actor.offer(ticker(102));
+        drain();
+
+        assertEquals(List.of(102L), seen);
+    }
+
+    @Test
+    void testClosedActorDropsTicks() {
+        List<Long> seen = new ArrayList<>();
+        StrategyActor actor = new StrategyActor(strategy, pending::add,
+                (s, ticker) -> seen.add(ticker.getLastPriceUnits()));
+
+        actor.offer(ticker(100));
+        actor.close();
+        actor.offer(ticker(101));
+        drain();
+
+        assertTrue(seen.isEmpty());
+    }
+
+    @Test
+    void testNeverEvaluatesConcurrently() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        int[] inFlight = new int[1];
+        int[] maxInFlight = new int[1];
+        CountDownLatch done = new CountDownLatch(1);
+        StrategyActor actor = new StrategyActor(strategy, pool, (s, ticker) -> {
+            synchronized (inFlight) {
+                maxInFlight[0] = Math.max(maxInFlight[0], ++inFlight[0]);
+            }
+            Thread.onSpinWait();
+            synchronized (inFlight) {
+                inFlight[0]--;
+            }
+            if (ticker.getLastPriceUnits() == -1) {
+                done.countDown();
+            }
+        });
+
+        for (int i = 0; i < 100_000; i++) {
+            actor.offer(ticker(i));
+        }
+        actor.offer(ticker(-1));
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertEquals(1, maxInFlight[0]);
+    }
+
+    private void drain() {
+        Runnable next;
+        while ((next = pending.poll()) != null) {
+            next.run();
+        }
+    }
+
+    private static TickerUpdate ticker(long priceUnits) {
+        return TickerUpdate.builder()
+                .symbol("BTCUSDT")
+                .priceScale(2)
+                .lastPriceUnits(priceUnits)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.cryptobot.service.strategy;
+
+import com.cryptobot.domain.model.Strategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick dispatch cost of the previous scan over all active strategies
+ * versus the symbol index, with strategies spread over 200 symbols.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StrategyDispatchBenchmark {
+
+    private static final int SYMBOLS = 200;
+
+    @Param({ "1000", "10000", "100000" })
+    public int strategies;
+
+    private String[] symbols;
+    private int cursor;
+
+    private Map<Long, Strategy> scanned;
+    private SymbolIndex<Strategy> indexed;
+
+    @Setup
+    public void setUp() {
+        symbols = new String[SYMBOLS];
+        for (int i = 0; i < SYMBOLS; i++) {
+            symbols[i] = "SYM" + i + "USDT";
+        }
+        scanned = new ConcurrentHashMap<>();
+        indexed = new SymbolIndex<>();
+        for (long id = 0; id < strategies; id++) {
+            Strategy strategy = Strategy.builder()
+                    .id(id)
+                    .symbol(symbols[(int) (id % SYMBOLS)])
+                    .build();
+            scanned.put(id, strategy);
+            indexed.put(id, strategy.getSymbol(), strategy);
+        }
+    }
+
+    private String nextSymbol() {
+        String symbol = symbols[cursor];
+        cursor = cursor + 1 == SYMBOLS ? 0 : cursor + 1;
+        return symbol;
+    }
+
+    @Benchmark
+    public void scanAll(Blackhole bh) {
+        String symbol = nextSymbol();
+        scanned.values().stream()
+                .filter(s -> s.getSymbol().equalsIgnoreCase(symbol))
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void symbolIndex(Blackhole bh) {
+        indexed.forEach(nextSymbol(), bh::consume);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StrategyDispatchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
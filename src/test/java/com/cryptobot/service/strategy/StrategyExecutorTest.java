@@ -0,0 +1,158 @@
+package com.cryptobot.service.strategy;
+
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.StrategyType;
+import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.OrderType;
+import com.cryptobot.repository.JdbcExecutor;
+import com.cryptobot.repository.StrategyRepository;
+import com.cryptobot.service.MarketDataService;
+import com.cryptobot.service.OrderService;
+import com.cryptobot.service.mapper.StrategyMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StrategyExecutorTest {
+
+    @Mock
+    private MarketDataService marketDataService;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private StrategyMapper strategyMapper;
+
+    private final Sinks.Many<TickerUpdate> tickers = Sinks.many().multicast().directBestEffort();
+
+    private StrategyExecutor executor;
+
+    private final List<Boolean> orderResults = new CopyOnWriteArrayList<>();
+
+    // Tick-driven logic that wants to trade on every tick
+    private final TradingStrategy<Void> alwaysBuy = new TradingStrategy<>() {
+        @Override
+        public Void compile(Map<String, Object> parameters) {
+            return null;
+        }
+
+        @Override
+        public Optional<Order> evaluate(Strategy strategy, Void config, TickerUpdate ticker) {
+            return Optional.of(Order.builder()
+                    .symbol(strategy.getSymbol())
+                    .side(OrderSide.BUY)
+                    .orderType(OrderType.MARKET)
+                    .quantity(BigDecimal.ONE)
+                    .build());
+        }
+
+        @Override
+        public void onOrderResult(Strategy strategy, Order order, boolean placed) {
+            orderResults.add(placed);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        when(marketDataService.getTickerStream(any(), any(), anyInt(), any())).thenReturn(tickers.asFlux());
+        when(strategyRepository.findByStatus(any())).thenReturn(List.of());
+
+        executor = new StrategyExecutor(marketDataService, strategyRepository, orderService,
+                Map.of(StrategyType.GRID.name(), alwaysBuy), strategyMapper,
+                new JdbcExecutor(Schedulers.immediate(), mock(PlatformTransactionManager.class)));
+        executor.start();
+        executor.activateStrategy(Strategy.builder()
+                .id(1L).userId(7L).name("bot").type(StrategyType.GRID).symbol("BTCUSDT").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+    }
+
+    @Test
+    void testPendingOrderSuppressesDuplicateTriggers() throws InterruptedException {
+        Sinks.One<Order> acknowledgement = Sinks.one();
+        when(orderService.placeOrder(anyLong(), any())).thenReturn(acknowledgement.asMono());
+
+        for (int i = 0; i < 50; i++) {
+            tickers.tryEmitNext(ticker(100 + i));
+            Thread.sleep(1);
+        }
+        awaitCondition(() -> executor.getMetrics(1L).getSuppressedEvaluations() > 0);
+
+        verify(orderService, times(1)).placeOrder(anyLong(), any());
+        assertEquals("PENDING", executor.getMetrics(1L).getOrderState());
+
+        acknowledgement.tryEmitValue(Order.builder().id(99L).build());
+        assertEquals("ACKED", executor.getMetrics(1L).getOrderState());
+
+        tickers.tryEmitNext(ticker(200));
+        awaitCondition(() -> mockingDetails(orderService).getInvocations().size() == 2);
+    }
+
+    @Test
+    void testFailedOrderAllowsRetry() {
+        when(orderService.placeOrder(anyLong(), any())).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        tickers.tryEmitNext(ticker(100));
+        awaitCondition(() -> "FAILED".equals(executor.getMetrics(1L).getOrderState()));
+        awaitCondition(() -> !orderResults.isEmpty());
+        assertEquals(List.of(false), orderResults);
+
+        tickers.tryEmitNext(ticker(101));
+        awaitCondition(() -> mockingDetails(orderService).getInvocations().size() == 2);
+    }
+
+    @Test
+    void testFailureToStoreTheRunLeavesAPlacedOrderPlaced() {
+        when(orderService.placeOrder(anyLong(), any())).thenReturn(Mono.just(Order.builder().id(99L).build()));
+        when(strategyRepository.findById(1L)).thenThrow(new IllegalStateException("database down"));
+
+        tickers.tryEmitNext(ticker(100));
+        awaitCondition(() -> !orderResults.isEmpty());
+
+        verify(strategyRepository, timeout(5000)).findById(1L);
+        assertEquals(List.of(true), orderResults);
+        assertEquals("ACKED", executor.getMetrics(1L).getOrderState());
+    }
+
+    private void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static TickerUpdate ticker(long priceUnits) {
+        return TickerUpdate.builder().symbol("BTCUSDT").priceScale(2).lastPriceUnits(priceUnits).build();
+    }
+}
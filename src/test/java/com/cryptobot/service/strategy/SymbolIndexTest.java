@@ -0,0 +1,58 @@
+package com.cryptobot.service.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolIndexTest {
+
+    private final SymbolIndex<String> index = new SymbolIndex<>();
+
+    @Test
+    void testDispatchesOnlyToSubscribersOfSymbol() {
+        index.put(1L, "btcusdt", "a");
+        index.put(2L, "BTCUSDT", "b");
+        index.put(3L, "ETHUSDT", "c");
+
+        assertEquals(List.of("a", "b"), collect("BTCUSDT"));
+        assertEquals(List.of("c"), collect("ethusdt"));
+        assertTrue(collect("SOLUSDT").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testReactivationReplacesAndMovesSubscriber() {
+        index.put(1L, "BTCUSDT", "a");
+        index.put(1L, "BTCUSDT", "a2");
+        assertEquals(List.of("a2"), collect("BTCUSDT"));
+
+        index.put(1L, "ETHUSDT", "a3");
+        assertTrue(collect("BTCUSDT").isEmpty());
+        assertEquals(List.of("a3"), collect("ETHUSDT"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testRemove() {
+        index.put(1L, "BTCUSDT", "a");
+        index.put(2L, "BTCUSDT", "b");
+
+        assertEquals("a", index.remove(1L));
+        assertNull(index.remove(1L));
+        assertEquals(List.of("b"), collect("BTCUSDT"));
+        assertEquals(1, index.subscriberCount("BTCUSDT"));
+
+        index.remove(2L);
+        assertEquals(0, index.subscriberCount("BTCUSDT"));
+        assertEquals(0, index.size());
+    }
+
+    private List<String> collect(String symbol) {
+        List<String> result = new ArrayList<>();
+        index.forEach(symbol, result::add);
+        return result;
+    }
+}
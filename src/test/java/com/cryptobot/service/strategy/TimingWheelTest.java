@@ -0,0 +1,124 @@
+package com.cryptobot.service.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1_000;
+    private static final long START = 1_700_000_000_000L;
+
+    private final List<Long> fired = new ArrayList<>();
+    private final TimingWheel<Long> wheel = new TimingWheel<>(TICK, START, fired::add);
+
+    @Test
+    void testFiresOnlyWhenDue() {
+        wheel.schedule(1L, START + 5_000);
+
+        wheel.advanceTo(START + 4_999);
+        assertTrue(fired.isEmpty());
+
+        wheel.advanceTo(START + 5_000);
+        assertEquals(List.of(1L), fired);
+        assertFalse(wheel.isScheduled(1L));
+    }
+
+    @Test
+    void testPastDeadlineFiresOnNextTick() {
+        wheel.schedule(1L, START - TimeUnit.DAYS.toMillis(3));
+
+        wheel.advanceTo(START + TICK);
+
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void testCascadesDeadlinesOnHigherLevels() {
+        long twoHours = START + TimeUnit.HOURS.toMillis(2);
+        long threeDays = START + TimeUnit.DAYS.toMillis(3);
+        long thirtyDays = START + TimeUnit.DAYS.toMillis(30);
+        long yearLater = START + TimeUnit.DAYS.toMillis(365);
+        wheel.schedule(1L, twoHours);
+        wheel.schedule(2L, threeDays);
+        wheel.schedule(3L, thirtyDays);
+        wheel.schedule(4L, yearLater);
+
+        wheel.advanceTo(twoHours - 1);
+        assertTrue(fired.isEmpty());
+        wheel.advanceTo(twoHours);
+        assertEquals(List.of(1L), fired);
+
+        wheel.advanceTo(threeDays - 1);
+        assertEquals(List.of(1L), fired);
+        wheel.advanceTo(threeDays);
+        assertEquals(List.of(1L, 2L), fired);
+
+        wheel.advanceTo(thirtyDays);
+        assertEquals(List.of(1L, 2L, 3L), fired);
+
+        wheel.advanceTo(yearLater - 1);
+        assertEquals(3, fired.size());
+        wheel.advanceTo(yearLater);
+        assertEquals(List.of(1L, 2L, 3L, 4L), fired);
+    }
+
+    @Test
+    void testRescheduleReplacesAndCancelRemoves() {
+        wheel.schedule(1L, START + 5_000);
+        wheel.schedule(1L, START + 60_000);
+        wheel.schedule(2L, START + 5_000);
+        wheel.cancel(2L);
+
+        wheel.advanceTo(START + 59_000);
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.size());
+
+        wheel.advanceTo(START + 60_000);
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void testRandomDeadlinesFireExactlyOnceOnTheirTick() {
+        Random random = new Random(3);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long key = 0; key < 2_000; key++) {
+            long deadline = START + (long) (random.nextDouble() * TimeUnit.DAYS.toMillis(10));
+            deadlines.put(key, deadline);
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        TimingWheel<Long> tracked = new TimingWheel<>(TICK, START, key -> assertNull(firedAt.put(key, 0L)));
+        deadlines.forEach(tracked::schedule);
+
+        long previous = START;
+        long now = START;
+        long end = START + TimeUnit.DAYS.toMillis(10) + TICK;
+        while (now < end) {
+            now += 1 + random.nextInt(600_000);
+            int before = firedAt.size();
+            tracked.advanceTo(now);
+            for (Map.Entry<Long, Long> entry : firedAt.entrySet()) {
+                if (entry.getValue() == 0L) {
+                    long deadline = deadlines.get(entry.getKey());
+                    long due = Math.floorDiv(deadline + TICK - 1, TICK) * TICK;
+                    assertTrue(due <= now && due > Math.floorDiv(previous, TICK) * TICK,
+                            "key " + entry.getKey() + " due " + due + " fired in (" + previous + ", " + now + "]");
+                    entry.setValue(now);
+                }
+            }
+            assertTrue(firedAt.size() >= before);
+            previous = now;
+        }
+
+        assertEquals(deadlines.size(), firedAt.size());
+        assertEquals(0, tracked.size());
+    }
+}
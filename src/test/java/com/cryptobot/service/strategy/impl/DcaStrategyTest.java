@@ -0,0 +1,110 @@
+package com.cryptobot.service.strategy.impl;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.SymbolPrecision;
+import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.service.SymbolDetailsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DcaStrategyTest {
+
+    @Mock
+    private SymbolDetailsService symbolDetailsService;
+
+    @InjectMocks
+    private DcaStrategy dca;
+
+    @Test
+    void testCompileAppliesDefaults() {
+        DcaStrategy.Config config = dca.compile(Map.of());
+
+        assertEquals(new BigDecimal("10"), config.amountUsdt());
+        assertEquals(1_000_000_000L, config.amountUnits());
+        assertEquals(Duration.ofDays(1), config.interval());
+    }
+
+    @Test
+    void testCompileAcceptsNumericAndStringValues() {
+        DcaStrategy.Config config = dca.compile(Map.of("amountUsdt", 25.5, "intervalMinutes", "60"));
+
+        assertEquals(new BigDecimal("25.5"), config.amountUsdt());
+        assertEquals(Duration.ofHours(1), config.interval());
+    }
+
+    @Test
+    void testCompileRejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> dca.compile(Map.of("amountUsdt", "-5")));
+        assertThrows(IllegalArgumentException.class, () -> dca.compile(Map.of("amountUsdt", "ten")));
+        assertThrows(IllegalArgumentException.class, () -> dca.compile(Map.of("intervalMinutes", "0")));
+        assertThrows(IllegalArgumentException.class, () -> dca.compile(Map.of("intervalMinutes", "1.5")));
+    }
+
+    @Test
+    void testEvaluateSizesOrderFromCompiledAmount() {
+        DcaStrategy.Config config = dca.compile(Map.of("amountUsdt", "100"));
+        Strategy strategy = Strategy.builder().id(1L).name("dca").symbol("BTCUSDT").build();
+        TickerUpdate ticker = TickerUpdate.builder().symbol("BTCUSDT").priceScale(2).lastPriceUnits(4_000_000L).build();
+
+        Optional<Order> order = dca.evaluate(strategy, config, ticker);
+
+        assertTrue(order.isPresent());
+        assertEquals(new BigDecimal("0.00250000"), order.get().getQuantity());
+    }
+
+    @Test
+    void testEvaluateTruncatesQuantityToTheSymbolPrecision() {
+        when(symbolDetailsService.getPrecision(ExchangeType.BYBIT, "BTCUSDT"))
+                .thenReturn(new SymbolPrecision("BTCUSDT", 4, 2, 2, 2, 1L, 1L, Long.MAX_VALUE));
+        DcaStrategy.Config config = dca.compile(Map.of("amountUsdt", "100"));
+        Strategy strategy = Strategy.builder().id(1L).name("dca").symbol("BTCUSDT").build();
+        TickerUpdate ticker = TickerUpdate.builder().symbol("BTCUSDT").priceScale(2).lastPriceUnits(3_000_000L).build();
+
+        Optional<Order> order = dca.evaluate(strategy, config, ticker);
+
+        // 100 / 30000 = 0.003333..., cut down to the 0.0001 quantity step
+        assertTrue(order.isPresent());
+        assertEquals(new BigDecimal("0.0033"), order.get().getQuantity());
+    }
+
+    @Test
+    void testEvaluateSkipsAmountBelowOneQuantityStep() {
+        when(symbolDetailsService.getPrecision(ExchangeType.BYBIT, "BTCUSDT"))
+                .thenReturn(new SymbolPrecision("BTCUSDT", 3, 2, 2, 2, 1L, 1L, Long.MAX_VALUE));
+        DcaStrategy.Config config = dca.compile(Map.of("amountUsdt", "10"));
+        Strategy strategy = Strategy.builder().id(1L).name("dca").symbol("BTCUSDT").build();
+        TickerUpdate ticker = TickerUpdate.builder().symbol("BTCUSDT").priceScale(2).lastPriceUnits(4_000_000L).build();
+
+        assertTrue(dca.evaluate(strategy, config, ticker).isEmpty());
+    }
+
+    @Test
+    void testNextRunAtFollowsInterval() {
+        DcaStrategy.Config config = dca.compile(Map.of("intervalMinutes", "30"));
+        LocalDateTime lastRun = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Strategy strategy = Strategy.builder().lastRunAt(lastRun).build();
+
+        Instant expected = lastRun.plusMinutes(30).atZone(ZoneId.systemDefault()).toInstant();
+        assertEquals(expected, dca.nextRunAt(strategy, config));
+
+        strategy.setLastRunAt(LocalDateTime.now());
+        assertTrue(dca.evaluate(strategy, config, TickerUpdate.builder().lastPriceUnits(1).build()).isEmpty());
+    }
+}
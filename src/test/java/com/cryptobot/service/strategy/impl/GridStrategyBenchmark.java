@@ -0,0 +1,123 @@
+package com.cryptobot.service.strategy.impl;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of advancing every grid bot on a symbol by one tick: binary search over
+ * the level array versus scanning all levels. Prices follow a random walk
+ * across the grid range so some ticks cross levels and most do not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GridStrategyBenchmark {
+
+    private static final int PRICES = 4096;
+
+    @Param({ "100", "500" })
+    public int levels;
+
+    @Param({ "1000", "5000" })
+    public int bots;
+
+    private GridStrategy.GridState[] states;
+    private long[][] scanLevels;
+    private boolean[][] scanHolding;
+    private long[] scanLastPrice;
+
+    private long[] prices;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        GridStrategy grid = new GridStrategy();
+        Random random = new Random(5);
+        states = new GridStrategy.GridState[bots];
+        scanLevels = new long[bots][];
+        scanHolding = new boolean[bots][];
+        scanLastPrice = new long[bots];
+        for (int i = 0; i < bots; i++) {
+            // Slightly different ranges per bot around 40k-50k
+            int lower = 40_000 + random.nextInt(500);
+            GridStrategy.Config config = grid.compile(Map.of(
+                    "lowerPrice", String.valueOf(lower),
+                    "upperPrice", String.valueOf(lower + 10_000),
+                    "levels", levels,
+                    "quantityPerLevel", "0.001"));
+            states[i] = new GridStrategy.GridState(config);
+            scanLevels[i] = config.levels();
+            scanHolding[i] = new boolean[levels];
+            scanLastPrice[i] = -1;
+        }
+
+        prices = new long[PRICES];
+        long price = 45_000L * 100_000_000L;
+        for (int i = 0; i < PRICES; i++) {
+            price += (long) (random.nextGaussian() * 30 * 100_000_000L);
+            price = Math.max(39_000L * 100_000_000L, Math.min(51_000L * 100_000_000L, price));
+            prices[i] = price;
+        }
+    }
+
+    private long nextPrice() {
+        long price = prices[cursor];
+        cursor = (cursor + 1) & (PRICES - 1);
+        return price;
+    }
+
+    @Benchmark
+    public void binarySearch(Blackhole bh) {
+        long price = nextPrice();
+        for (GridStrategy.GridState state : states) {
+            // Settled at once, as if every order were placed, to match the scan
+            GridStrategy.GridState.Crossing crossing = state.advance(price);
+            if (crossing != null) {
+                state.complete(crossing, true);
+            }
+            bh.consume(crossing);
+        }
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole bh) {
+        long price = nextPrice();
+        for (int b = 0; b < bots; b++) {
+            long previous = scanLastPrice[b];
+            scanLastPrice[b] = price;
+            if (previous < 0 || previous == price) {
+                continue;
+            }
+            long[] grid = scanLevels[b];
+            boolean[] holding = scanHolding[b];
+            int count = 0;
+            for (int i = 0; i < grid.length; i++) {
+                if (price < previous && grid[i] >= price && grid[i] < previous && i < grid.length - 1
+                        && !holding[i]) {
+                    holding[i] = true;
+                    count++;
+                } else if (price > previous && grid[i] > previous && grid[i] <= price && i > 0 && holding[i - 1]) {
+                    holding[i - 1] = false;
+                    count++;
+                }
+            }
+            bh.consume(count);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GridStrategyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
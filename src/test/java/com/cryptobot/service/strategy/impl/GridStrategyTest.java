@@ -0,0 +1,166 @@
+package com.cryptobot.service.strategy.impl;
+
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Strategy;
+import com.cryptobot.domain.model.TickerUpdate;
+import com.cryptobot.domain.vo.OrderSide;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridStrategyTest {
+
+    private final GridStrategy grid = new GridStrategy();
+    private final Strategy strategy = Strategy.builder().id(1L).name("grid").symbol("BTCUSDT").build();
+
+    // Levels at 100, 110, ..., 200
+    private final GridStrategy.Config config = grid.compile(Map.of(
+            "lowerPrice", "100", "upperPrice", "200", "levels", 11, "quantityPerLevel", "0.5"));
+
+    @Test
+    void testCompileBuildsEvenlySpacedLevels() {
+        long[] levels = config.levels();
+
+        assertEquals(11, levels.length);
+        assertEquals(100_00000000L, levels[0]);
+        assertEquals(110_00000000L, levels[1]);
+        assertEquals(200_00000000L, levels[10]);
+    }
+
+    @Test
+    void testCompileRejectsInvalidGrids() {
+        assertThrows(IllegalArgumentException.class, () -> grid.compile(Map.of(
+                "lowerPrice", "200", "upperPrice", "100", "quantityPerLevel", "1")));
+        assertThrows(IllegalArgumentException.class, () -> grid.compile(Map.of(
+                "lowerPrice", "100", "upperPrice", "200", "levels", 1, "quantityPerLevel", "1")));
+        assertThrows(IllegalArgumentException.class, () -> grid.compile(Map.of(
+                "lowerPrice", "100", "upperPrice", "200")));
+        assertThrows(IllegalArgumentException.class, () -> grid.compile(Map.of(
+                "lowerPrice", "1", "upperPrice", "1.00000001", "levels", 100, "quantityPerLevel", "1")));
+        assertThrows(IllegalArgumentException.class, () -> grid.compile(Map.of(
+                "lowerPrice", "100", "upperPrice", "200", "levels", 0, "quantityPerLevel", "1")));
+        // Equal once rounded to the grid's precision
+        assertThrows(IllegalArgumentException.class, () -> grid.compile(Map.of(
+                "lowerPrice", "1.000000001", "upperPrice", "1.000000002", "quantityPerLevel", "1")));
+        assertThrows(IllegalArgumentException.class, () -> grid.compile(Map.of(
+                "lowerPrice", "0.000000001", "upperPrice", "1", "quantityPerLevel", "1")));
+        assertThrows(IllegalArgumentException.class, () -> grid.compile(Map.of(
+                "lowerPrice", "1", "upperPrice", "100000000000000", "quantityPerLevel", "1")));
+    }
+
+    @Test
+    void testFirstTickOnlySetsReferencePrice() {
+        assertTrue(tick("155").isEmpty());
+        assertTrue(tick("156").isEmpty());
+    }
+
+    @Test
+    void testBuysEachLevelCrossedDownwardOnce() {
+        tick("155");
+
+        Order buy = tick("128").orElseThrow();
+        assertEquals(OrderSide.BUY, buy.getSide());
+        // 150, 140, 130 crossed
+        assertEquals(0, new BigDecimal("1.5").compareTo(buy.getQuantity()));
+
+        // Crossing 130 upward sells nothing (nothing held at 120), so 130 keeps its inventory
+        assertTrue(tick("135").isEmpty());
+        assertTrue(tick("129").isEmpty(), "130 still holds inventory");
+    }
+
+    @Test
+    void testSellsInventoryOneLevelAbove() {
+        tick("155");
+        tick("128"); // holding at 150, 140, 130
+
+        Order sell = tick("145").orElseThrow();
+        assertEquals(OrderSide.SELL, sell.getSide());
+        // crossed 140 (sells 130) -> 1 level
+        assertEquals(0, new BigDecimal("0.5").compareTo(sell.getQuantity()));
+
+        Order sellMore = tick("170").orElseThrow();
+        // crossed 150 (sells 140), 160 (sells 150), 170 (nothing bought at 160)
+        assertEquals(0, new BigDecimal("1.0").compareTo(sellMore.getQuantity()));
+
+        // 130 can be bought again
+        assertEquals(OrderSide.BUY, tick("125").orElseThrow().getSide());
+    }
+
+    @Test
+    void testNeverBuysAtTopLevelAndIgnoresPricesOutsideGrid() {
+        tick("250");
+
+        // 200 is the top level and has nothing above to sell into
+        assertTrue(tick("195").isEmpty());
+
+        Order buy = tick("50").orElseThrow();
+        assertEquals(0, new BigDecimal("5.0").compareTo(buy.getQuantity()), "levels 100..190");
+
+        Order sell = tick("250").orElseThrow();
+        assertEquals(OrderSide.SELL, sell.getSide());
+        assertEquals(0, new BigDecimal("5.0").compareTo(sell.getQuantity()));
+    }
+
+    @Test
+    void testStateResetsOnReconfigurationAndDeactivation() {
+        tick("155");
+        tick("128");
+
+        grid.onDeactivated(strategy);
+
+        assertTrue(tick("120").isEmpty(), "reference price re-established");
+    }
+
+    @Test
+    void testLevelsOfAFailedOrderAreNotTraded() {
+        tick("155");
+
+        Order buy = evaluate("128").orElseThrow();
+        // Levels of the order in flight are not crossed again
+        assertTrue(evaluate("125").isEmpty());
+        grid.onOrderResult(strategy, buy, false);
+
+        // Nothing was bought, so there is nothing to sell and 130 can be bought again
+        assertTrue(tick("135").isEmpty());
+        Order again = tick("128").orElseThrow();
+        assertEquals(OrderSide.BUY, again.getSide());
+        assertEquals(0, new BigDecimal("0.5").compareTo(again.getQuantity()));
+    }
+
+    @Test
+    void testOrderDroppedWhileAnotherIsInFlightLeavesItsLevelsFree() {
+        tick("155");
+
+        Order first = evaluate("128").orElseThrow();
+        Order dropped = evaluate("115").orElseThrow();
+        assertEquals(0, new BigDecimal("0.5").compareTo(dropped.getQuantity()), "only 120 is free");
+        grid.onOrderResult(strategy, dropped, false);
+        grid.onOrderResult(strategy, first, true);
+
+        // Holding at 150, 140, 130: crossing 140 sells 130
+        assertEquals(0, new BigDecimal("0.5").compareTo(tick("145").orElseThrow().getQuantity()));
+        // 120 and 130 are free, 140 is still held
+        assertEquals(0, new BigDecimal("1.0").compareTo(tick("115").orElseThrow().getQuantity()));
+    }
+
+    // Evaluates and reports the order, if any, as placed
+    private Optional<Order> tick(String price) {
+        Optional<Order> order = evaluate(price);
+        order.ifPresent(placed -> grid.onOrderResult(strategy, placed, true));
+        return order;
+    }
+
+    private Optional<Order> evaluate(String price) {
+        BigDecimal value = new BigDecimal(price);
+        TickerUpdate ticker = TickerUpdate.builder()
+                .symbol("BTCUSDT")
+                .priceScale(value.scale())
+                .lastPriceUnits(value.unscaledValue().longValueExact())
+                .build();
+        return grid.evaluate(strategy, config, ticker);
+    }
+}
@@ -0,0 +1,154 @@
+package com.cryptobot.service.stream;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.AccountUpdate;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.Balance;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.model.Trade;
+import com.cryptobot.domain.vo.OrderSide;
+import com.cryptobot.domain.vo.OrderStatus;
+import com.cryptobot.repository.BalanceRepository;
+import com.cryptobot.repository.OrderRepository;
+import com.cryptobot.repository.TradeRepository;
+import com.cryptobot.repository.entity.BalanceEntity;
+import com.cryptobot.repository.entity.OrderEntity;
+import com.cryptobot.repository.entity.TradeEntity;
+import com.cryptobot.service.mapper.BalanceMapper;
+import com.cryptobot.service.mapper.TradeMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountUpdateServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private TradeRepository tradeRepository;
+    @Mock
+    private BalanceRepository balanceRepository;
+
+    private AccountUpdateService service;
+    private final ApiKey apiKey = ApiKey.builder().id(7L).userId(1L).exchangeType(ExchangeType.BYBIT).build();
+    private final LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        service = new AccountUpdateService(orderRepository, tradeRepository, balanceRepository,
+                Mappers.getMapper(TradeMapper.class), Mappers.getMapper(BalanceMapper.class));
+    }
+
+    @Test
+    void testOrderUpdateAppliesNewerStateOnly() {
+        OrderEntity entity = OrderEntity.builder().id(10L).userId(1L).exchangeOrderId("o-1")
+                .status(OrderStatus.PARTIALLY_FILLED).filledQuantity(new BigDecimal("0.2"))
+                .exchangeUpdatedAt(now).build();
+        when(orderRepository.findByExchangeOrderId("o-1")).thenReturn(Optional.of(entity));
+
+        service.apply(apiKey, orderUpdate(OrderStatus.NEW, "0", now.minusSeconds(1)));
+        verify(orderRepository, never()).save(any());
+
+        service.apply(apiKey, orderUpdate(OrderStatus.FILLED, "0.5", now.plusSeconds(1)));
+        verify(orderRepository).save(entity);
+        assertEquals(OrderStatus.FILLED, entity.getStatus());
+        assertEquals(0, new BigDecimal("0.5").compareTo(entity.getFilledQuantity()));
+        assertEquals(now.plusSeconds(1), entity.getExchangeUpdatedAt());
+    }
+
+    @Test
+    void testOrderUpdateIgnoresOrdersOfOtherUsers() {
+        when(orderRepository.findByExchangeOrderId("o-1"))
+                .thenReturn(Optional.of(OrderEntity.builder().id(10L).userId(2L).exchangeOrderId("o-1").build()));
+
+        service.apply(apiKey, orderUpdate(OrderStatus.FILLED, "0.5", now));
+
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void testExecutionIsLinkedToOrderAndDeduplicated() {
+        when(orderRepository.findByExchangeOrderId("o-1"))
+                .thenReturn(Optional.of(OrderEntity.builder().id(10L).userId(1L).exchangeOrderId("o-1").build()));
+        when(tradeRepository.existsByExchangeTypeAndExchangeTradeId(ExchangeType.BYBIT, "e-1"))
+                .thenReturn(false, true);
+        AccountUpdate update = AccountUpdate.builder()
+                .type(AccountUpdate.Type.EXECUTION)
+                .executions(List.of(Trade.builder()
+                        .exchangeType(ExchangeType.BYBIT)
+                        .exchangeTradeId("e-1")
+                        .exchangeOrderId("o-1")
+                        .symbol("BTCUSDT")
+                        .side(OrderSide.BUY)
+                        .quantity(new BigDecimal("0.2"))
+                        .price(new BigDecimal("30000"))
+                        .commission(BigDecimal.ZERO)
+                        .executedAt(now)
+                        .build()))
+                .build();
+
+        service.apply(apiKey, update);
+        service.apply(apiKey, update);
+
+        ArgumentCaptor<TradeEntity> saved = ArgumentCaptor.forClass(TradeEntity.class);
+        verify(tradeRepository, times(1)).save(saved.capture());
+        assertEquals(10L, saved.getValue().getOrderId());
+        assertEquals(1L, saved.getValue().getUserId());
+        assertEquals("e-1", saved.getValue().getExchangeTradeId());
+    }
+
+    @Test
+    void testWalletUpdateUpsertsBalancesInOneCall() {
+        service.apply(apiKey, AccountUpdate.builder()
+                .type(AccountUpdate.Type.WALLET)
+                .balances(List.of(balance("USDT", "750"), balance("BTC", "0.1")))
+                .build());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BalanceEntity>> upserted = ArgumentCaptor.forClass(List.class);
+        verify(balanceRepository).upsertBalances(eq(1L), eq(7L), upserted.capture());
+        verify(balanceRepository, never()).save(any());
+        assertEquals(List.of("USDT", "BTC"), upserted.getValue().stream().map(BalanceEntity::getAsset).toList());
+        assertEquals(7L, upserted.getValue().get(1).getApiKeyId());
+        assertEquals(ExchangeType.BYBIT, upserted.getValue().get(1).getExchangeType());
+    }
+
+    private AccountUpdate orderUpdate(OrderStatus status, String filled, LocalDateTime updatedAt) {
+        return AccountUpdate.builder()
+                .type(AccountUpdate.Type.ORDER)
+                .orders(List.of(Order.builder()
+                        .exchangeOrderId("o-1")
+                        .status(status)
+                        .filledQuantity(new BigDecimal(filled))
+                        .averagePrice(new BigDecimal("30000"))
+                        .exchangeUpdatedAt(updatedAt)
+                        .build()))
+                .build();
+    }
+
+    private Balance balance(String asset, String free) {
+        return Balance.builder()
+                .exchangeType(ExchangeType.BYBIT)
+                .asset(asset)
+                .freeBalance(new BigDecimal(free))
+                .lockedBalance(BigDecimal.ZERO)
+                .totalBalance(new BigDecimal(free))
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.cryptobot.service.stream;
+
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.adapter.bybit.BybitPrivateStreamClient;
+import com.cryptobot.domain.model.AccountUpdate;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.repository.ApiKeyRepository;
+import com.cryptobot.repository.entity.ApiKeyEntity;
+import com.cryptobot.service.ApiKeyService;
+import com.cryptobot.service.mapper.ApiKeyMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrivateStreamManagerTest {
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+    @Mock
+    private ApiKeyMapper apiKeyMapper;
+    @Mock
+    private ApiKeyService apiKeyService;
+    @Mock
+    private BybitPrivateStreamClient streamClient;
+    @Mock
+    private AccountUpdateService accountUpdateService;
+
+    private final ApiKey apiKey = ApiKey.builder().id(7L).userId(1L).exchangeType(ExchangeType.BYBIT).build();
+    private final Sinks.Many<AccountUpdate> updates = Sinks.many().unicast().onBackpressureBuffer();
+    private PrivateStreamManager manager;
+
+    @BeforeEach
+    void setUp() {
+        ApiKeyEntity entity = new ApiKeyEntity();
+        when(apiKeyRepository.findByExchangeTypeAndActiveTrue(ExchangeType.BYBIT)).thenReturn(List.of(entity));
+        when(apiKeyMapper.toDomain(entity)).thenReturn(apiKey);
+        when(apiKeyService.getDecryptedCredentials(apiKey)).thenReturn(new ApiKeyService.Credentials("key", "secret"));
+        when(streamClient.connect("key", "secret")).thenReturn(updates.asFlux());
+
+        manager = new PrivateStreamManager(apiKeyRepository, apiKeyMapper, apiKeyService, streamClient,
+                accountUpdateService);
+        manager.refreshSessions();
+        updates.tryEmitNext(AccountUpdate.builder().type(AccountUpdate.Type.CONNECTED).build());
+        awaitCondition(() -> manager.isStreaming(7L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    void testOrderPushedBeforeItsInsertIsPolledUntilConfirmed() {
+        // The fill is pushed while the placement is still storing the order, so it finds no row
+        AccountUpdate fill = AccountUpdate.builder().type(AccountUpdate.Type.ORDER)
+                .orders(List.of(Order.builder().exchangeOrderId("o-1").build()))
+                .build();
+        updates.tryEmitNext(fill);
+        verify(accountUpdateService, timeout(5000)).apply(apiKey, fill);
+
+        LocalDateTime insertedAt = LocalDateTime.now();
+        assertTrue(manager.needsReconciliation(7L, insertedAt, null));
+        // Once an event or a poll has written the exchange state, the stream keeps it current
+        assertFalse(manager.needsReconciliation(7L, insertedAt, insertedAt));
+
+        ReflectionTestUtils.setField(manager, "unconfirmedGraceMillis", 0L);
+        assertFalse(manager.needsReconciliation(7L, insertedAt, null));
+    }
+
+    @Test
+    void testOrdersWrittenBeforeAFailedEventArePolledAgain() {
+        LocalDateTime writtenAt = LocalDateTime.now();
+        assertFalse(manager.needsReconciliation(7L, writtenAt, writtenAt));
+
+        AccountUpdate update = AccountUpdate.builder().type(AccountUpdate.Type.ORDER).build();
+        doThrow(new IllegalStateException("database down")).when(accountUpdateService).apply(any(), any());
+        updates.tryEmitNext(update);
+
+        awaitCondition(() -> manager.needsReconciliation(7L, writtenAt, writtenAt));
+        assertTrue(manager.isStreaming(7L));
+        assertFalse(manager.needsReconciliation(7L, LocalDateTime.now(), LocalDateTime.now()));
+    }
+
+    @Test
+    void testKeyWithoutStreamIsAlwaysPolled() {
+        LocalDateTime now = LocalDateTime.now();
+        assertTrue(manager.needsReconciliation(8L, now, now));
+        assertTrue(manager.needsReconciliation(null, now, now));
+    }
+
+    private void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.onSpinWait();
+        }
+    }
+}
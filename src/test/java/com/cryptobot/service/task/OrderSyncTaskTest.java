@@ -0,0 +1,204 @@
+package com.cryptobot.service.task;
+
+import com.cryptobot.adapter.ExchangeAdapter;
+import com.cryptobot.adapter.ExchangeAdapterFactory;
+import com.cryptobot.adapter.ExchangeType;
+import com.cryptobot.domain.model.ApiKey;
+import com.cryptobot.domain.model.Order;
+import com.cryptobot.domain.vo.OrderStatus;
+import com.cryptobot.domain.vo.Symbol;
+import com.cryptobot.repository.OrderRepository;
+import com.cryptobot.repository.entity.OrderEntity;
+import com.cryptobot.service.ApiKeyService;
+import com.cryptobot.service.stream.PrivateStreamManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSyncTaskTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private ApiKeyService apiKeyService;
+    @Mock
+    private ExchangeAdapterFactory adapterFactory;
+    @Mock
+    private ExchangeAdapter exchangeAdapter;
+    @Mock
+    private PrivateStreamManager privateStreamManager;
+
+    @InjectMocks
+    private OrderSyncTask orderSyncTask;
+
+    private final ApiKey apiKey = ApiKey.builder().id(7L).userId(1L).exchangeType(ExchangeType.BYBIT).active(true)
+            .build();
+    private final ApiKeyService.Credentials credentials = new ApiKeyService.Credentials("key", "secret");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderSyncTask, "pageSize", 2);
+    }
+
+    @Test
+    void testReconcilesInBulkPerKeyAndSymbol() {
+        OrderEntity partiallyFilled = order(1L, 7L, "o-1", "BTCUSDT");
+        OrderEntity filledSinceLastRun = order(2L, 7L, "o-2", "BTCUSDT");
+        OrderEntity unchanged = order(3L, 7L, "o-3", "ETHUSDT");
+        OrderEntity streamed = order(4L, 8L, "o-4", "BTCUSDT");
+        when(orderRepository.findByStatusInAndIdGreaterThanOrderByIdAsc(eq(OrderStatus.open()), anyLong(),
+                any(Pageable.class)))
+                .thenReturn(List.of(partiallyFilled, filledSinceLastRun))
+                .thenReturn(List.of(unchanged, streamed))
+                .thenReturn(List.of());
+        when(privateStreamManager.needsReconciliation(eq(7L), any(), any())).thenReturn(true);
+        when(privateStreamManager.needsReconciliation(eq(8L), any(), any())).thenReturn(false);
+        when(apiKeyService.getActiveKeys(any())).thenReturn(List.of(apiKey));
+        when(apiKeyService.getDecryptedCredentials(apiKey)).thenReturn(credentials);
+        when(adapterFactory.getAdapter(ExchangeType.BYBIT)).thenReturn(exchangeAdapter);
+        when(exchangeAdapter.getOpenOrders("key", "secret", new Symbol("BTCUSDT")))
+                .thenReturn(Flux.just(exchangeOrder("o-1", OrderStatus.PARTIALLY_FILLED, "0.4")));
+        when(exchangeAdapter.getOpenOrders("key", "secret", new Symbol("ETHUSDT")))
+                .thenReturn(Flux.just(exchangeOrder("o-3", OrderStatus.NEW, "0")));
+        when(exchangeAdapter.getOrder("key", "secret", "o-2", new Symbol("BTCUSDT")))
+                .thenReturn(Mono.just(exchangeOrder("o-2", OrderStatus.FILLED, "1")));
+        when(orderRepository.batchUpdateExchangeState(any())).thenAnswer(inv -> inv.<Collection<?>>getArgument(0).size());
+
+        StepVerifier.create(orderSyncTask.reconcile())
+                .expectNext(2)
+                .verifyComplete();
+
+        verify(apiKeyService).getDecryptedCredentials(apiKey);
+        verify(exchangeAdapter, times(2)).getOpenOrders(any(), any(), any());
+        verify(exchangeAdapter).getOrder(any(), any(), any(), any());
+        verify(orderRepository, times(3)).findByStatusInAndIdGreaterThanOrderByIdAsc(any(), anyLong(), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<OrderEntity>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(orderRepository).batchUpdateExchangeState(written.capture());
+        assertEquals(List.of(partiallyFilled, filledSinceLastRun), List.copyOf(written.getValue()));
+        assertEquals(OrderStatus.PARTIALLY_FILLED, partiallyFilled.getStatus());
+        assertEquals(0, new BigDecimal("0.4").compareTo(partiallyFilled.getFilledQuantity()));
+        assertEquals(OrderStatus.FILLED, filledSinceLastRun.getStatus());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<OrderEntity>> confirmed = ArgumentCaptor.forClass(Collection.class);
+        verify(orderRepository).batchConfirmExchangeState(confirmed.capture());
+        assertEquals(List.of(unchanged), List.copyOf(confirmed.getValue()));
+    }
+
+    @Test
+    void testOrderConfirmedUnchangedIsSkippedByTheNextSync() {
+        LocalDateTime trustedSince = LocalDateTime.now().minusMinutes(1);
+        OrderEntity unchanged = order(1L, 7L, "o-1", "BTCUSDT");
+        when(orderRepository.findByStatusInAndIdGreaterThanOrderByIdAsc(any(), anyLong(), any()))
+                .thenReturn(List.of(unchanged))
+                .thenReturn(List.of(unchanged));
+        // Written before the stream came up, so only a newer write vouches for it
+        when(privateStreamManager.needsReconciliation(eq(7L), any(), any()))
+                .thenAnswer(inv -> inv.<LocalDateTime>getArgument(1).isBefore(trustedSince));
+        when(apiKeyService.getActiveKeys(any())).thenReturn(List.of(apiKey));
+        when(apiKeyService.getDecryptedCredentials(apiKey)).thenReturn(credentials);
+        when(adapterFactory.getAdapter(ExchangeType.BYBIT)).thenReturn(exchangeAdapter);
+        when(exchangeAdapter.getOpenOrders("key", "secret", new Symbol("BTCUSDT")))
+                .thenReturn(Flux.just(exchangeOrder("o-1", OrderStatus.NEW, "0")));
+        when(orderRepository.batchConfirmExchangeState(any())).thenAnswer(inv -> {
+            inv.<Collection<OrderEntity>>getArgument(0).forEach(order -> order.setUpdatedAt(LocalDateTime.now()));
+            return 1;
+        });
+
+        StepVerifier.create(orderSyncTask.reconcile())
+                .expectNext(0)
+                .verifyComplete();
+        assertNotNull(unchanged.getExchangeUpdatedAt());
+
+        StepVerifier.create(orderSyncTask.reconcile())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(exchangeAdapter, times(1)).getOpenOrders(any(), any(), any());
+        verify(orderRepository, times(1)).batchConfirmExchangeState(any());
+    }
+
+    @Test
+    void testNoRestCallsWhenEveryOrderIsStreamed() {
+        when(orderRepository.findByStatusInAndIdGreaterThanOrderByIdAsc(any(), anyLong(), any()))
+                .thenReturn(List.of(order(1L, 7L, "o-1", "BTCUSDT")));
+        when(privateStreamManager.needsReconciliation(eq(7L), any(), any())).thenReturn(false);
+
+        StepVerifier.create(orderSyncTask.reconcile())
+                .expectNext(0)
+                .verifyComplete();
+
+        verifyNoInteractions(apiKeyService, adapterFactory);
+    }
+
+    @Test
+    void testFailingSymbolDoesNotBlockOtherSymbols() {
+        OrderEntity btc = order(1L, 7L, "o-1", "BTCUSDT");
+        OrderEntity eth = order(2L, 7L, "o-2", "ETHUSDT");
+        when(orderRepository.findByStatusInAndIdGreaterThanOrderByIdAsc(any(), anyLong(), any()))
+                .thenReturn(List.of(btc, eth))
+                .thenReturn(List.of());
+        when(privateStreamManager.needsReconciliation(eq(7L), any(), any())).thenReturn(true);
+        when(apiKeyService.getActiveKeys(any())).thenReturn(List.of(apiKey));
+        when(apiKeyService.getDecryptedCredentials(apiKey)).thenReturn(credentials);
+        when(adapterFactory.getAdapter(ExchangeType.BYBIT)).thenReturn(exchangeAdapter);
+        when(exchangeAdapter.getOpenOrders("key", "secret", new Symbol("BTCUSDT")))
+                .thenReturn(Flux.error(new RuntimeException("rate limited")));
+        when(exchangeAdapter.getOpenOrders("key", "secret", new Symbol("ETHUSDT")))
+                .thenReturn(Flux.just(exchangeOrder("o-2", OrderStatus.PARTIALLY_FILLED, "0.1")));
+        when(orderRepository.batchUpdateExchangeState(any())).thenAnswer(inv -> inv.<Collection<?>>getArgument(0).size());
+
+        StepVerifier.create(orderSyncTask.reconcile())
+                .expectNext(1)
+                .verifyComplete();
+
+        assertEquals(OrderStatus.NEW, btc.getStatus());
+        assertEquals(OrderStatus.PARTIALLY_FILLED, eth.getStatus());
+    }
+
+    private OrderEntity order(Long id, Long apiKeyId, String exchangeOrderId, String symbol) {
+        return OrderEntity.builder()
+                .id(id)
+                .userId(1L)
+                .apiKeyId(apiKeyId)
+                .exchangeType(ExchangeType.BYBIT)
+                .exchangeOrderId(exchangeOrderId)
+                .symbol(symbol)
+                .status(OrderStatus.NEW)
+                .filledQuantity(BigDecimal.ZERO)
+                .averagePrice(BigDecimal.ZERO)
+                .updatedAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+    }
+
+    private Order exchangeOrder(String exchangeOrderId, OrderStatus status, String filled) {
+        return Order.builder()
+                .exchangeOrderId(exchangeOrderId)
+                .status(status)
+                .filledQuantity(new BigDecimal(filled))
+                .averagePrice(BigDecimal.ZERO)
+                .exchangeUpdatedAt(LocalDateTime.now())
+                .build();
+    }
+}